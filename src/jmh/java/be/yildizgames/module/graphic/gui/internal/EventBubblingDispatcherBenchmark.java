@@ -0,0 +1,111 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal;
+
+import be.yildizgames.module.coordinates.FullCoordinates;
+import be.yildizgames.module.graphic.gui.DummyGuiFactory;
+import be.yildizgames.module.graphic.gui.SimpleView;
+import be.yildizgames.module.graphic.gui.View;
+import be.yildizgames.module.graphic.gui.WidgetMock;
+import be.yildizgames.module.graphic.gui.Zorder;
+import be.yildizgames.module.graphic.gui.container.Container;
+import be.yildizgames.module.window.ScreenSize;
+import be.yildizgames.module.window.input.MousePosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mouse dispatching on a screen filled with widgets.
+ * Run with the gc profiler (-prof gc), gc.alloc.rate.norm is expected to be 0 B/op.
+ *
+ * @author Grégory Van den Borre
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBubblingDispatcherBenchmark {
+
+    private static final int SCREEN_WIDTH = 1024;
+
+    private static final int SCREEN_HEIGHT = 768;
+
+    private static final int POSITIONS = 1024;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int widgets;
+
+    private EventBubblingDispatcher dispatcher;
+
+    private MousePosition[] positions;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        DummyGuiFactory factory = new DummyGuiFactory();
+        Container container = factory.container()
+                .withSize(SCREEN_WIDTH, SCREEN_HEIGHT)
+                .build();
+        int side = (int) Math.ceil(Math.sqrt(this.widgets));
+        int width = Math.max(1, SCREEN_WIDTH / side);
+        int height = Math.max(1, SCREEN_HEIGHT / side);
+        for (int i = 0; i < this.widgets; i++) {
+            new WidgetMock(FullCoordinates.full(width, height, (i % side) * width, (i / side) * height), container);
+        }
+        this.dispatcher = new EventBubblingDispatcher();
+        View view = new SimpleView(container, new Zorder(1), this.dispatcher, new ScreenSize(SCREEN_WIDTH, SCREEN_HEIGHT));
+        view.setActive(true);
+        this.positions = new MousePosition[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            this.positions[i] = new MousePosition((i * 7919) % SCREEN_WIDTH, (i * 104729) % SCREEN_HEIGHT);
+        }
+    }
+
+    @Benchmark
+    public void mouseMove() {
+        this.dispatcher.mouseMove(this.positions[this.index++ & (POSITIONS - 1)]);
+    }
+
+    @Benchmark
+    public void mouseMoveAndLeftClick() {
+        MousePosition position = this.positions[this.index++ & (POSITIONS - 1)];
+        this.dispatcher.mouseMove(position);
+        this.dispatcher.mouseLeftClick(position);
+    }
+}
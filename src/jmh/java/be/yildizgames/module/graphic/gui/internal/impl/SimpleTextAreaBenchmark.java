@@ -0,0 +1,98 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal.impl;
+
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.coordinates.FullCoordinates;
+import be.yildizgames.module.graphic.dummy.DummyFont;
+import be.yildizgames.module.graphic.gui.DummyGuiFactory;
+import be.yildizgames.module.graphic.gui.textarea.TextArea;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append a batch of lines to a text area already containing some lines.
+ * The text area is refilled before each iteration and every iteration is a single shot of a batch of appends, so the
+ * refill is not measured and the text area never grows more than the batch size above the given number of lines.
+ * The score is the time for the whole batch.
+ *
+ * @author Grégory Van den Borre
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = SimpleTextAreaBenchmark.BATCH)
+@Measurement(iterations = 50, batchSize = SimpleTextAreaBenchmark.BATCH)
+@Fork(1)
+public class SimpleTextAreaBenchmark {
+
+    /**
+     * Number of lines appended in an iteration.
+     */
+    static final int BATCH = 64;
+
+    private static final String LINE = "The quick brown fox jumps over the lazy dog, then runs away from the hunter";
+
+    @Param({"1", "10", "100", "1000"})
+    private int lines;
+
+    private TextArea textArea;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DummyGuiFactory factory = new DummyGuiFactory();
+        SimpleContainer container = (SimpleContainer) factory.container()
+                .withSize(1024, 768)
+                .build();
+        this.textArea = factory.buildTextArea("benchmark_area_" + System.nanoTime(), FullCoordinates.full(300, 300, 0, 0),
+                new DummyFont("benchmark_font_" + System.nanoTime(), 10, Color.BLACK), DummyGuiFactory.empty, 2, container);
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        this.textArea.deleteText();
+        for (int i = 0; i < this.lines; i++) {
+            this.textArea.addLine(LINE);
+        }
+    }
+
+    @Benchmark
+    public TextArea addLine() {
+        this.textArea.addLine(LINE);
+        return this.textArea;
+    }
+}
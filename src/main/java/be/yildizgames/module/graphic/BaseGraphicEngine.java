@@ -30,7 +30,11 @@ import be.yildizgames.module.color.Color;
 import be.yildizgames.module.coordinates.Relative;
 import be.yildizgames.module.graphic.dummy.DummyGraphicEngineProvider;
 import be.yildizgames.module.graphic.gui.GuiEventManager;
+import be.yildizgames.module.graphic.gui.internal.DeferredLayout;
 import be.yildizgames.module.graphic.gui.internal.EventBubblingDispatcher;
+import be.yildizgames.module.graphic.loading.AsyncLoader;
+import be.yildizgames.module.graphic.profiling.FrameProfiler;
+import be.yildizgames.module.graphic.profiling.FrameSection;
 import be.yildizgames.module.window.BaseWindowEngine;
 
 import java.util.ArrayList;
@@ -50,7 +54,22 @@ public abstract class BaseGraphicEngine implements GraphicEngine, FpsProvider {
      */
     private boolean rendering = true;
 
-    private final GuiEventManager eventManager = new EventBubblingDispatcher();
+    /**
+     * Frame time instrumentation, disabled by default.
+     */
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    /**
+     * Asynchronous resource loading, its worker threads are created on the first load.
+     */
+    private final AsyncLoader loader = new AsyncLoader(2);
+
+    /**
+     * Deferred GUI layout pass, run before rendering, disabled by default.
+     */
+    private final DeferredLayout layout = new DeferredLayout();
+
+    private final GuiEventManager eventManager = new EventBubblingDispatcher(this.profiler);
 
     /**
      * Renderer to notify when the graphic engine is not active.
@@ -81,16 +100,64 @@ public abstract class BaseGraphicEngine implements GraphicEngine, FpsProvider {
      * Render one frame.
      */
     public final void update() {
+        final long frameStart = this.profiler.start();
         if (this.rendering) {
+            this.layout.run();
+            final long loadingStart = this.profiler.start();
+            this.loader.update();
+            this.profiler.stop(FrameSection.LOADING, loadingStart);
+            final long renderStart = this.profiler.start();
             this.updateImpl();
+            this.profiler.stop(FrameSection.UPDATE_IMPL, renderStart);
         } else {
+            final long listenersStart = this.profiler.start();
             for (int i = 0; i < this.notRenderingListenerList.size(); i++) {
                 if (!this.notRenderingListenerList.get(i).renderingStopped()) {
                     this.notRenderingListenerList.remove(i);
                     i--;
                 }
             }
+            this.profiler.stop(FrameSection.NOT_RENDERING_LISTENERS, listenersStart);
         }
+        this.profiler.stop(FrameSection.UPDATE, frameStart);
+        this.profiler.frameEnded();
+    }
+
+    /**
+     * Provide the frame time instrumentation, disabled until FrameProfiler.setEnabled is called.
+     *
+     * @return The engine frame profiler.
+     */
+    public final FrameProfiler getProfiler() {
+        return this.profiler;
+    }
+
+    /**
+     * Provide the asynchronous resource loading, its loads are completed on the rendering thread by the update method.
+     *
+     * @return The engine resource loader.
+     */
+    public final AsyncLoader getLoader() {
+        return this.loader;
+    }
+
+    /**
+     * Enable or disable the deferred GUI layout, if enabled, the GUI elements changes are sent to the implementation
+     * once per frame, before rendering.
+     *
+     * @param deferred <code>true</code> to enable the deferred layout.
+     */
+    public final void setDeferredGuiLayout(final boolean deferred) {
+        this.layout.setEnabled(deferred);
+    }
+
+    /**
+     * Provide the deferred GUI layout pass, to give to the GUI factory built by the implementation.
+     *
+     * @return The engine deferred layout pass.
+     */
+    public final DeferredLayout getDeferredLayout() {
+        return this.layout;
     }
 
     /**
@@ -28,7 +28,6 @@ import be.yildizgames.common.util.Registerer;
 import be.yildizgames.common.util.Resource;
 import be.yildizgames.module.color.Color;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -60,9 +59,14 @@ public abstract class Font extends Resource {
     public final Color color;
 
     /**
-     * Width for each char, position in the tab is the ascii value. (i.e. charWidth[65] is the size of the char 'A').
+     * Advance width for each code point, and kerning between code point pairs.
      */
-    private float[] charWidth;
+    private final GlyphAdvanceTable advances = new GlyphAdvanceTable();
+
+    /**
+     * Recently measured texts.
+     */
+    private final TextMeasureCache measures = new TextMeasureCache();
 
     /**
      * Full constructor.
@@ -99,50 +103,218 @@ public abstract class Font extends Resource {
      * @return originalText if it is smaller than width, a cropped text with "..." if the text cannot fit in the given width, or "" if "..." cannot fit in the given width.
      */
     public final String crop(final String originalText, final int width) {
-        float computedWidth = 0;
-        for (int i = 0; i < originalText.length(); i++) {
-            computedWidth += charWidth[originalText.charAt(i)];
-            if (computedWidth > width) {
-                if (i < 3) {
-                    return "";
-                }
-                return originalText.substring(0, i - 3) + "...";
-            }
+        if (this.measure(originalText).maxPrefixWidth <= width) {
+            return originalText;
+        }
+        final int cut = this.computeCropIndex(originalText, 0, originalText.length(), width);
+        if (cut == originalText.length()) {
+            return originalText;
+        }
+        if (cut < 0) {
+            return "";
         }
-        return originalText;
+        return originalText.substring(0, cut) + "...";
     }
 
     /**
-     * Compute the width of a text with this font.
+     * Crop a part of a text if it is longer than a given width, and append the result to a builder.
+     * The outside part is replaced by "...", excepted if the width is not sufficient to contains it, then nothing is appended.
+     * No allocation is done if the builder capacity is sufficient.
+     *
+     * @param text   Text to crop.
+     * @param start  Index of the first char to use.
+     * @param end    Index after the last char to use.
+     * @param width  Maximum text width allowed.
+     * @param output Builder to append the result to.
+     * @return The output builder.
+     */
+    public final StringBuilder crop(final CharSequence text, final int start, final int end, final int width, final StringBuilder output) {
+        final int cut = this.computeCropIndex(text, start, end, width);
+        if (cut == end) {
+            output.append(text, start, end);
+        } else if (cut >= 0) {
+            output.append(text, start, cut).append("...");
+        }
+        return output;
+    }
+
+    /**
+     * Compute the width of a text with this font, the result is cached for the recently measured texts.
      *
      * @param text Text to use.
      * @return The text width.
      */
     public final int computeTextWidth(final String text) {
+        return this.measure(text).width;
+    }
+
+    /**
+     * Measure a text in a single pass, or retrieve it from the cache.
+     *
+     * @param text Text to measure.
+     * @return The text measure.
+     */
+    private TextMeasureCache.Measure measure(final String text) {
+        final TextMeasureCache.Measure cached = this.measures.get(text);
+        if (cached != null) {
+            return cached;
+        }
         float computedSize = 0;
-        for (final char c : text.toCharArray()) {
-            computedSize += this.charWidth[c];
+        float maxPrefix = 0;
+        int previous = -1;
+        final boolean kerning = this.advances.hasKerning();
+        final int end = text.length();
+        int i = 0;
+        while (i < end) {
+            final int codePoint = Font.codePointAt(text, i, end);
+            computedSize += this.advances.getAdvance(codePoint);
+            if (kerning && previous >= 0) {
+                computedSize += this.advances.getKerning(previous, codePoint);
+            }
+            maxPrefix = Math.max(maxPrefix, computedSize);
+            previous = codePoint;
+            i += Character.charCount(codePoint);
+        }
+        return this.measures.put(text, Math.round(computedSize), maxPrefix);
+    }
+
+    /**
+     * Compute the width of a part of a text with this font, kerning is applied between consecutive code points.
+     *
+     * @param text  Text to use.
+     * @param start Index of the first char to use.
+     * @param end   Index after the last char to use.
+     * @return The text width.
+     */
+    public final int computeTextWidth(final CharSequence text, final int start, final int end) {
+        float computedSize = 0;
+        int previous = -1;
+        final boolean kerning = this.advances.hasKerning();
+        int i = start;
+        while (i < end) {
+            final int codePoint = Font.codePointAt(text, i, end);
+            computedSize += this.advances.getAdvance(codePoint);
+            if (kerning && previous >= 0) {
+                computedSize += this.advances.getKerning(previous, codePoint);
+            }
+            previous = codePoint;
+            i += Character.charCount(codePoint);
         }
         return Math.round(computedSize);
     }
 
+    /**
+     * Compute where a text must be cut to fit in a given width, keeping room for "...".
+     *
+     * @param text  Text to use.
+     * @param start Index of the first char to use.
+     * @param end   Index after the last char to use.
+     * @param width Maximum text width allowed.
+     * @return end if the text fits, the index where to cut before appending "...", or -1 if "..." cannot fit.
+     */
+    public final int computeCropIndex(final CharSequence text, final int start, final int end, final int width) {
+        float computedWidth = 0;
+        int previous = -1;
+        final boolean kerning = this.advances.hasKerning();
+        int i = start;
+        while (i < end) {
+            final int codePoint = Font.codePointAt(text, i, end);
+            computedWidth += this.advances.getAdvance(codePoint);
+            if (kerning && previous >= 0) {
+                computedWidth += this.advances.getKerning(previous, codePoint);
+            }
+            if (computedWidth > width) {
+                if (i - start < 3) {
+                    return -1;
+                }
+                int cut = i - 3;
+                if (cut > start && Character.isLowSurrogate(text.charAt(cut)) && Character.isHighSurrogate(text.charAt(cut - 1))) {
+                    cut--;
+                }
+                return cut;
+            }
+            previous = codePoint;
+            i += Character.charCount(codePoint);
+        }
+        return end;
+    }
+
     /**
      * Return the width of a particular char.
      *
-     * @param key Char to get the width.
+     * @param key Code point to get the width.
      * @return The char width.
      */
     public final float getCharSize(final int key) {
-        return this.charWidth[key];
+        return this.advances.getAdvance(key);
     }
 
     /**
-     * Set the size for every char for this font.
+     * Return the kerning to apply between two consecutive chars.
      *
-     * @param widthArray Array containing the size for every char.
+     * @param first  First code point.
+     * @param second Second code point.
+     * @return The value to add to the first char width, 0 if none.
+     */
+    public final float getKerning(final int first, final int second) {
+        return this.advances.getKerning(first, second);
+    }
+
+    /**
+     * Set the size for every char for this font, any previous value or kerning is removed.
+     *
+     * @param widthArray Array containing the size for every char, position in the array is the code point.
      */
     protected final void setCharWidth(final float[] widthArray) {
-        this.charWidth = Arrays.copyOf(widthArray, widthArray.length);
+        this.advances.clear();
+        for (int i = 0; i < widthArray.length; i++) {
+            this.advances.setAdvance(i, widthArray[i]);
+        }
+        this.measures.clear();
+    }
+
+    /**
+     * Set the size for a char.
+     *
+     * @param codePoint Code point of the char.
+     * @param width     Char width.
+     */
+    protected final void setCharWidth(final int codePoint, final float width) {
+        this.advances.setAdvance(codePoint, width);
+        this.measures.clear();
+    }
+
+    /**
+     * Set the size to use for the chars with no size set, it can be called before or after the other sizes are set.
+     *
+     * @param width Width to use.
+     */
+    protected final void setDefaultCharWidth(final float width) {
+        this.advances.setDefaultAdvance(width);
+        this.measures.clear();
+    }
+
+    /**
+     * Set the kerning between two consecutive chars.
+     *
+     * @param first   First code point.
+     * @param second  Second code point.
+     * @param kerning Value to add to the first char width when followed by the second one.
+     */
+    protected final void setKerning(final int first, final int second, final float kerning) {
+        this.advances.setKerning(first, second, kerning);
+        this.measures.clear();
+    }
+
+    private static int codePointAt(final CharSequence text, final int index, final int end) {
+        final char c = text.charAt(index);
+        if (Character.isHighSurrogate(c) && index + 1 < end) {
+            final char low = text.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(c, low);
+            }
+        }
+        return c;
     }
 
     @Override
@@ -0,0 +1,230 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import java.util.Arrays;
+
+/**
+ * Advance width for every code point of the unicode range, and kerning between code point pairs.
+ * The advances are stored in a two level table, the code point high bits select a page of 256 primitive values,
+ * pages are only allocated when a value is set in their range, others use the default advance.
+ * The entries of an allocated page with no value set are marked as unset, so they use the default advance too.
+ * Kerning pairs are stored in an open addressing hash table with primitive keys.
+ *
+ * @author Grégory Van den Borre
+ */
+final class GlyphAdvanceTable {
+
+    /**
+     * Number of bits for the position in a page.
+     */
+    private static final int PAGE_SHIFT = 8;
+
+    /**
+     * Number of code points in a page.
+     */
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    /**
+     * Number of pages to cover the whole unicode range.
+     */
+    private static final int PAGES = (Character.MAX_CODE_POINT + 1) >> PAGE_SHIFT;
+
+    /**
+     * Value for an empty slot in the kerning keys.
+     */
+    private static final long NO_PAIR = -1L;
+
+    /**
+     * Value for a code point with no advance set in an allocated page.
+     */
+    private static final float UNSET = Float.NaN;
+
+    /**
+     * Advance pages, null if no value is set for any code point of the page.
+     */
+    private final float[][] pages = new float[PAGES][];
+
+    /**
+     * Advance for the code points with no value set.
+     */
+    private float defaultAdvance;
+
+    /**
+     * Kerning pairs keys, first code point in the high bits, second in the low bits.
+     */
+    private long[] kerningKeys = GlyphAdvanceTable.emptyKeys(16);
+
+    /**
+     * Kerning values, at the same position as their key.
+     */
+    private float[] kerningValues = new float[16];
+
+    /**
+     * Number of kerning pairs.
+     */
+    private int kerningCount;
+
+    /**
+     * Get the advance for a code point.
+     *
+     * @param codePoint Code point, any value outside the unicode range will return the default advance.
+     * @return The advance value.
+     */
+    float getAdvance(final int codePoint) {
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+            return this.defaultAdvance;
+        }
+        final float[] page = this.pages[codePoint >> PAGE_SHIFT];
+        if (page == null) {
+            return this.defaultAdvance;
+        }
+        final float advance = page[codePoint & (PAGE_SIZE - 1)];
+        return Float.isNaN(advance) ? this.defaultAdvance : advance;
+    }
+
+    /**
+     * Set the advance for a code point.
+     *
+     * @param codePoint Code point, must be in the unicode range.
+     * @param advance Advance value, NaN resets the code point to the default advance.
+     */
+    void setAdvance(final int codePoint, final float advance) {
+        assert codePoint >= 0 && codePoint <= Character.MAX_CODE_POINT : "codePoint out of unicode range";
+        float[] page = this.pages[codePoint >> PAGE_SHIFT];
+        if (page == null) {
+            page = new float[PAGE_SIZE];
+            Arrays.fill(page, UNSET);
+            this.pages[codePoint >> PAGE_SHIFT] = page;
+        }
+        page[codePoint & (PAGE_SIZE - 1)] = advance;
+    }
+
+    /**
+     * Set the advance for the code points with no value, whether their page is allocated or not.
+     *
+     * @param advance Advance value.
+     */
+    void setDefaultAdvance(final float advance) {
+        this.defaultAdvance = advance;
+    }
+
+    /**
+     * @return <code>true</code> if at least one kerning pair is set.
+     */
+    boolean hasKerning() {
+        return this.kerningCount > 0;
+    }
+
+    /**
+     * Get the kerning to apply between two consecutive code points.
+     *
+     * @param first First code point.
+     * @param second Second code point.
+     * @return The value to add to the advance, 0 if no kerning is set for the pair.
+     */
+    float getKerning(final int first, final int second) {
+        if (this.kerningCount == 0) {
+            return 0;
+        }
+        final long key = GlyphAdvanceTable.key(first, second);
+        final int mask = this.kerningKeys.length - 1;
+        int i = GlyphAdvanceTable.hash(key) & mask;
+        while (this.kerningKeys[i] != NO_PAIR) {
+            if (this.kerningKeys[i] == key) {
+                return this.kerningValues[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Set the kerning between two consecutive code points.
+     *
+     * @param first First code point.
+     * @param second Second code point.
+     * @param kerning Value to add to the advance of the first code point when followed by the second.
+     */
+    void setKerning(final int first, final int second, final float kerning) {
+        if ((this.kerningCount + 1) * 2 > this.kerningKeys.length) {
+            this.growKerning();
+        }
+        this.insertKerning(GlyphAdvanceTable.key(first, second), kerning);
+    }
+
+    /**
+     * Remove all advances and kerning pairs.
+     */
+    void clear() {
+        Arrays.fill(this.pages, null);
+        this.kerningKeys = GlyphAdvanceTable.emptyKeys(16);
+        this.kerningValues = new float[16];
+        this.kerningCount = 0;
+    }
+
+    private void insertKerning(final long key, final float kerning) {
+        final int mask = this.kerningKeys.length - 1;
+        int i = GlyphAdvanceTable.hash(key) & mask;
+        while (this.kerningKeys[i] != NO_PAIR) {
+            if (this.kerningKeys[i] == key) {
+                this.kerningValues[i] = kerning;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        this.kerningKeys[i] = key;
+        this.kerningValues[i] = kerning;
+        this.kerningCount++;
+    }
+
+    private void growKerning() {
+        final long[] oldKeys = this.kerningKeys;
+        final float[] oldValues = this.kerningValues;
+        this.kerningKeys = GlyphAdvanceTable.emptyKeys(oldKeys.length << 1);
+        this.kerningValues = new float[oldKeys.length << 1];
+        this.kerningCount = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != NO_PAIR) {
+                this.insertKerning(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static long[] emptyKeys(final int size) {
+        final long[] keys = new long[size];
+        Arrays.fill(keys, NO_PAIR);
+        return keys;
+    }
+
+    private static long key(final int first, final int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
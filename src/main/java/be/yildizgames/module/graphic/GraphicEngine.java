@@ -134,4 +134,30 @@ public interface GraphicEngine {
      * @return The newly created font.
      */
     Font createFont(String path, int size, Color color);
+
+    /**
+     * Read a font file, to be called out of the rendering thread before createFont(String, ResourceData, int, Color).
+     * An implementation can override it to also decode the glyphs.
+     *
+     * @param path Path to the font file.
+     * @return The font file content.
+     */
+    default ResourceData prepareFont(final String path) {
+        return ResourceData.read(path);
+    }
+
+    /**
+     * Create a new font from a file read by prepareFont, on the rendering thread.
+     * The default implementation ignores the content and loads the file from its path,
+     * an implementation should override it to only create the rendering resources.
+     *
+     * @param name  Name of the font, must be unique, used to retrieve it from the registerer.
+     * @param data  Font file content.
+     * @param size  Size of the font.
+     * @param color Font color.
+     * @return The newly built font.
+     */
+    default Font createFont(final String name, final ResourceData data, final int size, final Color color) {
+        return this.createFont(name, data.getPath(), size, color);
+    }
 }
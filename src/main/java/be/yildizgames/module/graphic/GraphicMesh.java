@@ -26,6 +26,9 @@ package be.yildizgames.module.graphic;
 
 import be.yildizgames.module.graphic.material.Material;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -45,6 +48,16 @@ public class GraphicMesh {
      */
     private final Material material;
 
+    /**
+     * Mesh file extension, used by the detail levels.
+     */
+    private final String extension;
+
+    /**
+     * Detail levels, the first one is this mesh file, used from distance 0.
+     */
+    private final List<MeshLevel> levels = new ArrayList<>();
+
     /**
      * Create a new instance.
      *
@@ -59,6 +72,8 @@ public class GraphicMesh {
         Objects.requireNonNull(material);
         this.file = path + "." + extension;
         this.material = material;
+        this.extension = extension;
+        this.levels.add(new MeshLevel(this.file, 0));
     }
 
     /**
@@ -79,4 +94,27 @@ public class GraphicMesh {
     public final Material getMaterial() {
         return material;
     }
+
+    /**
+     * Add a lower detail level, to be called when defining the mesh, before building objects with it.
+     *
+     * @param path     Path and name of the lower detail mesh, the extension is the same as this mesh.
+     * @param distance Camera distance from where the level is used, must be greater than the previous level one.
+     * @return This object for chaining.
+     */
+    public final GraphicMesh addLevel(final String path, final float distance) {
+        Objects.requireNonNull(path);
+        if (distance <= this.levels.get(this.levels.size() - 1).getDistance()) {
+            throw new IllegalArgumentException("Level distance must be greater than the previous level one.");
+        }
+        this.levels.add(new MeshLevel(path + "." + this.extension, distance));
+        return this;
+    }
+
+    /**
+     * @return The detail levels, from the most detailed one, used from distance 0.
+     */
+    public final List<MeshLevel> getLevels() {
+        return Collections.unmodifiableList(this.levels);
+    }
 }
@@ -52,6 +52,11 @@ public abstract class GraphicObject implements Movable {
      */
     private Material material;
 
+    /**
+     * Index of the detail level currently used, 0 is the most detailed one.
+     */
+    private int lodLevel;
+
     /**
      * Simple constructor.
      */
@@ -103,6 +108,28 @@ public abstract class GraphicObject implements Movable {
         return this;
     }
 
+    /**
+     * Change the mesh detail level.
+     *
+     * @param level Index of the level in the mesh levels, 0 is the most detailed one.
+     */
+    public final void setLodLevel(final int level) {
+        if (level < 0) {
+            throw new IllegalArgumentException("Level cannot be negative.");
+        }
+        if (level != this.lodLevel) {
+            this.lodLevel = level;
+            this.setLodLevelImpl(level);
+        }
+    }
+
+    /**
+     * @return The index of the detail level currently used, 0 is the most detailed one.
+     */
+    public final int getLodLevel() {
+        return this.lodLevel;
+    }
+
     /**
      * Set the material in implementation.
      *
@@ -128,6 +155,15 @@ public abstract class GraphicObject implements Movable {
      */
     protected abstract void hideImpl();
 
+    /**
+     * Change the mesh detail level in implementation, does nothing by default, the object then keeps its mesh.
+     *
+     * @param level Index of the level in the mesh levels.
+     */
+    protected void setLodLevelImpl(int level) {
+        //does nothing.
+    }
+
     public abstract GraphicObject setRenderBehind();
 
     public abstract GraphicObject setRenderingDistance(int distance);
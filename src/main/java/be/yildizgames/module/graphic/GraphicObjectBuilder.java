@@ -97,4 +97,17 @@ public abstract class GraphicObjectBuilder {
     public abstract GraphicObject buildMovable();
 
     public abstract GraphicObject buildStatic();
+
+    /**
+     * Build a group of instances sharing the mesh and material set in this builder, to render a large number of
+     * identical objects at once.
+     * By default, every instance is rendered by its own object built with buildMovable, so this builder must not be
+     * changed while the group is used, an implementation supporting hardware instancing should override it.
+     *
+     * @param capacity Maximum number of instances in the group.
+     * @return The created group, empty.
+     */
+    public InstancedGroup buildInstanced(final int capacity) {
+        return new ObjectInstancedGroup(capacity, this::buildMovable);
+    }
 }
@@ -247,5 +247,30 @@ public interface GraphicWorld {
      */
     BillboardSet createBillboardSet(Material material);
 
+    /**
+     * Create a static geometry region, its objects are baked by material and culled as a whole.
+     * By default, every object of the region is built as a separate static object, an implementation able to merge
+     * the geometry should override it.
+     *
+     * @param name Region name.
+     * @return The created region.
+     */
+    default StaticGeometryRegion createStaticRegion(final String name) {
+        return new ObjectStaticRegion(name, this);
+    }
+
+    /**
+     * Provide the bulk transform channel of this world, its content is applied to the objects built with the
+     * matching entity id once per frame.
+     * Not supported by default, as the buffer must be consumed by the implementation, the objects are then to be
+     * moved one by one with their setPosition and setDirection methods.
+     *
+     * @return The transform buffer of this world.
+     * @throws UnsupportedOperationException If the implementation does not consume a transform buffer.
+     */
+    default TransformBuffer getTransformBuffer() {
+        throw new UnsupportedOperationException("Transform buffer not supported by " + this.getClass().getName());
+    }
+
     String getName();
 }
@@ -0,0 +1,372 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import java.util.Objects;
+
+/**
+ * Group of identical objects sharing the same mesh and material, rendered together.
+ * The instances are not objects, their data are stored in primitive arrays, one array by component, and the instances
+ * are kept contiguous: removing an instance moves the last one to its index.
+ * Changes are collected as a dirty index range, sent to the implementation once by update, so moving thousands of
+ * instances costs a single implementation call.
+ *
+ * @author Grégory Van den Borre
+ */
+public abstract class InstancedGroup {
+
+    /**
+     * Number of shader parameters by instance.
+     */
+    public static final int PARAMETERS = 4;
+
+    /**
+     * Position x component, by instance.
+     */
+    protected final float[] positionX;
+
+    /**
+     * Position y component, by instance.
+     */
+    protected final float[] positionY;
+
+    /**
+     * Position z component, by instance.
+     */
+    protected final float[] positionZ;
+
+    /**
+     * Direction x component, by instance.
+     */
+    protected final float[] directionX;
+
+    /**
+     * Direction y component, by instance.
+     */
+    protected final float[] directionY;
+
+    /**
+     * Direction z component, by instance.
+     */
+    protected final float[] directionZ;
+
+    /**
+     * Uniform scale, by instance.
+     */
+    protected final float[] scale;
+
+    /**
+     * Shader parameters, by parameter index then by instance.
+     */
+    protected final float[][] parameters;
+
+    /**
+     * Maximum number of instances.
+     */
+    private final int capacity;
+
+    /**
+     * Current number of instances.
+     */
+    private int size;
+
+    /**
+     * First changed instance since the last update, inclusive.
+     */
+    private int dirtyFrom = Integer.MAX_VALUE;
+
+    /**
+     * Last changed instance since the last update, exclusive.
+     */
+    private int dirtyTo;
+
+    private boolean visible = true;
+
+    /**
+     * Create an empty group.
+     *
+     * @param capacity Maximum number of instances.
+     */
+    protected InstancedGroup(final int capacity) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0.");
+        }
+        this.capacity = capacity;
+        this.positionX = new float[capacity];
+        this.positionY = new float[capacity];
+        this.positionZ = new float[capacity];
+        this.directionX = new float[capacity];
+        this.directionY = new float[capacity];
+        this.directionZ = new float[capacity];
+        this.scale = new float[capacity];
+        this.parameters = new float[PARAMETERS][capacity];
+    }
+
+    /**
+     * Add an instance, with the base direction, a scale of 1 and parameters set to 0.
+     *
+     * @param x Position x.
+     * @param y Position y.
+     * @param z Position z.
+     * @return The instance index.
+     * @throws IllegalStateException If the group capacity is reached.
+     */
+    public final int add(final float x, final float y, final float z) {
+        if (this.size == this.capacity) {
+            throw new IllegalStateException("Instanced group capacity reached: " + this.capacity);
+        }
+        final int index = this.size;
+        this.size++;
+        this.positionX[index] = x;
+        this.positionY[index] = y;
+        this.positionZ[index] = z;
+        this.directionX[index] = 0;
+        this.directionY[index] = 0;
+        this.directionZ[index] = -1;
+        this.scale[index] = 1;
+        for (float[] parameter : this.parameters) {
+            parameter[index] = 0;
+        }
+        this.markDirty(index, index + 1);
+        return index;
+    }
+
+    /**
+     * Remove an instance, the last instance is moved to the removed index to keep the instances contiguous.
+     *
+     * @param index Index of the instance to remove.
+     * @return The previous index of the instance moved to the removed index, -1 if the last instance was removed.
+     */
+    public final int remove(final int index) {
+        Objects.checkIndex(index, this.size);
+        final int last = this.size - 1;
+        this.size--;
+        if (index == last) {
+            this.markDirty(index, index);
+            return -1;
+        }
+        this.positionX[index] = this.positionX[last];
+        this.positionY[index] = this.positionY[last];
+        this.positionZ[index] = this.positionZ[last];
+        this.directionX[index] = this.directionX[last];
+        this.directionY[index] = this.directionY[last];
+        this.directionZ[index] = this.directionZ[last];
+        this.scale[index] = this.scale[last];
+        for (float[] parameter : this.parameters) {
+            parameter[index] = parameter[last];
+        }
+        this.markDirty(index, index + 1);
+        return last;
+    }
+
+    /**
+     * Remove all instances.
+     */
+    public final void clear() {
+        this.size = 0;
+        this.markDirty(0, 0);
+    }
+
+    public final void setPosition(final int index, final float x, final float y, final float z) {
+        Objects.checkIndex(index, this.size);
+        this.positionX[index] = x;
+        this.positionY[index] = y;
+        this.positionZ[index] = z;
+        this.markDirty(index, index + 1);
+    }
+
+    public final void setDirection(final int index, final float x, final float y, final float z) {
+        Objects.checkIndex(index, this.size);
+        this.directionX[index] = x;
+        this.directionY[index] = y;
+        this.directionZ[index] = z;
+        this.markDirty(index, index + 1);
+    }
+
+    public final void setScale(final int index, final float value) {
+        Objects.checkIndex(index, this.size);
+        this.scale[index] = value;
+        this.markDirty(index, index + 1);
+    }
+
+    /**
+     * Set a shader parameter for an instance.
+     *
+     * @param index     Instance index.
+     * @param parameter Parameter index, from 0 to PARAMETERS excluded.
+     * @param value     Parameter value.
+     */
+    public final void setParameter(final int index, final int parameter, final float value) {
+        Objects.checkIndex(index, this.size);
+        this.parameters[Objects.checkIndex(parameter, PARAMETERS)][index] = value;
+        this.markDirty(index, index + 1);
+    }
+
+    /**
+     * Set the positions of the first instances from interleaved coordinates.
+     *
+     * @param xyz Positions as x0, y0, z0, x1, y1, z1...
+     * @throws IllegalArgumentException If the array does not contain a multiple of 3 values, or more positions than
+     *                                  instances.
+     */
+    public final void setPositions(final float[] xyz) {
+        if (xyz.length % 3 != 0) {
+            throw new IllegalArgumentException("Positions length must be a multiple of 3.");
+        }
+        final int count = xyz.length / 3;
+        this.checkCount(count);
+        for (int i = 0, j = 0; i < count; i++, j += 3) {
+            this.positionX[i] = xyz[j];
+            this.positionY[i] = xyz[j + 1];
+            this.positionZ[i] = xyz[j + 2];
+        }
+        this.markDirty(0, count);
+    }
+
+    /**
+     * Set the positions of a range of instances from separated components.
+     *
+     * @param from  First instance to update.
+     * @param x     Positions x.
+     * @param y     Positions y.
+     * @param z     Positions z.
+     * @param count Number of positions to copy from the arrays.
+     */
+    public final void setPositions(final int from, final float[] x, final float[] y, final float[] z, final int count) {
+        Objects.checkFromIndexSize(from, count, this.size);
+        System.arraycopy(x, 0, this.positionX, from, count);
+        System.arraycopy(y, 0, this.positionY, from, count);
+        System.arraycopy(z, 0, this.positionZ, from, count);
+        this.markDirty(from, from + count);
+    }
+
+    /**
+     * Send the changes done since the last update to the implementation, does nothing if nothing changed.
+     */
+    public final void update() {
+        if (this.dirtyFrom != Integer.MAX_VALUE) {
+            final int from = Math.min(this.dirtyFrom, this.size);
+            final int to = Math.min(this.dirtyTo, this.size);
+            this.dirtyFrom = Integer.MAX_VALUE;
+            this.dirtyTo = 0;
+            this.updateImpl(from, to);
+        }
+    }
+
+    public final void show() {
+        if (!this.visible) {
+            this.visible = true;
+            this.showImpl();
+        }
+    }
+
+    public final void hide() {
+        if (this.visible) {
+            this.visible = false;
+            this.hideImpl();
+        }
+    }
+
+    public final boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * @return The current number of instances.
+     */
+    public final int getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return The maximum number of instances.
+     */
+    public final int getCapacity() {
+        return this.capacity;
+    }
+
+    public final float getPositionX(final int index) {
+        return this.positionX[Objects.checkIndex(index, this.size)];
+    }
+
+    public final float getPositionY(final int index) {
+        return this.positionY[Objects.checkIndex(index, this.size)];
+    }
+
+    public final float getPositionZ(final int index) {
+        return this.positionZ[Objects.checkIndex(index, this.size)];
+    }
+
+    public final float getDirectionX(final int index) {
+        return this.directionX[Objects.checkIndex(index, this.size)];
+    }
+
+    public final float getDirectionY(final int index) {
+        return this.directionY[Objects.checkIndex(index, this.size)];
+    }
+
+    public final float getDirectionZ(final int index) {
+        return this.directionZ[Objects.checkIndex(index, this.size)];
+    }
+
+    public final float getScale(final int index) {
+        return this.scale[Objects.checkIndex(index, this.size)];
+    }
+
+    public final float getParameter(final int index, final int parameter) {
+        return this.parameters[Objects.checkIndex(parameter, PARAMETERS)][Objects.checkIndex(index, this.size)];
+    }
+
+    /**
+     * Delete the group and all its instances.
+     */
+    public abstract void delete();
+
+    /**
+     * Send the instances data to the implementation.
+     * The instances from 0 to the current size are valid, the ones in [from, to[ were changed, and the instance
+     * count may have changed since the last update.
+     *
+     * @param from First changed instance, inclusive.
+     * @param to   Last changed instance, exclusive.
+     */
+    protected abstract void updateImpl(int from, int to);
+
+    protected abstract void showImpl();
+
+    protected abstract void hideImpl();
+
+    private void checkCount(final int count) {
+        if (count > this.size) {
+            throw new IllegalArgumentException(count + " positions for " + this.size + " instances.");
+        }
+    }
+
+    private void markDirty(final int from, final int to) {
+        this.dirtyFrom = Math.min(this.dirtyFrom, from);
+        this.dirtyTo = Math.max(this.dirtyTo, to);
+    }
+}
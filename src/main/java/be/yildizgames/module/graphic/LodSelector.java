@@ -0,0 +1,196 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.camera.Camera;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Select every frame the detail level of graphic objects from their distance to the camera.
+ * A hysteresis margin avoids objects switching back and forth when staying around a level distance:
+ * a coarser level is used once the distance exceeds its switch distance by the margin,
+ * and a finer one once the distance is below the current level distance by the margin.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class LodSelector {
+
+    /**
+     * Objects with several detail levels.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Entries by object.
+     */
+    private final Map<GraphicObject, Entry> byObject = new IdentityHashMap<>();
+
+    /**
+     * Hysteresis margin, as a fraction of the switch distance.
+     */
+    private final float hysteresis;
+
+    /**
+     * Create a new selector.
+     *
+     * @param hysteresis Margin around the switch distances, as a fraction of them, 0.1 for 10%.
+     */
+    public LodSelector(final float hysteresis) {
+        super();
+        if (hysteresis < 0 || hysteresis >= 1) {
+            throw new IllegalArgumentException("Hysteresis must be between 0 included and 1 excluded.");
+        }
+        this.hysteresis = hysteresis;
+    }
+
+    /**
+     * Manage the detail level of an object, objects whose mesh has a single level are ignored.
+     *
+     * @param object Object to manage.
+     * @param mesh   Mesh used by the object.
+     */
+    public void add(final GraphicObject object, final GraphicMesh mesh) {
+        Objects.requireNonNull(object);
+        final List<MeshLevel> levels = mesh.getLevels();
+        if (levels.size() < 2 || this.byObject.containsKey(object)) {
+            return;
+        }
+        final float[] coarser = new float[levels.size()];
+        final float[] finer = new float[levels.size()];
+        for (int i = 0; i < levels.size(); i++) {
+            final float distance = levels.get(i).getDistance();
+            coarser[i] = square(distance * (1 + this.hysteresis));
+            finer[i] = square(distance * (1 - this.hysteresis));
+        }
+        final Entry entry = new Entry(object, coarser, finer, this.entries.size());
+        this.entries.add(entry);
+        this.byObject.put(object, entry);
+    }
+
+    /**
+     * Stop managing an object, its current level is kept.
+     *
+     * @param object Object to remove.
+     */
+    public void remove(final GraphicObject object) {
+        final Entry entry = this.byObject.remove(object);
+        if (entry != null) {
+            final Entry last = this.entries.remove(this.entries.size() - 1);
+            if (last != entry) {
+                this.entries.set(entry.index, last);
+                last.index = entry.index;
+            }
+        }
+    }
+
+    /**
+     * Update the detail levels from the camera position.
+     *
+     * @param camera Camera used for rendering.
+     * @return The number of objects whose level changed.
+     */
+    public int update(final Camera camera) {
+        final Point3D position = camera.getAbsolutePosition();
+        return this.update(position.x, position.y, position.z);
+    }
+
+    /**
+     * Update the detail levels from a point of view.
+     *
+     * @param x Point of view x value.
+     * @param y Point of view y value.
+     * @param z Point of view z value.
+     * @return The number of objects whose level changed.
+     */
+    public int update(final float x, final float y, final float z) {
+        int changed = 0;
+        for (int i = 0; i < this.entries.size(); i++) {
+            final Entry entry = this.entries.get(i);
+            final Point3D position = entry.object.getAbsolutePosition();
+            final float distance = square(position.x - x) + square(position.y - y) + square(position.z - z);
+            final int current = entry.object.getLodLevel();
+            int level = Math.min(current, entry.coarser.length - 1);
+            while (level + 1 < entry.coarser.length && distance > entry.coarser[level + 1]) {
+                level++;
+            }
+            while (level > 0 && distance < entry.finer[level]) {
+                level--;
+            }
+            if (level != current) {
+                entry.object.setLodLevel(level);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return The number of managed objects.
+     */
+    public int getSize() {
+        return this.entries.size();
+    }
+
+    private static float square(final float value) {
+        return value * value;
+    }
+
+    /**
+     * Managed object with its squared switch distances.
+     */
+    private static final class Entry {
+
+        private final GraphicObject object;
+
+        /**
+         * Squared distance above which each level is used when coming from a finer one.
+         */
+        private final float[] coarser;
+
+        /**
+         * Squared distance below which each level is left for a finer one.
+         */
+        private final float[] finer;
+
+        /**
+         * Index in the entries.
+         */
+        private int index;
+
+        private Entry(final GraphicObject object, final float[] coarser, final float[] finer, final int index) {
+            super();
+            this.object = object;
+            this.coarser = coarser;
+            this.finer = finer;
+            this.index = index;
+        }
+    }
+}
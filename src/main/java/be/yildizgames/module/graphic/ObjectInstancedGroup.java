@@ -0,0 +1,115 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Instanced group rendering every instance as a separate graphic object, for implementations without hardware
+ * instancing.
+ * The objects are created and deleted by update to match the number of instances, and only the changed instances are
+ * copied to their object.
+ *
+ * @author Grégory Van den Borre
+ */
+public class ObjectInstancedGroup extends InstancedGroup {
+
+    /**
+     * Build the object of a new instance.
+     */
+    private final Supplier<GraphicObject> factory;
+
+    /**
+     * Object of each instance, by instance index.
+     */
+    private final List<GraphicObject> objects = new ArrayList<>();
+
+    /**
+     * Create an empty group.
+     *
+     * @param capacity Maximum number of instances.
+     * @param factory  Build the object of a new instance.
+     */
+    public ObjectInstancedGroup(final int capacity, final Supplier<GraphicObject> factory) {
+        super(capacity);
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * @param index Instance index.
+     * @return The object rendering the instance, as of the last update.
+     */
+    public final GraphicObject getObject(final int index) {
+        return this.objects.get(index);
+    }
+
+    @Override
+    public void delete() {
+        for (GraphicObject object : this.objects) {
+            object.delete();
+        }
+        this.objects.clear();
+    }
+
+    @Override
+    protected void updateImpl(final int from, final int to) {
+        final int size = this.getSize();
+        while (this.objects.size() > size) {
+            this.objects.remove(this.objects.size() - 1).delete();
+        }
+        while (this.objects.size() < size) {
+            final GraphicObject object = this.factory.get();
+            if (!this.isVisible()) {
+                object.hide();
+            }
+            this.objects.add(object);
+        }
+        for (int i = from; i < to; i++) {
+            final GraphicObject object = this.objects.get(i);
+            object.setPosition(this.positionX[i], this.positionY[i], this.positionZ[i]);
+            object.setDirection(this.directionX[i], this.directionY[i], this.directionZ[i]);
+            object.scale(this.scale[i], this.scale[i], this.scale[i]);
+            object.setParameter(0, this.parameters[0][i], this.parameters[1][i], this.parameters[2][i], this.parameters[3][i]);
+        }
+    }
+
+    @Override
+    protected void showImpl() {
+        for (GraphicObject object : this.objects) {
+            object.show();
+        }
+    }
+
+    @Override
+    protected void hideImpl() {
+        for (GraphicObject object : this.objects) {
+            object.hide();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.module.graphic.material.Material;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Static geometry region rendering every object as a separate static graphic object, for implementations without
+ * geometry baking.
+ * Building a batch deletes the objects of its material and creates them again, so the bounding box of the region is
+ * still available for culling, but the objects are not merged.
+ *
+ * @author Grégory Van den Borre
+ */
+public class ObjectStaticRegion extends StaticGeometryRegion {
+
+    /**
+     * World used to build the objects.
+     */
+    private final GraphicWorld world;
+
+    /**
+     * Objects of each batch, by material.
+     */
+    private final Map<Material, List<GraphicObject>> objects = new HashMap<>();
+
+    /**
+     * Create an empty region.
+     *
+     * @param name  Region name.
+     * @param world World used to build the objects.
+     */
+    public ObjectStaticRegion(final String name, final GraphicWorld world) {
+        super(name);
+        this.world = Objects.requireNonNull(world);
+    }
+
+    /**
+     * @param material Batch material.
+     * @return The number of objects built for the batch of the material.
+     */
+    public final int getObjectCount(final Material material) {
+        final List<GraphicObject> batch = this.objects.get(material);
+        return batch == null ? 0 : batch.size();
+    }
+
+    @Override
+    public void delete() {
+        for (List<GraphicObject> batch : this.objects.values()) {
+            batch.forEach(GraphicObject::delete);
+        }
+        this.objects.clear();
+    }
+
+    @Override
+    protected void buildBatchImpl(final Material material, final List<Entry> entries) {
+        final List<GraphicObject> batch = this.objects.computeIfAbsent(material, m -> new ArrayList<>());
+        batch.forEach(GraphicObject::delete);
+        batch.clear();
+        for (Entry entry : entries) {
+            batch.add(this.world.createObject()
+                    .withShape(entry.getMesh())
+                    .withMaterial(material)
+                    .atPosition(entry.getPosition())
+                    .withDirection(entry.getDirection())
+                    .buildStatic());
+        }
+    }
+
+    @Override
+    protected void removeBatchImpl(final Material material) {
+        final List<GraphicObject> batch = this.objects.remove(material);
+        if (batch != null) {
+            batch.forEach(GraphicObject::delete);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.material.SortKey;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Collect the renderables submitted for a frame and order them to minimize the render state changes.
+ * Opaque submissions are ordered by material sort key, then front to back, transparent ones are rendered after them,
+ * back to front, the material sort key only separating submissions at the same depth.
+ * Entries are reused from one frame to the next, submitting does not allocate once the queue reached its size.
+ *
+ * @param <T> Renderable type.
+ * @author Grégory Van den Borre
+ */
+public final class RenderQueue<T> {
+
+    /**
+     * Shift keeping the most significant bits of a positive float for the opaque depth.
+     */
+    private static final int OPAQUE_DEPTH_SHIFT = 31 - SortKey.DEPTH_BITS;
+
+    /**
+     * Bits used by the depth of a transparent submission.
+     */
+    private static final int TRANSPARENT_DEPTH_BITS = 24;
+
+    /**
+     * Shift keeping the most significant bits of a positive float for the transparent depth.
+     */
+    private static final int TRANSPARENT_DEPTH_SHIFT = 31 - TRANSPARENT_DEPTH_BITS;
+
+    /**
+     * Position of the transparent depth, the bits below hold the most significant bits of the material key.
+     */
+    private static final int TRANSPARENT_STATE_BITS = 63 - TRANSPARENT_DEPTH_BITS;
+
+    private static final Comparator<Entry<?>> ORDER = (a, b) -> Long.compareUnsigned(a.order, b.order);
+
+    /**
+     * Submissions, only the first size ones are used.
+     */
+    private Entry<T>[] entries = newArray(64);
+
+    /**
+     * Number of submissions in this frame.
+     */
+    private int size;
+
+    /**
+     * Submit a renderable.
+     *
+     * @param item     Renderable.
+     * @param material Renderable material.
+     * @param depth    Distance to the camera.
+     */
+    public void submit(final T item, final Material material, final float depth) {
+        this.submit(item, material.getSortKey(), depth);
+    }
+
+    /**
+     * Submit a renderable.
+     *
+     * @param item    Renderable.
+     * @param sortKey Material sort key.
+     * @param depth   Distance to the camera.
+     */
+    public void submit(final T item, final long sortKey, final float depth) {
+        if (this.size == this.entries.length) {
+            this.entries = Arrays.copyOf(this.entries, this.size * 2);
+        }
+        Entry<T> entry = this.entries[this.size];
+        if (entry == null) {
+            entry = new Entry<>();
+            this.entries[this.size] = entry;
+        }
+        this.size++;
+        entry.item = item;
+        entry.sortKey = sortKey;
+        final int depthBits = Float.floatToIntBits(Math.max(depth, 0f));
+        if (SortKey.isTransparent(sortKey)) {
+            entry.order = SortKey.TRANSPARENT
+                    | (long) ((Integer.MAX_VALUE - depthBits) >>> TRANSPARENT_DEPTH_SHIFT) << TRANSPARENT_STATE_BITS
+                    | (sortKey & ~SortKey.TRANSPARENT) >>> TRANSPARENT_DEPTH_BITS;
+        } else {
+            entry.order = sortKey | depthBits >>> OPAQUE_DEPTH_SHIFT;
+        }
+    }
+
+    /**
+     * Order the submissions, to be called once all the renderables of the frame are submitted.
+     */
+    public void sort() {
+        Arrays.sort(this.entries, 0, this.size, ORDER);
+    }
+
+    /**
+     * @return The number of submissions.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param index Submission index.
+     * @return The renderable at this index.
+     */
+    public T get(final int index) {
+        return this.entries[Objects.checkIndex(index, this.size)].item;
+    }
+
+    /**
+     * @param index Submission index.
+     * @return The material sort key of the submission at this index.
+     */
+    public long getSortKey(final int index) {
+        return this.entries[Objects.checkIndex(index, this.size)].sortKey;
+    }
+
+    /**
+     * Count the render state changes needed to render the submissions in their current order.
+     *
+     * @return The number of times the material sort key changes between two consecutive submissions.
+     */
+    public int getStateChanges() {
+        int changes = 0;
+        for (int i = 1; i < this.size; i++) {
+            if (this.entries[i].sortKey != this.entries[i - 1].sortKey) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Remove all the submissions, the entries are kept for the next frame.
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.entries[i].item = null;
+        }
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Entry<T>[] newArray(final int length) {
+        return new Entry[length];
+    }
+
+    /**
+     * Submitted renderable.
+     *
+     * @param <T> Renderable type.
+     */
+    private static final class Entry<T> {
+
+        private T item;
+
+        private long sortKey;
+
+        /**
+         * Material sort key combined with the depth.
+         */
+        private long order;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Content of a resource file read out of the rendering thread, to be turned into a texture or a font on the rendering thread.
+ * An implementation can extend it to carry the decoded data, as an image or the glyphs of a font.
+ *
+ * @author Grégory Van den Borre
+ */
+public class ResourceData {
+
+    /**
+     * Empty content.
+     */
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    /**
+     * Resource file path.
+     */
+    private final String path;
+
+    /**
+     * File content.
+     */
+    private final ByteBuffer data;
+
+    /**
+     * Full constructor.
+     *
+     * @param path Resource file path.
+     * @param data File content, empty if the file is to be found by the implementation.
+     */
+    public ResourceData(final String path, final ByteBuffer data) {
+        super();
+        this.path = Objects.requireNonNull(path);
+        this.data = data.asReadOnlyBuffer();
+    }
+
+    /**
+     * Read a resource file, safe to call from any thread.
+     * The path is resolved against the working directory only, the resource paths registered in the engine with
+     * addResourcePath are not searched: if the file is not found, the content is empty and the implementation is
+     * expected to find the file in its own resource paths when creating the resource, on the rendering thread.
+     * An implementation can use read(String, Collection) with its resource folders to read those files as well.
+     *
+     * @param path Resource file path.
+     * @return The file content.
+     * @throws UncheckedIOException If the file exists and cannot be read.
+     */
+    public static ResourceData read(final String path) {
+        return read(path, List.of());
+    }
+
+    /**
+     * Read a resource file, safe to call from any thread.
+     * The path is resolved against the working directory, then against each folder, in order, the first existing
+     * file is read, if none exists, the content is empty.
+     *
+     * @param path    Resource file path.
+     * @param folders Folders to search the file in.
+     * @return The file content.
+     * @throws UncheckedIOException If the file exists and cannot be read.
+     */
+    public static ResourceData read(final String path, final Collection<Path> folders) {
+        Path file = Path.of(path);
+        if (!Files.isRegularFile(file)) {
+            file = null;
+            for (Path folder : folders) {
+                final Path candidate = folder.resolve(path);
+                if (Files.isRegularFile(candidate)) {
+                    file = candidate;
+                    break;
+                }
+            }
+        }
+        if (file == null) {
+            return new ResourceData(path, EMPTY);
+        }
+        try {
+            return new ResourceData(path, ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public final String getPath() {
+        return this.path;
+    }
+
+    /**
+     * @return A read only view of the file content, empty if the file is to be found by the implementation.
+     */
+    public final ByteBuffer getData() {
+        return this.data.duplicate();
+    }
+
+    /**
+     * @return true if the file content was read.
+     */
+    public final boolean isLoaded() {
+        return this.data.capacity() > 0;
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.material.Material;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Region of static objects, baked by material into merged batches.
+ * Objects are added and removed by id, only the batches whose content changed are rebuilt by the next build call,
+ * so removing a single object only rebuilds the batch of its material.
+ * The region keeps a bounding box of its objects, to be culled as a whole instead of object by object.
+ *
+ * @author Grégory Van den Borre
+ */
+public abstract class StaticGeometryRegion {
+
+    /**
+     * Region name.
+     */
+    private final String name;
+
+    /**
+     * Batches by material, in creation order.
+     */
+    private final Map<Material, Batch> batches = new LinkedHashMap<>();
+
+    /**
+     * Objects by id.
+     */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Last given object id.
+     */
+    private int lastId;
+
+    private float minX = Float.POSITIVE_INFINITY;
+
+    private float minY = Float.POSITIVE_INFINITY;
+
+    private float minZ = Float.POSITIVE_INFINITY;
+
+    private float maxX = Float.NEGATIVE_INFINITY;
+
+    private float maxY = Float.NEGATIVE_INFINITY;
+
+    private float maxZ = Float.NEGATIVE_INFINITY;
+
+    /**
+     * <code>true</code> if an object was removed and the bounding box must be computed again.
+     */
+    private boolean boundsDirty;
+
+    /**
+     * Create an empty region.
+     *
+     * @param name Region name.
+     */
+    protected StaticGeometryRegion(final String name) {
+        super();
+        this.name = Objects.requireNonNull(name);
+    }
+
+    /**
+     * Add an object using the mesh material.
+     *
+     * @param mesh      Object mesh.
+     * @param position  Object position.
+     * @param direction Object direction.
+     * @return The object id in this region.
+     */
+    public final int add(final GraphicMesh mesh, final Point3D position, final Point3D direction) {
+        return this.add(mesh, mesh.getMaterial(), position, direction);
+    }
+
+    /**
+     * Add an object, it is only baked by the next build call.
+     *
+     * @param mesh      Object mesh.
+     * @param material  Object material, objects with the same material are merged together.
+     * @param position  Object position.
+     * @param direction Object direction.
+     * @return The object id in this region.
+     */
+    public final int add(final GraphicMesh mesh, final Material material, final Point3D position, final Point3D direction) {
+        Objects.requireNonNull(mesh);
+        Objects.requireNonNull(material);
+        Objects.requireNonNull(position);
+        Objects.requireNonNull(direction);
+        this.lastId++;
+        final Entry entry = new Entry(this.lastId, mesh, material, position, direction);
+        this.entries.put(entry.id, entry);
+        this.batches.computeIfAbsent(material, m -> new Batch()).add(entry);
+        this.expandBounds(entry);
+        return entry.id;
+    }
+
+    /**
+     * Remove an object, its batch is rebuilt by the next build call.
+     *
+     * @param id Id of the object to remove.
+     * @return <code>true</code> if the object was in the region.
+     */
+    public final boolean remove(final int id) {
+        final Entry entry = this.entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        this.batches.get(entry.material).remove(entry);
+        this.boundsDirty = true;
+        return true;
+    }
+
+    /**
+     * Bake the batches changed since the last build, batches without objects are removed.
+     *
+     * @return The number of rebuilt or removed batches.
+     */
+    public final int build() {
+        int built = 0;
+        final Iterator<Map.Entry<Material, Batch>> iterator = this.batches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Material, Batch> e = iterator.next();
+            final Batch batch = e.getValue();
+            if (batch.dirty) {
+                batch.dirty = false;
+                built++;
+                if (batch.entries.isEmpty()) {
+                    iterator.remove();
+                    this.removeBatchImpl(e.getKey());
+                } else {
+                    this.buildBatchImpl(e.getKey(), batch.view);
+                }
+            }
+        }
+        return built;
+    }
+
+    /**
+     * @return The number of objects in the region.
+     */
+    public final int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return The number of material batches in the region.
+     */
+    public final int getBatchCount() {
+        return this.batches.size();
+    }
+
+    public final String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return The bounding box minimum corner, Point3D.ZERO if the region is empty.
+     */
+    public final Point3D getMin() {
+        this.computeBounds();
+        return this.entries.isEmpty() ? Point3D.ZERO : Point3D.valueOf(this.minX, this.minY, this.minZ);
+    }
+
+    /**
+     * @return The bounding box maximum corner, Point3D.ZERO if the region is empty.
+     */
+    public final Point3D getMax() {
+        this.computeBounds();
+        return this.entries.isEmpty() ? Point3D.ZERO : Point3D.valueOf(this.maxX, this.maxY, this.maxZ);
+    }
+
+    /**
+     * Delete the region and all its batches.
+     */
+    public abstract void delete();
+
+    /**
+     * Bake all the objects of a material into a single batch, replacing the previous one for this material.
+     *
+     * @param material Batch material.
+     * @param objects  Objects in the batch, not to be modified or kept.
+     */
+    protected abstract void buildBatchImpl(Material material, List<Entry> objects);
+
+    /**
+     * Remove the batch of a material, it does not contain any object anymore.
+     *
+     * @param material Batch material.
+     */
+    protected abstract void removeBatchImpl(Material material);
+
+    /**
+     * Provide the radius of a mesh, used to compute the region bounding box.
+     * Returns 0 by default, the bounding box then only contains the objects positions.
+     *
+     * @param mesh Mesh to measure.
+     * @return The mesh bounding sphere radius.
+     */
+    protected float getMeshRadius(final GraphicMesh mesh) {
+        return 0;
+    }
+
+    private void computeBounds() {
+        if (this.boundsDirty) {
+            this.boundsDirty = false;
+            this.minX = Float.POSITIVE_INFINITY;
+            this.minY = Float.POSITIVE_INFINITY;
+            this.minZ = Float.POSITIVE_INFINITY;
+            this.maxX = Float.NEGATIVE_INFINITY;
+            this.maxY = Float.NEGATIVE_INFINITY;
+            this.maxZ = Float.NEGATIVE_INFINITY;
+            this.entries.values().forEach(this::expandBounds);
+        }
+    }
+
+    private void expandBounds(final Entry entry) {
+        final float radius = this.getMeshRadius(entry.mesh);
+        this.minX = Math.min(this.minX, entry.position.x - radius);
+        this.minY = Math.min(this.minY, entry.position.y - radius);
+        this.minZ = Math.min(this.minZ, entry.position.z - radius);
+        this.maxX = Math.max(this.maxX, entry.position.x + radius);
+        this.maxY = Math.max(this.maxY, entry.position.y + radius);
+        this.maxZ = Math.max(this.maxZ, entry.position.z + radius);
+    }
+
+    /**
+     * Static object in a region.
+     */
+    public static final class Entry {
+
+        private final int id;
+
+        private final GraphicMesh mesh;
+
+        private final Material material;
+
+        private final Point3D position;
+
+        private final Point3D direction;
+
+        /**
+         * Index in the batch entries.
+         */
+        private int index;
+
+        private Entry(final int id, final GraphicMesh mesh, final Material material, final Point3D position, final Point3D direction) {
+            super();
+            this.id = id;
+            this.mesh = mesh;
+            this.material = material;
+            this.position = position;
+            this.direction = direction;
+        }
+
+        public int getId() {
+            return this.id;
+        }
+
+        public GraphicMesh getMesh() {
+            return this.mesh;
+        }
+
+        public Material getMaterial() {
+            return this.material;
+        }
+
+        public Point3D getPosition() {
+            return this.position;
+        }
+
+        public Point3D getDirection() {
+            return this.direction;
+        }
+    }
+
+    /**
+     * Objects sharing a material.
+     */
+    private static final class Batch {
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        private final List<Entry> view = Collections.unmodifiableList(this.entries);
+
+        /**
+         * <code>true</code> if the batch content changed since the last build.
+         */
+        private boolean dirty;
+
+        private void add(final Entry entry) {
+            entry.index = this.entries.size();
+            this.entries.add(entry);
+            this.dirty = true;
+        }
+
+        private void remove(final Entry entry) {
+            final Entry last = this.entries.remove(this.entries.size() - 1);
+            if (last != entry) {
+                this.entries.set(entry.index, last);
+                last.index = entry.index;
+            }
+            this.dirty = true;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache for the texts measured with a font.
+ * Long texts are not cached, they are unlikely to be measured again and would retain too much memory, only the last
+ * one is kept to avoid measuring it twice in a row.
+ *
+ * @author Grégory Van den Borre
+ */
+final class TextMeasureCache {
+
+    /**
+     * Maximum number of cached texts.
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * Texts longer than this value are not cached.
+     */
+    private static final int MAX_LENGTH = 256;
+
+    /**
+     * Cached measures, ordered by access.
+     */
+    private final Map<String, Measure> measures = new LinkedHashMap<>(64, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Measure> eldest) {
+            return this.size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Last long text measured.
+     */
+    private String lastLongText;
+
+    /**
+     * Measure for the last long text.
+     */
+    private Measure lastLongMeasure;
+
+    /**
+     * Retrieve a measure.
+     *
+     * @param text Measured text.
+     * @return The measure, or <code>null</code> if the text is not cached.
+     */
+    Measure get(final String text) {
+        if (text.length() > MAX_LENGTH) {
+            return text.equals(this.lastLongText) ? this.lastLongMeasure : null;
+        }
+        return this.measures.get(text);
+    }
+
+    /**
+     * Cache a measure.
+     *
+     * @param text          Measured text.
+     * @param width         Text width.
+     * @param maxPrefixWidth Width of the widest text prefix.
+     * @return The cached measure.
+     */
+    Measure put(final String text, final int width, final float maxPrefixWidth) {
+        final Measure measure = new Measure(width, maxPrefixWidth);
+        if (text.length() <= MAX_LENGTH) {
+            this.measures.put(text, measure);
+        } else {
+            this.lastLongText = text;
+            this.lastLongMeasure = measure;
+        }
+        return measure;
+    }
+
+    /**
+     * Remove all measures.
+     */
+    void clear() {
+        this.measures.clear();
+        this.lastLongText = null;
+        this.lastLongMeasure = null;
+    }
+
+    /**
+     * Result of a text measure.
+     */
+    static final class Measure {
+
+        /**
+         * Text width, rounded.
+         */
+        final int width;
+
+        /**
+         * Width of the widest prefix of the text, if smaller than a width, the text does not need to be cropped.
+         */
+        final float maxPrefixWidth;
+
+        private Measure(final int width, final float maxPrefixWidth) {
+            this.width = width;
+            this.maxPrefixWidth = maxPrefixWidth;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.common.model.EntityId;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Bulk transform channel, positions and directions for many entities are written in a direct buffer,
+ * without allocating a Point3D or calling the Movable of each entity, and consumed once per frame by the backend.
+ * Each transform uses STRIDE floats: position x, y, z and direction x, y, z.
+ * Writing the same entity several times in a frame keeps all the writes, in order, the last one is the one applied.
+ * The buffer is not thread safe, it is expected to be written and consumed on the rendering thread.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class TransformBuffer {
+
+    /**
+     * Number of floats for one transform.
+     */
+    public static final int STRIDE = 6;
+
+    /**
+     * Transforms, in native order to be handed as is to a native backend.
+     */
+    private FloatBuffer transforms;
+
+    /**
+     * Entity of each transform.
+     */
+    private long[] entities;
+
+    /**
+     * Number of written transforms.
+     */
+    private int count;
+
+    /**
+     * Create an empty buffer, it grows when its capacity is reached.
+     *
+     * @param capacity Initial number of transforms.
+     */
+    public TransformBuffer(final int capacity) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.transforms = allocate(capacity);
+        this.entities = new long[capacity];
+    }
+
+    /**
+     * Write the transform of an entity.
+     *
+     * @param entity     Entity to move.
+     * @param x          Position x value.
+     * @param y          Position y value.
+     * @param z          Position z value.
+     * @param directionX Direction x value.
+     * @param directionY Direction y value.
+     * @param directionZ Direction z value.
+     */
+    public void write(final EntityId entity, final float x, final float y, final float z, final float directionX, final float directionY, final float directionZ) {
+        this.write(entity.value, x, y, z, directionX, directionY, directionZ);
+    }
+
+    /**
+     * Write the transform of an entity.
+     *
+     * @param entity     Value of the entity id to move.
+     * @param x          Position x value.
+     * @param y          Position y value.
+     * @param z          Position z value.
+     * @param directionX Direction x value.
+     * @param directionY Direction y value.
+     * @param directionZ Direction z value.
+     */
+    public void write(final long entity, final float x, final float y, final float z, final float directionX, final float directionY, final float directionZ) {
+        if (this.count == this.entities.length) {
+            this.grow();
+        }
+        final int offset = this.count * STRIDE;
+        this.transforms.put(offset, x);
+        this.transforms.put(offset + 1, y);
+        this.transforms.put(offset + 2, z);
+        this.transforms.put(offset + 3, directionX);
+        this.transforms.put(offset + 4, directionY);
+        this.transforms.put(offset + 5, directionZ);
+        this.entities[this.count] = entity;
+        this.count++;
+    }
+
+    /**
+     * Call the consumer for every written transform, in writing order, and clear the buffer.
+     *
+     * @param consumer Consumer applying the transforms.
+     */
+    public void consume(final TransformConsumer consumer) {
+        for (int i = 0; i < this.count; i++) {
+            final int offset = i * STRIDE;
+            consumer.transform(this.entities[i],
+                    this.transforms.get(offset),
+                    this.transforms.get(offset + 1),
+                    this.transforms.get(offset + 2),
+                    this.transforms.get(offset + 3),
+                    this.transforms.get(offset + 4),
+                    this.transforms.get(offset + 5));
+        }
+        this.clear();
+    }
+
+    /**
+     * Remove all the written transforms, the capacity is kept.
+     */
+    public void clear() {
+        this.count = 0;
+    }
+
+    /**
+     * @return The number of written transforms.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * @param index Transform index.
+     * @return The value of the entity id of the transform.
+     */
+    public long getEntity(final int index) {
+        return this.entities[Objects.checkIndex(index, this.count)];
+    }
+
+    /**
+     * Provide the direct buffer, for a backend reading it without copy.
+     * The buffer is replaced when growing, it must be retrieved again every frame.
+     *
+     * @return The transforms, count * STRIDE floats are meaningful.
+     */
+    public FloatBuffer getTransforms() {
+        return this.transforms;
+    }
+
+    private void grow() {
+        final int capacity = this.entities.length * 2;
+        final FloatBuffer grown = allocate(capacity);
+        grown.put(0, this.transforms, 0, this.count * STRIDE);
+        this.transforms = grown;
+        this.entities = Arrays.copyOf(this.entities, capacity);
+    }
+
+    private static FloatBuffer allocate(final int capacity) {
+        return ByteBuffer.allocateDirect(capacity * STRIDE * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    /**
+     * Receive the transforms consumed from the buffer.
+     */
+    @FunctionalInterface
+    public interface TransformConsumer {
+
+        /**
+         * Apply a transform to an entity.
+         *
+         * @param entity     Value of the entity id to move.
+         * @param x          Position x value.
+         * @param y          Position y value.
+         * @param z          Position z value.
+         * @param directionX Direction x value.
+         * @param directionY Direction y value.
+         * @param directionZ Direction z value.
+         */
+        void transform(long entity, float x, float y, float z, float directionX, float directionY, float directionZ);
+    }
+}
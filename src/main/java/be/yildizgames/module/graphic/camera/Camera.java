@@ -93,6 +93,13 @@ public abstract class Camera extends BaseRegisterable implements Movable, RayPro
      */
     public abstract Camera setNearClip(int near);
 
+    /**
+     * Set the vertical field of view.
+     * @param fov Vertical field of view, in radians.
+     * @return This object for chaining.
+     */
+    public abstract Camera setFieldOfView(float fov);
+
     @Override
     public final void setDirection(final Point3D direction) {
         this.setDirection(direction.x, direction.y, direction.z);
@@ -141,6 +148,26 @@ public abstract class Camera extends BaseRegisterable implements Movable, RayPro
 
     public abstract void setAspectRatio(float ratio);
 
+    /**
+     * @return The minimum rendering distance used by the implementation.
+     */
+    public abstract int getNearClip();
+
+    /**
+     * @return The maximum rendering distance used by the implementation.
+     */
+    public abstract int getFarClip();
+
+    /**
+     * @return The viewport width divided by its height, as used by the implementation.
+     */
+    public abstract float getAspectRatio();
+
+    /**
+     * @return The vertical field of view used by the implementation, in radians.
+     */
+    public abstract float getFieldOfView();
+
     public abstract Point3D getTargetPosition();
 
     public void setRelativePosition(Point3D position) {
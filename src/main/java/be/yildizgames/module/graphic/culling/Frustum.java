@@ -0,0 +1,219 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.culling;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.camera.Camera;
+
+/**
+ * Camera view volume, made of six planes, updated in place to avoid allocating every frame.
+ * A plane is stored as a normal pointing inside the volume and a distance, a point p is inside if normal.p + distance is positive.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class Frustum {
+
+    private static final int PLANES = 6;
+
+    private final float[] normalX = new float[PLANES];
+
+    private final float[] normalY = new float[PLANES];
+
+    private final float[] normalZ = new float[PLANES];
+
+    private final float[] distance = new float[PLANES];
+
+    private float positionX;
+
+    private float positionY;
+
+    private float positionZ;
+
+    /**
+     * Update the volume from the camera position, direction, field of view, aspect ratio and clip distances.
+     *
+     * @param camera Camera to use.
+     * @return This object for chaining.
+     */
+    public Frustum update(final Camera camera) {
+        final Point3D position = camera.getAbsolutePosition();
+        final Point3D direction = camera.getAbsoluteDirection();
+        return this.update(position.x, position.y, position.z, direction.x, direction.y, direction.z,
+                camera.getFieldOfView(), camera.getAspectRatio(), camera.getNearClip(), camera.getFarClip());
+    }
+
+    /**
+     * Update the volume.
+     *
+     * @param x           Position x value.
+     * @param y           Position y value.
+     * @param z           Position z value.
+     * @param directionX  Direction x value.
+     * @param directionY  Direction y value.
+     * @param directionZ  Direction z value.
+     * @param fieldOfView Vertical field of view, in radians.
+     * @param aspectRatio Width divided by height.
+     * @param near        Minimum visible distance.
+     * @param far         Maximum visible distance.
+     * @return This object for chaining.
+     */
+    public Frustum update(final float x, final float y, final float z, final float directionX, final float directionY, final float directionZ,
+                          final float fieldOfView, final float aspectRatio, final float near, final float far) {
+        float length = (float) Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+        if (length == 0) {
+            throw new IllegalArgumentException("Direction cannot be zero.");
+        }
+        final float fx = directionX / length;
+        final float fy = directionY / length;
+        final float fz = directionZ / length;
+        // right = forward x up, with up being Y, or -Z when looking vertically.
+        float rx;
+        float ry;
+        float rz;
+        if (Math.abs(fy) > 0.999f) {
+            rx = -fy;
+            ry = 0;
+            rz = 0;
+        } else {
+            rx = -fz;
+            ry = 0;
+            rz = fx;
+        }
+        length = (float) Math.sqrt(rx * rx + ry * ry + rz * rz);
+        rx /= length;
+        ry /= length;
+        rz /= length;
+        final float ux = ry * fz - rz * fy;
+        final float uy = rz * fx - rx * fz;
+        final float uz = rx * fy - ry * fx;
+        final float tanY = (float) Math.tan(fieldOfView * 0.5f);
+        final float tanX = tanY * aspectRatio;
+        this.positionX = x;
+        this.positionY = y;
+        this.positionZ = z;
+        this.setPlane(0, fx, fy, fz, -(fx * x + fy * y + fz * z) - near);
+        this.setPlane(1, -fx, -fy, -fz, fx * x + fy * y + fz * z + far);
+        this.setSidePlane(2, rx + fx * tanX, ry + fy * tanX, rz + fz * tanX);
+        this.setSidePlane(3, -rx + fx * tanX, -ry + fy * tanX, -rz + fz * tanX);
+        this.setSidePlane(4, ux + fx * tanY, uy + fy * tanY, uz + fz * tanY);
+        this.setSidePlane(5, -ux + fx * tanY, -uy + fy * tanY, -uz + fz * tanY);
+        return this;
+    }
+
+    /**
+     * Test an axis aligned box against the volume.
+     *
+     * @param minX Box minimum x value.
+     * @param minY Box minimum y value.
+     * @param minZ Box minimum z value.
+     * @param maxX Box maximum x value.
+     * @param maxY Box maximum y value.
+     * @param maxZ Box maximum z value.
+     * @return Where the box is relative to the volume.
+     */
+    public Containment contains(final float minX, final float minY, final float minZ, final float maxX, final float maxY, final float maxZ) {
+        Containment result = Containment.INSIDE;
+        for (int i = 0; i < PLANES; i++) {
+            final float nx = this.normalX[i];
+            final float ny = this.normalY[i];
+            final float nz = this.normalZ[i];
+            final float farthest = nx * (nx >= 0 ? maxX : minX) + ny * (ny >= 0 ? maxY : minY) + nz * (nz >= 0 ? maxZ : minZ) + this.distance[i];
+            if (farthest < 0) {
+                return Containment.OUTSIDE;
+            }
+            final float nearest = nx * (nx >= 0 ? minX : maxX) + ny * (ny >= 0 ? minY : maxY) + nz * (nz >= 0 ? minZ : maxZ) + this.distance[i];
+            if (nearest < 0) {
+                result = Containment.INTERSECT;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test a sphere against the volume.
+     *
+     * @param x      Sphere center x value.
+     * @param y      Sphere center y value.
+     * @param z      Sphere center z value.
+     * @param radius Sphere radius.
+     * @return <code>true</code> if the sphere is at least partially in the volume.
+     */
+    public boolean intersects(final float x, final float y, final float z, final float radius) {
+        for (int i = 0; i < PLANES; i++) {
+            if (this.normalX[i] * x + this.normalY[i] * y + this.normalZ[i] * z + this.distance[i] < -radius) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compute the squared distance from the volume origin.
+     *
+     * @param x Point x value.
+     * @param y Point y value.
+     * @param z Point z value.
+     * @return The squared distance between the point and the camera position.
+     */
+    public float squaredDistance(final float x, final float y, final float z) {
+        final float dx = x - this.positionX;
+        final float dy = y - this.positionY;
+        final float dz = z - this.positionZ;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private void setSidePlane(final int index, final float nx, final float ny, final float nz) {
+        this.setPlane(index, nx, ny, nz, -(nx * this.positionX + ny * this.positionY + nz * this.positionZ));
+    }
+
+    private void setPlane(final int index, final float nx, final float ny, final float nz, final float d) {
+        final float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        this.normalX[index] = nx / length;
+        this.normalY[index] = ny / length;
+        this.normalZ[index] = nz / length;
+        this.distance[index] = d / length;
+    }
+
+    /**
+     * Position of a volume relative to the frustum.
+     */
+    public enum Containment {
+
+        /**
+         * Completely out of the frustum.
+         */
+        OUTSIDE,
+
+        /**
+         * Partially in the frustum.
+         */
+        INTERSECT,
+
+        /**
+         * Completely in the frustum.
+         */
+        INSIDE
+    }
+}
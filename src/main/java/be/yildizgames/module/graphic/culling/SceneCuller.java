@@ -0,0 +1,414 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.culling;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.GraphicObject;
+import be.yildizgames.module.graphic.camera.Camera;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Optional culling of graphic objects against the camera frustum, using a loose octree over the objects bounding spheres.
+ * An object is stored in the deepest node whose cell contains its center and whose loose bounds, twice the cell size,
+ * contain its sphere, so a subtree outside the frustum is skipped at once and a subtree inside is accepted without testing.
+ * Objects are shown or hidden only when they cross the culling boundary, the work done by a cull call is proportional
+ * to the visited nodes and to the visible objects, not to the size of the map.
+ * While an object is managed by the culler, its visibility should not be changed by other means.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class SceneCuller {
+
+    /**
+     * Tree root, its cell is the culled world area.
+     */
+    private final Node root;
+
+    /**
+     * Objects whose center is out of the root cell, they are tested one by one.
+     */
+    private final Node outside = new Node(0, 0, 0, Float.POSITIVE_INFINITY);
+
+    /**
+     * Maximum depth of the tree.
+     */
+    private final int maxDepth;
+
+    /**
+     * Managed objects.
+     */
+    private final Map<GraphicObject, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Frustum reused by every cull call.
+     */
+    private final Frustum frustum = new Frustum();
+
+    /**
+     * Objects visible after the last cull call.
+     */
+    private List<Entry> visible = new ArrayList<>();
+
+    /**
+     * Objects visible for the current cull call.
+     */
+    private List<Entry> nextVisible = new ArrayList<>();
+
+    /**
+     * Number of the current cull call.
+     */
+    private int frame;
+
+    /**
+     * Number of nodes tested during the last cull call.
+     */
+    private int testedNodes;
+
+    /**
+     * Create an empty culler.
+     *
+     * @param center   Center of the culled world area.
+     * @param halfSize Half of the culled world area size.
+     * @param maxDepth Maximum depth of the tree.
+     */
+    public SceneCuller(final Point3D center, final float halfSize, final int maxDepth) {
+        super();
+        if (halfSize <= 0) {
+            throw new IllegalArgumentException("Half size must be positive.");
+        }
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Depth cannot be negative.");
+        }
+        this.root = new Node(center.x, center.y, center.z, halfSize);
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Manage an object, without distance limit.
+     *
+     * @param object Object to cull.
+     * @param radius Object bounding sphere radius.
+     */
+    public void add(final GraphicObject object, final float radius) {
+        this.add(object, radius, Float.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Manage an object.
+     *
+     * @param object      Object to cull.
+     * @param radius      Object bounding sphere radius.
+     * @param maxDistance The object is culled when further than this distance from the camera.
+     */
+    public void add(final GraphicObject object, final float radius, final float maxDistance) {
+        Objects.requireNonNull(object);
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius cannot be negative.");
+        }
+        if (this.entries.containsKey(object)) {
+            throw new IllegalArgumentException("Object already added.");
+        }
+        final Entry entry = new Entry(object, radius, maxDistance);
+        this.entries.put(object, entry);
+        entry.readPosition();
+        this.insert(entry);
+        if (object.isVisible()) {
+            entry.visible = true;
+            entry.frame = this.frame;
+            this.visible.add(entry);
+        }
+    }
+
+    /**
+     * Stop managing an object, its visibility is left unchanged.
+     *
+     * @param object Object to remove.
+     */
+    public void remove(final GraphicObject object) {
+        final Entry entry = this.entries.remove(object);
+        if (entry != null) {
+            entry.node.remove(entry);
+        }
+    }
+
+    /**
+     * Move an object in the tree after its position changed.
+     *
+     * @param object Moved object.
+     */
+    public void update(final GraphicObject object) {
+        final Entry entry = this.entries.get(object);
+        if (entry == null) {
+            throw new IllegalArgumentException("Object not managed by this culler.");
+        }
+        entry.readPosition();
+        final Node node = entry.node;
+        if (node == this.outside ? this.root.contains(entry) : !node.contains(entry)) {
+            node.remove(entry);
+            this.insert(entry);
+        }
+    }
+
+    /**
+     * Show the objects in the camera frustum and hide the others.
+     *
+     * @param camera Camera to use.
+     * @return The number of visible objects.
+     */
+    public int cull(final Camera camera) {
+        return this.cull(this.frustum.update(camera));
+    }
+
+    /**
+     * Show the objects in a frustum and hide the others.
+     *
+     * @param frustum Frustum to use.
+     * @return The number of visible objects.
+     */
+    public int cull(final Frustum frustum) {
+        this.frame++;
+        this.testedNodes = 0;
+        this.nextVisible.clear();
+        this.visit(this.root, frustum, false);
+        this.visitEntries(this.outside, frustum, false);
+        for (int i = 0; i < this.visible.size(); i++) {
+            final Entry entry = this.visible.get(i);
+            if (entry.node != null && entry.frame != this.frame && entry.visible) {
+                entry.visible = false;
+                entry.object.hide();
+            }
+        }
+        final List<Entry> previous = this.visible;
+        this.visible = this.nextVisible;
+        this.nextVisible = previous;
+        return this.visible.size();
+    }
+
+    /**
+     * @return The number of managed objects.
+     */
+    public int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return The number of visible objects after the last cull call.
+     */
+    public int getVisibleCount() {
+        return this.visible.size();
+    }
+
+    /**
+     * @return The number of tree nodes tested during the last cull call.
+     */
+    public int getTestedNodes() {
+        return this.testedNodes;
+    }
+
+    private void insert(final Entry entry) {
+        if (!this.root.contains(entry)) {
+            this.outside.add(entry);
+            return;
+        }
+        Node node = this.root;
+        for (int depth = 0; depth < this.maxDepth && entry.radius <= node.halfSize * 0.5f; depth++) {
+            node = node.child(entry);
+        }
+        node.add(entry);
+    }
+
+    private void visit(final Node node, final Frustum frustum, final boolean parentInside) {
+        this.testedNodes++;
+        boolean inside = parentInside;
+        if (!inside) {
+            final float loose = node.halfSize * 2;
+            final Frustum.Containment containment = frustum.contains(node.x - loose, node.y - loose, node.z - loose,
+                    node.x + loose, node.y + loose, node.z + loose);
+            if (containment == Frustum.Containment.OUTSIDE) {
+                return;
+            }
+            inside = containment == Frustum.Containment.INSIDE;
+        }
+        this.visitEntries(node, frustum, inside);
+        if (node.children != null) {
+            for (Node child : node.children) {
+                if (child != null) {
+                    this.visit(child, frustum, inside);
+                }
+            }
+        }
+    }
+
+    private void visitEntries(final Node node, final Frustum frustum, final boolean inside) {
+        for (int i = 0; i < node.entries.size(); i++) {
+            final Entry entry = node.entries.get(i);
+            if ((inside || frustum.intersects(entry.x, entry.y, entry.z, entry.radius))
+                    && frustum.squaredDistance(entry.x, entry.y, entry.z) <= entry.squaredMaxDistance) {
+                entry.frame = this.frame;
+                this.nextVisible.add(entry);
+                if (!entry.visible) {
+                    entry.visible = true;
+                    entry.object.show();
+                }
+            }
+        }
+    }
+
+    /**
+     * Managed object.
+     */
+    private static final class Entry {
+
+        private final GraphicObject object;
+
+        private final float radius;
+
+        /**
+         * Squared maximum distance from the camera, including the radius.
+         */
+        private final float squaredMaxDistance;
+
+        private float x;
+
+        private float y;
+
+        private float z;
+
+        /**
+         * Node containing this entry, null once removed.
+         */
+        private Node node;
+
+        /**
+         * Index in the node entries.
+         */
+        private int index;
+
+        /**
+         * Visibility set by the culler.
+         */
+        private boolean visible;
+
+        /**
+         * Last cull call where this entry was visible.
+         */
+        private int frame;
+
+        private Entry(final GraphicObject object, final float radius, final float maxDistance) {
+            super();
+            this.object = object;
+            this.radius = radius;
+            this.squaredMaxDistance = (maxDistance + radius) * (maxDistance + radius);
+        }
+
+        private void readPosition() {
+            final Point3D position = this.object.getAbsolutePosition();
+            this.x = position.x;
+            this.y = position.y;
+            this.z = position.z;
+        }
+    }
+
+    /**
+     * Tree node, its loose bounds are twice its cell size.
+     */
+    private static final class Node {
+
+        private final float x;
+
+        private final float y;
+
+        private final float z;
+
+        /**
+         * Half of the cell size.
+         */
+        private final float halfSize;
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        /**
+         * Children, created when needed.
+         */
+        private Node[] children;
+
+        private Node(final float x, final float y, final float z, final float halfSize) {
+            super();
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.halfSize = halfSize;
+        }
+
+        /**
+         * Check if an entry center is in the cell and its sphere in the loose bounds.
+         *
+         * @param entry Entry to check.
+         * @return <code>true</code> if the entry can be stored in this node.
+         */
+        private boolean contains(final Entry entry) {
+            return Math.abs(entry.x - this.x) <= this.halfSize
+                    && Math.abs(entry.y - this.y) <= this.halfSize
+                    && Math.abs(entry.z - this.z) <= this.halfSize
+                    && entry.radius <= this.halfSize;
+        }
+
+        private Node child(final Entry entry) {
+            if (this.children == null) {
+                this.children = new Node[8];
+            }
+            final int index = (entry.x >= this.x ? 1 : 0) | (entry.y >= this.y ? 2 : 0) | (entry.z >= this.z ? 4 : 0);
+            if (this.children[index] == null) {
+                final float half = this.halfSize * 0.5f;
+                this.children[index] = new Node(
+                        this.x + ((index & 1) != 0 ? half : -half),
+                        this.y + ((index & 2) != 0 ? half : -half),
+                        this.z + ((index & 4) != 0 ? half : -half),
+                        half);
+            }
+            return this.children[index];
+        }
+
+        private void add(final Entry entry) {
+            entry.node = this;
+            entry.index = this.entries.size();
+            this.entries.add(entry);
+        }
+
+        private void remove(final Entry entry) {
+            final Entry last = this.entries.remove(this.entries.size() - 1);
+            if (last != entry) {
+                this.entries.set(entry.index, last);
+                last.index = entry.index;
+            }
+            entry.node = null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+/**
+ * Commands recorded by the headless backend, with their number of arguments in the command stream.
+ *
+ * @author Grégory Van den Borre
+ */
+public enum Command {
+
+    /**
+     * Object creation, arguments: object type ordinal, name.
+     */
+    CREATE(2, 1),
+
+    /**
+     * Object deletion, no argument.
+     */
+    DELETE(0),
+
+    /**
+     * Position change, arguments: x, y, z.
+     */
+    POSITION(3),
+
+    /**
+     * Direction change, arguments: x, y, z.
+     */
+    DIRECTION(3),
+
+    /**
+     * Rotation, arguments: x, y, z, w, yaw and pitch rotations use w = NaN.
+     */
+    ROTATE(4),
+
+    /**
+     * Scale change, arguments: x, y, z.
+     */
+    SCALE(3),
+
+    /**
+     * Size change, arguments: width, height.
+     */
+    SIZE(2),
+
+    /**
+     * Color change, arguments: red, green, blue, alpha.
+     */
+    COLOR(4),
+
+    /**
+     * Material change, arguments: material name.
+     */
+    MATERIAL(1, 0),
+
+    /**
+     * Visibility change, arguments: 1 if visible, 0 if hidden.
+     */
+    VISIBLE(1),
+
+    /**
+     * Attach to a parent, arguments: parent id, 0 to detach.
+     */
+    ATTACH(1),
+
+    /**
+     * Shader parameter change, arguments: index, v1, v2, v3, v4.
+     */
+    PARAMETER(5),
+
+    /**
+     * Instances update, arguments: instance count, first changed instance, last changed instance excluded.
+     */
+    INSTANCES(3),
+
+    /**
+     * Static batch build, arguments: material name, object count, 0 when the batch is removed.
+     */
+    BATCH(2, 0),
+
+    /**
+     * Any other property change, arguments: property name, value.
+     */
+    PROPERTY(2, 0),
+
+    /**
+     * End of a rendered frame, no argument, the object id is the frame number.
+     */
+    END_FRAME(0);
+
+    /**
+     * Number of arguments following the command and object id in the stream.
+     */
+    public final int arguments;
+
+    /**
+     * Index of the argument holding a string, -1 if the command has no string argument.
+     */
+    public final int stringArgument;
+
+    Command(final int arguments) {
+        this(arguments, -1);
+    }
+
+    Command(final int arguments, final int stringArgument) {
+        this.arguments = arguments;
+        this.stringArgument = stringArgument;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import java.util.List;
+
+/**
+ * Read the arguments of a command during a replay, the same instance is reused for every command.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class CommandArguments {
+
+    /**
+     * Strings referenced by the stream.
+     */
+    private final List<String> strings;
+
+    /**
+     * Recorded stream.
+     */
+    private int[] stream;
+
+    /**
+     * Index of the first argument in the stream.
+     */
+    private int offset;
+
+    /**
+     * Number of arguments for the current command.
+     */
+    private int size;
+
+    CommandArguments(final List<String> strings) {
+        super();
+        this.strings = strings;
+    }
+
+    void set(final int[] stream, final int offset, final int size) {
+        this.stream = stream;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * @return The number of arguments.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param index Argument index.
+     * @return The argument as an int.
+     */
+    public int getInt(final int index) {
+        return this.stream[this.offset + this.checkIndex(index)];
+    }
+
+    /**
+     * @param index Argument index.
+     * @return The argument as a float.
+     */
+    public float getFloat(final int index) {
+        return Float.intBitsToFloat(this.getInt(index));
+    }
+
+    /**
+     * @param index Argument index.
+     * @return The argument as a string.
+     */
+    public String getString(final int index) {
+        return this.strings.get(this.getInt(index));
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Argument " + index + " not in [0," + this.size + "[");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,539 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.color.Color;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Record the calls done on the headless backend objects as a compact command stream.
+ * Every command is stored as a sequence of ints: the command ordinal, the object id, then the arguments, floats are
+ * stored with their raw bits and strings as an index in a string table, so recording does not allocate once the
+ * stream has grown to its working size.
+ * The stream can be replayed to a CommandListener, to reproduce or analyse a scene without any rendering system.
+ * Recording is disabled by default, once enabled, only the last frames are kept, see setFrameWindow, so the stream
+ * does not grow without bound in a long session. Each frame is stored in its own segment, dropping the oldest frame
+ * only scans that segment, and the strings no longer referenced by the kept frames are removed from the table.
+ * Objects created in a dropped frame and still alive are replayed first as CREATE commands, so a replay never refers
+ * to an object it did not create, their older state changes are not kept.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class CommandRecorder {
+
+    private static final Command[] COMMANDS = Command.values();
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Default number of frames kept in the stream.
+     */
+    public static final int DEFAULT_FRAME_WINDOW = 600;
+
+    /**
+     * Strings referenced by the stream, by id, null for a removed string.
+     */
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Ids of the strings in the table.
+     */
+    private final Map<String, Integer> stringIds = new HashMap<>();
+
+    /**
+     * Ids of the removed strings, reused for the next new strings.
+     */
+    private final Deque<Integer> freeStringIds = new ArrayDeque<>();
+
+    /**
+     * Number of references to each string in the kept frames and the live objects, by id.
+     */
+    private int[] stringReferences = new int[INITIAL_CAPACITY];
+
+    /**
+     * Kept frames, oldest first, the frame being recorded is not in it.
+     */
+    private final Deque<Segment> frames = new ArrayDeque<>();
+
+    /**
+     * Objects created in a dropped frame and not deleted yet, by id, with their CREATE arguments.
+     */
+    private final Map<Integer, int[]> live = new LinkedHashMap<>();
+
+    /**
+     * Number of recorded commands, by command ordinal.
+     */
+    private final long[] counts = new long[COMMANDS.length];
+
+    /**
+     * Stream of the frame being recorded.
+     */
+    private int[] stream = new int[INITIAL_CAPACITY];
+
+    /**
+     * Number of used ints in the stream of the frame being recorded.
+     */
+    private int length;
+
+    /**
+     * Number of used ints in the kept frames.
+     */
+    private int keptLength;
+
+    /**
+     * Dropped segment, reused for the next frame.
+     */
+    private Segment spare;
+
+    /**
+     * Last given object id, 0 is never used.
+     */
+    private int lastId;
+
+    /**
+     * Number of recorded frames.
+     */
+    private int frame;
+
+    /**
+     * Maximum number of frames kept in the stream, 0 to keep all of them.
+     */
+    private int frameWindow = DEFAULT_FRAME_WINDOW;
+
+    /**
+     * <code>true</code> if the commands are recorded.
+     */
+    private boolean enabled;
+
+    /**
+     * Enable or disable the recording, disabled by default, objects ids are still given when disabled.
+     *
+     * @param enable <code>true</code> to record the commands.
+     */
+    public void setEnabled(final boolean enable) {
+        this.enabled = enable;
+    }
+
+    /**
+     * Set the maximum number of frames kept in the stream, when a frame ends, the oldest frames are dropped from the
+     * stream and from the counts.
+     *
+     * @param window Number of frames to keep, 0 to keep all of them for a full capture.
+     * @throws IllegalArgumentException If window is negative.
+     */
+    public void setFrameWindow(final int window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Frame window must be positive: " + window);
+        }
+        this.frameWindow = window;
+        this.dropOldFrames();
+    }
+
+    /**
+     * Give an id to a new object and record its creation.
+     *
+     * @param type Object type.
+     * @param name Object name.
+     * @return The object id.
+     */
+    public int create(final ObjectType type, final String name) {
+        this.lastId++;
+        if (this.begin(Command.CREATE, this.lastId)) {
+            this.stream[this.length++] = type.ordinal();
+            this.stream[this.length++] = this.stringId(name);
+        }
+        return this.lastId;
+    }
+
+    /**
+     * Record a command without argument.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     */
+    public void record(final Command command, final int objectId) {
+        this.begin(command, objectId);
+    }
+
+    /**
+     * Record a command with one int argument.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param value    Argument.
+     */
+    public void recordInt(final Command command, final int objectId, final int value) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = value;
+        }
+    }
+
+    /**
+     * Record a command with int arguments.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param first    First argument.
+     * @param second   Second argument.
+     * @param third    Third argument.
+     */
+    public void recordInt3(final Command command, final int objectId, final int first, final int second, final int third) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = first;
+            this.stream[this.length++] = second;
+            this.stream[this.length++] = third;
+        }
+    }
+
+    /**
+     * Record a command with one string argument.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param value    Argument.
+     */
+    public void recordString(final Command command, final int objectId, final String value) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = this.stringId(value);
+        }
+    }
+
+    /**
+     * Record a command with a string and a float argument.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param key      First argument.
+     * @param value    Second argument.
+     */
+    public void recordProperty(final Command command, final int objectId, final String key, final float value) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = this.stringId(key);
+            this.stream[this.length++] = Float.floatToRawIntBits(value);
+        }
+    }
+
+    /**
+     * Record a command with float arguments.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param x        First argument.
+     * @param y        Second argument.
+     */
+    public void recordFloat2(final Command command, final int objectId, final float x, final float y) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = Float.floatToRawIntBits(x);
+            this.stream[this.length++] = Float.floatToRawIntBits(y);
+        }
+    }
+
+    /**
+     * Record a command with float arguments.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param x        First argument.
+     * @param y        Second argument.
+     * @param z        Third argument.
+     */
+    public void recordFloat3(final Command command, final int objectId, final float x, final float y, final float z) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = Float.floatToRawIntBits(x);
+            this.stream[this.length++] = Float.floatToRawIntBits(y);
+            this.stream[this.length++] = Float.floatToRawIntBits(z);
+        }
+    }
+
+    /**
+     * Record a command with float arguments.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param x        First argument.
+     * @param y        Second argument.
+     * @param z        Third argument.
+     * @param w        Fourth argument.
+     */
+    public void recordFloat4(final Command command, final int objectId, final float x, final float y, final float z, final float w) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = Float.floatToRawIntBits(x);
+            this.stream[this.length++] = Float.floatToRawIntBits(y);
+            this.stream[this.length++] = Float.floatToRawIntBits(z);
+            this.stream[this.length++] = Float.floatToRawIntBits(w);
+        }
+    }
+
+    /**
+     * Record a command with an int and float arguments.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param index    First argument.
+     * @param v1       Second argument.
+     * @param v2       Third argument.
+     * @param v3       Fourth argument.
+     * @param v4       Fifth argument.
+     */
+    public void recordIndexedFloat4(final Command command, final int objectId, final int index, final float v1, final float v2, final float v3, final float v4) {
+        if (this.begin(command, objectId)) {
+            this.stream[this.length++] = index;
+            this.stream[this.length++] = Float.floatToRawIntBits(v1);
+            this.stream[this.length++] = Float.floatToRawIntBits(v2);
+            this.stream[this.length++] = Float.floatToRawIntBits(v3);
+            this.stream[this.length++] = Float.floatToRawIntBits(v4);
+        }
+    }
+
+    /**
+     * Record a command with a point argument.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param point    Point to record as x, y, z.
+     */
+    public void recordPoint(final Command command, final int objectId, final Point3D point) {
+        this.recordFloat3(command, objectId, point.x, point.y, point.z);
+    }
+
+    /**
+     * Record a command with a color argument.
+     *
+     * @param command  Command to record.
+     * @param objectId Object receiving the command.
+     * @param color    Color to record as red, green, blue, alpha.
+     */
+    public void recordColor(final Command command, final int objectId, final Color color) {
+        this.recordFloat4(command, objectId, color.red, color.green, color.blue, color.alpha);
+    }
+
+    /**
+     * Record the end of a frame.
+     */
+    public void frameEnded() {
+        this.frame++;
+        if (this.begin(Command.END_FRAME, this.frame)) {
+            final Segment segment = this.spare == null ? new Segment() : this.spare;
+            this.spare = null;
+            final int[] free = segment.data;
+            segment.data = this.stream;
+            segment.length = this.length;
+            this.frames.addLast(segment);
+            this.keptLength += this.length;
+            this.stream = free == null ? new int[INITIAL_CAPACITY] : free;
+            this.length = 0;
+            this.dropOldFrames();
+        }
+    }
+
+    /**
+     * Replay all recorded commands.
+     *
+     * @param listener Listener receiving the commands.
+     */
+    public void replay(final CommandListener listener) {
+        final CommandArguments arguments = new CommandArguments(this.strings);
+        for (Map.Entry<Integer, int[]> object : this.live.entrySet()) {
+            arguments.set(object.getValue(), 0, Command.CREATE.arguments);
+            listener.command(Command.CREATE, object.getKey(), arguments);
+        }
+        for (Segment segment : this.frames) {
+            this.replay(listener, arguments, segment.data, segment.length);
+        }
+        this.replay(listener, arguments, this.stream, this.length);
+    }
+
+    /**
+     * @return The number of recorded commands in the kept frames.
+     */
+    public long getCommandCount() {
+        long total = 0;
+        for (long count : this.counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @param command Command to count.
+     * @return The number of times the command was recorded in the kept frames.
+     */
+    public long getCount(final Command command) {
+        return this.counts[command.ordinal()];
+    }
+
+    /**
+     * @return The stream size, in bytes.
+     */
+    public long getStreamSize() {
+        final long liveLength = this.live.size() * (2L + Command.CREATE.arguments);
+        return (this.keptLength + this.length + liveLength) * Integer.BYTES;
+    }
+
+    /**
+     * @return The number of strings referenced by the kept frames and the live objects.
+     */
+    int getStringCount() {
+        return this.stringIds.size();
+    }
+
+    /**
+     * Remove the recorded commands and strings, objects ids are kept, so recording can continue with the existing
+     * objects.
+     */
+    public void clear() {
+        this.frames.clear();
+        this.live.clear();
+        this.length = 0;
+        this.keptLength = 0;
+        this.strings.clear();
+        this.stringIds.clear();
+        this.freeStringIds.clear();
+        Arrays.fill(this.stringReferences, 0);
+        Arrays.fill(this.counts, 0);
+    }
+
+    /**
+     * Remove the oldest frames from the stream until it holds no more than the frame window.
+     */
+    private void dropOldFrames() {
+        while (this.frameWindow > 0 && this.frames.size() > this.frameWindow) {
+            final Segment segment = this.frames.removeFirst();
+            this.drop(segment);
+            this.keptLength -= segment.length;
+            segment.length = 0;
+            this.spare = segment;
+        }
+    }
+
+    /**
+     * Remove the commands of a dropped frame from the counts and the string references, created objects are moved to
+     * the live objects until they are deleted.
+     *
+     * @param segment Dropped frame.
+     */
+    private void drop(final Segment segment) {
+        final int[] data = segment.data;
+        int i = 0;
+        while (i < segment.length) {
+            final Command command = COMMANDS[data[i]];
+            final int objectId = data[i + 1];
+            if (command == Command.CREATE) {
+                this.live.put(objectId, new int[]{data[i + 2], data[i + 3]});
+            } else {
+                this.counts[command.ordinal()]--;
+                if (command.stringArgument >= 0) {
+                    this.releaseString(data[i + 2 + command.stringArgument]);
+                }
+                if (command == Command.DELETE) {
+                    final int[] created = this.live.remove(objectId);
+                    if (created != null) {
+                        this.counts[Command.CREATE.ordinal()]--;
+                        this.releaseString(created[Command.CREATE.stringArgument]);
+                    }
+                }
+            }
+            i += 2 + command.arguments;
+        }
+    }
+
+    private void replay(final CommandListener listener, final CommandArguments arguments, final int[] data, final int size) {
+        int i = 0;
+        while (i < size) {
+            final Command command = COMMANDS[data[i]];
+            final int objectId = data[i + 1];
+            arguments.set(data, i + 2, command.arguments);
+            listener.command(command, objectId, arguments);
+            i += 2 + command.arguments;
+        }
+    }
+
+    private boolean begin(final Command command, final int objectId) {
+        if (!this.enabled) {
+            return false;
+        }
+        final int required = this.length + 2 + command.arguments;
+        if (required > this.stream.length) {
+            this.stream = Arrays.copyOf(this.stream, Math.max(required, this.stream.length << 1));
+        }
+        this.stream[this.length++] = command.ordinal();
+        this.stream[this.length++] = objectId;
+        this.counts[command.ordinal()]++;
+        return true;
+    }
+
+    private int stringId(final String value) {
+        final String key = value == null ? "" : value;
+        Integer id = this.stringIds.get(key);
+        if (id == null) {
+            if (this.freeStringIds.isEmpty()) {
+                id = this.strings.size();
+                this.strings.add(key);
+            } else {
+                id = this.freeStringIds.pop();
+                this.strings.set(id, key);
+            }
+            this.stringIds.put(key, id);
+            if (id == this.stringReferences.length) {
+                this.stringReferences = Arrays.copyOf(this.stringReferences, id << 1);
+            }
+        }
+        this.stringReferences[id]++;
+        return id;
+    }
+
+    private void releaseString(final int id) {
+        if (--this.stringReferences[id] == 0) {
+            this.stringIds.remove(this.strings.get(id));
+            this.strings.set(id, null);
+            this.freeStringIds.push(id);
+        }
+    }
+
+    /**
+     * Commands recorded during one frame.
+     */
+    private static final class Segment {
+
+        /**
+         * Recorded stream, null for a new segment.
+         */
+        private int[] data;
+
+        /**
+         * Number of used ints in the stream.
+         */
+        private int length;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.billboard.Billboard;
+
+/**
+ * In memory billboard for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyBillboard extends Billboard {
+
+    private final CommandRecorder recorder;
+
+    final int id;
+
+    DummyBillboard(final CommandRecorder recorder) {
+        super();
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.BILLBOARD, "billboard");
+    }
+
+    @Override
+    public void setColor(final Color color) {
+        this.recorder.recordColor(Command.COLOR, this.id, color);
+    }
+
+    @Override
+    protected void setPositionImpl(final Point3D position) {
+        this.recorder.recordPoint(Command.POSITION, this.id, position);
+    }
+
+    @Override
+    protected void setSizeImpl(final float newWidth, final float newHeight) {
+        this.recorder.recordFloat2(Command.SIZE, this.id, newWidth, newHeight);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.billboard.Billboard;
+import be.yildizgames.module.graphic.billboard.BillboardSet;
+import be.yildizgames.module.graphic.material.Material;
+
+/**
+ * In memory billboard set for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyBillboardSet extends DummyMovable implements BillboardSet {
+
+    DummyBillboardSet(final CommandRecorder recorder, final Material material) {
+        super(recorder, ObjectType.BILLBOARD_SET, "billboardSet");
+        recorder.recordString(Command.MATERIAL, this.id, material.getName());
+    }
+
+    @Override
+    public Billboard createBillboard() {
+        final DummyBillboard billboard = new DummyBillboard(this.recorder);
+        this.recorder.recordInt(Command.ATTACH, billboard.id, this.id);
+        return billboard;
+    }
+
+    @Override
+    public void removeBillboard(final Billboard b) {
+        if (b instanceof DummyBillboard) {
+            this.recorder.record(Command.DELETE, ((DummyBillboard) b).id);
+        }
+    }
+
+    @Override
+    public void setSize(final float width, final float height) {
+        this.recorder.recordFloat2(Command.SIZE, this.id, width, height);
+    }
+}
@@ -32,6 +32,36 @@ import be.yildizgames.module.graphic.light.LensFlare;
 
 public class DummyCamera extends Camera {
 
+    /**
+     * Position kept in memory, to be used by the culling.
+     */
+    private Point3D position = Point3D.ZERO;
+
+    /**
+     * Direction kept in memory, to be used by the culling.
+     */
+    private Point3D direction = Point3D.BASE_DIRECTION;
+
+    /**
+     * Minimum rendering distance kept in memory, to be used by the culling.
+     */
+    private int nearClip = 1;
+
+    /**
+     * Maximum rendering distance kept in memory, to be used by the culling.
+     */
+    private int farClip = 1000;
+
+    /**
+     * Aspect ratio kept in memory, to be used by the culling.
+     */
+    private float aspectRatio = 1;
+
+    /**
+     * Vertical field of view kept in memory, to be used by the culling.
+     */
+    private float fieldOfView = (float) Math.PI / 2f;
+
     /**
      * Simple constructor.
      */
@@ -41,11 +71,19 @@ public class DummyCamera extends Camera {
 
     @Override
     public Camera setFarClip(int far) {
+        this.farClip = far;
         return this;
     }
 
     @Override
     public Camera setNearClip(int near) {
+        this.nearClip = near;
+        return this;
+    }
+
+    @Override
+    public Camera setFieldOfView(float fov) {
+        this.fieldOfView = fov;
         return this;
     }
 
@@ -66,7 +104,27 @@ public class DummyCamera extends Camera {
 
     @Override
     public void setAspectRatio(float ratio) {
-        //Expected empty implementation.
+        this.aspectRatio = ratio;
+    }
+
+    @Override
+    public int getNearClip() {
+        return this.nearClip;
+    }
+
+    @Override
+    public int getFarClip() {
+        return this.farClip;
+    }
+
+    @Override
+    public float getAspectRatio() {
+        return this.aspectRatio;
+    }
+
+    @Override
+    public float getFieldOfView() {
+        return this.fieldOfView;
     }
 
     @Override
@@ -106,37 +164,37 @@ public class DummyCamera extends Camera {
 
     @Override
     public Point3D getPosition() {
-        return Point3D.ZERO;
+        return this.position;
     }
 
     @Override
     public void setPosition(Point3D point3D) {
-        //Expected empty implementation.
+        this.position = point3D;
     }
 
     @Override
     public Point3D getAbsolutePosition() {
-        return Point3D.ZERO;
+        return this.position;
     }
 
     @Override
     public Point3D getDirection() {
-        return Point3D.BASE_DIRECTION;
+        return this.direction;
     }
 
     @Override
     public Point3D getAbsoluteDirection() {
-        return Point3D.BASE_DIRECTION;
+        return this.direction;
     }
 
     @Override
     public void setPosition(float v, float v1, float v2) {
-        //Expected empty implementation.
+        this.position = Point3D.valueOf(v, v1, v2);
     }
 
     @Override
     public void setDirection(float v, float v1, float v2) {
-        //Expected empty implementation.
+        this.direction = Point3D.valueOf(v, v1, v2);
     }
 
     @Override
@@ -0,0 +1,71 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.light.PointLight;
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.misc.ElectricArc;
+
+/**
+ * In memory electric arc for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyElectricArc extends ElectricArc {
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    private int lights;
+
+    DummyElectricArc(final CommandRecorder recorder, final Point3D start, final Point3D end, final float width) {
+        super(start, end);
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.ELECTRIC_ARC, "electricArc");
+        recorder.recordPoint(Command.POSITION, this.id, start);
+        recorder.recordProperty(Command.PROPERTY, this.id, "width", width);
+    }
+
+    @Override
+    public ElectricArc setMaterial(final Material material) {
+        this.recorder.recordString(Command.MATERIAL, this.id, material.getName());
+        return this;
+    }
+
+    @Override
+    public ElectricArc setCeil(final int ceil) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "ceil", ceil);
+        return this;
+    }
+
+    @Override
+    public ElectricArc addLight(final PointLight light) {
+        this.lights++;
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "lights", this.lights);
+        return this;
+    }
+}
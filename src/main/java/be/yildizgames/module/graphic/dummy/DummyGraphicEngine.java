@@ -25,10 +25,12 @@
 package be.yildizgames.module.graphic.dummy;
 
 import be.yildizgames.common.file.ResourcePath;
+import be.yildizgames.common.geometry.Rectangle;
 import be.yildizgames.module.color.Color;
 import be.yildizgames.module.graphic.BaseGraphicEngine;
 import be.yildizgames.module.graphic.Font;
 import be.yildizgames.module.graphic.GraphicWorld;
+import be.yildizgames.module.graphic.ResourceData;
 import be.yildizgames.module.graphic.SceneManager;
 import be.yildizgames.module.graphic.ShadowType;
 import be.yildizgames.module.graphic.gui.GuiFactory;
@@ -39,13 +41,38 @@ import be.yildizgames.module.graphic.misc.SkyBox;
 import be.yildizgames.module.window.BaseWindowEngine;
 import be.yildizgames.module.window.ScreenSize;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * dummy implementation for graphic engine.
+ * The worlds and objects built by this engine are lightweight in memory objects recording their calls in a
+ * CommandRecorder, one frame is recorded for every update.
  *
  * @author Grégory Van den Borre
  */
 public final class DummyGraphicEngine extends BaseGraphicEngine {
 
+    /**
+     * Material manager, built on first use.
+     */
+    private MaterialManager materialManager;
+
+    /**
+     * GUI factory, built on first use.
+     */
+    private GuiFactory guiFactory;
+
+    /**
+     * Recorder for the calls on the headless objects.
+     */
+    private final CommandRecorder recorder = new CommandRecorder();
+
+    /**
+     * Created worlds, their transforms are applied every frame.
+     */
+    private final List<DummyGraphicWorld> worlds = new ArrayList<>();
+
     /**
      * Simple constructor.
      */
@@ -60,7 +87,10 @@ public final class DummyGraphicEngine extends BaseGraphicEngine {
 
     @Override
     public void updateImpl() {
-        // does nothing.
+        for (int i = 0; i < this.worlds.size(); i++) {
+            this.worlds.get(i).applyTransforms();
+        }
+        this.recorder.frameEnded();
     }
 
     @Override
@@ -75,12 +105,18 @@ public final class DummyGraphicEngine extends BaseGraphicEngine {
 
     @Override
     public GuiFactory getGuiFactory() {
-        return new DummyGuiFactory();
+        if (this.guiFactory == null) {
+            this.guiFactory = new DummyGuiFactory(this.getDeferredLayout());
+        }
+        return this.guiFactory;
     }
 
     @Override
     public MaterialManager getMaterialManager() {
-        return null;
+        if (this.materialManager == null) {
+            this.materialManager = new DummyMaterialManager();
+        }
+        return this.materialManager;
     }
 
     @Override
@@ -90,7 +126,14 @@ public final class DummyGraphicEngine extends BaseGraphicEngine {
 
     @Override
     public SelectionRectangle createSelectionRectangle(final Material texture, final Material texture2) {
-        return null;
+        final int id = this.recorder.create(ObjectType.SELECTION_RECTANGLE, "selectionRectangle");
+        return new SelectionRectangle() {
+            @Override
+            public void update(final Rectangle rectangle) {
+                recorder.recordFloat3(Command.POSITION, id, rectangle.getLeft(), rectangle.getTop(), 0);
+                recorder.recordFloat2(Command.SIZE, id, rectangle.getWidth(), rectangle.getHeight());
+            }
+        };
     }
 
     @Override
@@ -108,9 +151,16 @@ public final class DummyGraphicEngine extends BaseGraphicEngine {
         return new DummyFont(name, size, color);
     }
 
+    @Override
+    public Font createFont(final String name, final ResourceData data, final int size, final Color color) {
+        return new DummyFont(name, size, color);
+    }
+
     @Override
     public GraphicWorld createWorld() {
-        return new DummyGraphicWorld();
+        final DummyGraphicWorld world = new DummyGraphicWorld(this.recorder);
+        this.worlds.add(world);
+        return world;
     }
 
     @Override
@@ -118,6 +168,13 @@ public final class DummyGraphicEngine extends BaseGraphicEngine {
         return new ScreenSize(0,0);
     }
 
+    /**
+     * @return The recorder for the calls on the headless objects.
+     */
+    public CommandRecorder getRecorder() {
+        return this.recorder;
+    }
+
     @Override
     public BaseWindowEngine getWindowEngine() {
         return BaseWindowEngine.getEngine();
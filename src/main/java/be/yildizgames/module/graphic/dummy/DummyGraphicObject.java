@@ -29,150 +29,193 @@ import be.yildizgames.common.geometry.Point3D;
 import be.yildizgames.module.graphic.GraphicObject;
 import be.yildizgames.module.graphic.material.Material;
 
+/**
+ * In memory graphic object for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
 public class DummyGraphicObject extends GraphicObject {
 
+    /**
+     * Movable state and recording, shared with the other headless objects.
+     */
+    private final DummyMovable movable;
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    private Point3D scale = Point3D.valueOf(1);
+
+    public DummyGraphicObject() {
+        this(new CommandRecorder());
+    }
+
+    /**
+     * Create a graphic object recording its calls.
+     *
+     * @param recorder Recorder for the calls on this object.
+     */
+    public DummyGraphicObject(final CommandRecorder recorder) {
+        super();
+        this.recorder = recorder;
+        this.movable = new DummyMovable(recorder, ObjectType.GRAPHIC_OBJECT, "graphicObject") {};
+        this.id = this.movable.id;
+    }
+
     @Override
     protected void setMaterialImpl(Material newMaterial) {
-        //Expected empty implementation.
+        this.recorder.recordString(Command.MATERIAL, this.id, newMaterial.getName());
     }
 
     @Override
     protected void castShadowImpl(boolean cast) {
-        //Expected empty implementation.
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "castShadow", cast ? 1 : 0);
     }
 
     @Override
     protected void showImpl() {
-        //Expected empty implementation.
+        this.recorder.recordInt(Command.VISIBLE, this.id, 1);
     }
 
     @Override
     protected void hideImpl() {
-        //Expected empty implementation.
+        this.recorder.recordInt(Command.VISIBLE, this.id, 0);
+    }
+
+    @Override
+    protected void setLodLevelImpl(int level) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "lodLevel", level);
     }
 
     @Override
     public GraphicObject setRenderBehind() {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "renderBehind", 1);
         return this;
     }
 
     @Override
     public GraphicObject setRenderingDistance(int distance) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "renderingDistance", distance);
         return this;
     }
 
     @Override
     public Point3D getScaleSize() {
-        return Point3D.ZERO;
+        return this.scale;
     }
 
     @Override
     public GraphicObject scale(float x, float y, float z) {
+        this.scale = Point3D.valueOf(x, y, z);
+        this.recorder.recordFloat3(Command.SCALE, this.id, x, y, z);
         return this;
     }
 
     @Override
     public void delete() {
-        //Expected empty implementation.
+        this.movable.delete();
     }
 
     @Override
     public GraphicObject setParameter(int index, float v1, float v2, float v3, float v4) {
+        this.recorder.recordIndexedFloat4(Command.PARAMETER, this.id, index, v1, v2, v3, v4);
         return this;
     }
 
     @Override
     public GraphicObject setUnpickable() {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "unpickable", 1);
         return this;
     }
 
     @Override
     public void rotate(float yaw, float pitch) {
-        //Expected empty implementation.
+        this.recorder.recordFloat4(Command.ROTATE, this.id, yaw, pitch, 0, Float.NaN);
     }
 
     @Override
     public void lookAt(Point3D target) {
-        //Expected empty implementation.
+        this.movable.setDirection(target.subtract(this.movable.getAbsolutePosition()));
     }
 
     @Override
     public void rotate(float x, float y, float z, float w) {
-        //Expected empty implementation.
+        this.recorder.recordFloat4(Command.ROTATE, this.id, x, y, z, w);
     }
 
     @Override
-    public void attachTo(Movable movable) {
-        //Expected empty implementation.
+    public void attachTo(Movable other) {
+        this.movable.attachTo(other);
     }
 
     @Override
-    public void attachToOptional(Movable movable) {
-        //Expected empty implementation.
+    public void attachToOptional(Movable other) {
+        this.movable.attachToOptional(other);
     }
 
     @Override
     public void detachFromParent() {
-        //Expected empty implementation.
+        this.movable.detachFromParent();
     }
 
     @Override
     public Point3D getPosition() {
-        return Point3D.ZERO;
+        return this.movable.getPosition();
     }
 
     @Override
-    public void setPosition(Point3D point3D) {
-        //Expected empty implementation.
+    public void setPosition(Point3D position) {
+        this.movable.setPosition(position);
     }
 
     @Override
     public Point3D getAbsolutePosition() {
-        return Point3D.ZERO;
+        return this.movable.getAbsolutePosition();
     }
 
     @Override
     public Point3D getDirection() {
-        return Point3D.BASE_DIRECTION;
+        return this.movable.getDirection();
     }
 
     @Override
-    public void setDirection(Point3D point3D) {
-        //Expected empty implementation.
+    public void setDirection(Point3D direction) {
+        this.movable.setDirection(direction);
     }
 
     @Override
     public Point3D getAbsoluteDirection() {
-        return Point3D.BASE_DIRECTION;
+        return this.movable.getAbsoluteDirection();
     }
 
     @Override
-    public void setPosition(float v, float v1, float v2) {
-        //Expected empty implementation.
+    public void setPosition(float x, float y, float z) {
+        this.movable.setPosition(x, y, z);
     }
 
     @Override
-    public void setDirection(float v, float v1, float v2) {
-        //Expected empty implementation.
+    public void setDirection(float x, float y, float z) {
+        this.movable.setDirection(x, y, z);
     }
 
     @Override
-    public void addOptionalChild(Movable movable) {
-        //Expected empty implementation.
+    public void addOptionalChild(Movable child) {
+        this.movable.addOptionalChild(child);
     }
 
     @Override
-    public void addChild(Movable movable) {
-        //Expected empty implementation.
+    public void addChild(Movable child) {
+        this.movable.addChild(child);
     }
 
     @Override
-    public void removeChild(Movable movable) {
-        //Expected empty implementation.
+    public void removeChild(Movable child) {
+        this.movable.removeChild(child);
     }
 
     @Override
     public Movable getInternal() {
-        return null;
+        return this.movable;
     }
 }
@@ -25,12 +25,17 @@
 package be.yildizgames.module.graphic.dummy;
 
 import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.common.geometry.Rectangle;
+import be.yildizgames.common.model.EntityId;
 import be.yildizgames.module.color.Color;
 import be.yildizgames.module.graphic.Font;
 import be.yildizgames.module.graphic.GraphicObject;
 import be.yildizgames.module.graphic.GraphicObjectBuilder;
 import be.yildizgames.module.graphic.GraphicWorld;
+import be.yildizgames.module.graphic.InstancedGroup;
 import be.yildizgames.module.graphic.RayProvider;
+import be.yildizgames.module.graphic.StaticGeometryRegion;
+import be.yildizgames.module.graphic.TransformBuffer;
 import be.yildizgames.module.graphic.billboard.BillboardSet;
 import be.yildizgames.module.graphic.camera.Camera;
 import be.yildizgames.module.graphic.light.DirectionalLight;
@@ -50,30 +55,110 @@ import be.yildizgames.module.graphic.particle.ParticleSystem;
 import be.yildizgames.module.graphic.query.GroundQuery;
 import be.yildizgames.module.graphic.query.Query;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
+ * Headless graphic world, every factory builds a lightweight in memory object recording its calls in a
+ * CommandRecorder, so a scene can be run, measured and replayed without rendering system.
+ *
  * @author Grégory Van den Borre
  */
 public class DummyGraphicWorld implements GraphicWorld {
 
     private final Camera dummyCamera = new DummyCamera();
 
+    /**
+     * Recorder for the calls on this world and its objects.
+     */
+    private final CommandRecorder recorder;
+
+    /**
+     * Id of this world in the recorder.
+     */
+    private final int id;
+
+    /**
+     * Lights created in this world, by name.
+     */
+    private final Map<String, Light> lights = new HashMap<>();
+
+    /**
+     * Objects built with an entity id, receiving the transforms, removed when deleted.
+     */
+    private final EntityTable entities = new EntityTable();
+
+    private final TransformBuffer transforms = new TransformBuffer(64);
+
+    private boolean debug;
+
+    public DummyGraphicWorld() {
+        this(new CommandRecorder());
+    }
+
+    /**
+     * Create a world recording its calls.
+     *
+     * @param recorder Recorder for the calls on this world and its objects.
+     */
+    public DummyGraphicWorld(final CommandRecorder recorder) {
+        super();
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.WORLD, this.getName());
+    }
+
     @Override
-    public Query createQuery(RayProvider provider){ return null; }
+    public Query createQuery(RayProvider provider) {
+        this.recorder.create(ObjectType.QUERY, "query");
+        return new Query() {
+            @Override
+            public Optional<EntityId> getEntity(float x, float y) {
+                return Optional.empty();
+            }
+
+            @Override
+            public List<EntityId> getEntities(Rectangle r) {
+                return List.of();
+            }
+        };
+    }
 
     @Override
-    public GroundQuery createGroundQuery(RayProvider provider) { return null; }
+    public GroundQuery createGroundQuery(RayProvider provider) {
+        this.recorder.create(ObjectType.GROUND_QUERY, "groundQuery");
+        return (x, y) -> Point3D.ZERO;
+    }
 
     @Override
     public GraphicObjectBuilder createObject() {
         return new GraphicObjectBuilder() {
             @Override
             public GraphicObject buildMovable() {
-                return new DummyGraphicObject();
+                if (this.id.value == EntityId.WORLD.value) {
+                    return new DummyGraphicObject(recorder);
+                }
+                final long entity = this.id.value;
+                final GraphicObject object = new DummyGraphicObject(recorder) {
+                    @Override
+                    public void delete() {
+                        super.delete();
+                        entities.remove(entity, this);
+                    }
+                };
+                entities.put(entity, object);
+                return object;
             }
 
             @Override
             public GraphicObject buildStatic() {
-                return new DummyGraphicObject();
+                return new DummyGraphicObject(recorder);
+            }
+
+            @Override
+            public InstancedGroup buildInstanced(int capacity) {
+                return new DummyInstancedGroup(recorder, this.material, capacity);
             }
         };
     }
@@ -85,47 +170,49 @@ public class DummyGraphicWorld implements GraphicWorld {
 
     @Override
     public void setSkybox(SkyBox sky) {
-        // does nothing.
+        this.recorder.recordString(Command.MATERIAL, this.id, sky.getName());
     }
 
     @Override
     public void setDebugMode() {
-        // does nothing.
+        this.debug = true;
     }
 
     @Override
     public void setAmbientLight(Color color) {
-        // does nothing.
+        this.recorder.recordColor(Command.COLOR, this.id, color);
     }
 
     @Override
     public PointLight createPointLight(String name, Point3D position) {
-        return null;
+        return this.register(new DummyPointLight(this.recorder, name, position));
     }
 
     @Override
     public ElectricArc createElectricArc(Point3D origin, Point3D end, float width) {
-        return null;
+        return new DummyElectricArc(this.recorder, origin, end, width);
     }
 
     @Override
     public Explosion createExplosion() {
-        return null;
+        return new Explosion(this.createParticleSystem(), this.createParticleSystem(), this.createParticleSystem(), this.createParticleSystem());
     }
 
     @Override
     public ParticleSystem createParticleSystem() {
-        return null;
+        return new DummyParticleSystem(this.recorder);
     }
 
     @Override
     public Sky createSky() {
-        return null;
+        this.recorder.create(ObjectType.SKY, "sky");
+        return new Sky() {};
     }
 
     @Override
     public Ocean createOcean() {
-        return null;
+        this.recorder.create(ObjectType.OCEAN, "ocean");
+        return new Ocean() {};
     }
 
     @Override
@@ -135,22 +222,22 @@ public class DummyGraphicWorld implements GraphicWorld {
 
     @Override
     public Line create3DLine() {
-        return null;
+        return new DummyLine(this.recorder);
     }
 
     @Override
     public LensFlare createLensFlare(LensFlare.LensFlareMaterial mat, Point3D position) {
-        return null;
+        return new DummyLensFlare(this.recorder, position);
     }
 
     @Override
     public SpotLight createSpotLight(String name, Point3D position, Point3D direction) {
-        return null;
+        return this.register(new DummySpotLight(this.recorder, name, position, direction));
     }
 
     @Override
     public DirectionalLight createDirectionalLight(String name, Point3D position, Point3D direction) {
-        return null;
+        return this.register(new DummyDirectionalLight(this.recorder, name, direction));
     }
 
     @Override
@@ -160,12 +247,13 @@ public class DummyGraphicWorld implements GraphicWorld {
 
     @Override
     public boolean isDebug() {
-        return false;
+        return this.debug;
     }
 
     @Override
     public void deleteLight(Light light) {
-        // does nothing.
+        this.lights.remove(light.getName());
+        light.delete();
     }
 
     @Override
@@ -175,22 +263,55 @@ public class DummyGraphicWorld implements GraphicWorld {
 
     @Override
     public Light getLight(String name) {
-        return null;
+        return this.lights.get(name);
     }
 
     @Override
     public void deleteLight(String name) {
-        // does nothing.
+        final Light light = this.lights.remove(name);
+        if (light != null) {
+            light.delete();
+        }
     }
 
     @Override
     public MovableText createMovableText(String name, String text, Font font) {
-        return null;
+        return new DummyMovableText(this.recorder, name);
     }
 
     @Override
     public BillboardSet createBillboardSet(Material material) {
-        return null;
+        return new DummyBillboardSet(this.recorder, material);
+    }
+
+    @Override
+    public StaticGeometryRegion createStaticRegion(String name) {
+        return new DummyStaticRegion(this.recorder, name);
+    }
+
+    @Override
+    public TransformBuffer getTransformBuffer() {
+        return this.transforms;
+    }
+
+    /**
+     * Apply the transforms written since the last frame to the objects built with their entity id.
+     */
+    void applyTransforms() {
+        this.transforms.consume((entity, x, y, z, dx, dy, dz) -> {
+            final GraphicObject object = this.entities.get(entity);
+            if (object != null) {
+                object.setPosition(x, y, z);
+                object.setDirection(dx, dy, dz);
+            }
+        });
+    }
+
+    /**
+     * @return The number of objects built with an entity id and not deleted.
+     */
+    int getEntityCount() {
+        return this.entities.size();
     }
 
     @Override
@@ -198,5 +319,15 @@ public class DummyGraphicWorld implements GraphicWorld {
         return "graphicWorld";
     }
 
+    /**
+     * @return The recorder for the calls on this world and its objects.
+     */
+    public final CommandRecorder getRecorder() {
+        return this.recorder;
+    }
 
+    private <T extends Light> T register(final T light) {
+        this.lights.put(light.getName(), light);
+        return light;
+    }
 }
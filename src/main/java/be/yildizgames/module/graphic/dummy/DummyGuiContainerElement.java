@@ -0,0 +1,98 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.coordinates.Coordinates;
+import be.yildizgames.module.graphic.gui.Zorder;
+import be.yildizgames.module.graphic.gui.container.Container;
+import be.yildizgames.module.graphic.gui.internal.Element;
+import be.yildizgames.module.graphic.gui.internal.impl.SimpleContainer;
+import be.yildizgames.module.graphic.material.Material;
+
+/**
+ * In memory container for the headless GUI, the state is kept by the container itself.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyGuiContainerElement extends SimpleContainer {
+
+    DummyGuiContainerElement(final String name, final Coordinates coordinates, final Material background) {
+        super(name, coordinates, background, false);
+    }
+
+    DummyGuiContainerElement(final String name, final Coordinates coordinates, final Material background, final Container parent, final boolean widget) {
+        super(name, coordinates, background, (SimpleContainer) parent, widget);
+    }
+
+    @Override
+    public String getElementName(final int x, final int y) {
+        return this.getName();
+    }
+
+    @Override
+    protected void addChildrenPositionImpl(final int left, final int top) {
+        // does nothing.
+    }
+
+    @Override
+    protected void zoomImpl(final float factor) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setMaterialImpl(final Material newMaterial) {
+        // does nothing.
+    }
+
+    @Override
+    protected void deleteImpl() {
+        // does nothing.
+    }
+
+    @Override
+    protected void showImpl() {
+        // does nothing.
+    }
+
+    @Override
+    protected void hideImpl() {
+        // does nothing.
+    }
+
+    @Override
+    protected void setSizeImpl(final int newWidth, final int newHeight) {
+        // does nothing.
+    }
+
+    @Override
+    protected Element setPositionImpl(final int newLeft, final int newTop) {
+        return this;
+    }
+
+    @Override
+    protected void setZImpl(final Zorder z) {
+        // does nothing.
+    }
+}
@@ -1,84 +1,48 @@
 package be.yildizgames.module.graphic.dummy;
 
-import be.yildizgames.common.client.translation.TranslationKey;
-import be.yildizgames.common.frame.FrameListener;
-import be.yildizgames.module.graphic.gui.GuiFactory;
-import be.yildizgames.module.graphic.gui.button.ButtonBuilder;
-import be.yildizgames.module.graphic.gui.checkbox.CheckBoxBuilder;
+import be.yildizgames.module.coordinates.Coordinates;
+import be.yildizgames.module.graphic.Font;
 import be.yildizgames.module.graphic.gui.container.Container;
-import be.yildizgames.module.graphic.gui.container.ContainerBuilder;
-import be.yildizgames.module.graphic.gui.image.ImageBuilder;
-import be.yildizgames.module.graphic.gui.inputbox.InputBoxBuilder;
-import be.yildizgames.module.graphic.gui.progressbar.ProgressBarBuilder;
-import be.yildizgames.module.graphic.gui.textarea.TextAreaBuilder;
-import be.yildizgames.module.graphic.gui.textline.TextLine;
-import be.yildizgames.module.graphic.gui.textline.TextLineBuilder;
-import be.yildizgames.module.graphic.gui.textline.TextLineTemplate;
+import be.yildizgames.module.graphic.gui.element.AbstractIconElement;
+import be.yildizgames.module.graphic.gui.element.AbstractTextElement;
+import be.yildizgames.module.graphic.gui.internal.impl.SimpleContainer;
+import be.yildizgames.module.graphic.gui.internal.DeferredLayout;
+import be.yildizgames.module.graphic.gui.internal.impl.StandardGuiFactory;
+import be.yildizgames.module.graphic.material.Material;
 import be.yildizgames.module.window.ScreenSize;
 
 /**
+ * Headless GUI factory, all builders are available and build in memory elements without rendering.
+ *
  * @author Grégory Van den Borre
  */
-public class DummyGuiFactory implements GuiFactory {
+public class DummyGuiFactory extends StandardGuiFactory {
 
-    @Override
-    public ContainerBuilder container() {
-        return null;
-    }
-
-    @Override
-    public ButtonBuilder button() {
-        return null;
-    }
-
-
-    @Override
-    public TextLineBuilder textLine() {
-        return null;
-    }
-
-    @Override
-    public TextLine textLine(Container parent, TextLineTemplate template) {
-        return null;
+    public DummyGuiFactory() {
+        super(new ScreenSize(1, 1));
     }
 
-    @Override
-    public TextLine textLine(Container parent, TextLineTemplate template, TranslationKey text) {
-        return null;
-    }
-
-    @Override
-    public TextAreaBuilder textArea() {
-        return null;
-    }
-
-    @Override
-    public CheckBoxBuilder checkbox() {
-        return null;
-    }
-
-    @Override
-    public ImageBuilder image() {
-        return null;
+    public DummyGuiFactory(DeferredLayout layout) {
+        super(new ScreenSize(1, 1), layout);
     }
 
     @Override
-    public FrameListener getAnimationManager() {
-        return null;
+    protected AbstractIconElement buildIconElement(String name, Coordinates coordinates, Material material, Container container) {
+        return new DummyGuiIconElement(name, coordinates, material);
     }
 
     @Override
-    public InputBoxBuilder inputBox() {
-        return null;
+    protected AbstractTextElement buildTextElement(Coordinates coordinates, Font font, Container container) {
+        return new DummyGuiTextElement(coordinates, font);
     }
 
     @Override
-    public ProgressBarBuilder progressBar() {
-        return null;
+    public SimpleContainer buildContainerElement(String name, Coordinates coordinates, Material background) {
+        return new DummyGuiContainerElement(name, coordinates, background);
     }
 
     @Override
-    public ScreenSize getScreenSize() {
-        return new ScreenSize(1,1);
+    public SimpleContainer buildContainerElement(String name, Coordinates coordinates, Material background, Container parent, boolean widget) {
+        return new DummyGuiContainerElement(name, coordinates, background, parent, widget);
     }
 }
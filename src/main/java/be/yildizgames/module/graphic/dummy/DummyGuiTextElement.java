@@ -0,0 +1,83 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.coordinates.Coordinates;
+import be.yildizgames.module.graphic.Font;
+import be.yildizgames.module.graphic.gui.element.AbstractTextElement;
+import be.yildizgames.module.graphic.gui.internal.Element;
+
+/**
+ * In memory text for the headless GUI, the state is kept by the element itself.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyGuiTextElement extends AbstractTextElement {
+
+    DummyGuiTextElement(final Coordinates coordinates, final Font textFont) {
+        super(coordinates, textFont);
+    }
+
+    @Override
+    protected void setTextImpl(final String newText) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setFontImpl(final Font newFont) {
+        // does nothing.
+    }
+
+    @Override
+    public void setColor(final Color color) {
+        // does nothing.
+    }
+
+    @Override
+    protected void deleteImpl() {
+        this.removeFromRegisterer();
+    }
+
+    @Override
+    protected void showImpl() {
+        // does nothing.
+    }
+
+    @Override
+    protected void hideImpl() {
+        // does nothing.
+    }
+
+    @Override
+    protected void setSizeImpl(final int newWidth, final int newHeight) {
+        // does nothing.
+    }
+
+    @Override
+    protected Element setPositionImpl(final int newLeft, final int newTop) {
+        return this;
+    }
+}
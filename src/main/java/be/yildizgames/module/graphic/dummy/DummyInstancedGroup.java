@@ -0,0 +1,67 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.InstancedGroup;
+import be.yildizgames.module.graphic.material.Material;
+
+/**
+ * In memory instanced group for the headless backend, recording one command per update.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyInstancedGroup extends InstancedGroup {
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    DummyInstancedGroup(final CommandRecorder recorder, final Material material, final int capacity) {
+        super(capacity);
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.INSTANCED_GROUP, "instancedGroup");
+        recorder.recordString(Command.MATERIAL, this.id, material.getName());
+    }
+
+    @Override
+    public void delete() {
+        this.recorder.record(Command.DELETE, this.id);
+    }
+
+    @Override
+    protected void updateImpl(final int from, final int to) {
+        this.recorder.recordInt3(Command.INSTANCES, this.id, this.getSize(), from, to);
+    }
+
+    @Override
+    protected void showImpl() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 1);
+    }
+
+    @Override
+    protected void hideImpl() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 0);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.light.LensFlare;
+
+/**
+ * In memory lens flare for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyLensFlare extends LensFlare {
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    DummyLensFlare(final CommandRecorder recorder, final Point3D position) {
+        super(position);
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.LENS_FLARE, "lensFlare");
+        recorder.recordPoint(Command.POSITION, this.id, position);
+    }
+
+    @Override
+    public void setStreakSize(final float w, final float h) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "streakWidth", w);
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "streakHeight", h);
+    }
+
+    @Override
+    public void setLightSize(final float w, final float h) {
+        this.recorder.recordFloat2(Command.SIZE, this.id, w, h);
+    }
+
+    @Override
+    protected void setPositionImpl(final Point3D position) {
+        this.recorder.recordPoint(Command.POSITION, this.id, position);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.misc.Line;
+
+/**
+ * In memory line for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyLine extends Line {
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    DummyLine(final CommandRecorder recorder) {
+        super();
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.LINE, "line");
+    }
+
+    @Override
+    protected void update(final float beginX, final float beginY, final float beginZ, final float endX, final float endY, final float endZ) {
+        this.recorder.recordFloat3(Command.POSITION, this.id, beginX, beginY, beginZ);
+        this.recorder.recordFloat3(Command.DIRECTION, this.id, endX - beginX, endY - beginY, endZ - beginZ);
+    }
+
+    @Override
+    protected void hideImpl() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 0);
+    }
+
+    @Override
+    protected void showImpl() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 1);
+    }
+
+    @Override
+    protected void setMaterialImpl(final Material newMaterial) {
+        this.recorder.recordString(Command.MATERIAL, this.id, newMaterial.getName());
+    }
+}
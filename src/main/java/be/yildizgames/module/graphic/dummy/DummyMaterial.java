@@ -0,0 +1,84 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.material.MaterialEffect;
+import be.yildizgames.module.graphic.material.MaterialTechnique;
+
+import java.time.Duration;
+
+/**
+ * Material with one technique, one pass and one texture unit, doing nothing.
+ *
+ * @author Grégory Van den Borre
+ */
+public class DummyMaterial extends Material {
+
+    /**
+     * Full constructor.
+     *
+     * @param name Material name, must be unique.
+     */
+    public DummyMaterial(String name) {
+        super(name);
+        this.createTechnique().createTexturePass().createUnit();
+    }
+
+    @Override
+    public MaterialEffect addEffect(MaterialEffect.EffectType type, long time) {
+        return new MaterialEffect(this, Duration.ofMillis(time)) {
+            @Override
+            protected void executeImpl(Material material) {
+                // does nothing.
+            }
+        };
+    }
+
+    @Override
+    protected Material copyImpl(String name) {
+        return new DummyMaterial(name);
+    }
+
+    @Override
+    protected MaterialTechnique createTechniqueImpl(int techniqueIndex) {
+        return new DummyMaterialTechnique(techniqueIndex);
+    }
+
+    @Override
+    protected void receiveShadowImpl(boolean receive) {
+        // does nothing.
+    }
+
+    @Override
+    protected void loadImpl() {
+        // does nothing.
+    }
+
+    @Override
+    protected void deleteImpl() {
+        // does nothing.
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.ResourceData;
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.material.MaterialManager;
+import be.yildizgames.module.graphic.shader.Shader;
+import be.yildizgames.module.graphic.shader.ShaderManifest;
+
+/**
+ * Material manager building materials and shaders doing nothing.
+ *
+ * @author Grégory Van den Borre
+ */
+public class DummyMaterialManager extends MaterialManager {
+
+    @Override
+    protected Shader createFragmentShaderImpl(String name, String file, String entry, Shader.FragmentProfileList profile) {
+        return new DummyShader(name, Shader.ShaderType.FRAGMENT);
+    }
+
+    @Override
+    protected Shader createVertexShaderImpl(String name, String file, String entry, Shader.VertexProfileList profile) {
+        return new DummyShader(name, Shader.ShaderType.VERTEX);
+    }
+
+    @Override
+    protected Shader createFragmentShaderImpl(String name, String file, String entry, Shader.FragmentProfileList profile, String defines) {
+        return this.createFragmentShaderImpl(name, file, entry, profile);
+    }
+
+    @Override
+    protected Shader createVertexShaderImpl(String name, String file, String entry, Shader.VertexProfileList profile, String defines) {
+        return this.createVertexShaderImpl(name, file, entry, profile);
+    }
+
+    @Override
+    protected void createShaderAliasImpl(String name, ShaderManifest.Program alias) {
+        // does nothing.
+    }
+
+    @Override
+    protected void createTextureImpl(final ResourceData data) {
+        // does nothing.
+    }
+
+    @Override
+    protected Material createMaterialImpl(String name) {
+        return new DummyMaterial(name);
+    }
+}
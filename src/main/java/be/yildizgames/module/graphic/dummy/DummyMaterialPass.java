@@ -0,0 +1,171 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.material.MaterialPass;
+import be.yildizgames.module.graphic.material.TextureUnit;
+import be.yildizgames.module.graphic.shader.ShaderConstantType;
+import be.yildizgames.module.graphic.shader.ShaderParamColor;
+import be.yildizgames.module.graphic.shader.ShaderParamFloat;
+import be.yildizgames.module.graphic.shader.ShaderParamFloat2;
+import be.yildizgames.module.graphic.shader.ShaderParamFloat3;
+import be.yildizgames.module.graphic.shader.ShaderParamFloat4;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class DummyMaterialPass extends MaterialPass {
+
+    @Override
+    protected void disableLightImpl() {
+        // does nothing.
+    }
+
+    @Override
+    public MaterialPass setSceneBlend(SceneBlend blend1, SceneBlend blend2) {
+        return this;
+    }
+
+    @Override
+    protected TextureUnit createUnitImpl(int index) {
+        return new DummyTextureUnit();
+    }
+
+    @Override
+    protected void enableColorImpl(boolean show) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setDiffuseImpl(Color color) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setAmbientImpl(Color color) {
+        // does nothing.
+    }
+
+    @Override
+    protected MaterialPass setTransparentCapabilityImpl(Transparency capability) {
+        return this;
+    }
+
+    @Override
+    protected MaterialPass setBlendModeImpl(BlendMode mode) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setEmissive(Color color) {
+        return this;
+    }
+
+    @Override
+    protected void setDepthWriteImpl(boolean enable) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setVertexShaderImpl(String name) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setFragmentShaderImpl(String name) {
+        // does nothing.
+    }
+
+    @Override
+    public MaterialPass setFragmentShaderParameter(ShaderParamFloat4 param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setFragmentShaderParameter(ShaderParamFloat3 param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setFragmentShaderParameter(ShaderParamFloat2 param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setFragmentShaderParameter(ShaderParamFloat param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setFragmentShaderParameter(ShaderParamColor param) {
+        return this;
+    }
+
+    @Override
+    protected void setFragmentShaderParameterAutoImpl(String name, ShaderConstantType auto) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setFragmentShaderParameterAutoImpl(String name, ShaderConstantType auto, int param) {
+        // does nothing.
+    }
+
+    @Override
+    public MaterialPass setVertexShaderParameter(ShaderParamFloat4 param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setVertexShaderParameter(ShaderParamFloat3 param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setVertexShaderParameter(ShaderParamFloat2 param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setVertexShaderParameter(ShaderParamFloat param) {
+        return this;
+    }
+
+    @Override
+    public MaterialPass setVertexShaderParameter(ShaderParamColor param) {
+        return this;
+    }
+
+    @Override
+    protected void setVertexShaderParameterAutoImpl(String name, ShaderConstantType auto, int param) {
+        // does nothing.
+    }
+
+    @Override
+    protected void setVertexShaderParameterAutoImpl(String name, ShaderConstantType auto) {
+        // does nothing.
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.gameobject.Movable;
+import be.yildizgames.common.geometry.Point3D;
+
+/**
+ * In memory movable object for the headless backend, keeping its position and direction and recording their changes.
+ *
+ * @author Grégory Van den Borre
+ */
+abstract class DummyMovable implements Movable {
+
+    /**
+     * Recorder for the calls on this object.
+     */
+    final CommandRecorder recorder;
+
+    /**
+     * Object id in the recorder.
+     */
+    final int id;
+
+    private Point3D position = Point3D.ZERO;
+
+    private Point3D direction = Point3D.BASE_DIRECTION;
+
+    private DummyMovable parent;
+
+    DummyMovable(final CommandRecorder recorder, final ObjectType type, final String name) {
+        super();
+        this.recorder = recorder;
+        this.id = recorder.create(type, name);
+    }
+
+    @Override
+    public final void attachTo(final Movable movable) {
+        final Movable internal = movable.getInternal();
+        this.parent = internal instanceof DummyMovable ? (DummyMovable) internal : null;
+        this.recorder.recordInt(Command.ATTACH, this.id, this.parent == null ? 0 : this.parent.id);
+    }
+
+    @Override
+    public final void attachToOptional(final Movable movable) {
+        this.attachTo(movable);
+    }
+
+    @Override
+    public final void detachFromParent() {
+        this.parent = null;
+        this.recorder.recordInt(Command.ATTACH, this.id, 0);
+    }
+
+    @Override
+    public final Point3D getPosition() {
+        return this.position;
+    }
+
+    @Override
+    public final void setPosition(final Point3D newPosition) {
+        this.position = newPosition;
+        this.recorder.recordPoint(Command.POSITION, this.id, newPosition);
+    }
+
+    @Override
+    public final void setPosition(final float x, final float y, final float z) {
+        this.setPosition(Point3D.valueOf(x, y, z));
+    }
+
+    @Override
+    public final Point3D getAbsolutePosition() {
+        return this.parent == null ? this.position : this.parent.getAbsolutePosition().add(this.position);
+    }
+
+    @Override
+    public final Point3D getDirection() {
+        return this.direction;
+    }
+
+    @Override
+    public final void setDirection(final Point3D newDirection) {
+        this.direction = newDirection;
+        this.recorder.recordPoint(Command.DIRECTION, this.id, newDirection);
+    }
+
+    @Override
+    public final void setDirection(final float x, final float y, final float z) {
+        this.setDirection(Point3D.valueOf(x, y, z));
+    }
+
+    @Override
+    public final Point3D getAbsoluteDirection() {
+        return this.direction;
+    }
+
+    @Override
+    public final void addOptionalChild(final Movable movable) {
+        this.addChild(movable);
+    }
+
+    @Override
+    public final void addChild(final Movable movable) {
+        movable.attachTo(this);
+    }
+
+    @Override
+    public final void removeChild(final Movable movable) {
+        movable.detachFromParent();
+    }
+
+    @Override
+    public final Movable getInternal() {
+        return this;
+    }
+
+    @Override
+    public void delete() {
+        this.recorder.record(Command.DELETE, this.id);
+    }
+}
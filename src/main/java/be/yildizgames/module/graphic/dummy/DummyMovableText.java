@@ -0,0 +1,69 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.misc.MovableText;
+
+/**
+ * In memory movable text for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyMovableText extends DummyMovable implements MovableText {
+
+    DummyMovableText(final CommandRecorder recorder, final String name) {
+        super(recorder, ObjectType.MOVABLE_TEXT, name);
+    }
+
+    @Override
+    public void setTextColor(final Color color) {
+        this.recorder.recordColor(Command.COLOR, this.id, color);
+    }
+
+    @Override
+    public void setTextAlignement(final Horizontal h, final Vertical v) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "horizontal", h.ordinal());
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "vertical", v.ordinal());
+    }
+
+    @Override
+    public void setTextOffset(final Point3D offset) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "offsetX", offset.x);
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "offsetY", offset.y);
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "offsetZ", offset.z);
+    }
+
+    @Override
+    public void show() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 1);
+    }
+
+    @Override
+    public void hide() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 0);
+    }
+}
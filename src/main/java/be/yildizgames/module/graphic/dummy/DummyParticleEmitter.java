@@ -0,0 +1,148 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.particle.ParticleEmitter;
+
+/**
+ * In memory particle emitter for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyParticleEmitter extends ParticleEmitter {
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    DummyParticleEmitter(final CommandRecorder recorder, final int systemId) {
+        super();
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.PARTICLE_EMITTER, "emitter");
+        recorder.recordInt(Command.ATTACH, this.id, systemId);
+    }
+
+    @Override
+    protected float getInitialAngle() {
+        return 0;
+    }
+
+    @Override
+    protected float getInitialRate() {
+        return 10;
+    }
+
+    @Override
+    protected float getInitialDuration() {
+        return 0;
+    }
+
+    @Override
+    protected float getInitialLifeTime() {
+        return 5;
+    }
+
+    @Override
+    protected Point3D getInitialDirection() {
+        return Point3D.BASE_DIRECTION;
+    }
+
+    @Override
+    protected float getInitialMinSpeed() {
+        return 1;
+    }
+
+    @Override
+    protected float getInitialMaxSpeed() {
+        return 1;
+    }
+
+    @Override
+    protected Color getInitialStartColor() {
+        return Color.WHITE;
+    }
+
+    @Override
+    protected Color getInitialEndColor() {
+        return Color.WHITE;
+    }
+
+    @Override
+    protected float getInitialRepeatDelay() {
+        return 0;
+    }
+
+    @Override
+    protected void setAngleImpl(final float angle) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "angle", angle);
+    }
+
+    @Override
+    protected void setRepeatDelayImpl(final float repeatDelay) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "repeatDelay", repeatDelay);
+    }
+
+    @Override
+    protected void setEndColorImpl(final Color end) {
+        this.recorder.recordColor(Command.COLOR, this.id, end);
+    }
+
+    @Override
+    protected void setMinSpeedImpl(final float minSpeed) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "minSpeed", minSpeed);
+    }
+
+    @Override
+    protected void setMaxSpeedImpl(final float maxSpeed) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "maxSpeed", maxSpeed);
+    }
+
+    @Override
+    protected void setStartColorImpl(final Color start) {
+        this.recorder.recordColor(Command.COLOR, this.id, start);
+    }
+
+    @Override
+    protected void setDirectionImpl(final Point3D direction) {
+        this.recorder.recordPoint(Command.DIRECTION, this.id, direction);
+    }
+
+    @Override
+    protected void setDurationImpl(final float duration) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "duration", duration);
+    }
+
+    @Override
+    protected void setRateImpl(final float rate) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "rate", rate);
+    }
+
+    @Override
+    protected void setLifeTimeImpl(final float lifeTime) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "lifeTime", lifeTime);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.gameobject.Movable;
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.particle.ParticleColorAffector;
+import be.yildizgames.module.graphic.particle.ParticleEmitter;
+import be.yildizgames.module.graphic.particle.ParticleForceAffector;
+import be.yildizgames.module.graphic.particle.ParticleScaleAffector;
+import be.yildizgames.module.graphic.particle.ParticleSystem;
+
+/**
+ * In memory particle system for the headless backend, particles are only simulated on the CPU by update.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyParticleSystem extends ParticleSystem {
+
+    /**
+     * Movable state and recording, shared with the other headless objects.
+     */
+    private final DummyMovable movable;
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    DummyParticleSystem(final CommandRecorder recorder) {
+        super();
+        this.recorder = recorder;
+        this.movable = new DummyMovable(recorder, ObjectType.PARTICLE_SYSTEM, "particleSystem") {};
+        this.id = this.movable.id;
+    }
+
+    @Override
+    protected ParticleEmitter createEmitter(final ParticleEmitter.EmitterType type) {
+        return new DummyParticleEmitter(this.recorder, this.id);
+    }
+
+    @Override
+    protected ParticleColorAffector createColorAffector() {
+        final int affector = this.createAffector();
+        return new ParticleColorAffector() {
+            @Override
+            protected void setAlphaVariationImpl(final int variation) {
+                recorder.recordProperty(Command.PROPERTY, affector, "alphaVariation", variation);
+            }
+        };
+    }
+
+    @Override
+    protected ParticleForceAffector createForceAffector() {
+        final int affector = this.createAffector();
+        return new ParticleForceAffector() {
+            @Override
+            protected void setForceImpl(final float forceX, final float forceY, final float forceZ) {
+                recorder.recordFloat3(Command.DIRECTION, affector, forceX, forceY, forceZ);
+            }
+        };
+    }
+
+    @Override
+    protected ParticleScaleAffector createScaleAffector() {
+        final int affector = this.createAffector();
+        return new ParticleScaleAffector() {
+            @Override
+            protected void setScaleImpl(final int width, final int height) {
+                recorder.recordFloat3(Command.SCALE, affector, width, height, 1);
+            }
+        };
+    }
+
+    @Override
+    public void keepInLocalSpace(final boolean keep) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "localSpace", keep ? 1 : 0);
+    }
+
+    @Override
+    protected void setOrientationImpl(final Orientation newOrientation) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "orientation", newOrientation.ordinal());
+    }
+
+    @Override
+    protected void setSizeImpl(final float width, final float height) {
+        this.recorder.recordFloat2(Command.SIZE, this.id, width, height);
+    }
+
+    @Override
+    protected void setMaterialImpl(final Material newMaterial) {
+        this.recorder.recordString(Command.MATERIAL, this.id, newMaterial.getName());
+    }
+
+    @Override
+    protected void setQuotaImpl(final int newQuota) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "quota", newQuota);
+    }
+
+    @Override
+    protected void setOriginImpl(final Origin origin) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "origin", origin.ordinal());
+    }
+
+    @Override
+    public void hide() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 0);
+    }
+
+    @Override
+    public void show() {
+        this.recorder.recordInt(Command.VISIBLE, this.id, 1);
+    }
+
+    @Override
+    public void rotate(final float yaw, final float pitch) {
+        this.recorder.recordFloat4(Command.ROTATE, this.id, yaw, pitch, 0, Float.NaN);
+    }
+
+    @Override
+    public void attachTo(final Movable other) {
+        this.movable.attachTo(other);
+    }
+
+    @Override
+    public void attachToOptional(final Movable other) {
+        this.movable.attachToOptional(other);
+    }
+
+    @Override
+    public void detachFromParent() {
+        this.movable.detachFromParent();
+    }
+
+    @Override
+    public Point3D getPosition() {
+        return this.movable.getPosition();
+    }
+
+    @Override
+    public void setPosition(final Point3D position) {
+        this.movable.setPosition(position);
+    }
+
+    @Override
+    public Point3D getAbsolutePosition() {
+        return this.movable.getAbsolutePosition();
+    }
+
+    @Override
+    public Point3D getDirection() {
+        return this.movable.getDirection();
+    }
+
+    @Override
+    public void setDirection(final Point3D direction) {
+        this.movable.setDirection(direction);
+    }
+
+    @Override
+    public Point3D getAbsoluteDirection() {
+        return this.movable.getAbsoluteDirection();
+    }
+
+    @Override
+    public void setPosition(final float x, final float y, final float z) {
+        this.movable.setPosition(x, y, z);
+    }
+
+    @Override
+    public void setDirection(final float x, final float y, final float z) {
+        this.movable.setDirection(x, y, z);
+    }
+
+    @Override
+    public void addOptionalChild(final Movable child) {
+        this.movable.addOptionalChild(child);
+    }
+
+    @Override
+    public void addChild(final Movable child) {
+        this.movable.addChild(child);
+    }
+
+    @Override
+    public void removeChild(final Movable child) {
+        this.movable.removeChild(child);
+    }
+
+    @Override
+    public Movable getInternal() {
+        return this.movable;
+    }
+
+    @Override
+    public void delete() {
+        this.movable.delete();
+    }
+
+    private int createAffector() {
+        final int affector = this.recorder.create(ObjectType.PARTICLE_AFFECTOR, "affector");
+        this.recorder.recordInt(Command.ATTACH, affector, this.id);
+        return affector;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.light.PointLight;
+
+/**
+ * In memory point light for the headless backend.
+ *
+ * @author Grégory Van den Borre
+ */
+final class DummyPointLight extends PointLight {
+
+    private final CommandRecorder recorder;
+
+    private final int id;
+
+    DummyPointLight(final CommandRecorder recorder, final String name, final Point3D position) {
+        super(name, position);
+        this.recorder = recorder;
+        this.id = recorder.create(ObjectType.POINT_LIGHT, name);
+        recorder.recordPoint(Command.POSITION, this.id, position);
+    }
+
+    @Override
+    public void setColor(final Color color) {
+        this.recorder.recordColor(Command.COLOR, this.id, color);
+    }
+
+    @Override
+    public void setAttenuation(final float range, final float constant, final float linear, final float quadratic) {
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "range", range);
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "constant", constant);
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "linear", linear);
+        this.recorder.recordProperty(Command.PROPERTY, this.id, "quadratic", quadratic);
+    }
+
+    @Override
+    public void setDebug() {
+        // does nothing.
+    }
+
+    @Override
+    protected void setPositionImpl(final Point3D position) {
+        this.recorder.recordPoint(Command.POSITION, this.id, position);
+    }
+
+    @Override
+    protected void deleteImpl() {
+        this.recorder.record(Command.DELETE, this.id);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ *  Copyright (c) 2019 Grégory Van den Borre
+ *
+ *  More infos available: https://engine.yildiz-games.be
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without
+ *  limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ *  of the Software, and to permit persons to whom the Software is furnished to do so,
+ *  subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all copies or substantial
+ *  portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM,
+ *  DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE  SOFTWARE.
+ *
+ */
+
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.GraphicObject;
+
+/**
+ * Graphic objects by entity id, stored in an open addressing hash table with primitive keys, so looking up an
+ * object for every transform does not box the entity id.
+ *
+ * @author Grégory Van den Borre
+ */
+final class EntityTable {
+
+    /**
+     * Entity ids, a slot is empty when its value is null.
+     */
+    private long[] keys = new long[16];
+
+    /**
+     * Objects, at the same position as their entity id.
+     */
+    private GraphicObject[] values = new GraphicObject[16];
+
+    /**
+     * Number of objects in the table.
+     */
+    private int size;
+
+    /**
+     * Get the object registered for an entity.
+     *
+     * @param entity Entity id.
+     * @return The object, null if none.
+     */
+    GraphicObject get(final long entity) {
+        final int mask = this.keys.length - 1;
+        int i = EntityTable.hash(entity) & mask;
+        while (this.values[i] != null) {
+            if (this.keys[i] == entity) {
+                return this.values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Register an object for an entity, replacing the previous one.
+     *
+     * @param entity Entity id.
+     * @param object Object to register.
+     */
+    void put(final long entity, final GraphicObject object) {
+        assert object != null : "object parameter is null.";
+        if ((this.size + 1) * 2 > this.keys.length) {
+            this.grow();
+        }
+        this.insert(entity, object);
+    }
+
+    /**
+     * Remove the object registered for an entity, nothing is done if an other object is registered for it.
+     *
+     * @param entity Entity id.
+     * @param object Object to remove.
+     * @return <code>true</code> if the object was removed.
+     */
+    boolean remove(final long entity, final GraphicObject object) {
+        final int mask = this.keys.length - 1;
+        int i = EntityTable.hash(entity) & mask;
+        while (this.values[i] != null) {
+            if (this.keys[i] == entity) {
+                if (this.values[i] != object) {
+                    return false;
+                }
+                this.removeAt(i);
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of registered objects.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Empty a slot and move back the following entries of its probe sequence, so no tombstone is needed.
+     *
+     * @param slot Slot to empty.
+     */
+    private void removeAt(final int slot) {
+        final int mask = this.keys.length - 1;
+        int free = slot;
+        this.values[free] = null;
+        this.size--;
+        int i = (free + 1) & mask;
+        while (this.values[i] != null) {
+            final int home = EntityTable.hash(this.keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - free) & mask)) {
+                this.keys[free] = this.keys[i];
+                this.values[free] = this.values[i];
+                this.values[i] = null;
+                free = i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void insert(final long entity, final GraphicObject object) {
+        final int mask = this.keys.length - 1;
+        int i = EntityTable.hash(entity) & mask;
+        while (this.values[i] != null) {
+            if (this.keys[i] == entity) {
+                this.values[i] = object;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        this.keys[i] = entity;
+        this.values[i] = object;
+        this.size++;
+    }
+
+    private void grow() {
+        final long[] oldKeys = this.keys;
+        final GraphicObject[] oldValues = this.values;
+        this.keys = new long[oldKeys.length << 1];
+        this.values = new GraphicObject[oldKeys.length << 1];
+        this.size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                this.insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
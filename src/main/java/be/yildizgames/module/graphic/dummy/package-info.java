@@ -23,7 +23,7 @@
  */
 
 /**
- * Dummy implementation of the engine.
+ * Dummy implementation of the engine, usable as a headless backend recording the calls as a command stream.
  *
  * @author Grégory Van den Borre
  */
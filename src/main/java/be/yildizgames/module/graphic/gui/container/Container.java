@@ -61,6 +61,19 @@ public interface Container extends Widget {
 
     Optional<Widget> getWidgetAt(int x, int y);
 
+    /**
+     * Retrieve the widget at a given position, implementations should override it to avoid any allocation.
+     * Default falls back to getWidgetAt(x, y).
+     *
+     * @param x Position x value.
+     * @param y Position y value.
+     * @param notFound Widget to return if none is found at the position.
+     * @return The widget at the position, or notFound.
+     */
+    default Widget getWidgetAt(int x, int y, Widget notFound) {
+        return this.getWidgetAt(x, y).orElse(notFound);
+    }
+
     Zorder getZ();
 
     void ignore(ContainerChild child);
@@ -72,4 +85,14 @@ public interface Container extends Widget {
     void disableEmptyZone();
 
     void enableEmptyZone();
+
+    /**
+     * Notify the container that one of its children has been moved, resized, shown or hidden.
+     * Does nothing by default.
+     *
+     * @param child Updated child.
+     */
+    default void updateChildBounds(Widget child) {
+        //does nothing.
+    }
 }
@@ -87,12 +87,20 @@ public abstract class AbstractTextElement extends BaseElement {
      * @return Current text last line width in pixel.
      */
     public final float getLastLineWidth() {
-        if (this.currentText.trim().isEmpty()) {
+        final String text = this.currentText;
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == '\n') {
+            end--;
+        }
+        boolean blank = true;
+        for (int i = 0; i < end && blank; i++) {
+            blank = text.charAt(i) <= ' ';
+        }
+        if (blank) {
             return 0;
         }
-        String[] lines = this.currentText.split("\n");
-        String lastLine = lines[lines.length - 1];
-        return this.font.computeTextWidth(lastLine);
+        final int start = text.lastIndexOf('\n', end - 1) + 1;
+        return start == 0 && end == text.length() ? this.font.computeTextWidth(text) : this.font.computeTextWidth(text, start, end);
     }
 
     /**
@@ -128,12 +136,13 @@ public abstract class AbstractTextElement extends BaseElement {
             return false;
         }
         this.currentText = newText;
-        String croppedText = this.currentText;
-        if (this.getTextWidth() < this.getWidth()) {
-            croppedText = this.font.crop(croppedText, this.getWidth());
+        final int textWidth = this.font.computeTextWidth(newText);
+        String croppedText = newText;
+        if (textWidth < this.getWidth()) {
+            croppedText = this.font.crop(newText, this.getWidth());
         }
         this.setTextImpl(croppedText);
-        this.setWidth(this.getTextWidth());
+        this.setWidth(textWidth);
         return true;
     }
 
@@ -24,7 +24,6 @@
 
 package be.yildizgames.module.graphic.gui.image.animation;
 
-import be.yildizgames.common.time.ManualElapsedTimeComputer;
 import be.yildizgames.module.graphic.gui.image.ImageAnimation;
 
 /**
@@ -34,9 +33,9 @@ import be.yildizgames.module.graphic.gui.image.ImageAnimation;
 public class BlinkingImage extends ImageAnimation {
 
     /**
-     * Timer between 2 state switches.
+     * Time between 2 state switches.
      */
-    private final ManualElapsedTimeComputer timer;
+    private final long time;
 
     /**
      * Create a blinking image animation.
@@ -45,18 +44,17 @@ public class BlinkingImage extends ImageAnimation {
      */
     public BlinkingImage(final String name, final long time) {
         super(name);
-        this.timer = new ManualElapsedTimeComputer(time);
+        this.time = time;
     }
 
     @Override
     protected final void updateImpl(final long time) {
-        if(timer.isTimeElapsed(time)) {
-            this.image.setVisible(!this.image.isVisible());
-        }
+        this.image.setVisible(!this.image.isVisible());
+        this.suspend(this.time);
     }
 
     @Override
     protected final void startImpl() {
-        //Nothing to do.
+        this.suspend(this.time);
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal;
+
+/**
+ * Intrusive doubly linked list of animations, an animation can only be in one list at a time and is added or removed
+ * in constant time.
+ *
+ * @author Grégory Van den Borre
+ */
+final class AnimationList {
+
+    /**
+     * First animation in the list, null if empty.
+     */
+    private BaseAnimationGui head;
+
+    /**
+     * Add an animation at the beginning of the list.
+     *
+     * @param animation Animation to add, must not be in any list.
+     */
+    void add(final BaseAnimationGui animation) {
+        animation.list = this;
+        animation.previous = null;
+        animation.next = this.head;
+        if (this.head != null) {
+            this.head.previous = animation;
+        }
+        this.head = animation;
+    }
+
+    /**
+     * Remove an animation from the list.
+     *
+     * @param animation Animation to remove, must be in this list.
+     */
+    void remove(final BaseAnimationGui animation) {
+        if (animation.previous == null) {
+            this.head = animation.next;
+        } else {
+            animation.previous.next = animation.next;
+        }
+        if (animation.next != null) {
+            animation.next.previous = animation.previous;
+        }
+        animation.previous = null;
+        animation.next = null;
+        animation.list = null;
+    }
+
+    /**
+     * @return The first animation in the list, null if empty.
+     */
+    BaseAnimationGui first() {
+        return this.head;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal;
+
+/**
+ * Hierarchical timer wheel holding the animations waiting for a delay to elapse.
+ * The resolution is one millisecond, 4 levels of 64 slots cover about 4 hours, longer delays are cascaded again until
+ * they expire.
+ * Scheduling and cancelling are done in constant time, advancing costs nothing while the wheel is empty.
+ *
+ * @author Grégory Van den Borre
+ */
+final class AnimationTimerWheel {
+
+    private static final int BITS = 6;
+
+    private static final int SLOTS = 1 << BITS;
+
+    private static final int MASK = SLOTS - 1;
+
+    private static final int LEVELS = 4;
+
+    private static final long MAX_DELAY = (1L << (BITS * LEVELS)) - 1;
+
+    /**
+     * Wheel slots, by level.
+     */
+    private final AnimationList[][] slots = new AnimationList[LEVELS][SLOTS];
+
+    /**
+     * Manager notified when an animation delay is elapsed.
+     */
+    private final GuiAnimationManager manager;
+
+    /**
+     * Current tick.
+     */
+    private long current;
+
+    /**
+     * Number of animations in the wheel.
+     */
+    private int size;
+
+    AnimationTimerWheel(final GuiAnimationManager manager) {
+        super();
+        this.manager = manager;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                this.slots[level][slot] = new AnimationList();
+            }
+        }
+    }
+
+    /**
+     * Add an animation to the wheel.
+     *
+     * @param animation Animation to add, must not be in any list.
+     * @param delay     Delay before expiration, in milliseconds, at least one.
+     */
+    void schedule(final BaseAnimationGui animation, final long delay) {
+        animation.expiry = this.current + Math.max(1, delay);
+        this.insert(animation);
+        this.size++;
+    }
+
+    /**
+     * Remove an animation from the wheel before its expiration.
+     *
+     * @param animation Animation to remove, must be in the wheel.
+     */
+    void cancel(final BaseAnimationGui animation) {
+        animation.list.remove(animation);
+        this.size--;
+    }
+
+    /**
+     * Advance the wheel, the expired animations are given back to the manager.
+     *
+     * @param elapsed Elapsed time, in milliseconds.
+     */
+    void advance(final long elapsed) {
+        final long end = this.current + elapsed;
+        while (this.current < end) {
+            if (this.size == 0) {
+                this.current = end;
+                return;
+            }
+            this.current++;
+            for (int level = 1; level < LEVELS && this.index(level - 1) == 0; level++) {
+                this.cascade(this.slots[level][this.index(level)]);
+            }
+            final AnimationList slot = this.slots[0][this.index(0)];
+            BaseAnimationGui animation = slot.first();
+            while (animation != null) {
+                slot.remove(animation);
+                this.size--;
+                this.manager.expired(animation);
+                animation = slot.first();
+            }
+        }
+    }
+
+    /**
+     * @return The number of animations in the wheel.
+     */
+    int size() {
+        return this.size;
+    }
+
+    private void cascade(final AnimationList slot) {
+        BaseAnimationGui animation = slot.first();
+        while (animation != null) {
+            slot.remove(animation);
+            this.insert(animation);
+            animation = slot.first();
+        }
+    }
+
+    private void insert(final BaseAnimationGui animation) {
+        final long delay = Math.min(animation.expiry - this.current, MAX_DELAY);
+        final long target = this.current + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        this.slots[level][(int) ((target >> (BITS * level)) & MASK)].add(animation);
+    }
+
+    private int index(final int level) {
+        return (int) ((this.current >> (BITS * level)) & MASK);
+    }
+}
@@ -26,6 +26,10 @@
 package be.yildizgames.module.graphic.gui.internal;
 
 /**
+ * Base class for the GUI animations.
+ * Once registered in a GuiAnimationManager, a running animation is updated every frame until it is completed or
+ * stopped, it can also be suspended for a given time, to wait between 2 steps without being updated.
+ *
  * @author Grégory Van den Borre
  */
 public abstract class BaseAnimationGui {
@@ -34,6 +38,41 @@ public abstract class BaseAnimationGui {
 
     private boolean completed = true;
 
+    /**
+     * Delay before the animation starts once played, in milliseconds.
+     */
+    private long startDelay;
+
+    /**
+     * <code>true</code> if the animation is played and waiting for its start delay.
+     */
+    private boolean pendingStart;
+
+    /**
+     * Manager updating this animation, null if not registered.
+     */
+    private GuiAnimationManager manager;
+
+    /**
+     * List containing this animation in the manager, null if none.
+     */
+    AnimationList list;
+
+    /**
+     * Previous animation in the list.
+     */
+    BaseAnimationGui previous;
+
+    /**
+     * Next animation in the list.
+     */
+    BaseAnimationGui next;
+
+    /**
+     * Expiration tick when waiting in the timer wheel.
+     */
+    long expiry;
+
     protected BaseAnimationGui(String name) {
         this.name = name;
     }
@@ -42,6 +81,15 @@ public abstract class BaseAnimationGui {
         return this.name;
     }
 
+    /**
+     * Set a delay between the moment the animation is played and the moment it actually starts.
+     *
+     * @param delay Delay in milliseconds, 0 to start immediately.
+     */
+    public final void setStartDelay(final long delay) {
+        this.startDelay = delay;
+    }
+
     final void update(long time) {
         if (!completed) {
             this.updateImpl(time);
@@ -50,11 +98,50 @@ public abstract class BaseAnimationGui {
 
     final void start() {
         this.completed = false;
-        this.startImpl();
+        if (this.manager == null) {
+            this.startImpl();
+        } else if (this.startDelay > 0) {
+            this.pendingStart = true;
+            this.manager.schedule(this, this.startDelay);
+        } else {
+            this.pendingStart = false;
+            this.manager.activate(this);
+            this.startImpl();
+        }
     }
 
     final void stop() {
         this.completed = true;
+        this.pendingStart = false;
+        if (this.manager != null) {
+            this.manager.unlink(this);
+        }
+    }
+
+    /**
+     * Register the manager updating this animation, if the animation is already running, it is updated from now.
+     *
+     * @param animationManager Manager updating this animation.
+     */
+    final void setManager(final GuiAnimationManager animationManager) {
+        if (this.manager != null) {
+            this.manager.unlink(this);
+        }
+        this.manager = animationManager;
+        if (!this.completed) {
+            this.manager.activate(this);
+        }
+    }
+
+    /**
+     * Called when the start delay or a suspension has elapsed.
+     */
+    final void resume() {
+        this.manager.activate(this);
+        if (this.pendingStart) {
+            this.pendingStart = false;
+            this.startImpl();
+        }
     }
 
     protected abstract void startImpl();
@@ -63,5 +150,26 @@ public abstract class BaseAnimationGui {
 
     protected final void setCompleted(boolean b) {
         this.completed = b;
+        if (this.manager == null) {
+            return;
+        }
+        if (b) {
+            this.manager.unlink(this);
+        } else if (this.list == null) {
+            this.manager.activate(this);
+        }
+    }
+
+    /**
+     * Stop updating this animation until the given time has elapsed, updateImpl will then be called again with the
+     * time elapsed since the previous frame.
+     * Does nothing if the animation is completed or not registered in a manager.
+     *
+     * @param delay Time to wait, in milliseconds.
+     */
+    protected final void suspend(final long delay) {
+        if (this.manager != null && !this.completed) {
+            this.manager.schedule(this, delay);
+        }
     }
 }
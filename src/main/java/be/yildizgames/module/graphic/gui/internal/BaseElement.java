@@ -44,6 +44,17 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
      * Value for maximum opacity.
      */
     public static final int MAX_OPACITY = 100;
+
+    /**
+     * Flag set when the position must be updated in the implementation by the layout pass.
+     */
+    private static final int POSITION_DIRTY = 1;
+
+    /**
+     * Flag set when the size must be updated in the implementation by the layout pass.
+     */
+    private static final int SIZE_DIRTY = 2;
+
     protected int virtualHeight;
     /**
      * <code>true</code> if the element is currently visible.
@@ -95,6 +106,21 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
      */
     private int otherRelativeTopOffset;
 
+    /**
+     * Changes waiting for the deferred layout pass.
+     */
+    private int layoutDirty;
+
+    /**
+     * Slot of this element in the pending layout pass, only valid when layoutDirty is not 0.
+     */
+    private int layoutSlot;
+
+    /**
+     * Layout pass used to defer the implementation updates, null to update the implementation on every change.
+     */
+    private DeferredLayout layout;
+
     /**
      * Full constructor.
      *
@@ -198,6 +224,8 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
     public final void updateAddPositionValue(final int left, final int top) {
         this.left += left;
         this.top += top;
+        this.positionUpdated();
+        this.boundsUpdated();
     }
 
     /**
@@ -277,6 +305,7 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
         if (!this.visible) {
             this.visible = true;
             this.showImpl();
+            this.boundsUpdated();
         }
         return this;
     }
@@ -286,6 +315,7 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
         if (this.visible) {
             this.visible = false;
             this.hideImpl();
+            this.boundsUpdated();
         }
         return this;
     }
@@ -331,9 +361,24 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
     }
 
     /**
-     * Delete the widget.
+     * Delete the widget, it is removed from the pending layout pass.
+     * An implementation can override it, but must call this method, otherwise the layout pass could still update the
+     * deleted element.
      */
-    public abstract void delete();
+    public void delete() {
+        if (this.layoutDirty != 0) {
+            this.layoutDirty = 0;
+            this.layout.unregister(this.layoutSlot);
+        }
+        this.deleteImpl();
+    }
+
+    /**
+     * Call specific implementation delete code.
+     */
+    protected void deleteImpl() {
+        //does nothing.
+    }
 
     /**
      * Implementation to set the widget visible.
@@ -355,7 +400,16 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
     public final Element setPosition(final int leftPosition, final int topPosition) {
         this.left = leftPosition;
         this.top = topPosition;
-        return this.setPositionImpl(this.left, this.top);
+        final Element result;
+        if (this.isLayoutDeferred()) {
+            this.markLayoutDirty(POSITION_DIRTY);
+            result = this;
+        } else {
+            result = this.setPositionImpl(this.left, this.top);
+        }
+        this.positionUpdated();
+        this.boundsUpdated();
+        return result;
     }
 
     @Override
@@ -387,6 +441,7 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
     public final void setSize(final Size size) {
         this.setSize(size.getWidth(), size.getHeight());
         this.virtualHeight = this.getHeight();
+        this.boundsUpdated();
     }
 
     /**
@@ -444,7 +499,12 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
                 this.setLeft(this.otherRelative, this.leftRelative, this.otherRelativeLeftOffset);
                 this.setTop(this.otherRelative, this.topRelative, this.otherRelativeTopOffset);
             }
-            this.setSizeImpl(newWidth, newHeight);
+            if (this.isLayoutDeferred()) {
+                this.markLayoutDirty(SIZE_DIRTY);
+            } else {
+                this.setSizeImpl(newWidth, newHeight);
+            }
+            this.boundsUpdated();
         }
     }
 
@@ -488,11 +548,97 @@ public abstract class BaseElement extends BaseRegisterable implements Element {
     @Override
     public final void setVirtualHeight(final int height) {
         this.virtualHeight = height;
+        this.boundsUpdated();
     }
 
     @Override
     public final void resetVirtualHeight() {
         this.virtualHeight = this.getHeight();
+        this.boundsUpdated();
+    }
+
+    /**
+     * @return The height used to check if a point is inside the element, can be greater than the element height.
+     */
+    public final int getVirtualHeight() {
+        return this.virtualHeight;
+    }
+
+    /**
+     * Update the implementation with the position and size changes done since the last layout pass.
+     * Does nothing if the element was not changed.
+     */
+    final void applyLayout() {
+        final int dirty = this.layoutDirty;
+        this.layoutDirty = 0;
+        if (dirty != 0) {
+            this.updateGeometryImpl((dirty & POSITION_DIRTY) != 0, (dirty & SIZE_DIRTY) != 0);
+        }
+    }
+
+    /**
+     * Update the implementation position and size in a single operation, called by the deferred layout pass.
+     * Default calls setSizeImpl and setPositionImpl, implementations able to do both at once should override it.
+     *
+     * @param moved   <code>true</code> if the position was changed.
+     * @param resized <code>true</code> if the size was changed.
+     */
+    protected void updateGeometryImpl(final boolean moved, final boolean resized) {
+        if (resized) {
+            this.setSizeImpl(this.width, this.height);
+        }
+        if (moved) {
+            this.setPositionImpl(this.left, this.top);
+        }
+    }
+
+    /**
+     * Set the layout pass used to defer the implementation updates of this element, the pending changes are applied
+     * immediately.
+     * Widgets use the layout pass of their parent, elements built by a StandardGuiFactory use the factory one.
+     *
+     * @param layout Layout pass to use, null to update the implementation on every change.
+     */
+    public final void setDeferredLayout(final DeferredLayout layout) {
+        if (this.layoutDirty != 0) {
+            this.layout.unregister(this.layoutSlot);
+            this.applyLayout();
+        }
+        this.layout = layout;
+    }
+
+    /**
+     * @return The layout pass used to defer the implementation updates of this element, null if none.
+     */
+    public final DeferredLayout getDeferredLayout() {
+        return this.layout;
+    }
+
+    private boolean isLayoutDeferred() {
+        return this.layout != null && this.layout.isEnabled();
+    }
+
+    private void markLayoutDirty(final int flag) {
+        if (this.layoutDirty == 0) {
+            this.layoutSlot = this.layout.register(this);
+        }
+        this.layoutDirty |= flag;
+    }
+
+    /**
+     * Called once the element position has been updated, before boundsUpdated.
+     * Does nothing by default.
+     */
+    protected void positionUpdated() {
+        //does nothing.
+    }
+
+    /**
+     * Called once the element position, size or visibility has been updated.
+     * Does nothing by default.
+     */
+    protected void boundsUpdated() {
+        //does nothing.
     }
 
     /**
@@ -141,6 +141,16 @@ public abstract class BaseWidget extends BaseElement implements Widget {
 
     private final Map<String, BaseAnimationGui> animations = new HashMap<>();
 
+    /**
+     * Cached absolute left position, updated when this widget or one of its ancestors is moved.
+     */
+    private int absoluteLeft;
+
+    /**
+     * Cached absolute top position, updated when this widget or one of its ancestors is moved.
+     */
+    private int absoluteTop;
+
     /**
      * Full constructor.
      *
@@ -161,6 +171,10 @@ public abstract class BaseWidget extends BaseElement implements Widget {
     protected BaseWidget(final String name, final Coordinates coordinates, final Container parent) {
         super(name, coordinates);
         this.parent = parent;
+        if (parent instanceof BaseElement) {
+            this.setDeferredLayout(((BaseElement) parent).getDeferredLayout());
+        }
+        this.computeAbsolutePosition();
     }
 
     @Override
@@ -249,15 +263,57 @@ public abstract class BaseWidget extends BaseElement implements Widget {
         if (this.forceContainsFalse) {
             return false;
         }
-        if (!emptyZoneDisabled) {
+        if (!emptyZoneDisabled && !this.emptyZones.isEmpty()) {
             for (Rectangle r : this.emptyZones) {
                 if (Checker.inRange(x, r.getLeft(), r.getRight()) && Checker.inRange(y, r.getTop(), r.getBottom())) {
                     return false;
                 }
             }
         }
-        Point2D p = this.getAbsolutePosition();
-        return Checker.inRange(x, p.x, p.x + this.getWidth()) && Checker.inRange(y, p.y, p.y + this.virtualHeight);
+        return Checker.inRange(x, this.absoluteLeft, this.absoluteLeft + this.getWidth())
+                && Checker.inRange(y, this.absoluteTop, this.absoluteTop + this.virtualHeight);
+    }
+
+    @Override
+    protected final void positionUpdated() {
+        this.updateAbsolutePosition();
+    }
+
+    /**
+     * Recompute the cached absolute position from the parent one, and push it down to the children.
+     * Only to be used when this widget or its parent has been moved.
+     */
+    public final void updateAbsolutePosition() {
+        this.computeAbsolutePosition();
+        this.absolutePositionUpdated();
+    }
+
+    /**
+     * Called once the absolute position has been recomputed, to update the children.
+     * Does nothing by default.
+     */
+    protected void absolutePositionUpdated() {
+        //does nothing.
+    }
+
+    private void computeAbsolutePosition() {
+        if (this.parent == null) {
+            this.absoluteLeft = this.getLeft();
+            this.absoluteTop = this.getTop();
+        } else {
+            this.absoluteLeft = this.getLeft() + this.parent.getAbsoluteLeft();
+            this.absoluteTop = this.getTop() + this.parent.getAbsoluteTop();
+        }
+    }
+
+    /**
+     * Notify the parent container, if any, to keep its children index up to date.
+     */
+    @Override
+    protected final void boundsUpdated() {
+        if (this.parent != null) {
+            this.parent.updateChildBounds(this);
+        }
     }
 
     @Override
@@ -276,7 +332,8 @@ public abstract class BaseWidget extends BaseElement implements Widget {
      */
     public final void mouseLeftClick(MousePosition position) {
         if (this.mouseClickActive) {
-            for (final MouseLeftClickListener listener : this.leftClickListener) {
+            for (int i = 0; i < this.leftClickListener.size(); i++) {
+                final MouseLeftClickListener listener = this.leftClickListener.get(i);
                 listener.click();
                 listener.clickAt(position);
             }
@@ -284,9 +341,7 @@ public abstract class BaseWidget extends BaseElement implements Widget {
     }
 
     public final Point2D getAbsolutePosition() {
-        Point2D p = Point2D.valueOf(this.getLeft(), this.getTop());
-        p = p.add(this.parent == null ? Point2D.ZERO : this.parent.getAbsolutePosition());
-        return p;
+        return Point2D.valueOf(this.absoluteLeft, this.absoluteTop);
     }
 
     /**
@@ -415,8 +470,8 @@ public abstract class BaseWidget extends BaseElement implements Widget {
      * @return false.
      */
     final boolean mouseMove(final MousePosition position) {
-        for (final MouseMoveListener listener : this.mouseMoveListener) {
-            listener.move(position);
+        for (int i = 0; i < this.mouseMoveListener.size(); i++) {
+            this.mouseMoveListener.get(i).move(position);
         }
         return false;
     }
@@ -430,7 +485,8 @@ public abstract class BaseWidget extends BaseElement implements Widget {
     public final void keyPressed(final char key) {
         boolean received = false;
         if (this.isVisible()) {
-            for (final KeyboardListener listener : this.keyboardListener) {
+            for (int i = 0; i < this.keyboardListener.size(); i++) {
+                final KeyboardListener listener = this.keyboardListener.get(i);
                 if (!received) {
                     received = listener.keyPressed(key);
                 } else {
@@ -438,8 +494,8 @@ public abstract class BaseWidget extends BaseElement implements Widget {
                 }
             }
         }
-        if (!received) {
-            Optional.ofNullable(this.parent).ifPresent(p -> p.keyPressed(key));
+        if (!received && this.parent != null) {
+            this.parent.keyPressed(key);
         }
     }
 
@@ -572,8 +628,8 @@ public abstract class BaseWidget extends BaseElement implements Widget {
     public final Element setMouseOver(final boolean over, final MousePosition position) {
         if (over != this.mouseOver) {
             this.mouseOver = over;
-            for (OnMouseOverListener listener : this.onMouseOverListenerList) {
-                listener.notify(over, position);
+            for (int i = 0; i < this.onMouseOverListenerList.size(); i++) {
+                this.onMouseOverListenerList.get(i).notify(over, position);
             }
         }
         return this;
@@ -604,12 +660,12 @@ public abstract class BaseWidget extends BaseElement implements Widget {
 
     @Override
     public final int getAbsoluteLeft() {
-        return this.getLeft() + (this.parent == null ? 0 : this.parent.getAbsoluteLeft());
+        return this.absoluteLeft;
     }
 
     @Override
     public final int getAbsoluteTop() {
-        return this.getTop() + (this.parent == null ? 0 : this.parent.getAbsoluteTop());
+        return this.absoluteTop;
     }
 
     public boolean isContainer() {
@@ -646,7 +702,7 @@ public abstract class BaseWidget extends BaseElement implements Widget {
          * Does nothing.
          */
         @Override
-        public void delete() {
+        protected void deleteImpl() {
             //does nothing.
         }
 
@@ -0,0 +1,115 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deferred layout pass for the GUI elements, one instance is owned by the graphic engine and shared by the elements it
+ * is given to.
+ * When enabled, position and size changes are immediately stored in the elements, so all computations relying on them
+ * remain valid, but the implementation is only updated once per element, when the layout pass is run at the end of
+ * the frame, whatever the number of changes done during the frame.
+ * Disabled by default, the implementation is then updated on every change.
+ * Like the elements, it is not thread safe and must only be used from the rendering thread.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class DeferredLayout {
+
+    /**
+     * Elements waiting for their implementation to be updated, in the order they were first changed.
+     * Deleted elements are replaced by null.
+     */
+    private final List<BaseElement> dirty = new ArrayList<>();
+
+    /**
+     * <code>true</code> if the implementation updates are deferred.
+     */
+    private boolean enabled;
+
+    public DeferredLayout() {
+        super();
+    }
+
+    /**
+     * Enable or disable the deferred layout, when disabled, the pending updates are immediately applied.
+     *
+     * @param enable <code>true</code> to defer the implementation updates to the layout pass.
+     */
+    public void setEnabled(final boolean enable) {
+        this.enabled = enable;
+        if (!enable) {
+            this.run();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the implementation updates are deferred.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Run the layout pass, every changed element is updated once in the implementation.
+     * Elements changed during the pass, by their implementation, are updated in the same pass.
+     *
+     * @return The number of updated elements.
+     */
+    public int run() {
+        int updated = 0;
+        for (int i = 0; i < this.dirty.size(); i++) {
+            final BaseElement element = this.dirty.get(i);
+            if (element != null) {
+                element.applyLayout();
+                updated++;
+            }
+        }
+        this.dirty.clear();
+        return updated;
+    }
+
+    /**
+     * Register an element to be updated in the next layout pass.
+     *
+     * @param element Element to update.
+     * @return The element slot in the pass, to be given to unregister.
+     */
+    int register(final BaseElement element) {
+        this.dirty.add(element);
+        return this.dirty.size() - 1;
+    }
+
+    /**
+     * Remove an element from the next layout pass, its implementation will not be updated.
+     *
+     * @param slot Slot returned when the element was registered.
+     */
+    void unregister(final int slot) {
+        this.dirty.set(slot, null);
+    }
+}
@@ -30,22 +30,35 @@ import be.yildizgames.module.graphic.gui.GuiEventManager;
 import be.yildizgames.module.graphic.gui.View;
 import be.yildizgames.module.graphic.gui.Widget;
 import be.yildizgames.module.graphic.gui.container.Container;
+import be.yildizgames.module.graphic.profiling.FrameProfiler;
+import be.yildizgames.module.graphic.profiling.FrameSection;
 import be.yildizgames.module.window.input.Key;
 import be.yildizgames.module.window.input.MousePosition;
 
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 
 /**
+ * Dispatch the input events to the widget under the mouse or to the focused one.
+ * The views are kept in an array sorted by Z order, rebuilt only when a view is added or removed, and the debug
+ * messages are only built when a debug listener is set, so the mouse and keyboard events do not allocate.
+ *
  * @author Grégory Van den Borre
  */
 public class EventBubblingDispatcher implements GuiEventManager {
 
     private static final System.Logger LOGGER = System.getLogger(EventBubblingDispatcher.class.getName());
 
+    private static final View[] NO_VIEW = new View[0];
+
     private final Set<View> views = new TreeSet<>();
 
+    /**
+     * Views sorted by Z order, copy of the views set to iterate without allocation.
+     */
+    private View[] sortedViews = NO_VIEW;
+
     private BaseWidget currentWidgetFocus = BaseWidget.DUMMY;
 
     private BaseWidget widgetUnderMouse = BaseWidget.DUMMY;
@@ -54,95 +67,164 @@ public class EventBubblingDispatcher implements GuiEventManager {
 
     private BaseWidget defaultWidget = BaseWidget.DUMMY;
 
+    /**
+     * Profiler measuring the dispatch time.
+     */
+    private final FrameProfiler profiler;
+
+    public EventBubblingDispatcher() {
+        this(new FrameProfiler());
+    }
+
+    /**
+     * Create a dispatcher measuring its time in a profiler.
+     *
+     * @param profiler Profiler to accumulate the GUI dispatch time.
+     */
+    public EventBubblingDispatcher(final FrameProfiler profiler) {
+        super();
+        this.profiler = Objects.requireNonNull(profiler);
+    }
+
     public void setDebugListener(DebugListener l) {
-        this.debugListener = l;
+        this.debugListener = l == null ? DebugListener.EMPTY : l;
+    }
+
+    /**
+     * @return <code>true</code> if a debug listener is set and messages must be built.
+     */
+    private boolean isDebugEnabled() {
+        return this.debugListener != DebugListener.EMPTY;
     }
 
     @Override
     public void keyboardKeyPressed(final char character) {
-        this.debugListener.displayDebugMessage("Key " + character + " pressed for: " + this.currentWidgetFocus);
+        final long start = this.profiler.start();
+        if (this.isDebugEnabled()) {
+            this.debugListener.displayDebugMessage("Key " + character + " pressed for: " + this.currentWidgetFocus);
+        }
         this.currentWidgetFocus.keyPressed(character);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void specialKeyPressed(Key key) {
-        this.debugListener.displayDebugMessage("Key " + key + " pressed for: " + this.currentWidgetFocus);
+        final long start = this.profiler.start();
+        if (this.isDebugEnabled()) {
+            this.debugListener.displayDebugMessage("Key " + key + " pressed for: " + this.currentWidgetFocus);
+        }
         this.currentWidgetFocus.specialKeyPressed(key);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
 
     @Override
     public void keyboardKeyReleased(char keyCode) {
+        final long start = this.profiler.start();
         this.currentWidgetFocus.keyReleased(keyCode);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void specialKeyReleased(Key key) {
+        final long start = this.profiler.start();
         this.currentWidgetFocus.specialKeyReleased(key);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseLeftReleased(MousePosition position) {
+        final long start = this.profiler.start();
         this.widgetUnderMouse.mouseLeftReleased(position);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseRightReleased(MousePosition position) {
+        final long start = this.profiler.start();
         this.widgetUnderMouse.mouseRightReleased(position);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseLeftClick(MousePosition position) {
-        this.debugListener.displayDebugMessage("Left click on: " + this.widgetUnderMouse);
+        final long start = this.profiler.start();
+        if (this.isDebugEnabled()) {
+            this.debugListener.displayDebugMessage("Left click on: " + this.widgetUnderMouse);
+        }
         this.currentWidgetFocus.highlightImpl(false);
         this.currentWidgetFocus = widgetUnderMouse;
         this.widgetUnderMouse.mouseLeftClick(position);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseRightClick(MousePosition position) {
-        this.debugListener.displayDebugMessage("Right click on: " + this.widgetUnderMouse);
+        final long start = this.profiler.start();
+        if (this.isDebugEnabled()) {
+            this.debugListener.displayDebugMessage("Right click on: " + this.widgetUnderMouse);
+        }
         this.widgetUnderMouse.mouseRightClick(position);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseDoubleClick(MousePosition position) {
+        final long start = this.profiler.start();
         this.widgetUnderMouse.mouseDoubleClick(position);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseDragRight(MousePosition position, MousePosition delta) {
+        final long start = this.profiler.start();
         this.widgetUnderMouse.mouseDragRight(position, delta);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseDragLeft(MousePosition position, MousePosition delta) {
+        final long start = this.profiler.start();
         this.widgetUnderMouse.mouseDragLeft(position, delta);
-
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseDragWheel(MousePosition position, MousePosition delta) {
+        final long start = this.profiler.start();
         this.widgetUnderMouse.mouseDragWheel(position, delta);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
     public void mouseMove(MousePosition position) {
-        for (View v : this.views) {
+        final long start = this.profiler.start();
+        this.dispatchMouseMove(position);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
+    }
+
+    private void dispatchMouseMove(MousePosition position) {
+        final View[] sorted = this.sortedViews;
+        final int x = position.getX();
+        final int y = position.getY();
+        for (int i = 0; i < sorted.length; i++) {
+            View v = sorted[i];
             if (v.isVisible() && v.isActive()) {
                 Container viewContainer = v.getContainer();
-                Optional<Widget> foundWidget = viewContainer.getWidgetAt(position);
-                if (foundWidget.isPresent() && foundWidget.get() != this.widgetUnderMouse) {
+                Widget foundWidget = viewContainer.getWidgetAt(x, y, BaseWidget.DUMMY);
+                if (foundWidget != BaseWidget.DUMMY && foundWidget != this.widgetUnderMouse) {
                     this.widgetUnderMouse.highlight(false);
                     this.widgetUnderMouse.setMouseOver(false, position);
 
-                    this.widgetUnderMouse = (BaseWidget) foundWidget.get();
+                    this.widgetUnderMouse = (BaseWidget) foundWidget;
                     this.widgetUnderMouse.highlight(true);
-                    this.debugListener.displayDebugMessage(this.widgetUnderMouse);
+                    if (this.isDebugEnabled()) {
+                        this.debugListener.displayDebugMessage(this.widgetUnderMouse);
+                    }
                     this.widgetUnderMouse.mouseMove(position);
                     this.widgetUnderMouse.setMouseOver(true, position);
                     return;
-                } else if (foundWidget.isPresent()) {
+                } else if (foundWidget != BaseWidget.DUMMY) {
                     this.widgetUnderMouse.mouseMove(position);
                     return;
                 }
@@ -156,7 +238,9 @@ public class EventBubblingDispatcher implements GuiEventManager {
 
     @Override
     public void mouseWheel(MousePosition cursorPosition, int count) {
+        final long start = this.profiler.start();
         this.widgetUnderMouse.mouseWheel(cursorPosition, count);
+        this.profiler.accumulate(FrameSection.GUI_DISPATCH, start);
     }
 
     @Override
@@ -165,6 +249,7 @@ public class EventBubblingDispatcher implements GuiEventManager {
             LOGGER.log(System.Logger.Level.ERROR, "{0} was not added successfully.", view);
             LOGGER.log(System.Logger.Level.ERROR, "Views already registered: {0}", views.toArray());
         }
+        this.sortedViews = this.views.toArray(NO_VIEW);
     }
 
     @Override
@@ -174,12 +259,16 @@ public class EventBubblingDispatcher implements GuiEventManager {
 
     @Override
     public void removeView(View view) {
-        this.views.remove(view);
+        if (this.views.remove(view)) {
+            this.sortedViews = this.views.toArray(NO_VIEW);
+        }
     }
 
     @Override
     public void setFocus(View view) {
-        this.debugListener.displayDebugMessage("New focus:" + view.getContainer().getName());
+        if (this.isDebugEnabled()) {
+            this.debugListener.displayDebugMessage("New focus:" + view.getContainer().getName());
+        }
         this.currentWidgetFocus = (BaseWidget) view.getContainer();
     }
 
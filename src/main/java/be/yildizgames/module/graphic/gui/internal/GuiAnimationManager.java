@@ -27,23 +27,113 @@ package be.yildizgames.module.graphic.gui.internal;
 
 import be.yildizgames.common.frame.EndFrameListener;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
+ * Update the running GUI animations every frame.
+ * Only running animations are updated, completed and stopped ones are removed from the update list, and animations
+ * waiting for a delay are kept in a timer wheel until it elapses, so registered animations cost nothing until played.
+ *
  * @author Grégory Van den Borre
  */
 public class GuiAnimationManager extends EndFrameListener {
 
-    private final List<BaseAnimationGui> animations = new ArrayList<>();
+    /**
+     * Running animations, updated every frame.
+     */
+    private final AnimationList active = new AnimationList();
+
+    /**
+     * Animations waiting for a delayed start or a suspension to end.
+     */
+    private final AnimationTimerWheel wheel = new AnimationTimerWheel(this);
+
+    /**
+     * Next animation to update in the current frame, kept to support removal during the update.
+     */
+    private BaseAnimationGui cursor;
+
+    /**
+     * Number of running animations.
+     */
+    private int activeCount;
 
     @Override
     public boolean frameEnded(final long time) {
-        animations.forEach(a -> a.update(time));
+        this.wheel.advance(time);
+        BaseAnimationGui animation = this.active.first();
+        while (animation != null) {
+            this.cursor = animation.next;
+            animation.update(time);
+            animation = this.cursor;
+        }
+        this.cursor = null;
         return true;
     }
 
     public final void addAnimation(final BaseAnimationGui animation) {
-        this.animations.add(animation);
+        animation.setManager(this);
+    }
+
+    /**
+     * @return The number of animations currently updated every frame.
+     */
+    public final int getActiveCount() {
+        return this.activeCount;
+    }
+
+    /**
+     * @return The number of animations waiting for a delay to elapse.
+     */
+    public final int getScheduledCount() {
+        return this.wheel.size();
+    }
+
+    /**
+     * Add an animation to the ones updated every frame.
+     *
+     * @param animation Animation to update.
+     */
+    final void activate(final BaseAnimationGui animation) {
+        if (animation.list != this.active) {
+            this.unlink(animation);
+            this.active.add(animation);
+            this.activeCount++;
+        }
+    }
+
+    /**
+     * Stop updating an animation until a delay has elapsed.
+     *
+     * @param animation Animation to suspend.
+     * @param delay     Delay in milliseconds.
+     */
+    final void schedule(final BaseAnimationGui animation, final long delay) {
+        this.unlink(animation);
+        this.wheel.schedule(animation, delay);
+    }
+
+    /**
+     * Stop updating an animation.
+     *
+     * @param animation Animation to remove.
+     */
+    final void unlink(final BaseAnimationGui animation) {
+        if (animation == this.cursor) {
+            this.cursor = animation.next;
+        }
+        if (animation.list == this.active) {
+            this.active.remove(animation);
+            this.activeCount--;
+        } else if (animation.list != null) {
+            this.wheel.cancel(animation);
+        }
+    }
+
+    /**
+     * Called by the wheel when an animation delay has elapsed.
+     *
+     * @param animation Animation to resume.
+     */
+    final void expired(final BaseAnimationGui animation) {
+        animation.resume();
     }
 }
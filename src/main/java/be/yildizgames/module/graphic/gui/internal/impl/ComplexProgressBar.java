@@ -93,7 +93,7 @@ final class ComplexProgressBar extends BaseProgressBar {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.leftIcon.delete();
         this.rightIcon.delete();
         this.middleIcon.delete();
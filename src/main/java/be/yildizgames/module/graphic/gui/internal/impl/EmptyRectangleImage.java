@@ -71,7 +71,7 @@ final class EmptyRectangleImage extends BaseContainerChild implements Image {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.left.delete();
         this.top.delete();
         this.right.delete();
@@ -59,7 +59,7 @@ final class RectangleProgressBar extends BaseProgressBar {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.border.delete();
         this.content.delete();
     }
@@ -162,7 +162,7 @@ final class SimpleButton extends BaseContainerChild implements Button {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.caption.delete();
         this.buttonContainer.delete();
     }
@@ -126,7 +126,7 @@ final class SimpleButtonList extends BaseContainerChild implements ButtonList, O
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.button.delete();
         this.elements.forEach(SimpleButton::delete);
         this.registeredElement.forEach(SimpleButton::delete);
@@ -139,7 +139,7 @@ final class SimpleCheckBox extends BaseContainerChild implements CheckBox {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.background.delete();
         this.check.delete();
         this.caption.delete();
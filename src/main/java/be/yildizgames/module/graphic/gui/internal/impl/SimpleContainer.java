@@ -54,10 +54,19 @@ public abstract class SimpleContainer extends BaseWidget implements Container {
     private final List<ContainerChild> childrenList = new ArrayList<>();
 
     private final List<ContainerChild> dynamicChildrenList = new ArrayList<>();
+
+    /**
+     * Spatial index of the dynamic children, to find the widget under a position without checking all of them.
+     */
+    private final WidgetGrid dynamicChildrenIndex = new WidgetGrid();
     /**
      * List of all child containers.
      */
     private final List<SimpleContainer> childrenContainerList = new ArrayList<>();
+    /**
+     * List of the child containers considered as widgets.
+     */
+    private final List<SimpleContainer> childrenWidgetContainerList = new ArrayList<>();
     /**
      * Flag to check if it must be considered as a widget par(true) or a widget
      * container(false).
@@ -99,6 +108,8 @@ public abstract class SimpleContainer extends BaseWidget implements Container {
         if (!widget) {
             parent.childrenContainerList.add(this);
             parent.emptyZones.forEach(this::addEmptyZone);
+        } else if (parent != null) {
+            parent.childrenWidgetContainerList.add(this);
         }
     }
 
@@ -204,6 +215,22 @@ public abstract class SimpleContainer extends BaseWidget implements Container {
         }
     }
 
+    @Override
+    protected final void absolutePositionUpdated() {
+        for (int i = 0; i < this.childrenList.size(); i++) {
+            ContainerChild w = this.childrenList.get(i);
+            if (w instanceof BaseWidget) {
+                ((BaseWidget) w).updateAbsolutePosition();
+            }
+        }
+        for (int i = 0; i < this.childrenContainerList.size(); i++) {
+            this.childrenContainerList.get(i).updateAbsolutePosition();
+        }
+        for (int i = 0; i < this.childrenWidgetContainerList.size(); i++) {
+            this.childrenWidgetContainerList.get(i).updateAbsolutePosition();
+        }
+    }
+
     @Override
     protected final void addEmptyZoneImpl(final Rectangle zone) {
         for (SimpleContainer c : this.childrenContainerList) {
@@ -221,6 +248,7 @@ public abstract class SimpleContainer extends BaseWidget implements Container {
 
     public final void ignore(final ContainerChild widget) {
         this.dynamicChildrenList.remove(widget);
+        this.dynamicChildrenIndex.remove(widget);
     }
 
     /**
@@ -231,6 +259,7 @@ public abstract class SimpleContainer extends BaseWidget implements Container {
     public final void remove(final BaseContainerChild element) {
         this.childrenList.remove(element);
         this.dynamicChildrenList.remove(element);
+        this.dynamicChildrenIndex.remove(element);
         element.delete();
     }
 
@@ -422,21 +451,22 @@ public abstract class SimpleContainer extends BaseWidget implements Container {
 
     @Override
     public final Optional<Widget> getWidgetAt(int x, int y) {
-        for (SimpleContainer c : this.childrenContainerList) {
+        return Optional.ofNullable(this.getWidgetAt(x, y, null));
+    }
+
+    @Override
+    public final Widget getWidgetAt(int x, int y, Widget notFound) {
+        for (int i = 0; i < this.childrenContainerList.size(); i++) {
+            SimpleContainer c = this.childrenContainerList.get(i);
             if (c.isVisible()) {
-                Optional<Widget> result = c.getWidgetAt(x, y);
-                if (result.isPresent()) {
+                Widget result = c.getWidgetAt(x, y, null);
+                if (result != null) {
                     return result;
                 }
             }
         }
-
-        for (Widget w : this.dynamicChildrenList) {
-            if (w.isVisible() && w.contains(x, y)) {
-                return Optional.of(w);
-            }
-        }
-        return Optional.empty();
+        Widget result = this.dynamicChildrenIndex.find(x - this.getAbsoluteLeft(), y - this.getAbsoluteTop(), x, y);
+        return result == null ? notFound : result;
     }
 
     public final Material getMaterial() {
@@ -451,9 +481,15 @@ public abstract class SimpleContainer extends BaseWidget implements Container {
     @Override
     public final void addWidget(ContainerChild child) {
         this.dynamicChildrenList.add(child);
+        this.dynamicChildrenIndex.add(child);
         this.childrenList.add(child);
     }
 
+    @Override
+    public final void updateChildBounds(Widget child) {
+        this.dynamicChildrenIndex.update(child);
+    }
+
     @Override
     public final void remove(ContainerChild child) {
         this.childrenList.remove(child);
@@ -87,7 +87,7 @@ final class SimpleImage extends BaseContainerChild implements Image {
      * Free all resources for this widget.
      */
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.image.delete();
     }
 
@@ -261,7 +261,7 @@ final class SimpleInputBox extends BaseContainerChild implements InputBox {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         // FIXME leak, container not deleted, see guibuilder
         this.background.delete();
         this.captionText.delete();
@@ -66,7 +66,7 @@ final class SimpleProgressBar extends BaseProgressBar {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         this.emptyIcon.delete();
         this.filledIcon.delete();
     }
@@ -37,9 +37,6 @@ import be.yildizgames.module.graphic.gui.internal.Element;
 import be.yildizgames.module.graphic.gui.textarea.TextArea;
 import be.yildizgames.module.graphic.material.Material;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Multi line text widget.
  *
@@ -63,9 +60,9 @@ final class SimpleTextArea extends BaseContainerChild implements TextArea {
     private final AbstractTextElement text;
 
     /**
-     * Content of the text, one entry for a line.
+     * Wrapped lines and visible text.
      */
-    private final List<String> lines = new ArrayList<>();
+    private final TextAreaLayout layout = new TextAreaLayout(TextAreaLayout.DEFAULT_HISTORY);
 
     /**
      * Text padding value.
@@ -107,55 +104,33 @@ final class SimpleTextArea extends BaseContainerChild implements TextArea {
     @Override
     public void addLine(final String line) {
         // FIXME add the case when a word is > line size.
-        if (line.contains(EOL)) {
-            String[] linesRetrieved = line.split(EOL);
-            for (String lineSplit : linesRetrieved) {
-                this.addLine(lineSplit);
-            }
-        } else {
-            if (line.length() > 1) {
-                int startLine;
-                final float length = this.text.getFont().computeTextWidth(line);
-                if (length <= this.text.getLastLineWidth()) {
-                    this.lines.add(line);
-                } else {
-                    final float space = this.text.getFont().getCharSize(' ');
-                    final String[] words = line.split(" ");
-                    final float lineMaxSize = this.getWidth();
-                    int currentLineSize = this.padding * 2;
-                    StringBuilder formattedLine = new StringBuilder();
-                    for (final String word : words) {
-                        if (!word.isEmpty()) {
-                            final float wordWidth = this.text.getFont().computeTextWidth(word);
-                            if (!(currentLineSize + wordWidth < lineMaxSize + space)) {
-                                currentLineSize = this.padding * 2;
-                                this.lines.add(formattedLine.toString());
-                                formattedLine.setLength(0);
-                            }
-                            formattedLine.append(word);
-                            formattedLine.append(' ');
-                            currentLineSize += wordWidth + space;
-                        }
-                    }
-                    // add the last line
-                    this.lines.add(formattedLine.toString().replace(" ,", ","));
-
-                }
-
-                int size = Math.round((float) this.getHeight() / (float) this.text.getFontHeight());
-                if (this.lines.size() > size) {
-                    startLine = this.lines.size() - size;
-                } else {
-                    startLine = 0;
-                }
-                final StringBuilder formattedText = new StringBuilder();
-                for (int i = startLine; i < this.lines.size(); i++) {
-                    formattedText.append(this.lines.get(i));
-                    formattedText.append('\n');
-                }
-                this.text.setText(formattedText.toString());
-            }
+        this.layout.setFont(this.text.getFont());
+        boolean updated = this.layout.setVisibleLines(Math.round((float) this.getHeight() / (float) this.text.getFontHeight()));
+        int start = 0;
+        int end = line.indexOf(EOL);
+        while (end >= 0) {
+            updated |= this.addSingleLine(line.substring(start, end));
+            start = end + EOL.length();
+            end = line.indexOf(EOL, start);
+        }
+        updated |= this.addSingleLine(start == 0 ? line : line.substring(start));
+        if (updated) {
+            this.text.setText(this.layout.getVisibleText());
+        }
+    }
+
+    /**
+     * Wrap a line without end of line and add it to the layout, lines with less than 2 characters are ignored.
+     *
+     * @param line Line to add.
+     * @return <code>true</code> if the line was added.
+     */
+    private boolean addSingleLine(final String line) {
+        if (line.length() > 1) {
+            this.layout.append(line, this.getWidth(), this.padding);
+            return true;
         }
+        return false;
     }
 
     @Override
@@ -166,15 +141,15 @@ final class SimpleTextArea extends BaseContainerChild implements TextArea {
     @Override
     public void deleteText() {
         this.text.setText("");
-        this.lines.clear();
+        this.layout.clear();
     }
 
     /**
      * Delete the widget elements and remove it from the Registerer.
      */
     @Override
-    public void delete() {
-        this.lines.clear();
+    protected void deleteImpl() {
+        this.layout.clear();
         this.text.delete();
         this.background.delete();
     }
@@ -233,7 +208,7 @@ final class SimpleTextArea extends BaseContainerChild implements TextArea {
     @Override
     public void replaceText(final String text) {
         this.text.setText("");
-        this.lines.clear();
+        this.layout.clear();
         this.addLine(text);
     }
 
@@ -101,7 +101,7 @@ class SimpleTextLine extends BaseContainerChild implements TextLine {
     }
 
     @Override
-    public final void delete() {
+    protected void deleteImpl() {
         this.text.delete();
     }
 
@@ -46,6 +46,7 @@ import be.yildizgames.module.graphic.gui.image.Image;
 import be.yildizgames.module.graphic.gui.image.ImageBuilder;
 import be.yildizgames.module.graphic.gui.inputbox.InputBox;
 import be.yildizgames.module.graphic.gui.inputbox.InputBoxTemplate;
+import be.yildizgames.module.graphic.gui.internal.DeferredLayout;
 import be.yildizgames.module.graphic.gui.internal.GuiAnimationManager;
 import be.yildizgames.module.graphic.gui.progressbar.ProgressBar;
 import be.yildizgames.module.graphic.gui.progressbar.ProgressBarTimer;
@@ -114,8 +115,24 @@ public abstract class StandardGuiFactory implements GuiFactory {
 
     private final GuiAnimationManager animationManager = new GuiAnimationManager();
 
+    /**
+     * Layout pass given to the built elements, null to update their implementation on every change.
+     */
+    private final DeferredLayout layout;
+
     protected StandardGuiFactory(ScreenSize screenSize) {
+        this(screenSize, null);
+    }
+
+    /**
+     * Create a factory giving a deferred layout pass to the elements it builds.
+     *
+     * @param screenSize Screen size.
+     * @param layout     Layout pass to give to the built elements, usually the one of the graphic engine.
+     */
+    protected StandardGuiFactory(ScreenSize screenSize, DeferredLayout layout) {
         this.screenSize = screenSize;
+        this.layout = layout;
     }
 
     @Override
@@ -184,7 +201,7 @@ public abstract class StandardGuiFactory implements GuiFactory {
      */
     public final SimpleButton buildButton(final String name, final Coordinates coordinates, final ButtonMaterial material, final SimpleContainer container) {
         final SimpleContainer c = this.buildOverlayContainer(name, Material.empty(), coordinates, container, true);
-        final AbstractTextElement text = this.buildTextElement(coordinates, material.font, c);
+        final AbstractTextElement text = this.textElement(coordinates, material.font, c);
 
         final SimpleButton button = new SimpleButton(name, text, c, material, container);
         this.buttonList.register(button);
@@ -232,7 +249,7 @@ public abstract class StandardGuiFactory implements GuiFactory {
      * @return The new image widget.
      */
     public final Image buildImage(final String name, final Coordinates coordinates, final Material background, final Container container) {
-        final AbstractIconElement icon = this.buildIconElement(name, coordinates, background, container);
+        final AbstractIconElement icon = this.iconElement(name, coordinates, background, container);
         final SimpleImage image = new SimpleImage(name, coordinates, icon, container);
         image.setStatic();
         this.imageList.register(image);
@@ -250,11 +267,11 @@ public abstract class StandardGuiFactory implements GuiFactory {
      * @return The new image widget.
      */
     public final EmptyRectangleImage buildEmptyRectangleImage(final String name, final Coordinates coordinates, final Material background, final int border, final SimpleContainer container) {
-        final AbstractIconElement left = this.buildIconElement(name + "_left", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft(), coordinates.getTop()), background, container);
-        final AbstractIconElement top = this.buildIconElement(name + "_top", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop()), background, container);
-        final AbstractIconElement right = this.buildIconElement(name + "_right", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft() + coordinates.getWidth(), coordinates.getTop()), background,
+        final AbstractIconElement left = this.iconElement(name + "_left", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft(), coordinates.getTop()), background, container);
+        final AbstractIconElement top = this.iconElement(name + "_top", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop()), background, container);
+        final AbstractIconElement right = this.iconElement(name + "_right", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft() + coordinates.getWidth(), coordinates.getTop()), background,
                 container);
-        final AbstractIconElement bottom = this.buildIconElement(name + "_bottom", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop() + coordinates.getHeight()), background,
+        final AbstractIconElement bottom = this.iconElement(name + "_bottom", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop() + coordinates.getHeight()), background,
                 container);
         final EmptyRectangleImage image = new EmptyRectangleImage(name, coordinates, left, top, right, bottom, container);
         this.imageList.register(image);
@@ -263,11 +280,11 @@ public abstract class StandardGuiFactory implements GuiFactory {
     }
 
     public final EmptyRectangleImage buildEmptyUnderlineImage(final String name, final Coordinates coordinates, final Material background, final int border, final SimpleContainer container) {
-        final AbstractIconElement left = this.buildIconElement(name + "_left", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft(), coordinates.getTop()), Material.empty(), container);
-        final AbstractIconElement top = this.buildIconElement(name + "_top", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop()), Material.empty(), container);
-        final AbstractIconElement right = this.buildIconElement(name + "_right", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft() + coordinates.getWidth(), coordinates.getTop()), Material.empty(),
+        final AbstractIconElement left = this.iconElement(name + "_left", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft(), coordinates.getTop()), Material.empty(), container);
+        final AbstractIconElement top = this.iconElement(name + "_top", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop()), Material.empty(), container);
+        final AbstractIconElement right = this.iconElement(name + "_right", FullCoordinates.full(border, coordinates.getHeight(), coordinates.getLeft() + coordinates.getWidth(), coordinates.getTop()), Material.empty(),
                 container);
-        final AbstractIconElement bottom = this.buildIconElement(name + "_bottom", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop() + coordinates.getHeight()), background,
+        final AbstractIconElement bottom = this.iconElement(name + "_bottom", FullCoordinates.full(coordinates.getWidth(), border, coordinates.getLeft(), coordinates.getTop() + coordinates.getHeight()), background,
                 container);
         final EmptyRectangleImage image = new EmptyRectangleImage(name, coordinates, left, top, right, bottom, container);
         this.imageList.register(image);
@@ -315,7 +332,7 @@ public abstract class StandardGuiFactory implements GuiFactory {
      * @return The new text line.
      */
     public final SimpleTextLine buildTextLine(final String name, final Coordinates coordinates, final Font font, final SimpleContainer container) {
-        final AbstractTextElement text = this.buildTextElement(coordinates, font, container);
+        final AbstractTextElement text = this.textElement(coordinates, font, container);
         final SimpleTextLine textLine = new SimpleTextLine(name, text, container);
         textLine.setStatic();
         this.textLineList.register(textLine);
@@ -354,8 +371,8 @@ public abstract class StandardGuiFactory implements GuiFactory {
      * @return The new text area widget.
      */
     public final TextArea buildTextArea(final String name, final Coordinates coordinates, final Font font, final Material background, final int textPadding, final SimpleContainer container) {
-        final AbstractIconElement image = this.buildIconElement(name, coordinates, background, container);
-        final AbstractTextElement text = this.buildTextElement(coordinates, font, container);
+        final AbstractIconElement image = this.iconElement(name, coordinates, background, container);
+        final AbstractTextElement text = this.textElement(coordinates, font, container);
         final SimpleTextArea textArea = new SimpleTextArea(name, coordinates, image, text, textPadding, container);
         this.textAreaList.register(textArea);
         textArea.setStatic();
@@ -390,16 +407,16 @@ public abstract class StandardGuiFactory implements GuiFactory {
                                                   final Material emptyMiddleMat, final Material emptyRightMat, final int borderWidth, final SimpleContainer container) {
         final Coordinates border = FullCoordinates.full(borderWidth, coordinates.getHeight(), coordinates.getLeft(), coordinates.getTop());
         final Coordinates middleC = FullCoordinates.full(0, coordinates.getHeight(), coordinates.getLeft() + border.getWidth(), coordinates.getTop());
-        final AbstractIconElement left = this.buildIconElement(name + "lf", border, leftMat, container);
+        final AbstractIconElement left = this.iconElement(name + "lf", border, leftMat, container);
         // build empty first to be under color version
-        final AbstractIconElement middleEmpty = this.buildIconElement(name + "mdempty", FullCoordinates.full(coordinates.getWidth() - 2 * borderWidth, coordinates.getHeight(), middleC.getLeft(), coordinates.getTop()),
+        final AbstractIconElement middleEmpty = this.iconElement(name + "mdempty", FullCoordinates.full(coordinates.getWidth() - 2 * borderWidth, coordinates.getHeight(), middleC.getLeft(), coordinates.getTop()),
                 emptyMiddleMat, container);
-        final AbstractIconElement rightEmpty = this.buildIconElement(name + "rtempty",
+        final AbstractIconElement rightEmpty = this.iconElement(name + "rtempty",
                 FullCoordinates.full(borderWidth, coordinates.getHeight(), coordinates.getLeft() + coordinates.getWidth() - borderWidth, coordinates.getTop()), emptyRightMat, container);
 
         final Container child = this.buildContainerElement(container.getName() + name + "_child", container.getCoordinates(), Material.empty(), container, false);
-        final AbstractIconElement middle = this.buildIconElement(name + "mdfilled", middleC, middleMat, child);
-        final AbstractIconElement right = this.buildIconElement(name + "rtfilled", border, rightMat, child);
+        final AbstractIconElement middle = this.iconElement(name + "mdfilled", middleC, middleMat, child);
+        final AbstractIconElement right = this.iconElement(name + "rtfilled", border, rightMat, child);
         final ProgressBar progressBar = new ComplexProgressBar(name, coordinates, left, middle, right, middleEmpty, rightEmpty, container);
         this.progressBarList.register(progressBar);
         return progressBar;
@@ -443,8 +460,8 @@ public abstract class StandardGuiFactory implements GuiFactory {
      * @return The new progress bar widget.
      */
     public final ProgressBar buildProgressBar(final String name, final Coordinates coordinates, final Material empty, final Material filled, final SimpleContainer container) {
-        final AbstractIconElement emptyIcon = this.buildIconElement(name + "empty", coordinates, empty, container);
-        final AbstractIconElement filledIcon = this.buildIconElement(name + "filled", coordinates, filled, container);
+        final AbstractIconElement emptyIcon = this.iconElement(name + "empty", coordinates, empty, container);
+        final AbstractIconElement filledIcon = this.iconElement(name + "filled", coordinates, filled, container);
         final ProgressBar progressBar = new SimpleProgressBar(name, coordinates, emptyIcon, filledIcon, container);
         this.progressBarList.register(progressBar);
         return progressBar;
@@ -461,8 +478,8 @@ public abstract class StandardGuiFactory implements GuiFactory {
      */
     public final ProgressBar buildProgressBar(final Coordinates coordinates, final Material empty, final Material filled, final SimpleContainer container) {
         final String name = StringUtil.buildRandomString("progressbar");
-        final AbstractIconElement emptyIcon = this.buildIconElement(name + "empty", coordinates, empty, container);
-        final AbstractIconElement filledIcon = this.buildIconElement(name + "filled", coordinates, filled, container);
+        final AbstractIconElement emptyIcon = this.iconElement(name + "empty", coordinates, empty, container);
+        final AbstractIconElement filledIcon = this.iconElement(name + "filled", coordinates, filled, container);
         final ProgressBar progressBar = new SimpleProgressBar(name, coordinates, emptyIcon, filledIcon, container);
         this.progressBarList.register(progressBar);
         return progressBar;
@@ -470,9 +487,9 @@ public abstract class StandardGuiFactory implements GuiFactory {
 
     public final ProgressBarTimer buildProgressBar(final Coordinates coordinates, final Material empty, final Material filled, Font font, Duration duration, TimeFormatter formatter, final SimpleContainer container) {
         final String name = StringUtil.buildRandomString("progressbar");
-        final AbstractIconElement emptyIcon = this.buildIconElement(name + "empty", coordinates, empty, container);
-        final AbstractIconElement filledIcon = this.buildIconElement(name + "filled", coordinates, filled, container);
-        final AbstractTextElement text = this.buildTextElement(coordinates, font, container);
+        final AbstractIconElement emptyIcon = this.iconElement(name + "empty", coordinates, empty, container);
+        final AbstractIconElement filledIcon = this.iconElement(name + "filled", coordinates, filled, container);
+        final AbstractTextElement text = this.textElement(coordinates, font, container);
         final ProgressBar progressBar = new SimpleProgressBar(name, coordinates, emptyIcon, filledIcon, container);
         final TimeTextLine timeTextLine = new SimpleTimeTextLine(name + "_txt", text, container, formatter);
         final SimpleProgressBarTimer timer = new SimpleProgressBarTimer(progressBar, timeTextLine, duration);
@@ -552,10 +569,10 @@ public abstract class StandardGuiFactory implements GuiFactory {
                 name + "_bi",
                 FullCoordinates.full(coordinates.getWidth(), coordinates.getHeight(), 0, 0),
                 background, 1, c);
-        final AbstractTextElement text = this.buildTextElement(coordinates, captionFont, c);
-        final AbstractTextElement caption = this.buildTextElement(coordinates, captionFont, c);
-        final AbstractIconElement cursor = this.buildIconElement(name + "_cursor", FullCoordinates.full(3, 20, 0, 0), cursorMaterial, c);
-        final AbstractTextElement defaultMessage = this.buildTextElement(coordinates, captionFont, c);
+        final AbstractTextElement text = this.textElement(coordinates, captionFont, c);
+        final AbstractTextElement caption = this.textElement(coordinates, captionFont, c);
+        final AbstractIconElement cursor = this.iconElement(name + "_cursor", FullCoordinates.full(3, 20, 0, 0), cursorMaterial, c);
+        final AbstractTextElement defaultMessage = this.textElement(coordinates, captionFont, c);
         ButtonMaterial materials = new ButtonMaterial(background, backgroundHlight, captionFont);
         final SimpleInputBox inputBox = new SimpleInputBox(name, coordinates, text, caption, c, i, materials, cursor, defaultMessage, parent);
         this.inputList.register(inputBox);
@@ -641,15 +658,15 @@ public abstract class StandardGuiFactory implements GuiFactory {
         assert check != null;
         assert font != null;
         assert container != null;
-        final AbstractIconElement icon = this.buildIconElement(name, coordinates, background, container);
-        final AbstractIconElement checkIcon = this.buildIconElement(name + "ck", coordinates, check, container);
+        final AbstractIconElement icon = this.iconElement(name, coordinates, background, container);
+        final AbstractIconElement checkIcon = this.iconElement(name + "ck", coordinates, check, container);
         //FIXME LOW hardcoded
         final int textHeight = 50;
         final int textWidth = 250;
         final int textXPosition = coordinates.getLeft() + coordinates.getWidth() + 10;
         final int textYPosition = coordinates.getTop() + coordinates.getHeight() >> 1 - (font.size >> 1);
         final Coordinates textCoord = FullCoordinates.full(textWidth, textHeight, textXPosition, textYPosition);
-        final AbstractTextElement text = this.buildTextElement(textCoord, font, container);
+        final AbstractTextElement text = this.textElement(textCoord, font, container);
 
         final SimpleCheckBox checkbox = new SimpleCheckBox(name, coordinates, icon, hover, checkIcon, checkHover, text, container);
         this.checkBoxList.register(checkbox);
@@ -686,7 +703,7 @@ public abstract class StandardGuiFactory implements GuiFactory {
      * @return The newly built container.
      */
     public final SimpleContainer buildOverlayContainer(final String name, final Material background, final Coordinates coordinates) {
-        final SimpleContainer container = this.buildContainerElement(name, coordinates, background);
+        final SimpleContainer container = this.containerElement(name, coordinates, background);
         this.containerList.register(container);
         return container;
     }
@@ -719,7 +736,7 @@ public abstract class StandardGuiFactory implements GuiFactory {
      * @return The newly built container.
      */
     public final SimpleContainer buildFullScreenOverlayContainer(final String name, final Material background) {
-        SimpleContainer c = this.buildContainerElement(name, FullCoordinates.full(this.screenSize.width, this.screenSize.height,0,0), background);
+        SimpleContainer c = this.containerElement(name, FullCoordinates.full(this.screenSize.width, this.screenSize.height,0,0), background);
         this.containerList.register(c);
         return c;
     }
@@ -766,7 +783,7 @@ public abstract class StandardGuiFactory implements GuiFactory {
 
         View[] children = new View[titles.length];
         for (int i = 0; i < children.length; i++) {
-            Container c = this.buildContainerElement("childc" + name + i, coordinates, Material.empty());
+            Container c = this.containerElement("childc" + name + i, coordinates, Material.empty());
             children[i] = new SimpleView(c, container.getZ().add(10), null);
         }
         Image bg = this.buildImage(name + "bg", FullCoordinates.full(coordinates.getWidth(), coordinates.getHeight() - tabHeight, coordinates.getLeft(), coordinates.getTop()), background, container);
@@ -794,6 +811,24 @@ public abstract class StandardGuiFactory implements GuiFactory {
         return this.containerList.get(name);
     }
 
+    private AbstractIconElement iconElement(final String name, final Coordinates coordinates, final Material material, final Container container) {
+        final AbstractIconElement element = this.buildIconElement(name, coordinates, material, container);
+        element.setDeferredLayout(this.layout);
+        return element;
+    }
+
+    private AbstractTextElement textElement(final Coordinates coordinates, final Font font, final Container container) {
+        final AbstractTextElement element = this.buildTextElement(coordinates, font, container);
+        element.setDeferredLayout(this.layout);
+        return element;
+    }
+
+    private SimpleContainer containerElement(final String name, final Coordinates coordinates, final Material background) {
+        final SimpleContainer container = this.buildContainerElement(name, coordinates, background);
+        container.setDeferredLayout(this.layout);
+        return container;
+    }
+
     /**
      * Build an image base element in implementation.
      *
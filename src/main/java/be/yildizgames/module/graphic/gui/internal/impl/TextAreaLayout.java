@@ -0,0 +1,235 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal.impl;
+
+import be.yildizgames.module.graphic.Font;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Incremental layout for a multi line text.
+ * The wrapped lines are kept in a ring buffer with a bounded history, and the visible text is kept in a buffer
+ * updated when a line is added, so adding a line only wraps the new text and shift the visible window.
+ * The words width are cached, the cache is cleared when the font is changed.
+ *
+ * @author Grégory Van den Borre
+ */
+final class TextAreaLayout {
+
+    /**
+     * Default number of wrapped lines kept in history.
+     */
+    static final int DEFAULT_HISTORY = 512;
+
+    /**
+     * Maximum number of cached word width.
+     */
+    private static final int WORD_CACHE_SIZE = 1024;
+
+    /**
+     * Wrapped lines, oldest is at head position.
+     */
+    private final String[] lines;
+
+    /**
+     * Text currently visible, every line is followed by an end of line.
+     */
+    private final StringBuilder visible = new StringBuilder();
+
+    /**
+     * Buffer used to build the wrapped lines.
+     */
+    private final StringBuilder lineBuilder = new StringBuilder();
+
+    /**
+     * Cached word width for the current font.
+     */
+    private final Map<String, Integer> wordWidth = new LinkedHashMap<>(64, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Integer> eldest) {
+            return this.size() > WORD_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Font used to compute the text width.
+     */
+    private Font font;
+
+    /**
+     * Position of the oldest line in the ring buffer.
+     */
+    private int head;
+
+    /**
+     * Number of lines in the ring buffer.
+     */
+    private int count;
+
+    /**
+     * Number of lines in the visible text.
+     */
+    private int visibleCount;
+
+    /**
+     * Maximum number of lines in the visible text.
+     */
+    private int maxVisible;
+
+    /**
+     * Create a new layout.
+     *
+     * @param history Maximum number of wrapped lines to keep, must be greater than 1.
+     */
+    TextAreaLayout(final int history) {
+        super();
+        assert history > 1 : "history must be greater than 1";
+        this.lines = new String[history];
+        this.maxVisible = history - 1;
+    }
+
+    /**
+     * Set the font to use to compute the words width, the cache is cleared if the font is different.
+     *
+     * @param newFont Font to use.
+     */
+    void setFont(final Font newFont) {
+        if (this.font != newFont) {
+            this.font = newFont;
+            this.wordWidth.clear();
+        }
+    }
+
+    /**
+     * Set the number of lines to display, the visible text is rebuilt if the value changed.
+     *
+     * @param max Maximum number of visible lines, limited to the history size.
+     * @return <code>true</code> if the visible text was updated.
+     */
+    boolean setVisibleLines(final int max) {
+        int newMax = Math.max(0, Math.min(max, this.lines.length - 1));
+        if (newMax == this.maxVisible) {
+            return false;
+        }
+        this.maxVisible = newMax;
+        this.visibleCount = Math.min(this.count, newMax);
+        this.visible.setLength(0);
+        for (int i = this.count - this.visibleCount; i < this.count; i++) {
+            this.visible.append(this.lines[(this.head + i) % this.lines.length]).append('\n');
+        }
+        return true;
+    }
+
+    /**
+     * Wrap a line and add the result to the visible text.
+     *
+     * @param line Line to add, without end of line.
+     * @param maxWidth Available width, in pixels.
+     * @param padding Padding on each side of the line, in pixels.
+     */
+    void append(final String line, final float maxWidth, final int padding) {
+        final float length = this.font.computeTextWidth(line);
+        final float space = this.font.getCharSize(' ');
+        if (padding * 2 + length < maxWidth + space) {
+            this.push(line);
+            return;
+        }
+        int currentLineSize = padding * 2;
+        StringBuilder formattedLine = this.lineBuilder;
+        formattedLine.setLength(0);
+        int i = 0;
+        final int n = line.length();
+        while (i < n) {
+            while (i < n && line.charAt(i) == ' ') {
+                i++;
+            }
+            final int start = i;
+            while (i < n && line.charAt(i) != ' ') {
+                i++;
+            }
+            if (start < i) {
+                final String word = line.substring(start, i);
+                final float wordWidth = this.computeWordWidth(word);
+                if (!(currentLineSize + wordWidth < maxWidth + space)) {
+                    currentLineSize = padding * 2;
+                    this.push(formattedLine.toString());
+                    formattedLine.setLength(0);
+                }
+                formattedLine.append(word);
+                formattedLine.append(' ');
+                currentLineSize += wordWidth + space;
+            }
+        }
+        this.push(formattedLine.toString().replace(" ,", ","));
+    }
+
+    /**
+     * @return The visible lines, each one followed by an end of line.
+     */
+    String getVisibleText() {
+        return this.visible.toString();
+    }
+
+    /**
+     * Remove all the lines.
+     */
+    void clear() {
+        for (int i = 0; i < this.count; i++) {
+            this.lines[(this.head + i) % this.lines.length] = null;
+        }
+        this.head = 0;
+        this.count = 0;
+        this.visibleCount = 0;
+        this.visible.setLength(0);
+    }
+
+    private int computeWordWidth(final String word) {
+        Integer width = this.wordWidth.get(word);
+        if (width == null) {
+            width = this.font.computeTextWidth(word);
+            this.wordWidth.put(word, width);
+        }
+        return width;
+    }
+
+    private void push(final String line) {
+        if (this.count == this.lines.length) {
+            this.lines[this.head] = null;
+            this.head = (this.head + 1) % this.lines.length;
+            this.count--;
+        }
+        this.lines[(this.head + this.count) % this.lines.length] = line;
+        this.count++;
+        this.visible.append(line).append('\n');
+        this.visibleCount++;
+        while (this.visibleCount > this.maxVisible) {
+            String first = this.lines[(this.head + this.count - this.visibleCount) % this.lines.length];
+            this.visible.delete(0, first.length() + 1);
+            this.visibleCount--;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.gui.internal.impl;
+
+import be.yildizgames.module.graphic.gui.Widget;
+import be.yildizgames.module.graphic.gui.internal.BaseElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index for the widgets of a container, used to speed up the hit tests.
+ * The widgets are stored in a uniform grid of square cells, in coordinates relative to the container, so moving the
+ * container does not require to update the index.
+ * Cells are hashed into a fixed number of buckets, a bucket can then contain widgets from different cells, the exact
+ * check is always done with the widget contains method.
+ * Widgets covering too many cells, or not able to notify their updates, are kept in a separated list always checked.
+ *
+ * @author Grégory Van den Borre
+ */
+final class WidgetGrid {
+
+    /**
+     * Cell size is 1 shl CELL_SHIFT pixels.
+     */
+    private static final int CELL_SHIFT = 6;
+
+    /**
+     * Number of buckets, must be a power of 2.
+     */
+    private static final int BUCKETS = 1024;
+
+    /**
+     * Widgets covering more cells than this value are not stored in the grid.
+     */
+    private static final int MAX_CELLS = 64;
+
+    /**
+     * Every indexed widget entry.
+     */
+    private final Map<Widget, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Hashed grid cells.
+     */
+    @SuppressWarnings("unchecked")
+    private final List<Entry>[] buckets = new List[BUCKETS];
+
+    /**
+     * Widgets which cannot be stored in the grid.
+     */
+    private final List<Entry> unbounded = new ArrayList<>();
+
+    /**
+     * Sequence to keep the widgets insertion order, lower value has priority when several widgets are found.
+     */
+    private long sequence;
+
+    /**
+     * Add a widget in the index, it will have a lower priority than all the widgets already added.
+     *
+     * @param widget Widget to add.
+     */
+    void add(final Widget widget) {
+        if (this.entries.containsKey(widget)) {
+            return;
+        }
+        Entry e = new Entry(widget, this.sequence++);
+        this.entries.put(widget, e);
+        this.insert(e);
+    }
+
+    /**
+     * Remove a widget from the index.
+     *
+     * @param widget Widget to remove.
+     */
+    void remove(final Widget widget) {
+        Entry e = this.entries.remove(widget);
+        if (e != null) {
+            this.detach(e);
+        }
+    }
+
+    /**
+     * Update the widget position in the index, unknown widgets are ignored.
+     *
+     * @param widget Widget moved, resized, shown or hidden.
+     */
+    void update(final Widget widget) {
+        Entry e = this.entries.get(widget);
+        if (e != null) {
+            this.detach(e);
+            this.insert(e);
+        }
+    }
+
+    /**
+     * Find the widget at a given position.
+     *
+     * @param x Position x value, relative to the container.
+     * @param y Position y value, relative to the container.
+     * @param absoluteX Position x value, absolute.
+     * @param absoluteY Position y value, absolute.
+     * @return The visible widget containing the position with the highest priority, <code>null</code> if none.
+     */
+    Widget find(final int x, final int y, final int absoluteX, final int absoluteY) {
+        Entry found = null;
+        List<Entry> bucket = this.buckets[bucket(x >> CELL_SHIFT, y >> CELL_SHIFT)];
+        if (bucket != null) {
+            found = check(bucket, found, x, y, absoluteX, absoluteY);
+        }
+        found = check(this.unbounded, found, x, y, absoluteX, absoluteY);
+        return found == null ? null : found.widget;
+    }
+
+    private static Entry check(final List<Entry> list, final Entry current, final int x, final int y, final int absoluteX, final int absoluteY) {
+        Entry found = current;
+        for (int i = 0; i < list.size(); i++) {
+            Entry e = list.get(i);
+            if ((found == null || e.sequence < found.sequence)
+                    && e.covers(x, y)
+                    && e.widget.isVisible()
+                    && e.widget.contains(absoluteX, absoluteY)) {
+                found = e;
+            }
+        }
+        return found;
+    }
+
+    private void insert(final Entry e) {
+        if (!(e.widget instanceof BaseElement)) {
+            e.unbounded = true;
+            this.unbounded.add(e);
+            return;
+        }
+        if (!e.widget.isVisible()) {
+            return;
+        }
+        BaseElement element = (BaseElement) e.widget;
+        e.left = element.getLeft();
+        e.top = element.getTop();
+        e.right = e.left + element.getWidth();
+        e.bottom = e.top + Math.max(element.getHeight(), element.getVirtualHeight());
+        int minX = e.left >> CELL_SHIFT;
+        int minY = e.top >> CELL_SHIFT;
+        int maxX = e.right >> CELL_SHIFT;
+        int maxY = e.bottom >> CELL_SHIFT;
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_CELLS) {
+            e.unbounded = true;
+            this.unbounded.add(e);
+            return;
+        }
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                int index = bucket(cx, cy);
+                if (!e.isIn(index)) {
+                    if (this.buckets[index] == null) {
+                        this.buckets[index] = new ArrayList<>();
+                    }
+                    this.buckets[index].add(e);
+                    e.addBucket(index);
+                }
+            }
+        }
+    }
+
+    private void detach(final Entry e) {
+        if (e.unbounded) {
+            this.unbounded.remove(e);
+            e.unbounded = false;
+        }
+        for (int i = 0; i < e.bucketCount; i++) {
+            this.buckets[e.bucketIndexes[i]].remove(e);
+        }
+        e.bucketCount = 0;
+    }
+
+    private static int bucket(final int cellX, final int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (BUCKETS - 1);
+    }
+
+    /**
+     * Indexed widget with its last known bounds.
+     */
+    private static final class Entry {
+
+        private final Widget widget;
+
+        private final long sequence;
+
+        private int left;
+
+        private int top;
+
+        private int right;
+
+        private int bottom;
+
+        private boolean unbounded;
+
+        private int[] bucketIndexes = new int[4];
+
+        private int bucketCount;
+
+        private Entry(final Widget widget, final long sequence) {
+            this.widget = widget;
+            this.sequence = sequence;
+        }
+
+        private boolean covers(final int x, final int y) {
+            return this.unbounded || (x >= this.left && x <= this.right && y >= this.top && y <= this.bottom);
+        }
+
+        private boolean isIn(final int index) {
+            for (int i = 0; i < this.bucketCount; i++) {
+                if (this.bucketIndexes[i] == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addBucket(final int index) {
+            if (this.bucketCount == this.bucketIndexes.length) {
+                this.bucketIndexes = Arrays.copyOf(this.bucketIndexes, this.bucketCount << 1);
+            }
+            this.bucketIndexes[this.bucketCount++] = index;
+        }
+    }
+}
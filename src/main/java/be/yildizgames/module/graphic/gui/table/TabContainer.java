@@ -86,7 +86,7 @@ public final class TabContainer extends BaseContainerChild {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         for (TabElement element : this.elements) {
             element.delete();
         }
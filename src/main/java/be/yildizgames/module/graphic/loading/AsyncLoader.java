@@ -0,0 +1,339 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.loading;
+
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.Font;
+import be.yildizgames.module.graphic.GraphicEngine;
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.material.MaterialManager;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Load resources without stalling the rendering thread.
+ * A load is made of two steps: the preparation, I/O and decoding, done on virtual threads with a bounded number of
+ * preparations at a time,
+ * and the completion, creating the resource in the rendering system, done on the rendering thread by the update method,
+ * within a time budget per frame.
+ * Both steps serve the most important priority lane first, and in submission order within a lane.
+ * Cancelling the returned future, or a whole lane, drops the load if its steps are not started yet.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class AsyncLoader {
+
+    /**
+     * Loads waiting for their preparation.
+     */
+    private final PriorityBlockingQueue<Task<?, ?>> pending = new PriorityBlockingQueue<>();
+
+    /**
+     * Prepared loads waiting for their completion on the rendering thread.
+     */
+    private final PriorityBlockingQueue<Task<?, ?>> ready = new PriorityBlockingQueue<>();
+
+    /**
+     * Submission counter, to keep the order within a priority lane.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Limit the number of preparations running at the same time, so the most important loads are prepared first.
+     */
+    private final Semaphore workers;
+
+    /**
+     * Executor running the preparations, created on the first load.
+     */
+    private Executor executor;
+
+    /**
+     * Maximum time spent completing loads in one update call, in nanoseconds.
+     */
+    private long frameBudget = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * Create a new loader.
+     *
+     * @param workers Maximum number of loads prepared at the same time.
+     */
+    public AsyncLoader(final int workers) {
+        super();
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker number must be positive.");
+        }
+        this.workers = new Semaphore(workers);
+    }
+
+    /**
+     * Create a new loader with a given executor, for testing purpose.
+     *
+     * @param executor Executor running the preparations.
+     */
+    AsyncLoader(final Executor executor) {
+        this(1);
+        this.executor = executor;
+    }
+
+    /**
+     * Load a resource.
+     *
+     * @param priority Load priority lane.
+     * @param prepare  I/O and decoding, run on a worker thread.
+     * @param complete Resource creation from the prepared data, run on the rendering thread.
+     * @param <P>      Prepared data type.
+     * @param <T>      Resource type.
+     * @return The future resource, completed on the rendering thread, can be cancelled.
+     */
+    public <P, T> CompletableFuture<T> load(final LoadPriority priority, final Supplier<P> prepare, final Function<P, T> complete) {
+        Objects.requireNonNull(priority);
+        Objects.requireNonNull(prepare);
+        Objects.requireNonNull(complete);
+        final Task<P, T> task = new Task<>(priority, this.sequence.getAndIncrement(), prepare, complete);
+        this.pending.add(task);
+        this.getExecutor().execute(this::prepareNext);
+        return task.future;
+    }
+
+    /**
+     * Load a texture material, the target receives Material.gray() immediately and the loaded material once available.
+     * The file is read on a worker thread, only the texture and the material are created on the rendering thread.
+     *
+     * @param manager  Manager creating the material.
+     * @param path     Texture file path.
+     * @param priority Load priority lane.
+     * @param target   Receiver of the placeholder and then of the loaded material, called on the rendering thread.
+     * @return The future material.
+     */
+    public CompletableFuture<Material> loadTexture(final MaterialManager manager, final String path, final LoadPriority priority, final Consumer<Material> target) {
+        Objects.requireNonNull(manager);
+        Objects.requireNonNull(path);
+        target.accept(Material.gray());
+        final CompletableFuture<Material> future = this.load(priority, () -> manager.prepareTexture(path), manager::loadSimpleTexture);
+        future.thenAccept(target);
+        return future;
+    }
+
+    /**
+     * Load a font, the file is read on a worker thread and the font is created on the rendering thread.
+     *
+     * @param engine   Engine creating the font.
+     * @param name     Font unique name.
+     * @param path     Font file path.
+     * @param size     Font size.
+     * @param color    Font color.
+     * @param priority Load priority lane.
+     * @return The future font.
+     */
+    public CompletableFuture<Font> loadFont(final GraphicEngine engine, final String name, final String path, final int size, final Color color, final LoadPriority priority) {
+        Objects.requireNonNull(engine);
+        return this.load(priority, () -> engine.prepareFont(path), d -> engine.createFont(name, d, size, color));
+    }
+
+    /**
+     * Cancel all the loads of a lane not completed yet, the preparations already running are discarded once finished.
+     *
+     * @param priority Lane to cancel.
+     */
+    public void cancel(final LoadPriority priority) {
+        this.pending.removeIf(t -> t.cancel(priority));
+        this.ready.removeIf(t -> t.cancel(priority));
+    }
+
+    /**
+     * Complete the prepared loads, to be called on the rendering thread once per frame.
+     * At least one load is completed, and then as many as the frame budget allows.
+     *
+     * @return The number of completed loads.
+     */
+    public int update() {
+        final long start = System.nanoTime();
+        int completed = 0;
+        Task<?, ?> task;
+        while ((task = this.ready.poll()) != null) {
+            if (task.complete()) {
+                completed++;
+                if (System.nanoTime() - start > this.frameBudget) {
+                    break;
+                }
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Set the maximum time spent completing loads in one update call.
+     *
+     * @param nanoseconds Budget, in nanoseconds.
+     */
+    public void setFrameBudget(final long nanoseconds) {
+        if (nanoseconds < 0) {
+            throw new IllegalArgumentException("Budget cannot be negative.");
+        }
+        this.frameBudget = nanoseconds;
+    }
+
+    /**
+     * @return The number of loads waiting for their preparation.
+     */
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    /**
+     * @return The number of prepared loads waiting for their completion.
+     */
+    public int getReadyCount() {
+        return this.ready.size();
+    }
+
+    /**
+     * Cancel all the loads and stop the worker threads.
+     */
+    public void close() {
+        for (LoadPriority priority : LoadPriority.values()) {
+            this.cancel(priority);
+        }
+        if (this.executor instanceof ExecutorService) {
+            ((ExecutorService) this.executor).shutdownNow();
+        }
+    }
+
+    /**
+     * Prepare the most important pending load, run on a worker thread.
+     */
+    private void prepareNext() {
+        this.workers.acquireUninterruptibly();
+        try {
+            final Task<?, ?> task = this.pending.poll();
+            if (task != null && task.prepare()) {
+                this.ready.add(task);
+            }
+        } finally {
+            this.workers.release();
+        }
+    }
+
+    private Executor getExecutor() {
+        if (this.executor == null) {
+            // The preparations mostly wait for I/O, a virtual thread per load is cheaper than a platform pool.
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("graphic-loader").factory());
+        }
+        return this.executor;
+    }
+
+    /**
+     * One resource load.
+     *
+     * @param <P> Prepared data type.
+     * @param <T> Resource type.
+     */
+    private static final class Task<P, T> implements Comparable<Task<?, ?>> {
+
+        private final LoadPriority priority;
+
+        private final long sequence;
+
+        private final Supplier<P> preparation;
+
+        private final Function<P, T> completion;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        /**
+         * Result of the preparation, published to the rendering thread by the ready queue.
+         */
+        private P prepared;
+
+        private Task(final LoadPriority priority, final long sequence, final Supplier<P> preparation, final Function<P, T> completion) {
+            super();
+            this.priority = priority;
+            this.sequence = sequence;
+            this.preparation = preparation;
+            this.completion = completion;
+        }
+
+        /**
+         * Run the preparation.
+         *
+         * @return <code>true</code> if the task must be completed.
+         */
+        private boolean prepare() {
+            if (this.future.isDone()) {
+                return false;
+            }
+            try {
+                this.prepared = this.preparation.get();
+                return !this.future.isDone();
+            } catch (RuntimeException e) {
+                this.future.completeExceptionally(e);
+                return false;
+            }
+        }
+
+        /**
+         * Run the completion.
+         *
+         * @return <code>true</code> if the task was completed, <code>false</code> if it was cancelled.
+         */
+        private boolean complete() {
+            if (this.future.isDone()) {
+                return false;
+            }
+            try {
+                this.future.complete(this.completion.apply(this.prepared));
+            } catch (RuntimeException e) {
+                this.future.completeExceptionally(e);
+            }
+            return true;
+        }
+
+        private boolean cancel(final LoadPriority lane) {
+            if (this.priority == lane) {
+                this.future.cancel(false);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int compareTo(final Task<?, ?> other) {
+            final int result = this.priority.compareTo(other.priority);
+            return result != 0 ? result : Long.compare(this.sequence, other.sequence);
+        }
+    }
+}
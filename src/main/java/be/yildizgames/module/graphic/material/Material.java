@@ -246,6 +246,16 @@ public abstract class Material extends Resource {
         return this.copyImpl(name);
     }
 
+    /**
+     * Start describing a variant of this material, sharing its state except for the overridden parameters.
+     * Use MaterialCache.acquire to get the variant material.
+     *
+     * @return A variant of this material without override.
+     */
+    public final MaterialVariant variant() {
+        return MaterialVariant.of(this);
+    }
+
     /**
      * Add an effect to this material.
      *
@@ -628,6 +638,32 @@ public abstract class Material extends Resource {
      */
     protected abstract void receiveShadowImpl(boolean receive);
 
+    /**
+     * Provide the render state key of the first pass of the first technique, the one used for sorting and batching.
+     *
+     * @return The first pass sort key, 0 if the material has no pass.
+     */
+    public final long getSortKey() {
+        return this.techniqueList.isEmpty() ? 0 : this.techniqueList.get(0).getSortKey();
+    }
+
+    /**
+     * Unregister this material and free its resources, it cannot be used anymore.
+     * An implementation can override it, but must call this method so the material is unregistered.
+     */
+    public void delete() {
+        Material.REGISTERER.remove(this);
+        this.deleteImpl();
+    }
+
+    /**
+     * Implementation specific to free the material resources.
+     * Does nothing by default, the resources are then kept by the rendering system.
+     */
+    protected void deleteImpl() {
+        //does nothing.
+    }
+
     /**
      * Set transparency for every pass of every techniques.
      *
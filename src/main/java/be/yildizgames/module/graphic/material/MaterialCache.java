@@ -0,0 +1,283 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.material;
+
+import be.yildizgames.common.util.StringUtil;
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.material.MaterialPass.Transparency;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reference counted cache of the materials built from a color, a texture file or a material variant.
+ * Acquiring a material already in cache returns the same instance and increments its reference count, releasing it decrements the count.
+ * Materials without reference are kept, and deleted in least recently released order once the memory used by the cache exceeds its budget.
+ * The memory used by a material is provided by MaterialManager.getMemorySize, by default every material counts for 1,
+ * so the budget is a number of materials.
+ * Cached materials are shared, they must not be modified.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class MaterialCache {
+
+    /**
+     * Manager building the materials.
+     */
+    private final MaterialManager manager;
+
+    /**
+     * All the cached materials, by key: the color, the texture file and transparency, or the variant.
+     */
+    private final Map<Object, Entry> entries = new HashMap<>();
+
+    /**
+     * Cached materials by instance, to release them.
+     */
+    private final Map<Material, Entry> byMaterial = new HashMap<>();
+
+    /**
+     * Materials without reference, the least recently released first.
+     */
+    private final LinkedHashMap<Object, Entry> unused = new LinkedHashMap<>();
+
+    /**
+     * Maximum memory used by the cached materials before evicting the unused ones.
+     */
+    private long budget = Long.MAX_VALUE;
+
+    /**
+     * Memory used by the cached materials.
+     */
+    private long memory;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    MaterialCache(final MaterialManager manager) {
+        super();
+        this.manager = manager;
+    }
+
+    /**
+     * Provide the material for a color, creating it if not in cache.
+     *
+     * @param color Material color.
+     * @return The material for this color.
+     */
+    public Material acquire(final Color color) {
+        Objects.requireNonNull(color);
+        final Entry entry = this.entries.get(color);
+        if (entry != null) {
+            return this.hit(entry);
+        }
+        return this.miss(color, this.manager.createMaterial(color));
+    }
+
+    /**
+     * Provide the material for a texture file, creating and loading it if not in cache.
+     *
+     * @param path Texture file path.
+     * @return The material for this texture.
+     */
+    public Material acquire(final String path) {
+        return this.acquire(path, Transparency.NONE);
+    }
+
+    /**
+     * Provide the material for a texture file with a transparency, creating and loading it if not in cache.
+     *
+     * @param path        Texture file path.
+     * @param transparent Transparency type.
+     * @return The material for this texture.
+     */
+    public Material acquire(final String path, final Transparency transparent) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(transparent);
+        final TextureKey key = new TextureKey(path, transparent);
+        final Entry entry = this.entries.get(key);
+        if (entry != null) {
+            return this.hit(entry);
+        }
+        return this.miss(key, this.manager.loadSimpleTexture(path, transparent));
+    }
+
+    /**
+     * Provide the material for a variant, creating it as a copy of the variant parent if not in cache.
+     * Variants are identical if they have the same parent instance and overrides, so a material recreated with the
+     * name of a deleted one does not reuse the variants of the deleted one.
+     *
+     * @param variant Material variant.
+     * @return The material shared by all the identical variants.
+     * @throws IllegalArgumentException If the variant has no override, the parent material must be used instead.
+     */
+    public Material acquire(final MaterialVariant variant) {
+        if (variant.isEmpty()) {
+            throw new IllegalArgumentException("Variant of " + variant.getParent().getName() + " has no override, use the parent material.");
+        }
+        final Entry entry = this.entries.get(variant);
+        if (entry != null) {
+            return this.hit(entry);
+        }
+        return this.miss(variant, variant.create(StringUtil.buildRandomString(variant.getParent().getName())));
+    }
+
+    /**
+     * Release a material acquired from this cache, it can be evicted once it is not referenced anymore.
+     *
+     * @param material Material to release.
+     */
+    public void release(final Material material) {
+        final Entry entry = this.byMaterial.get(material);
+        if (entry == null) {
+            throw new IllegalArgumentException(material.getName() + " is not in the cache.");
+        }
+        if (entry.references == 0) {
+            throw new IllegalStateException(material.getName() + " is not referenced.");
+        }
+        entry.references--;
+        if (entry.references == 0) {
+            this.unused.put(entry.key, entry);
+            this.evict();
+        }
+    }
+
+    /**
+     * Set the memory budget, unused materials are evicted if it is exceeded.
+     *
+     * @param budget Maximum memory used by the cached materials.
+     */
+    public void setBudget(final long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budget cannot be negative.");
+        }
+        this.budget = budget;
+        this.evict();
+    }
+
+    /**
+     * @return The number of cached materials.
+     */
+    public int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return The memory used by the cached materials.
+     */
+    public long getMemory() {
+        return this.memory;
+    }
+
+    /**
+     * @return The number of acquisitions served from the cache.
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return The number of acquisitions creating a new material.
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * @return The number of materials evicted from the cache.
+     */
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    private Material hit(final Entry entry) {
+        this.hits++;
+        if (entry.references == 0) {
+            this.unused.remove(entry.key);
+        }
+        entry.references++;
+        return entry.material;
+    }
+
+    private Material miss(final Object key, final Material material) {
+        this.misses++;
+        final Entry entry = new Entry(key, material, this.manager.getMemorySize(material));
+        entry.references = 1;
+        this.entries.put(key, entry);
+        this.byMaterial.put(material, entry);
+        this.memory += entry.memory;
+        this.evict();
+        return material;
+    }
+
+    private void evict() {
+        final Iterator<Entry> iterator = this.unused.values().iterator();
+        while (this.memory > this.budget && iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            iterator.remove();
+            this.entries.remove(entry.key);
+            this.byMaterial.remove(entry.material);
+            this.memory -= entry.memory;
+            this.evictions++;
+            entry.material.delete();
+        }
+    }
+
+    /**
+     * Key of a material built from a texture file.
+     *
+     * @param path         Texture file path.
+     * @param transparency Texture transparency.
+     */
+    private record TextureKey(String path, Transparency transparency) {
+    }
+
+    /**
+     * Cached material.
+     */
+    private static final class Entry {
+
+        private final Object key;
+
+        private final Material material;
+
+        private final long memory;
+
+        private int references;
+
+        private Entry(final Object key, final Material material, final long memory) {
+            super();
+            this.key = key;
+            this.material = material;
+            this.memory = memory;
+        }
+    }
+}
@@ -27,6 +27,7 @@ package be.yildizgames.module.graphic.material;
 
 import be.yildizgames.common.util.StringUtil;
 import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.ResourceData;
 import be.yildizgames.module.graphic.material.MaterialPass.Transparency;
 import be.yildizgames.module.graphic.material.TextureUnit.LayerBlendOperationEx;
 import be.yildizgames.module.graphic.material.TextureUnit.LayerBlendSource;
@@ -34,8 +35,14 @@ import be.yildizgames.module.graphic.shader.FragmentShader;
 import be.yildizgames.module.graphic.shader.Shader;
 import be.yildizgames.module.graphic.shader.Shader.FragmentProfileList;
 import be.yildizgames.module.graphic.shader.Shader.VertexProfileList;
+import be.yildizgames.module.graphic.shader.ShaderManifest;
 import be.yildizgames.module.graphic.shader.VertexShader;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Manage the construction of materials.
  *
@@ -47,6 +54,36 @@ public abstract class MaterialManager {
 
     private static final FragmentProfileList DEFAULT_FRAGMENT_PROFILE = new FragmentProfileList(Shader.FragmentDx.PS_1_1, Shader.FragmentGL.ARBFP1);
 
+    /**
+     * Shared materials built from colors and texture files.
+     */
+    private final MaterialCache cache = new MaterialCache(this);
+
+    /**
+     * Compiled fragment shaders, by program key.
+     */
+    private final Map<String, FragmentShader> fragmentShaders = new HashMap<>();
+
+    /**
+     * Compiled vertex shaders, by program key.
+     */
+    private final Map<String, VertexShader> vertexShaders = new HashMap<>();
+
+    /**
+     * Names usable to bind a fragment shader in a pass, the built shader names and their aliases.
+     */
+    private final Set<String> fragmentShaderNames = new HashSet<>();
+
+    /**
+     * Names usable to bind a vertex shader in a pass, the built shader names and their aliases.
+     */
+    private final Set<String> vertexShaderNames = new HashSet<>();
+
+    /**
+     * Every shader program requested so far.
+     */
+    private final ShaderManifest usedShaders = new ShaderManifest();
+
     /**
      * Full constructor.
      */
@@ -77,6 +114,7 @@ public abstract class MaterialManager {
     /**
      * Create a new Material with a given color to set as ambient and with a
      * random unique name.
+     * To share a material between all the users of a color, use getCache().acquire(color) and release it once unused.
      *
      * @param color Color to set as ambient in the fist pass of the first
      *              technique.
@@ -86,6 +124,13 @@ public abstract class MaterialManager {
         return this.createMaterial(color, StringUtil.buildRandomString(color));
     }
 
+    /**
+     * @return The cache of the materials built from colors and texture files.
+     */
+    public final MaterialCache getCache() {
+        return this.cache;
+    }
+
     /**
      * Create a new Material with a given color to set as ambient.
      *
@@ -142,6 +187,28 @@ public abstract class MaterialManager {
         return texture;
     }
 
+    /**
+     * Read a texture file, safe to call out of the rendering thread before loadSimpleTexture(ResourceData).
+     *
+     * @param path File used as image for the texture.
+     * @return The file content.
+     */
+    public final ResourceData prepareTexture(final String path) {
+        return this.prepareTextureImpl(path);
+    }
+
+    /**
+     * Create and load a simple Material with a random name from a texture file read by prepareTexture.
+     * Only the rendering resources are created, the file is not read again.
+     *
+     * @param data Texture file content.
+     * @return The created and loaded texture.
+     */
+    public final Material loadSimpleTexture(final ResourceData data) {
+        this.createTextureImpl(data);
+        return this.loadSimpleTexture(data.getPath());
+    }
+
     /**
      * Create and load a simple Material with a transparent image and a random
      * name.
@@ -194,8 +261,7 @@ public abstract class MaterialManager {
      * @return The built shader.
      */
     public final FragmentShader createFragmentShader(final String name, final String file) {
-        Shader shader = this.createFragmentShaderImpl(name, file, "main", DEFAULT_FRAGMENT_PROFILE);
-        return new FragmentShader(shader);
+        return this.createFragmentShader(name, file, "main", DEFAULT_FRAGMENT_PROFILE, "");
     }
 
     /**
@@ -206,8 +272,7 @@ public abstract class MaterialManager {
      * @return The built shader.
      */
     public VertexShader createVertexShader(final String name, final String file) {
-        Shader shader = this.createVertexShaderImpl(name, file, "main", DEFAULT_VERTEX_PROFILE);
-        return new VertexShader(shader);
+        return this.createVertexShader(name, file, "main", DEFAULT_VERTEX_PROFILE, "");
     }
 
     /**
@@ -220,8 +285,33 @@ public abstract class MaterialManager {
      * @return The built shader.
      */
     public FragmentShader createFragmentShader(final String name, final String file, final String entry, final FragmentProfileList profile) {
-        Shader shader = this.createFragmentShaderImpl(name, file, entry, profile);
-        return new FragmentShader(shader);
+        return this.createFragmentShader(name, file, entry, profile, "");
+    }
+
+    /**
+     * Create a new fragment (pixel) shader, or provide the existing one if a shader was already built with the same file, entry, profile and defines.
+     * In that case, the returned shader keeps the name it was created with, and the requested name is registered as
+     * an alias in the implementation, so both names can be used with MaterialPass.setFragmentShader.
+     *
+     * @param name    Shader name.
+     * @param file    File containing the shader code.
+     * @param entry   Main function name.
+     * @param profile Profiles to set.
+     * @param defines Preprocessor definitions, as name=value separated by comma, empty if none.
+     * @return The built shader.
+     */
+    public final FragmentShader createFragmentShader(final String name, final String file, final String entry, final FragmentProfileList profile, final String defines) {
+        ShaderManifest.Program program = new ShaderManifest.Program(Shader.ShaderType.FRAGMENT, name, file, entry, profile.getName(), defines);
+        this.usedShaders.add(program);
+        FragmentShader shader = this.fragmentShaders.get(program.getKey());
+        if (shader == null) {
+            shader = new FragmentShader(this.createFragmentShaderImpl(name, file, entry, profile, program.getDefines()));
+            this.fragmentShaders.put(program.getKey(), shader);
+            this.fragmentShaderNames.add(name);
+        } else if (this.fragmentShaderNames.add(name)) {
+            this.createShaderAliasImpl(shader.getName(), program);
+        }
+        return shader;
     }
 
     /**
@@ -234,8 +324,77 @@ public abstract class MaterialManager {
      * @return The built shader.
      */
     public VertexShader createVertexShader(final String name, final String file, final String entry, final VertexProfileList profile) {
-        Shader shader = this.createVertexShaderImpl(name, file, entry, profile);
-        return new VertexShader(shader);
+        return this.createVertexShader(name, file, entry, profile, "");
+    }
+
+    /**
+     * Create a new vertex shader, or provide the existing one if a shader was already built with the same file, entry, profile and defines.
+     * In that case, the returned shader keeps the name it was created with, and the requested name is registered as
+     * an alias in the implementation, so both names can be used with MaterialPass.setVertexShader.
+     *
+     * @param name    Shader name.
+     * @param file    File containing the shader code.
+     * @param entry   Main function name.
+     * @param profile Profiles to set.
+     * @param defines Preprocessor definitions, as name=value separated by comma, empty if none.
+     * @return The built shader.
+     */
+    public final VertexShader createVertexShader(final String name, final String file, final String entry, final VertexProfileList profile, final String defines) {
+        ShaderManifest.Program program = new ShaderManifest.Program(Shader.ShaderType.VERTEX, name, file, entry, profile.getName(), defines);
+        this.usedShaders.add(program);
+        VertexShader shader = this.vertexShaders.get(program.getKey());
+        if (shader == null) {
+            shader = new VertexShader(this.createVertexShaderImpl(name, file, entry, profile, program.getDefines()));
+            this.vertexShaders.put(program.getKey(), shader);
+            this.vertexShaderNames.add(name);
+        } else if (this.vertexShaderNames.add(name)) {
+            this.createShaderAliasImpl(shader.getName(), program);
+        }
+        return shader;
+    }
+
+    /**
+     * Compile all the programs of a manifest not already built, to be called during a loading screen.
+     *
+     * @param manifest Programs to compile.
+     * @return The number of programs compiled.
+     */
+    public final int precompile(final ShaderManifest manifest) {
+        int compiled = 0;
+        for (ShaderManifest.Program p : manifest.getPrograms()) {
+            if (this.isCompiled(p)) {
+                continue;
+            }
+            if (p.getType() == Shader.ShaderType.FRAGMENT) {
+                this.createFragmentShader(p.getName(), p.getFile(), p.getEntry(), FragmentProfileList.fromName(p.getProfile()), p.getDefines());
+            } else {
+                this.createVertexShader(p.getName(), p.getFile(), p.getEntry(), VertexProfileList.fromName(p.getProfile()), p.getDefines());
+            }
+            compiled++;
+        }
+        return compiled;
+    }
+
+    /**
+     * Check if a program is already built.
+     *
+     * @param program Program to check.
+     * @return true if a shader with the same type, file, entry, profile and defines exists.
+     */
+    public final boolean isCompiled(final ShaderManifest.Program program) {
+        if (program.getType() == Shader.ShaderType.FRAGMENT) {
+            return this.fragmentShaders.containsKey(program.getKey());
+        }
+        return this.vertexShaders.containsKey(program.getKey());
+    }
+
+    /**
+     * Provide all the shader programs requested so far, to be written and compiled up front the next time the level is loaded.
+     *
+     * @return The manifest of the requested programs.
+     */
+    public final ShaderManifest getShaderManifest() {
+        return this.usedShaders;
     }
 
     /**
@@ -260,5 +419,97 @@ public abstract class MaterialManager {
      */
     protected abstract Shader createVertexShaderImpl(String name, String file, String entry, VertexProfileList profile);
 
+    /**
+     * Create a shader fragment type with preprocessor definitions.
+     * By default, only a shader without definition can be built, an implementation supporting them must override it.
+     *
+     * @param name    Shader name.
+     * @param file    Shader file.
+     * @param entry   Entry point name.
+     * @param profile Profile to set.
+     * @param defines Preprocessor definitions, as name=value separated by comma, empty if none.
+     * @return The created shader.
+     * @throws UnsupportedOperationException If defines is not empty and the implementation does not support them.
+     */
+    protected Shader createFragmentShaderImpl(final String name, final String file, final String entry, final FragmentProfileList profile, final String defines) {
+        checkNoDefines(defines);
+        return this.createFragmentShaderImpl(name, file, entry, profile);
+    }
+
+    /**
+     * Create a shader vertex type with preprocessor definitions.
+     * By default, only a shader without definition can be built, an implementation supporting them must override it.
+     *
+     * @param name    Shader name.
+     * @param file    Shader file.
+     * @param entry   Entry point name.
+     * @param profile Profile to set.
+     * @param defines Preprocessor definitions, as name=value separated by comma, empty if none.
+     * @return The created shader.
+     * @throws UnsupportedOperationException If defines is not empty and the implementation does not support them.
+     */
+    protected Shader createVertexShaderImpl(final String name, final String file, final String entry, final VertexProfileList profile, final String defines) {
+        checkNoDefines(defines);
+        return this.createVertexShaderImpl(name, file, entry, profile);
+    }
+
+    /**
+     * Register an other name for an existing shader in implementation, so a pass can be bound to it with this name.
+     * By default, the program is built again under the other name, an implementation able to share the compiled
+     * program between both names should override it.
+     *
+     * @param name  Name of the existing shader.
+     * @param alias Requested program, with the other name to give to the shader.
+     */
+    protected void createShaderAliasImpl(final String name, final ShaderManifest.Program alias) {
+        if (alias.getType() == Shader.ShaderType.FRAGMENT) {
+            this.createFragmentShaderImpl(alias.getName(), alias.getFile(), alias.getEntry(), FragmentProfileList.fromName(alias.getProfile()), alias.getDefines());
+        } else {
+            this.createVertexShaderImpl(alias.getName(), alias.getFile(), alias.getEntry(), VertexProfileList.fromName(alias.getProfile()), alias.getDefines());
+        }
+    }
+
+    private static void checkNoDefines(final String defines) {
+        if (!defines.isEmpty()) {
+            throw new UnsupportedOperationException("Preprocessor definitions are not supported by this implementation: " + defines);
+        }
+    }
+
     protected abstract Material createMaterialImpl(String name);
+
+    /**
+     * Read a texture file, called out of the rendering thread, the implementation can override it to also decode the image.
+     * The path is only resolved against the working directory, an implementation can override it to search its
+     * resource paths as well, with ResourceData.read(String, Collection).
+     *
+     * @param path Texture file path.
+     * @return The file content.
+     */
+    protected ResourceData prepareTextureImpl(final String path) {
+        return ResourceData.read(path);
+    }
+
+    /**
+     * Create the texture in the rendering system from a prepared file, registered with the file path as name, so the
+     * materials using this path do not read the file again.
+     * If the content is empty, the implementation loads the file from its own resource paths.
+     * Does nothing by default, the texture is then read from its path when the material is loaded.
+     *
+     * @param data Texture file content.
+     */
+    protected void createTextureImpl(final ResourceData data) {
+        //does nothing.
+    }
+
+    /**
+     * Provide the memory used by a material, to be compared with the cache budget.
+     * Returns 1 by default, the implementation can return the size of the material textures.
+     *
+     * @param material Material to measure.
+     * @return The memory used by the material.
+     */
+    protected long getMemorySize(final Material material) {
+        return 1;
+    }
+
 }
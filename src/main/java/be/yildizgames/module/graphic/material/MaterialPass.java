@@ -35,9 +35,15 @@ import be.yildizgames.module.graphic.shader.ShaderParamFloat;
 import be.yildizgames.module.graphic.shader.ShaderParamFloat2;
 import be.yildizgames.module.graphic.shader.ShaderParamFloat3;
 import be.yildizgames.module.graphic.shader.ShaderParamFloat4;
+import be.yildizgames.module.graphic.shader.ShaderParameterBlock;
+import be.yildizgames.module.graphic.shader.ShaderParameterLayout;
 
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A material technique can be composed of several pass.
@@ -59,6 +65,41 @@ public abstract class MaterialPass {
      */
     private BlendMode blendMode = MaterialPass.BlendMode.NONE;
 
+    /**
+     * Id of the vertex shader, 0 if none.
+     */
+    private int vertexShaderId;
+
+    /**
+     * Id of the fragment shader, 0 if none.
+     */
+    private int fragmentShaderId;
+
+    /**
+     * <code>true</code> if the pass writes in the depth buffer, part of the sort key.
+     */
+    private boolean depthWrite = true;
+
+    /**
+     * Render state key, computed when needed.
+     */
+    private long sortKey;
+
+    /**
+     * <code>true</code> if the state changed since the key was computed.
+     */
+    private boolean sortKeyDirty = true;
+
+    /**
+     * Texture id used when the key was computed.
+     */
+    private int sortKeyTexture;
+
+    /**
+     * Auto constants bound to the programs of this pass.
+     */
+    private final Set<ShaderConstantType> autoConstants = EnumSet.noneOf(ShaderConstantType.class);
+
     /**
      * Full constructor.
      */
@@ -195,6 +236,7 @@ public abstract class MaterialPass {
      */
     public final MaterialPass setTransparency(final Transparency capability) {
         this.transparency = capability;
+        this.sortKeyDirty = true;
         this.setTransparentCapabilityImpl(capability);
         return this;
     }
@@ -207,6 +249,7 @@ public abstract class MaterialPass {
      */
     public final MaterialPass setBlendMode(final BlendMode mode) {
         this.blendMode = mode;
+        this.sortKeyDirty = true;
         this.setBlendModeImpl(mode);
         return this;
     }
@@ -219,6 +262,28 @@ public abstract class MaterialPass {
         return blendMode;
     }
 
+    /**
+     * Provide the render state key of this pass, computed again only if the state changed.
+     *
+     * @return The 64 bits sort key.
+     */
+    public final long getSortKey() {
+        final int texture = this.unitList.isEmpty() ? 0 : this.unitList.get(0).getTextureId();
+        if (this.sortKeyDirty || texture != this.sortKeyTexture) {
+            this.sortKey = SortKey.of(this.blendMode, this.transparency, this.depthWrite, this.vertexShaderId, this.fragmentShaderId, texture);
+            this.sortKeyTexture = texture;
+            this.sortKeyDirty = false;
+        }
+        return this.sortKey;
+    }
+
+    /**
+     * @return The auto constants bound to the vertex and fragment programs of this pass.
+     */
+    public final Set<ShaderConstantType> getAutoConstants() {
+        return Collections.unmodifiableSet(this.autoConstants);
+    }
+
     /**
      * Pass the view matrix to the 'viewMatrix' vertex shader parameter.
      * This is refreshed every frame automatically.
@@ -267,27 +332,168 @@ public abstract class MaterialPass {
 
     /**
      * Enable or disable the depth write.
+     * An implementation can override it, but must call this method to keep the sort key up to date.
      *
      * @param enable <code>true</code> to enable, <code>false</code> to disable.
      * @return This object.
      */
-    public abstract MaterialPass setDepthWrite(boolean enable);
+    public MaterialPass setDepthWrite(final boolean enable) {
+        this.depthWrite = enable;
+        this.sortKeyDirty = true;
+        this.setDepthWriteImpl(enable);
+        return this;
+    }
 
     /**
      * Set a shader vertex program to this pass.
+     * An implementation can override it, but must call this method to keep the sort key up to date.
      *
      * @param name Program name.
      * @return This object.
      */
-    public abstract MaterialPass setVertexShader(String name);
+    public MaterialPass setVertexShader(final String name) {
+        this.vertexShaderId = SortKey.id(name);
+        this.sortKeyDirty = true;
+        this.setVertexShaderImpl(name);
+        return this;
+    }
 
     /**
      * Set a shader fragment program to this pass.
+     * An implementation can override it, but must call this method to keep the sort key up to date.
      *
      * @param name Program name.
      * @return This object.
      */
-    public abstract MaterialPass setFragmentShader(String name);
+    public MaterialPass setFragmentShader(final String name) {
+        this.fragmentShaderId = SortKey.id(name);
+        this.sortKeyDirty = true;
+        this.setFragmentShaderImpl(name);
+        return this;
+    }
+
+    /**
+     * Enable or disable the depth write in implementation.
+     *
+     * @param enable <code>true</code> to enable, <code>false</code> to disable.
+     */
+    protected void setDepthWriteImpl(final boolean enable) {
+        //does nothing.
+    }
+
+    /**
+     * Set a shader vertex program in implementation.
+     *
+     * @param name Program name.
+     */
+    protected void setVertexShaderImpl(final String name) {
+        //does nothing.
+    }
+
+    /**
+     * Set a shader fragment program in implementation.
+     *
+     * @param name Program name.
+     */
+    protected void setFragmentShaderImpl(final String name) {
+        //does nothing.
+    }
+
+    /**
+     * Set fragment shader parameters in the implementation.
+     * By default, every slot is set by its name with setFragmentShaderParameter, an implementation should override it to
+     * upload the values in one call.
+     *
+     * @param layout Parameters names and slots.
+     * @param values All the values, the values of the slot s start at s * ShaderParameterLayout.SLOT_SIZE.
+     * @param from   First slot to set.
+     * @param to     Last slot to set, excluded.
+     */
+    protected void setFragmentShaderParametersImpl(final ShaderParameterLayout layout, final FloatBuffer values, final int from, final int to) {
+        for (int slot = from; slot < to; slot++) {
+            final String name = layout.getName(slot);
+            final int offset = slot * ShaderParameterLayout.SLOT_SIZE;
+            switch (layout.getSize(slot)) {
+                case 1: this.setFragmentShaderParameter(ShaderParam.float1(name, values.get(offset)));
+                    break;
+                case 2: this.setFragmentShaderParameter(ShaderParam.float2(name, values.get(offset), values.get(offset + 1)));
+                    break;
+                case 3: this.setFragmentShaderParameter(ShaderParam.float3(name, values.get(offset), values.get(offset + 1), values.get(offset + 2)));
+                    break;
+                default: this.setFragmentShaderParameter(ShaderParam.float4(name, values.get(offset), values.get(offset + 1), values.get(offset + 2), values.get(offset + 3)));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Set vertex shader parameters in the implementation.
+     * By default, every slot is set by its name with setVertexShaderParameter, an implementation should override it to
+     * upload the values in one call.
+     *
+     * @param layout Parameters names and slots.
+     * @param values All the values, the values of the slot s start at s * ShaderParameterLayout.SLOT_SIZE.
+     * @param from   First slot to set.
+     * @param to     Last slot to set, excluded.
+     */
+    protected void setVertexShaderParametersImpl(final ShaderParameterLayout layout, final FloatBuffer values, final int from, final int to) {
+        for (int slot = from; slot < to; slot++) {
+            final String name = layout.getName(slot);
+            final int offset = slot * ShaderParameterLayout.SLOT_SIZE;
+            switch (layout.getSize(slot)) {
+                case 1: this.setVertexShaderParameter(ShaderParam.float1(name, values.get(offset)));
+                    break;
+                case 2: this.setVertexShaderParameter(ShaderParam.float2(name, values.get(offset), values.get(offset + 1)));
+                    break;
+                case 3: this.setVertexShaderParameter(ShaderParam.float3(name, values.get(offset), values.get(offset + 1), values.get(offset + 2)));
+                    break;
+                default: this.setVertexShaderParameter(ShaderParam.float4(name, values.get(offset), values.get(offset + 1), values.get(offset + 2), values.get(offset + 3)));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Set the auto parameters for a fragment program in the implementation.
+     *
+     * @param name Parameter name.
+     * @param auto Parameter automatically updated from graphic engine.
+     */
+    protected void setFragmentShaderParameterAutoImpl(final String name, final ShaderConstantType auto) {
+        //does nothing.
+    }
+
+    /**
+     * Set the auto parameters for a fragment program in the implementation.
+     *
+     * @param name  Parameter name.
+     * @param auto  Parameter automatically updated from graphic engine.
+     * @param param Additional parameter.
+     */
+    protected void setFragmentShaderParameterAutoImpl(final String name, final ShaderConstantType auto, final int param) {
+        //does nothing.
+    }
+
+    /**
+     * Set the auto parameters for a vertex program in the implementation.
+     *
+     * @param name Parameter name.
+     * @param auto Parameter automatically updated from graphic engine.
+     */
+    protected void setVertexShaderParameterAutoImpl(final String name, final ShaderConstantType auto) {
+        //does nothing.
+    }
+
+    /**
+     * Set the auto parameters for a vertex program in the implementation.
+     *
+     * @param name  Parameter name.
+     * @param auto  Parameter automatically updated from graphic engine.
+     * @param param Additional parameter.
+     */
+    protected void setVertexShaderParameterAutoImpl(final String name, final ShaderConstantType auto, final int param) {
+        //does nothing.
+    }
 
     /**
      * Set a shader fragment program to this pass.
@@ -311,6 +517,28 @@ public abstract class MaterialPass {
         return this;
     }
 
+    /**
+     * Upload the fragment shader parameters changed in a block since its last update.
+     *
+     * @param block Parameters to upload.
+     * @return This object for chaining.
+     */
+    public final MaterialPass updateFragmentShaderParameters(final ShaderParameterBlock block) {
+        block.flush(this::setFragmentShaderParametersImpl);
+        return this;
+    }
+
+    /**
+     * Upload the vertex shader parameters changed in a block since its last update.
+     *
+     * @param block Parameters to upload.
+     * @return This object for chaining.
+     */
+    public final MaterialPass updateVertexShaderParameters(final ShaderParameterBlock block) {
+        block.flush(this::setVertexShaderParametersImpl);
+        return this;
+    }
+
     public final MaterialPass setFragmentShaderParameter(String name, float... f) {
         if(f != null && f.length > 0) {
             switch (f.length) {
@@ -385,22 +613,32 @@ public abstract class MaterialPass {
 
     /**
      * Set the auto parameters for a fragment program.
+     * An implementation can override it, but must call this method so the constant is listed in getAutoConstants.
      *
      * @param name Parameter name.
      * @param auto Parameter automatically updated from graphic engine.
      * @return This object for chaining.
      */
-    public abstract MaterialPass setFragmentShaderParameterAuto(String name, ShaderConstantType auto);
+    public MaterialPass setFragmentShaderParameterAuto(final String name, final ShaderConstantType auto) {
+        this.autoConstants.add(auto);
+        this.setFragmentShaderParameterAutoImpl(name, auto);
+        return this;
+    }
 
     /**
      * Set the auto parameters for a fragment program.
+     * An implementation can override it, but must call this method so the constant is listed in getAutoConstants.
      *
      * @param name  Parameter name.
      * @param auto  Parameter automatically updated from graphic engine.
      * @param param Additional parameter.
      * @return This object for chaining.
      */
-    public abstract MaterialPass setFragmentShaderParameterAuto(String name, ShaderConstantType auto, int param);
+    public MaterialPass setFragmentShaderParameterAuto(final String name, final ShaderConstantType auto, final int param) {
+        this.autoConstants.add(auto);
+        this.setFragmentShaderParameterAutoImpl(name, auto, param);
+        return this;
+    }
 
     /**
      * Set the parameters for a vertex program.
@@ -444,22 +682,32 @@ public abstract class MaterialPass {
 
     /**
      * Set the auto parameters for a vertex program.
+     * An implementation can override it, but must call this method so the constant is listed in getAutoConstants.
      *
      * @param name  Parameter name.
      * @param auto  Parameter automatically updated from graphic engine.
      * @param param Additional parameter.
      * @return This object for chaining.
      */
-    public abstract MaterialPass setVertexShaderParameterAuto(String name, ShaderConstantType auto, int param);
+    public MaterialPass setVertexShaderParameterAuto(final String name, final ShaderConstantType auto, final int param) {
+        this.autoConstants.add(auto);
+        this.setVertexShaderParameterAutoImpl(name, auto, param);
+        return this;
+    }
 
     /**
      * Set the auto parameters for a vertex program.
+     * An implementation can override it, but must call this method so the constant is listed in getAutoConstants.
      *
      * @param name Parameter name.
      * @param auto Parameter automatically updated from graphic engine.
      * @return This object for chaining.
      */
-    public abstract MaterialPass setVertexShaderParameterAuto(String name, ShaderConstantType auto);
+    public MaterialPass setVertexShaderParameterAuto(final String name, final ShaderConstantType auto) {
+        this.autoConstants.add(auto);
+        this.setVertexShaderParameterAutoImpl(name, auto);
+        return this;
+    }
 
     /**
      * The transparency can be computed in different ways, they are exposed in
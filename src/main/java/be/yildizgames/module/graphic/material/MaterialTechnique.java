@@ -117,6 +117,13 @@ public abstract class MaterialTechnique implements Comparable<MaterialTechnique>
         return Collections.unmodifiableList(this.materialPassList);
     }
 
+    /**
+     * @return The sort key of the first pass, 0 if there is no pass.
+     */
+    final long getSortKey() {
+        return this.materialPassList.isEmpty() ? 0 : this.materialPassList.get(0).getSortKey();
+    }
+
     /**
      * Activate glow for this technique in implementation.
      */
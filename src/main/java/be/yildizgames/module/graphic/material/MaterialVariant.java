@@ -0,0 +1,211 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.material;
+
+import be.yildizgames.module.color.Color;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Description of a material derived from a parent, with only some parameters overridden:
+ * emissive and diffuse colors and shader parameters of the first pass.
+ * A variant is an immutable value, every with method returns a new variant.
+ * Variants are turned into materials by MaterialCache.acquire, identical variants share the same material,
+ * so faction colors only create one material per color and not one per object.
+ * The parent material must not be modified once variants of it are used.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class MaterialVariant {
+
+    private final Material parent;
+
+    private final Color emissive;
+
+    private final Color diffuse;
+
+    /**
+     * Fragment shader parameters, by name.
+     */
+    private final Map<String, float[]> fragmentParameters;
+
+    /**
+     * Vertex shader parameters, by name.
+     */
+    private final Map<String, float[]> vertexParameters;
+
+    /**
+     * Unique description of the variant, identical variants have the same key.
+     */
+    private final String key;
+
+    private MaterialVariant(final Material parent, final Color emissive, final Color diffuse, final Map<String, float[]> fragmentParameters, final Map<String, float[]> vertexParameters) {
+        super();
+        this.parent = parent;
+        this.emissive = emissive;
+        this.diffuse = diffuse;
+        this.fragmentParameters = fragmentParameters;
+        this.vertexParameters = vertexParameters;
+        this.key = this.buildKey();
+    }
+
+    /**
+     * Create a variant without override.
+     *
+     * @param parent Material to derive from.
+     * @return The variant.
+     */
+    public static MaterialVariant of(final Material parent) {
+        Objects.requireNonNull(parent);
+        return new MaterialVariant(parent, null, null, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * @param color Emissive color.
+     * @return A variant with this emissive color.
+     */
+    public MaterialVariant withEmissive(final Color color) {
+        Objects.requireNonNull(color);
+        return new MaterialVariant(this.parent, color, this.diffuse, this.fragmentParameters, this.vertexParameters);
+    }
+
+    /**
+     * @param color Diffuse color.
+     * @return A variant with this diffuse color.
+     */
+    public MaterialVariant withDiffuse(final Color color) {
+        Objects.requireNonNull(color);
+        return new MaterialVariant(this.parent, this.emissive, color, this.fragmentParameters, this.vertexParameters);
+    }
+
+    /**
+     * @param name   Fragment shader parameter name.
+     * @param values Parameter values, 1 to 4 floats.
+     * @return A variant with this fragment shader parameter.
+     */
+    public MaterialVariant withFragmentParameter(final String name, final float... values) {
+        return new MaterialVariant(this.parent, this.emissive, this.diffuse, with(this.fragmentParameters, name, values), this.vertexParameters);
+    }
+
+    /**
+     * @param name   Vertex shader parameter name.
+     * @param values Parameter values, 1 to 4 floats.
+     * @return A variant with this vertex shader parameter.
+     */
+    public MaterialVariant withVertexParameter(final String name, final float... values) {
+        return new MaterialVariant(this.parent, this.emissive, this.diffuse, this.fragmentParameters, with(this.vertexParameters, name, values));
+    }
+
+    public Material getParent() {
+        return this.parent;
+    }
+
+    /**
+     * @return <code>true</code> if this variant has no override, its material would be identical to the parent.
+     */
+    public boolean isEmpty() {
+        return this.emissive == null && this.diffuse == null && this.fragmentParameters.isEmpty() && this.vertexParameters.isEmpty();
+    }
+
+    /**
+     * @return The unique description of this variant, the parent is only described by its name.
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Build the material of this variant, as a copy of the parent with the overrides applied.
+     *
+     * @param name Material unique name.
+     * @return The built material.
+     */
+    Material create(final String name) {
+        final Material material = this.parent.copy(name);
+        final MaterialPass pass = material.getTechnique(0).getPass(0);
+        if (this.emissive != null) {
+            pass.setEmissive(this.emissive);
+        }
+        if (this.diffuse != null) {
+            pass.setDiffuse(this.diffuse);
+        }
+        this.fragmentParameters.forEach(pass::setFragmentShaderParameter);
+        this.vertexParameters.forEach(pass::setVertexShaderParameter);
+        return material;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MaterialVariant other = (MaterialVariant) o;
+        return this.parent == other.parent && this.key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(this.parent) + this.key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.key;
+    }
+
+    private String buildKey() {
+        final StringBuilder builder = new StringBuilder(this.parent.getName());
+        if (this.emissive != null) {
+            appendColor(builder.append("|e:"), this.emissive);
+        }
+        if (this.diffuse != null) {
+            appendColor(builder.append("|d:"), this.diffuse);
+        }
+        this.fragmentParameters.forEach((n, v) -> builder.append("|f:").append(n).append('=').append(Arrays.toString(v)));
+        this.vertexParameters.forEach((n, v) -> builder.append("|v:").append(n).append('=').append(Arrays.toString(v)));
+        return builder.toString();
+    }
+
+    private static void appendColor(final StringBuilder builder, final Color color) {
+        builder.append(color.red).append(',').append(color.green).append(',').append(color.blue).append(',').append(color.alpha);
+    }
+
+    private static Map<String, float[]> with(final Map<String, float[]> parameters, final String name, final float[] values) {
+        Objects.requireNonNull(name);
+        if (values == null || values.length == 0 || values.length > 4) {
+            throw new IllegalArgumentException("A shader parameter has 1 to 4 values.");
+        }
+        final Map<String, float[]> result = new TreeMap<>(parameters);
+        result.put(name, values.clone());
+        return Collections.unmodifiableMap(result);
+    }
+}
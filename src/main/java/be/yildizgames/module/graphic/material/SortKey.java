@@ -0,0 +1,148 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.material;
+
+import be.yildizgames.module.graphic.material.MaterialPass.BlendMode;
+import be.yildizgames.module.graphic.material.MaterialPass.Transparency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 64 bits render state key of a material pass, sorting passes by key groups the ones sharing the same state.
+ * From the most significant bit: transparent flag (1 bit), blend mode (3 bits), transparency (2 bits),
+ * depth write disabled (1 bit), vertex shader id (12 bits), fragment shader id (12 bits), texture id (16 bits),
+ * the last 17 bits are left to 0 for the render queue depth.
+ * Shader and texture ids are given in order of first use, they wrap around once their bits are exhausted,
+ * only making the batching less efficient, the ids which would wrap to 0, the value for none, are skipped.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class SortKey {
+
+    /**
+     * Bit set for the transparent passes, rendered after the opaque ones.
+     */
+    public static final long TRANSPARENT = 1L << 63;
+
+    /**
+     * Number of low bits left to 0 for the depth.
+     */
+    public static final int DEPTH_BITS = 17;
+
+    private static final int TEXTURE_SHIFT = DEPTH_BITS;
+
+    private static final int TEXTURE_BITS = 16;
+
+    private static final int FRAGMENT_SHIFT = TEXTURE_SHIFT + TEXTURE_BITS;
+
+    private static final int SHADER_BITS = 12;
+
+    private static final int VERTEX_SHIFT = FRAGMENT_SHIFT + SHADER_BITS;
+
+    private static final int DEPTH_WRITE_SHIFT = VERTEX_SHIFT + SHADER_BITS;
+
+    private static final int TRANSPARENCY_SHIFT = DEPTH_WRITE_SHIFT + 1;
+
+    private static final int BLEND_SHIFT = TRANSPARENCY_SHIFT + 2;
+
+    /**
+     * Ids of the shader and texture names, an entry is kept for each distinct name for the application lifetime,
+     * so the map grows with the number of shaders and textures ever used, names are never removed.
+     */
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+    /**
+     * Last given id.
+     */
+    private static final AtomicInteger LAST_ID = new AtomicInteger();
+
+    private SortKey() {
+        super();
+    }
+
+    /**
+     * Build a key.
+     *
+     * @param blend        Pass blend mode.
+     * @param transparency Pass transparency.
+     * @param depthWrite   <code>true</code> if the pass writes in the depth buffer.
+     * @param vertex       Vertex shader id.
+     * @param fragment     Fragment shader id.
+     * @param texture      First texture id.
+     * @return The key.
+     */
+    static long of(final BlendMode blend, final Transparency transparency, final boolean depthWrite, final int vertex, final int fragment, final int texture) {
+        final boolean transparent = blend != BlendMode.NONE || transparency != Transparency.NONE;
+        return (transparent ? TRANSPARENT : 0)
+                | (long) blend.ordinal() << BLEND_SHIFT
+                | (long) transparency.ordinal() << TRANSPARENCY_SHIFT
+                | (depthWrite ? 0L : 1L) << DEPTH_WRITE_SHIFT
+                | (long) (vertex & mask(SHADER_BITS)) << VERTEX_SHIFT
+                | (long) (fragment & mask(SHADER_BITS)) << FRAGMENT_SHIFT
+                | (long) (texture & mask(TEXTURE_BITS)) << TEXTURE_SHIFT;
+    }
+
+    /**
+     * Provide the id of a shader or texture name.
+     *
+     * @param name Shader or texture name, null for none.
+     * @return The name id, 0 for none.
+     */
+    static int id(final String name) {
+        if (name == null) {
+            return 0;
+        }
+        return IDS.computeIfAbsent(name, n -> nextId());
+    }
+
+    /**
+     * Give a new id, skipping the ones equal to 0 once masked to the shader or texture bits.
+     *
+     * @return The new id.
+     */
+    private static int nextId() {
+        final int id = LAST_ID.incrementAndGet();
+        if ((id & mask(SHADER_BITS)) == 0) {
+            return LAST_ID.incrementAndGet();
+        }
+        return id;
+    }
+
+    /**
+     * Check if a key is the one of a transparent pass.
+     *
+     * @param key Key to check.
+     * @return <code>true</code> if the pass is transparent.
+     */
+    public static boolean isTransparent(final long key) {
+        return (key & TRANSPARENT) != 0;
+    }
+
+    private static int mask(final int bits) {
+        return (1 << bits) - 1;
+    }
+}
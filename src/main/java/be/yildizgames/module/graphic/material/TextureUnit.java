@@ -34,6 +34,11 @@ import be.yildizgames.module.color.Color;
  */
 public abstract class TextureUnit {
 
+    /**
+     * Id of the current texture, used by the pass sort key, 0 if none.
+     */
+    private int textureId;
+
     /**
      * Protected constructor, only called from children.
      */
@@ -48,6 +53,7 @@ public abstract class TextureUnit {
      * @return This object.
      */
     public final TextureUnit setTexture(final String path) {
+        this.textureId = SortKey.id(path);
         this.setTextureImpl(path);
         return this;
     }
@@ -106,6 +112,13 @@ public abstract class TextureUnit {
         this.setScale(scale, scale);
     }
 
+    /**
+     * @return The id of the current texture, 0 if none.
+     */
+    final int getTextureId() {
+        return this.textureId;
+    }
+
     /**
      * Scale the texture.
      *
@@ -37,6 +37,11 @@ public abstract class ParticleColorAffector {
      */
     private int alphaVariation;
 
+    /**
+     * System using this affector, null if not attached.
+     */
+    private ParticleSystem system;
+
     /**
      * Simple constructor, only to be called from child.
      */
@@ -59,6 +64,22 @@ public abstract class ParticleColorAffector {
     public final void setAlphaVariation(final int variation) {
         this.alphaVariation = variation;
         this.setAlphaVariationImpl(variation);
+        this.notifySystem();
+    }
+
+    /**
+     * Attach this affector to the system it was created for, the system is notified when the affector changes.
+     *
+     * @param system System using this affector.
+     */
+    final void attach(final ParticleSystem system) {
+        this.system = system;
+    }
+
+    private void notifySystem() {
+        if (this.system != null) {
+            this.system.affectorsUpdated();
+        }
     }
 
     /**
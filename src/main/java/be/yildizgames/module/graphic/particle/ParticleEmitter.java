@@ -256,6 +256,13 @@ public abstract class ParticleEmitter {
         return this;
     }
 
+    /**
+     * @return true if the emitter is emitting, false if it was stopped.
+     */
+    public final boolean isStarted() {
+        return started;
+    }
+
     public final float getAngle() {
         return angle;
     }
@@ -41,6 +41,11 @@ public abstract class ParticleForceAffector {
      */
     private Point3D force = Point3D.ZERO;
 
+    /**
+     * System using this affector, null if not attached.
+     */
+    private ParticleSystem system;
+
     /**
      * Simple constructor.
      */
@@ -68,6 +73,22 @@ public abstract class ParticleForceAffector {
         assert force != null;
         this.force = force;
         this.setForceImpl(this.force.x, this.force.y, this.force.z);
+        this.notifySystem();
+    }
+
+    /**
+     * Attach this affector to the system it was created for, the system is notified when the affector changes.
+     *
+     * @param system System using this affector.
+     */
+    final void attach(final ParticleSystem system) {
+        this.system = system;
+    }
+
+    private void notifySystem() {
+        if (this.system != null) {
+            this.system.affectorsUpdated();
+        }
     }
 
     /**
@@ -32,6 +32,21 @@ package be.yildizgames.module.graphic.particle;
  */
 public abstract class ParticleScaleAffector {
 
+    /**
+     * Width variation per second.
+     */
+    private int width;
+
+    /**
+     * Height variation per second.
+     */
+    private int height;
+
+    /**
+     * System using this affector, null if not attached.
+     */
+    private ParticleSystem system;
+
     /**
      * Simple constructor.
      */
@@ -46,7 +61,39 @@ public abstract class ParticleScaleAffector {
      * @param height Height value.
      */
     public final void setScale(final int width, final int height) {
+        this.width = width;
+        this.height = height;
         this.setScaleImpl(width, height);
+        this.notifySystem();
+    }
+
+    /**
+     * Attach this affector to the system it was created for, the system is notified when the affector changes.
+     *
+     * @param system System using this affector.
+     */
+    final void attach(final ParticleSystem system) {
+        this.system = system;
+    }
+
+    private void notifySystem() {
+        if (this.system != null) {
+            this.system.affectorsUpdated();
+        }
+    }
+
+    /**
+     * @return The width variation per second.
+     */
+    public final int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * @return The height variation per second.
+     */
+    public final int getHeight() {
+        return this.height;
     }
 
     /**
@@ -0,0 +1,458 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.particle;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.color.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * CPU simulation of the particles of a system, the particles state is kept in one primitive array per component,
+ * sized from the system quota, so a system memory does not change while it is running and each step cost only
+ * depends on the number of alive particles.
+ * The integration loops only read and write the arrays at the same index, without branches, so they can be
+ * vectorized by the JIT compiler.
+ * Positions are in the particle system local space.
+ * The simulator is not thread safe.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class ParticleSimulator {
+
+    /**
+     * Number of floats stored for one particle.
+     */
+    public static final int FLOATS_PER_PARTICLE = 18;
+
+    private float[] positionX = new float[0];
+    private float[] positionY = new float[0];
+    private float[] positionZ = new float[0];
+    private float[] velocityX = new float[0];
+    private float[] velocityY = new float[0];
+    private float[] velocityZ = new float[0];
+    private float[] red = new float[0];
+    private float[] green = new float[0];
+    private float[] blue = new float[0];
+    private float[] alpha = new float[0];
+
+    /**
+     * Color variation per second, to reach the emitter end color at the end of the particle life.
+     */
+    private float[] redRate = new float[0];
+    private float[] greenRate = new float[0];
+    private float[] blueRate = new float[0];
+    private float[] alphaRate = new float[0];
+
+    private float[] width = new float[0];
+    private float[] height = new float[0];
+
+    /**
+     * Time the particle has been living, in seconds.
+     */
+    private float[] age = new float[0];
+
+    /**
+     * Time the particle will live, in seconds.
+     */
+    private float[] lifeTime = new float[0];
+
+    /**
+     * Emission state, by emitter index.
+     */
+    private final List<EmitterState> emitters = new ArrayList<>();
+
+    /**
+     * Maximum number of alive particles.
+     */
+    private int quota;
+
+    /**
+     * Number of alive particles, they are stored from 0 to count excluded.
+     */
+    private int count;
+
+    /**
+     * Random values for the emission directions and speeds.
+     */
+    private SplittableRandom random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+
+    ParticleSimulator() {
+        super();
+    }
+
+    /**
+     * Set the seed of the emission random values, to reproduce a simulation.
+     *
+     * @param seed Seed to use.
+     */
+    public void setSeed(final long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Allocate the particles arrays, this is the only allocation done by the simulator.
+     * If more particles are alive than the new quota, the last ones are removed.
+     *
+     * @param newQuota Maximum number of alive particles.
+     * @throws IllegalArgumentException If the quota is negative.
+     */
+    void setQuota(final int newQuota) {
+        if (newQuota < 0) {
+            throw new IllegalArgumentException("Quota cannot be negative: " + newQuota);
+        }
+        if (newQuota == this.quota) {
+            return;
+        }
+        this.positionX = Arrays.copyOf(this.positionX, newQuota);
+        this.positionY = Arrays.copyOf(this.positionY, newQuota);
+        this.positionZ = Arrays.copyOf(this.positionZ, newQuota);
+        this.velocityX = Arrays.copyOf(this.velocityX, newQuota);
+        this.velocityY = Arrays.copyOf(this.velocityY, newQuota);
+        this.velocityZ = Arrays.copyOf(this.velocityZ, newQuota);
+        this.red = Arrays.copyOf(this.red, newQuota);
+        this.green = Arrays.copyOf(this.green, newQuota);
+        this.blue = Arrays.copyOf(this.blue, newQuota);
+        this.alpha = Arrays.copyOf(this.alpha, newQuota);
+        this.redRate = Arrays.copyOf(this.redRate, newQuota);
+        this.greenRate = Arrays.copyOf(this.greenRate, newQuota);
+        this.blueRate = Arrays.copyOf(this.blueRate, newQuota);
+        this.alphaRate = Arrays.copyOf(this.alphaRate, newQuota);
+        this.width = Arrays.copyOf(this.width, newQuota);
+        this.height = Arrays.copyOf(this.height, newQuota);
+        this.age = Arrays.copyOf(this.age, newQuota);
+        this.lifeTime = Arrays.copyOf(this.lifeTime, newQuota);
+        this.quota = newQuota;
+        this.count = Math.min(this.count, newQuota);
+    }
+
+    /**
+     * Advance the simulation: move and age the alive particles, remove the dead ones and emit the new ones.
+     *
+     * @param system  System to simulate.
+     * @param seconds Elapsed time since the last step, in seconds.
+     */
+    void update(final ParticleSystem system, final float seconds) {
+        if (seconds <= 0) {
+            return;
+        }
+        this.integrate(system, 0, this.count, seconds);
+        this.complete(system, seconds);
+    }
+
+    /**
+     * Move, color, scale and age the particles of a range with the system affectors, ranges can be integrated in
+     * parallel as they do not share any particle, complete must then be called once all of them are done.
+     *
+     * @param system  Simulated system.
+     * @param from    First particle.
+     * @param to      Last particle, excluded.
+     * @param seconds Elapsed time, in seconds.
+     */
+    void integrate(final ParticleSystem system, final int from, final int to, final float seconds) {
+        this.integrate(from, to, seconds, system.getForceX(), system.getForceY(), system.getForceZ(),
+                system.getAlphaVariation() / 100f, system.getScaleWidth(), system.getScaleHeight());
+    }
+
+    /**
+     * End a step once all the particles are integrated: remove the dead particles and emit the new ones.
+     *
+     * @param system  Simulated system.
+     * @param seconds Elapsed time, in seconds.
+     */
+    void complete(final ParticleSystem system, final float seconds) {
+        this.removeDead();
+        for (int i = 0; i < system.getEmitterCount(); i++) {
+            if (this.emitters.size() == i) {
+                this.emitters.add(new EmitterState());
+            }
+            this.emit(system.getEmitter(i), this.emitters.get(i), seconds, system.getWidth(), system.getHeight());
+        }
+    }
+
+    /**
+     * Move, color, scale and age the particles of a range, each particle only depends on itself.
+     *
+     * @param from           First particle.
+     * @param to             Last particle, excluded.
+     * @param seconds        Elapsed time, in seconds.
+     * @param forceX         Acceleration applied on all particles, on the X axis.
+     * @param forceY         Acceleration applied on all particles, on the Y axis.
+     * @param forceZ         Acceleration applied on all particles, on the Z axis.
+     * @param alphaVariation Alpha variation per second, added to the particle own variation.
+     * @param scaleWidth     Width variation per second.
+     * @param scaleHeight    Height variation per second.
+     */
+    private void integrate(final int from, final int to, final float seconds, final float forceX, final float forceY,
+                           final float forceZ, final float alphaVariation, final float scaleWidth, final float scaleHeight) {
+        final float ax = forceX * seconds;
+        final float ay = forceY * seconds;
+        final float az = forceZ * seconds;
+        for (int i = from; i < to; i++) {
+            this.velocityX[i] += ax;
+            this.velocityY[i] += ay;
+            this.velocityZ[i] += az;
+        }
+        for (int i = from; i < to; i++) {
+            this.positionX[i] += this.velocityX[i] * seconds;
+            this.positionY[i] += this.velocityY[i] * seconds;
+            this.positionZ[i] += this.velocityZ[i] * seconds;
+        }
+        for (int i = from; i < to; i++) {
+            this.red[i] += this.redRate[i] * seconds;
+            this.green[i] += this.greenRate[i] * seconds;
+            this.blue[i] += this.blueRate[i] * seconds;
+            this.alpha[i] = Math.min(1f, Math.max(0f, this.alpha[i] + (this.alphaRate[i] + alphaVariation) * seconds));
+        }
+        final float dw = scaleWidth * seconds;
+        final float dh = scaleHeight * seconds;
+        for (int i = from; i < to; i++) {
+            this.width[i] = Math.max(0f, this.width[i] + dw);
+            this.height[i] = Math.max(0f, this.height[i] + dh);
+            this.age[i] += seconds;
+        }
+    }
+
+    /**
+     * Remove the particles having reached their life time, the last particle is moved in the freed place.
+     * The scan is done in index order, so the resulting order only depends on the particles state.
+     */
+    private void removeDead() {
+        int i = 0;
+        while (i < this.count) {
+            if (this.age[i] >= this.lifeTime[i]) {
+                this.count--;
+                this.move(this.count, i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void emit(final ParticleEmitter emitter, final EmitterState state, final float seconds, final float w, final float h) {
+        if (!emitter.isStarted() || emitter.getLifeTime() <= 0) {
+            return;
+        }
+        final float duration = emitter.getDuration();
+        if (duration > 0) {
+            state.activeTime += seconds;
+            if (state.activeTime > duration) {
+                if (emitter.getRepeatDelay() > 0 && state.activeTime > duration + emitter.getRepeatDelay()) {
+                    state.activeTime = 0;
+                }
+                return;
+            }
+        }
+        state.carry += emitter.getRate() * seconds;
+        final int toEmit = (int) state.carry;
+        state.carry -= toEmit;
+        for (int n = 0; n < toEmit && this.count < this.quota; n++) {
+            this.emitOne(emitter, w, h);
+        }
+    }
+
+    private void emitOne(final ParticleEmitter emitter, final float w, final float h) {
+        final int i = this.count;
+        this.count++;
+        Point3D d = emitter.getDirection();
+        float dx = d.x;
+        float dy = d.y;
+        float dz = d.z;
+        float length = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length == 0) {
+            dx = 0;
+            dy = 0;
+            dz = -1;
+        } else {
+            dx /= length;
+            dy /= length;
+            dz /= length;
+        }
+        // Basis perpendicular to the direction, to deviate it inside the emission cone.
+        float ux;
+        float uy;
+        float uz;
+        if (Math.abs(dx) < 0.9f) {
+            ux = 0;
+            uy = dz;
+            uz = -dy;
+        } else {
+            ux = -dz;
+            uy = 0;
+            uz = dx;
+        }
+        length = (float) Math.sqrt(ux * ux + uy * uy + uz * uz);
+        ux /= length;
+        uy /= length;
+        uz /= length;
+        final float vx = dy * uz - dz * uy;
+        final float vy = dz * ux - dx * uz;
+        final float vz = dx * uy - dy * ux;
+        final double theta = Math.toRadians(emitter.getAngle()) * this.random.nextDouble();
+        final double phi = 2 * Math.PI * this.random.nextDouble();
+        final float sinTheta = (float) Math.sin(theta);
+        final float cosTheta = (float) Math.cos(theta);
+        final float cosPhi = (float) Math.cos(phi);
+        final float sinPhi = (float) Math.sin(phi);
+        final float speed = emitter.getMinSpeed() + (emitter.getMaxSpeed() - emitter.getMinSpeed()) * (float) this.random.nextDouble();
+        this.velocityX[i] = (dx * cosTheta + (ux * cosPhi + vx * sinPhi) * sinTheta) * speed;
+        this.velocityY[i] = (dy * cosTheta + (uy * cosPhi + vy * sinPhi) * sinTheta) * speed;
+        this.velocityZ[i] = (dz * cosTheta + (uz * cosPhi + vz * sinPhi) * sinTheta) * speed;
+        this.positionX[i] = 0;
+        this.positionY[i] = 0;
+        this.positionZ[i] = 0;
+        final Color start = emitter.getStartColor();
+        final Color end = emitter.getEndColor();
+        final float life = emitter.getLifeTime();
+        this.red[i] = start.normalizedRed;
+        this.green[i] = start.normalizedGreen;
+        this.blue[i] = start.normalizedBlue;
+        this.alpha[i] = start.normalizedAlpha;
+        this.redRate[i] = (end.normalizedRed - start.normalizedRed) / life;
+        this.greenRate[i] = (end.normalizedGreen - start.normalizedGreen) / life;
+        this.blueRate[i] = (end.normalizedBlue - start.normalizedBlue) / life;
+        this.alphaRate[i] = (end.normalizedAlpha - start.normalizedAlpha) / life;
+        this.width[i] = w;
+        this.height[i] = h;
+        this.age[i] = 0;
+        this.lifeTime[i] = life;
+    }
+
+    private void move(final int from, final int to) {
+        this.positionX[to] = this.positionX[from];
+        this.positionY[to] = this.positionY[from];
+        this.positionZ[to] = this.positionZ[from];
+        this.velocityX[to] = this.velocityX[from];
+        this.velocityY[to] = this.velocityY[from];
+        this.velocityZ[to] = this.velocityZ[from];
+        this.red[to] = this.red[from];
+        this.green[to] = this.green[from];
+        this.blue[to] = this.blue[from];
+        this.alpha[to] = this.alpha[from];
+        this.redRate[to] = this.redRate[from];
+        this.greenRate[to] = this.greenRate[from];
+        this.blueRate[to] = this.blueRate[from];
+        this.alphaRate[to] = this.alphaRate[from];
+        this.width[to] = this.width[from];
+        this.height[to] = this.height[from];
+        this.age[to] = this.age[from];
+        this.lifeTime[to] = this.lifeTime[from];
+    }
+
+    /**
+     * @return The number of alive particles.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return The maximum number of alive particles.
+     */
+    public int getQuota() {
+        return this.quota;
+    }
+
+    /**
+     * @return The memory used by the particles arrays, in bytes, it only depends on the quota.
+     */
+    public long getMemoryFootprint() {
+        return (long) this.quota * FLOATS_PER_PARTICLE * Float.BYTES;
+    }
+
+    public float getX(final int index) {
+        return this.positionX[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getY(final int index) {
+        return this.positionY[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getZ(final int index) {
+        return this.positionZ[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getVelocityX(final int index) {
+        return this.velocityX[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getVelocityY(final int index) {
+        return this.velocityY[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getVelocityZ(final int index) {
+        return this.velocityZ[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getRed(final int index) {
+        return this.red[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getGreen(final int index) {
+        return this.green[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getBlue(final int index) {
+        return this.blue[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getAlpha(final int index) {
+        return this.alpha[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getWidth(final int index) {
+        return this.width[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getHeight(final int index) {
+        return this.height[Objects.checkIndex(index, this.count)];
+    }
+
+    public float getAge(final int index) {
+        return this.age[Objects.checkIndex(index, this.count)];
+    }
+
+    /**
+     * Emission progress of an emitter.
+     */
+    private static final class EmitterState {
+
+        /**
+         * Fraction of particle not yet emitted.
+         */
+        private float carry;
+
+        /**
+         * Time since the emitter started its current cycle.
+         */
+        private float activeTime;
+    }
+}
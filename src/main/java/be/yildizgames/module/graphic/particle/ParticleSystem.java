@@ -26,6 +26,7 @@
 package be.yildizgames.module.graphic.particle;
 
 import be.yildizgames.common.gameobject.Movable;
+import be.yildizgames.common.geometry.Point3D;
 import be.yildizgames.common.geometry.Size2;
 import be.yildizgames.module.graphic.material.Material;
 import be.yildizgames.module.graphic.particle.ParticleEmitter.EmitterType;
@@ -35,6 +36,7 @@ import java.util.List;
 
 /**
  * Particle system, contains the material use by the particles, their size, the quota and a list of emitters.
+ * The particles can be simulated on the CPU by calling update, for example on a headless server.
  *
  * @author Grégory Van den Borre
  */
@@ -44,6 +46,48 @@ public abstract class ParticleSystem implements Movable {
      * List of particle emitter.
      */
     private final List<ParticleEmitter> emitterList = new ArrayList<>();
+
+    /**
+     * Created affectors.
+     */
+    private final List<ParticleColorAffector> colorAffectorList = new ArrayList<>();
+
+    private final List<ParticleForceAffector> forceAffectorList = new ArrayList<>();
+
+    private final List<ParticleScaleAffector> scaleAffectorList = new ArrayList<>();
+
+    /**
+     * Sum of the forces of the force affectors, updated when an affector changes.
+     */
+    private float forceX;
+
+    private float forceY;
+
+    private float forceZ;
+
+    /**
+     * Sum of the alpha variations of the color affectors, in percent per second, updated when an affector changes.
+     */
+    private float alphaVariation;
+
+    /**
+     * Sum of the size variations of the scale affectors, per second, updated when an affector changes.
+     */
+    private float scaleWidth;
+
+    private float scaleHeight;
+
+    /**
+     * CPU simulation of the particles, its memory is allocated from the quota.
+     */
+    private final ParticleSimulator simulator = new ParticleSimulator();
+
+    /**
+     * Particle initial size.
+     */
+    private float width = 1;
+
+    private float height = 1;
     /**
      * Material used for the particles.
      */
@@ -88,7 +132,10 @@ public abstract class ParticleSystem implements Movable {
      * @return The newly created color affector.
      */
     public final ParticleColorAffector addColorAffector() {
-        return this.createColorAffector();
+        final ParticleColorAffector affector = this.createColorAffector();
+        affector.attach(this);
+        this.colorAffectorList.add(affector);
+        return affector;
     }
 
     /**
@@ -97,7 +144,10 @@ public abstract class ParticleSystem implements Movable {
      * @return The newly created force affector.
      */
     public final ParticleForceAffector addForceAffector() {
-        return this.createForceAffector();
+        final ParticleForceAffector affector = this.createForceAffector();
+        affector.attach(this);
+        this.forceAffectorList.add(affector);
+        return affector;
     }
 
     /**
@@ -106,7 +156,27 @@ public abstract class ParticleSystem implements Movable {
      * @return The newly created scale affector.
      */
     public final ParticleScaleAffector addScaleAffector() {
-        return this.createScaleAffector();
+        final ParticleScaleAffector affector = this.createScaleAffector();
+        affector.attach(this);
+        this.scaleAffectorList.add(affector);
+        return affector;
+    }
+
+    /**
+     * Simulate the particles on the CPU: move and age the alive particles, remove the dead ones and emit new ones
+     * from the emitters, with the affectors applied.
+     *
+     * @param seconds Elapsed time since the last update, in seconds.
+     */
+    public final void update(final float seconds) {
+        this.simulator.update(this, seconds);
+    }
+
+    /**
+     * @return The CPU simulation of the particles.
+     */
+    public final ParticleSimulator getSimulator() {
+        return this.simulator;
     }
 
     /**
@@ -131,6 +201,14 @@ public abstract class ParticleSystem implements Movable {
         return quota;
     }
 
+    public final float getWidth() {
+        return width;
+    }
+
+    public final float getHeight() {
+        return height;
+    }
+
     public final Orientation getOrientation() {
         return orientation;
     }
@@ -206,6 +284,7 @@ public abstract class ParticleSystem implements Movable {
      * @return This.
      */
     public final ParticleSystem setQuota(final int newQuota) {
+        this.simulator.setQuota(newQuota);
         this.quota = newQuota;
         this.setQuotaImpl(newQuota);
         return this;
@@ -219,13 +298,14 @@ public abstract class ParticleSystem implements Movable {
      * @return This.
      */
     public final ParticleSystem setSize(final float newWidth, final float newHeight) {
+        this.width = newWidth;
+        this.height = newHeight;
         this.setSizeImpl(newWidth, newHeight);
         return this;
     }
 
     public final ParticleSystem setSize(final Size2 size) {
-        this.setSizeImpl(size.width, size.height);
-        return this;
+        return this.setSize(size.width, size.height);
     }
 
     /**
@@ -250,6 +330,86 @@ public abstract class ParticleSystem implements Movable {
         return this.emitterList.get(index);
     }
 
+    /**
+     * @return The number of emitters.
+     */
+    public final int getEmitterCount() {
+        return this.emitterList.size();
+    }
+
+    /**
+     * Compute the affectors sums again, called by an affector of this system when it is changed.
+     */
+    final void affectorsUpdated() {
+        float x = 0;
+        float y = 0;
+        float z = 0;
+        for (int i = 0; i < this.forceAffectorList.size(); i++) {
+            final Point3D force = this.forceAffectorList.get(i).getForce();
+            x += force.x;
+            y += force.y;
+            z += force.z;
+        }
+        this.forceX = x;
+        this.forceY = y;
+        this.forceZ = z;
+        float variation = 0;
+        for (int i = 0; i < this.colorAffectorList.size(); i++) {
+            variation += this.colorAffectorList.get(i).getAlphaVariation();
+        }
+        this.alphaVariation = variation;
+        float w = 0;
+        float h = 0;
+        for (int i = 0; i < this.scaleAffectorList.size(); i++) {
+            w += this.scaleAffectorList.get(i).getWidth();
+            h += this.scaleAffectorList.get(i).getHeight();
+        }
+        this.scaleWidth = w;
+        this.scaleHeight = h;
+    }
+
+    /**
+     * @return The sum of the forces of the force affectors on the X axis.
+     */
+    final float getForceX() {
+        return this.forceX;
+    }
+
+    /**
+     * @return The sum of the forces of the force affectors on the Y axis.
+     */
+    final float getForceY() {
+        return this.forceY;
+    }
+
+    /**
+     * @return The sum of the forces of the force affectors on the Z axis.
+     */
+    final float getForceZ() {
+        return this.forceZ;
+    }
+
+    /**
+     * @return The sum of the alpha variations of the color affectors, in percent per second.
+     */
+    final float getAlphaVariation() {
+        return this.alphaVariation;
+    }
+
+    /**
+     * @return The sum of the width variations of the scale affectors, per second.
+     */
+    final float getScaleWidth() {
+        return this.scaleWidth;
+    }
+
+    /**
+     * @return The sum of the height variations of the scale affectors, per second.
+     */
+    final float getScaleHeight() {
+        return this.scaleHeight;
+    }
+
     /**
      * Set the particle orientation type in implementation.
      *
@@ -0,0 +1,221 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.particle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Update the CPU simulation of many particle systems each frame, spreading the work on a fork join pool.
+ * Small systems are grouped in tasks of about threshold particles, the particles of a system bigger than the
+ * threshold are split in ranges integrated in parallel, the dead particles of those systems are then removed and
+ * new ones emitted on the calling thread, in registration order.
+ * As a system only depends on its own state, the result is the same as a single threaded update, whatever the
+ * number of threads.
+ * When the total number of particles is below the threshold, all systems are updated on the calling thread.
+ * The scheduler is expected to be used from the rendering thread, systems must not be modified during update.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class ParticleUpdateScheduler {
+
+    /**
+     * Default work size, in particles, below which no task is created.
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    /**
+     * Pool running the tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Work size, in particles, below which no task is created.
+     */
+    private final int threshold;
+
+    /**
+     * Registered systems, updated in this order.
+     */
+    private final List<ParticleSystem> systems = new ArrayList<>();
+
+    /**
+     * Systems split in ranges during the current update, to be completed after the tasks.
+     */
+    private final List<ParticleSystem> split = new ArrayList<>();
+
+    /**
+     * Tasks of the current update.
+     */
+    private final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+    /**
+     * Number of tasks run by the last update, 0 if it was single threaded.
+     */
+    private int lastTaskCount;
+
+    /**
+     * Create a scheduler using the common pool and the default threshold.
+     */
+    public ParticleUpdateScheduler() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param pool      Pool running the tasks.
+     * @param threshold Work size, in particles, below which no task is created.
+     * @throws IllegalArgumentException If the threshold is not positive.
+     */
+    public ParticleUpdateScheduler(final ForkJoinPool pool, final int threshold) {
+        super();
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Register a system to update, nothing is done if it is already registered.
+     *
+     * @param system System to update.
+     * @return true if the system was added.
+     */
+    public boolean add(final ParticleSystem system) {
+        Objects.requireNonNull(system);
+        if (this.systems.contains(system)) {
+            return false;
+        }
+        return this.systems.add(system);
+    }
+
+    /**
+     * Unregister a system.
+     *
+     * @param system System to remove.
+     * @return true if the system was registered.
+     */
+    public boolean remove(final ParticleSystem system) {
+        return this.systems.remove(system);
+    }
+
+    /**
+     * @return The number of registered systems.
+     */
+    public int getSize() {
+        return this.systems.size();
+    }
+
+    /**
+     * @return The number of tasks run by the last update, 0 if it was single threaded.
+     */
+    public int getLastTaskCount() {
+        return this.lastTaskCount;
+    }
+
+    /**
+     * Update all the registered systems.
+     *
+     * @param seconds Elapsed time since the last update, in seconds.
+     */
+    public void update(final float seconds) {
+        this.lastTaskCount = 0;
+        if (seconds <= 0) {
+            return;
+        }
+        long work = 0;
+        for (ParticleSystem system : this.systems) {
+            work += work(system);
+        }
+        if (work < this.threshold || this.pool.getParallelism() == 1) {
+            for (ParticleSystem system : this.systems) {
+                system.update(seconds);
+            }
+            return;
+        }
+        this.schedule(seconds);
+        this.lastTaskCount = this.tasks.size();
+        try {
+            this.pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(this.tasks)));
+            for (ParticleSystem system : this.split) {
+                system.getSimulator().complete(system, seconds);
+            }
+        } finally {
+            this.tasks.clear();
+            this.split.clear();
+        }
+    }
+
+    private void schedule(final float seconds) {
+        int batchStart = 0;
+        int batchWork = 0;
+        for (int i = 0; i < this.systems.size(); i++) {
+            final ParticleSystem system = this.systems.get(i);
+            final int count = system.getSimulator().getCount();
+            if (count >= this.threshold) {
+                this.addBatch(batchStart, i, seconds);
+                batchWork = 0;
+                batchStart = i + 1;
+                this.split.add(system);
+                for (int from = 0; from < count; from += this.threshold) {
+                    final int to = Math.min(count, from + this.threshold);
+                    final int start = from;
+                    this.tasks.add(ForkJoinTask.adapt(() -> system.getSimulator().integrate(system, start, to, seconds)));
+                }
+            } else {
+                batchWork += work(system);
+                if (batchWork >= this.threshold) {
+                    this.addBatch(batchStart, i + 1, seconds);
+                    batchWork = 0;
+                    batchStart = i + 1;
+                }
+            }
+        }
+        this.addBatch(batchStart, this.systems.size(), seconds);
+    }
+
+    private void addBatch(final int from, final int to, final float seconds) {
+        if (from < to) {
+            final List<ParticleSystem> batch = List.copyOf(this.systems.subList(from, to));
+            this.tasks.add(ForkJoinTask.adapt(() -> batch.forEach(s -> s.update(seconds))));
+        }
+    }
+
+    /**
+     * Estimate the cost of a system update, a system without particles still has to run its emitters.
+     *
+     * @param system System to update.
+     * @return The update cost, in particles.
+     */
+    private static int work(final ParticleSystem system) {
+        return system.getSimulator().getCount() + 1;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.profiling;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Opt-in frame time instrumentation, disabled by default.
+ * Measured sections are recorded in histograms once per frame, and can be pulled as a snapshot or exported as JFR
+ * events.
+ * When disabled, measuring a section only costs a field check.
+ * Recording and snapshots are synchronized, so a snapshot can be taken from another thread than the rendering one.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class FrameProfiler {
+
+    /**
+     * Value returned by start when the profiler is disabled.
+     */
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static final FrameSection[] SECTIONS = FrameSection.values();
+
+    private final Map<FrameSection, FrameTimeHistogram> histograms = new EnumMap<>(FrameSection.class);
+
+    /**
+     * Time accumulated in the current frame, by section ordinal.
+     */
+    private final long[] accumulated = new long[SECTIONS.length];
+
+    /**
+     * <code>true</code> if a time was accumulated in the current frame, by section ordinal.
+     */
+    private final boolean[] accumulatedUsed = new boolean[SECTIONS.length];
+
+    private volatile boolean enabled;
+
+    private volatile boolean jfrEnabled;
+
+    public FrameProfiler() {
+        super();
+        for (FrameSection section : SECTIONS) {
+            this.histograms.put(section, new FrameTimeHistogram());
+        }
+    }
+
+    /**
+     * Enable or disable the measures, the recorded values are kept.
+     *
+     * @param enable <code>true</code> to measure the frames.
+     */
+    public void setEnabled(final boolean enable) {
+        this.enabled = enable;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Emit a JFR event for every measured section, only if the profiler is enabled and the event is enabled in the
+     * JFR recording.
+     *
+     * @param enable <code>true</code> to emit JFR events.
+     */
+    public void setJfrEnabled(final boolean enable) {
+        this.jfrEnabled = enable;
+    }
+
+    /**
+     * Start measuring a section.
+     *
+     * @return The value to give to stop or accumulate.
+     */
+    public long start() {
+        return this.enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Stop measuring a section and record its duration.
+     *
+     * @param section Measured section.
+     * @param start   Value returned by start.
+     */
+    public void stop(final FrameSection section, final long start) {
+        if (start != NOT_STARTED) {
+            this.record(section, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Stop measuring a section occurring several times in a frame, the total duration is recorded by frameEnded.
+     *
+     * @param section Measured section.
+     * @param start   Value returned by start.
+     */
+    public void accumulate(final FrameSection section, final long start) {
+        if (start != NOT_STARTED) {
+            final long duration = System.nanoTime() - start;
+            synchronized (this) {
+                this.accumulated[section.ordinal()] += duration;
+                this.accumulatedUsed[section.ordinal()] = true;
+            }
+        }
+    }
+
+    /**
+     * Record the accumulated durations for the frame.
+     */
+    public synchronized void frameEnded() {
+        if (this.enabled) {
+            for (int i = 0; i < SECTIONS.length; i++) {
+                if (this.accumulatedUsed[i]) {
+                    this.record(SECTIONS[i], this.accumulated[i]);
+                    this.accumulated[i] = 0;
+                    this.accumulatedUsed[i] = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return A copy of the statistics recorded so far.
+     */
+    public synchronized FrameTimeSnapshot snapshot() {
+        return new FrameTimeSnapshot(this.histograms);
+    }
+
+    /**
+     * Remove all recorded values, to start a new measure period.
+     */
+    public synchronized void reset() {
+        this.histograms.values().forEach(FrameTimeHistogram::reset);
+        Arrays.fill(this.accumulated, 0);
+        Arrays.fill(this.accumulatedUsed, false);
+    }
+
+    private void record(final FrameSection section, final long duration) {
+        synchronized (this) {
+            this.histograms.get(section).record(duration);
+        }
+        if (this.jfrEnabled) {
+            final FrameSectionEvent event = new FrameSectionEvent();
+            if (event.shouldCommit()) {
+                event.section = section.name();
+                event.time = duration;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.profiling;
+
+/**
+ * Statistics of a frame section at the moment of a snapshot, all durations are in nanoseconds.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class FrameSectionStatistics {
+
+    private final FrameSection section;
+
+    private final long count;
+
+    private final double mean;
+
+    private final long p50;
+
+    private final long p90;
+
+    private final long p99;
+
+    private final long p999;
+
+    private final long max;
+
+    FrameSectionStatistics(final FrameSection section, final FrameTimeHistogram histogram) {
+        super();
+        this.section = section;
+        this.count = histogram.getCount();
+        this.mean = histogram.getMean();
+        this.p50 = histogram.getValueAtPercentile(50);
+        this.p90 = histogram.getValueAtPercentile(90);
+        this.p99 = histogram.getValueAtPercentile(99);
+        this.p999 = histogram.getValueAtPercentile(99.9);
+        this.max = histogram.getMax();
+    }
+
+    public FrameSection getSection() {
+        return this.section;
+    }
+
+    /**
+     * @return The number of measured frames.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getMean() {
+        return this.mean;
+    }
+
+    public long getP50() {
+        return this.p50;
+    }
+
+    public long getP90() {
+        return this.p90;
+    }
+
+    public long getP99() {
+        return this.p99;
+    }
+
+    public long getP999() {
+        return this.p999;
+    }
+
+    public long getMax() {
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return this.section + " count=" + this.count + " mean=" + (long) this.mean + "ns p50=" + this.p50
+                + "ns p90=" + this.p90 + "ns p99=" + this.p99 + "ns p99.9=" + this.p999 + "ns max=" + this.max + "ns";
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations in nanoseconds, with a fixed memory footprint and a relative precision of about 1.5%.
+ * Values below 128 are counted exactly, above, every power of 2 is split in 64 linear buckets.
+ * Values above about 18 minutes are counted in the highest bucket.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class FrameTimeHistogram {
+
+    /**
+     * Number of bits for the exact values.
+     */
+    private static final int SUB_BITS = 7;
+
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    private static final int HALF_COUNT = SUB_COUNT >> 1;
+
+    /**
+     * Highest recorded value, higher values are clamped.
+     */
+    private static final long MAX_VALUE = (1L << 40) - 1;
+
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+
+    private long count;
+
+    private long total;
+
+    private long max;
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos Duration in nanoseconds, negative values are recorded as 0.
+     */
+    public void record(final long nanos) {
+        final long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        this.counts[index(value)]++;
+        this.count++;
+        this.total += value;
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * @return The number of recorded values.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return The highest recorded value, 0 if empty.
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * @return The mean of the recorded values, 0 if empty.
+     */
+    public double getMean() {
+        return this.count == 0 ? 0 : (double) this.total / this.count;
+    }
+
+    /**
+     * Compute the value below which a given percentage of the recorded values are.
+     *
+     * @param percentile Percentage, between 0 and 100.
+     * @return The highest value equivalent to the percentile bucket, never greater than the recorded maximum, 0 if empty.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+        final double bounded = Math.min(Math.max(percentile, 0), 100);
+        final long rank = Math.max(1, (long) Math.ceil(bounded / 100 * this.count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Remove all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.count = 0;
+        this.total = 0;
+        this.max = 0;
+    }
+
+    private static int index(final long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1);
+        return SUB_COUNT + (shift - 1) * HALF_COUNT + (int) (value >> shift) - HALF_COUNT;
+    }
+
+    private static long highestValue(final int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        final int bucket = index - SUB_COUNT;
+        final int shift = bucket / HALF_COUNT + 1;
+        final long mantissa = bucket % HALF_COUNT + HALF_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.profiling;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable copy of the frame profiler statistics, to be pulled by a metrics exporter.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class FrameTimeSnapshot {
+
+    private final Map<FrameSection, FrameSectionStatistics> statistics;
+
+    FrameTimeSnapshot(final Map<FrameSection, FrameTimeHistogram> histograms) {
+        super();
+        this.statistics = new EnumMap<>(FrameSection.class);
+        histograms.forEach((s, h) -> this.statistics.put(s, new FrameSectionStatistics(s, h)));
+    }
+
+    /**
+     * @param section Section to retrieve.
+     * @return The statistics for the section.
+     */
+    public FrameSectionStatistics getStatistics(final FrameSection section) {
+        return this.statistics.get(section);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        this.statistics.values().forEach(s -> sb.append(s).append(System.lineSeparator()));
+        return sb.toString();
+    }
+}
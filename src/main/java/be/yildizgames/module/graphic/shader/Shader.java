@@ -262,6 +262,24 @@ public abstract class Shader {
         public FragmentProfileList(final FragmentDx dx, final FragmentGL gl) {
             super(dx.name + " " + gl.name);
         }
+
+        /**
+         * Retrieve the profile list from its name, as provided by getName.
+         *
+         * @param name Profile list name.
+         * @return The matching profile list.
+         * @throws IllegalArgumentException If no profiles match the name.
+         */
+        public static FragmentProfileList fromName(final String name) {
+            for (FragmentDx dx : FragmentDx.values()) {
+                for (FragmentGL gl : FragmentGL.values()) {
+                    if ((dx.name + " " + gl.name).equals(name)) {
+                        return new FragmentProfileList(dx, gl);
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unknown fragment profile: " + name);
+        }
     }
 
     /**
@@ -280,5 +298,23 @@ public abstract class Shader {
         public VertexProfileList(final VertexDx dx, final VertexGL gl) {
             super(dx.name + " " + gl.name);
         }
+
+        /**
+         * Retrieve the profile list from its name, as provided by getName.
+         *
+         * @param name Profile list name.
+         * @return The matching profile list.
+         * @throws IllegalArgumentException If no profiles match the name.
+         */
+        public static VertexProfileList fromName(final String name) {
+            for (VertexDx dx : VertexDx.values()) {
+                for (VertexGL gl : VertexGL.values()) {
+                    if ((dx.name + " " + gl.name).equals(name)) {
+                        return new VertexProfileList(dx, gl);
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unknown vertex profile: " + name);
+        }
     }
 }
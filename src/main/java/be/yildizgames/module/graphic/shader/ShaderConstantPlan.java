@@ -0,0 +1,126 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Order in which the auto constants are computed, grouped by update frequency.
+ * The implementation computes the frame constants once per frame, the camera constants once per camera and so on,
+ * each value is stored in its slot and reused by all the programs binding it and by the constants derived from it.
+ * Immutable class.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class ShaderConstantPlan {
+
+    /**
+     * Constants to compute, by frequency, dependencies first.
+     */
+    private final Map<ShaderConstantType.UpdateFrequency, List<ShaderConstantType>> constants = new EnumMap<>(ShaderConstantType.UpdateFrequency.class);
+
+    /**
+     * Slot of each constant, -1 if not planned.
+     */
+    private final int[] slots = new int[ShaderConstantType.values().length];
+
+    /**
+     * Total number of planned constants.
+     */
+    private final int size;
+
+    ShaderConstantPlan(final Map<ShaderConstantType.UpdateFrequency, Set<ShaderConstantType>> ordered) {
+        super();
+        Arrays.fill(this.slots, -1);
+        int slot = 0;
+        for (Map.Entry<ShaderConstantType.UpdateFrequency, Set<ShaderConstantType>> e : ordered.entrySet()) {
+            for (ShaderConstantType type : e.getValue()) {
+                this.slots[type.ordinal()] = slot;
+                slot++;
+            }
+            this.constants.put(e.getKey(), Collections.unmodifiableList(new ArrayList<>(e.getValue())));
+        }
+        this.size = slot;
+    }
+
+    /**
+     * @param frequency Update frequency.
+     * @return The constants to compute at this frequency, in computation order.
+     */
+    public List<ShaderConstantType> getConstants(final ShaderConstantType.UpdateFrequency frequency) {
+        return this.constants.get(frequency);
+    }
+
+    /**
+     * @param type Constant.
+     * @return The slot where the constant value is stored, -1 if the constant is not part of the plan.
+     */
+    public int getSlot(final ShaderConstantType type) {
+        return this.slots[type.ordinal()];
+    }
+
+    /**
+     * @return The number of planned constants, and so of slots.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Compute all the constants of a frequency, to be called when the frame, the camera, the pass or the object changes.
+     *
+     * @param frequency Update frequency.
+     * @param evaluator Implementation computing the values.
+     */
+    public void update(final ShaderConstantType.UpdateFrequency frequency, final Evaluator evaluator) {
+        for (ShaderConstantType type : this.constants.get(frequency)) {
+            evaluator.compute(type, this.slots[type.ordinal()]);
+        }
+    }
+
+    /**
+     * Implementation computing the constant values.
+     *
+     * @author Grégory Van den Borre
+     */
+    @FunctionalInterface
+    public interface Evaluator {
+
+        /**
+         * Compute a constant value and store it, the constants it derives from are already computed.
+         *
+         * @param type Constant to compute.
+         * @param slot Slot where to store the value.
+         */
+        void compute(ShaderConstantType type, int slot);
+    }
+}
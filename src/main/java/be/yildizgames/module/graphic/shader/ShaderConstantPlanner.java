@@ -0,0 +1,109 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collect the auto constants bound by the material passes of a scene and build a plan computing each of them
+ * once at its update frequency, with the constants it derives from.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class ShaderConstantPlanner {
+
+    /**
+     * Bound constants.
+     */
+    private final Set<ShaderConstantType> bound = EnumSet.noneOf(ShaderConstantType.class);
+
+    /**
+     * Number of bindings added, a constant bound by several passes is counted several times.
+     */
+    private int bindings;
+
+    /**
+     * Add a bound constant.
+     *
+     * @param type Constant bound to a program.
+     * @return This object for chaining.
+     */
+    public ShaderConstantPlanner add(final ShaderConstantType type) {
+        this.bound.add(type);
+        this.bindings++;
+        return this;
+    }
+
+    /**
+     * Add bound constants, as the auto constants of a material pass.
+     *
+     * @param types Constants bound to a program.
+     * @return This object for chaining.
+     */
+    public ShaderConstantPlanner addAll(final Collection<ShaderConstantType> types) {
+        types.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * @return The number of bindings added.
+     */
+    public int getBindingCount() {
+        return this.bindings;
+    }
+
+    /**
+     * Build the plan, each constant appears once, after the constants it derives from.
+     *
+     * @return The plan for the added constants.
+     */
+    public ShaderConstantPlan plan() {
+        final Map<ShaderConstantType.UpdateFrequency, Set<ShaderConstantType>> ordered = new EnumMap<>(ShaderConstantType.UpdateFrequency.class);
+        for (ShaderConstantType.UpdateFrequency f : ShaderConstantType.UpdateFrequency.values()) {
+            ordered.put(f, new LinkedHashSet<>());
+        }
+        for (ShaderConstantType type : this.bound) {
+            visit(type, ordered);
+        }
+        return new ShaderConstantPlan(ordered);
+    }
+
+    private static void visit(final ShaderConstantType type, final Map<ShaderConstantType.UpdateFrequency, Set<ShaderConstantType>> ordered) {
+        final Set<ShaderConstantType> constants = ordered.get(type.getFrequency());
+        if (constants.contains(type)) {
+            return;
+        }
+        for (ShaderConstantType dependency : type.getDependencies()) {
+            visit(dependency, ordered);
+        }
+        constants.add(type);
+    }
+}
@@ -25,283 +25,294 @@
 
 package be.yildizgames.module.graphic.shader;
 
+import java.util.List;
+
 /**
  * Possible auto constant values.
+ * Each constant has an update frequency, telling how often its value can change, values shared by all objects
+ * only need to be computed once per frame or per camera and reused.
  *
  * @author Grégory Van den Borre
  */
 public enum ShaderConstantType {
     /***/
-    WORLD_MATRIX(0),
+    WORLD_MATRIX(0, UpdateFrequency.PER_OBJECT),
     /***/
-    INVERSE_WORLD_MATRIX(1),
+    INVERSE_WORLD_MATRIX(1, UpdateFrequency.PER_OBJECT),
     /***/
-    TRANSPOSE_WORLD_MATRIX(2),
+    TRANSPOSE_WORLD_MATRIX(2, UpdateFrequency.PER_OBJECT),
     /***/
-    INVERSE_TRANSPOSE_WORLD_MATRIX(3),
+    INVERSE_TRANSPOSE_WORLD_MATRIX(3, UpdateFrequency.PER_OBJECT),
     /***/
-    WORLD_MATRIX_ARRAY_3X4(4),
+    WORLD_MATRIX_ARRAY_3X4(4, UpdateFrequency.PER_OBJECT),
     /***/
-    WORLD_MATRIX_ARRAY(5),
+    WORLD_MATRIX_ARRAY(5, UpdateFrequency.PER_OBJECT),
     /***/
-    WORLD_DUALQUATERNION_ARRAY_2X4(6),
+    WORLD_DUALQUATERNION_ARRAY_2X4(6, UpdateFrequency.PER_OBJECT),
     /***/
-    WORLD_SCALE_SHEAR_MATRIX_ARRAY_3X4(7),
+    WORLD_SCALE_SHEAR_MATRIX_ARRAY_3X4(7, UpdateFrequency.PER_OBJECT),
     /***/
-    VIEW_MATRIX(8),
+    VIEW_MATRIX(8, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_VIEW_MATRIX(9),
+    INVERSE_VIEW_MATRIX(9, UpdateFrequency.PER_CAMERA),
     /***/
-    TRANSPOSE_VIEW_MATRIX(10),
+    TRANSPOSE_VIEW_MATRIX(10, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_TRANSPOSE_VIEW_MATRIX(11),
+    INVERSE_TRANSPOSE_VIEW_MATRIX(11, UpdateFrequency.PER_CAMERA),
     /***/
-    PROJECTION_MATRIX(12),
+    PROJECTION_MATRIX(12, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_PROJECTION_MATRIX(13),
+    INVERSE_PROJECTION_MATRIX(13, UpdateFrequency.PER_CAMERA),
     /***/
-    TRANSPOSE_PROJECTION_MATRIX(14),
+    TRANSPOSE_PROJECTION_MATRIX(14, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_TRANSPOSE_PROJECTION_MATRIX(15),
+    INVERSE_TRANSPOSE_PROJECTION_MATRIX(15, UpdateFrequency.PER_CAMERA),
     /***/
-    VIEWPROJ_MATRIX(16),
+    VIEWPROJ_MATRIX(16, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_VIEWPROJ_MATRIX(17),
+    INVERSE_VIEWPROJ_MATRIX(17, UpdateFrequency.PER_CAMERA),
     /***/
-    TRANSPOSE_VIEWPROJ_MATRIX(18),
+    TRANSPOSE_VIEWPROJ_MATRIX(18, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_TRANSPOSE_VIEWPROJ_MATRIX(19),
+    INVERSE_TRANSPOSE_VIEWPROJ_MATRIX(19, UpdateFrequency.PER_CAMERA),
     /***/
-    WORLDVIEW_MATRIX(20),
+    WORLDVIEW_MATRIX(20, UpdateFrequency.PER_OBJECT),
     /***/
-    INVERSE_WORLDVIEW_MATRIX(21),
+    INVERSE_WORLDVIEW_MATRIX(21, UpdateFrequency.PER_OBJECT),
     /***/
-    TRANSPOSE_WORLDVIEW_MATRIX(22),
+    TRANSPOSE_WORLDVIEW_MATRIX(22, UpdateFrequency.PER_OBJECT),
     /***/
-    INVERSE_TRANSPOSE_WORLDVIEW_MATRIX(23),
+    INVERSE_TRANSPOSE_WORLDVIEW_MATRIX(23, UpdateFrequency.PER_OBJECT),
     /***/
-    WORLDVIEWPROJ_MATRIX(24),
+    WORLDVIEWPROJ_MATRIX(24, UpdateFrequency.PER_OBJECT),
     /***/
-    INVERSE_WORLDVIEWPROJ_MATRIX(25),
+    INVERSE_WORLDVIEWPROJ_MATRIX(25, UpdateFrequency.PER_OBJECT),
     /***/
-    TRANSPOSE_WORLDVIEWPROJ_MATRIX(26),
+    TRANSPOSE_WORLDVIEWPROJ_MATRIX(26, UpdateFrequency.PER_OBJECT),
     /***/
-    INVERSE_TRANSPOSE_WORLDVIEWPROJ_MATRIX(27),
+    INVERSE_TRANSPOSE_WORLDVIEWPROJ_MATRIX(27, UpdateFrequency.PER_OBJECT),
     /***/
-    RENDER_TARGET_FLIPPING(28),
+    RENDER_TARGET_FLIPPING(28, UpdateFrequency.PER_CAMERA),
     /***/
-    VERTEX_WINDING(29),
+    VERTEX_WINDING(29, UpdateFrequency.PER_CAMERA),
     /***/
-    FOG_COLOUR(30),
+    FOG_COLOUR(30, UpdateFrequency.PER_PASS),
     /***/
-    FOG_PARAMS(31),
+    FOG_PARAMS(31, UpdateFrequency.PER_PASS),
     /***/
-    SURFACE_AMBIENT_COLOUR(32),
+    SURFACE_AMBIENT_COLOUR(32, UpdateFrequency.PER_PASS),
     /***/
-    SURFACE_DIFFUSE_COLOUR(33),
+    SURFACE_DIFFUSE_COLOUR(33, UpdateFrequency.PER_PASS),
     /***/
-    SURFACE_SPECULAR_COLOUR(34),
+    SURFACE_SPECULAR_COLOUR(34, UpdateFrequency.PER_PASS),
     /***/
-    SURFACE_EMISSIVE_COLOUR(35),
+    SURFACE_EMISSIVE_COLOUR(35, UpdateFrequency.PER_PASS),
     /***/
-    SURFACE_SHININESS(36),
+    SURFACE_SHININESS(36, UpdateFrequency.PER_PASS),
     /***/
-    LIGHT_COUNT(37),
+    LIGHT_COUNT(37, UpdateFrequency.PER_OBJECT),
     /***/
-    AMBIENT_LIGHT_COLOUR(38),
+    AMBIENT_LIGHT_COLOUR(38, UpdateFrequency.PER_FRAME),
     /***/
-    LIGHT_DIFFUSE_COLOUR(39),
+    LIGHT_DIFFUSE_COLOUR(39, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_SPECULAR_COLOUR(40),
+    LIGHT_SPECULAR_COLOUR(40, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_ATTENUATION(41),
+    LIGHT_ATTENUATION(41, UpdateFrequency.PER_OBJECT),
     /***/
-    SPOTLIGHT_PARAMS(42),
+    SPOTLIGHT_PARAMS(42, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POSITION(43),
+    LIGHT_POSITION(43, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POSITION_OBJECT_SPACE(44),
+    LIGHT_POSITION_OBJECT_SPACE(44, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POSITION_VIEW_SPACE(45),
+    LIGHT_POSITION_VIEW_SPACE(45, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIRECTION(46),
+    LIGHT_DIRECTION(46, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIRECTION_OBJECT_SPACE(47),
+    LIGHT_DIRECTION_OBJECT_SPACE(47, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIRECTION_VIEW_SPACE(48),
+    LIGHT_DIRECTION_VIEW_SPACE(48, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DISTANCE_OBJECT_SPACE(49),
+    LIGHT_DISTANCE_OBJECT_SPACE(49, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POWER_SCALE(50),
+    LIGHT_POWER_SCALE(50, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIFFUSE_COLOUR_POWER_SCALED(51),
+    LIGHT_DIFFUSE_COLOUR_POWER_SCALED(51, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_SPECULAR_COLOUR_POWER_SCALED(52),
+    LIGHT_SPECULAR_COLOUR_POWER_SCALED(52, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIFFUSE_COLOUR_ARRAY(53),
+    LIGHT_DIFFUSE_COLOUR_ARRAY(53, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_SPECULAR_COLOUR_ARRAY(54),
+    LIGHT_SPECULAR_COLOUR_ARRAY(54, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIFFUSE_COLOUR_POWER_SCALED_ARRAY(55),
+    LIGHT_DIFFUSE_COLOUR_POWER_SCALED_ARRAY(55, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_SPECULAR_COLOUR_POWER_SCALED_ARRAY(56),
+    LIGHT_SPECULAR_COLOUR_POWER_SCALED_ARRAY(56, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_ATTENUATION_ARRAY(57),
+    LIGHT_ATTENUATION_ARRAY(57, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POSITION_ARRAY(58),
+    LIGHT_POSITION_ARRAY(58, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POSITION_OBJECT_SPACE_ARRAY(59),
+    LIGHT_POSITION_OBJECT_SPACE_ARRAY(59, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POSITION_VIEW_SPACE_ARRAY(60),
+    LIGHT_POSITION_VIEW_SPACE_ARRAY(60, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIRECTION_ARRAY(61),
+    LIGHT_DIRECTION_ARRAY(61, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIRECTION_OBJECT_SPACE_ARRAY(62),
+    LIGHT_DIRECTION_OBJECT_SPACE_ARRAY(62, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DIRECTION_VIEW_SPACE_ARRAY(63),
+    LIGHT_DIRECTION_VIEW_SPACE_ARRAY(63, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_DISTANCE_OBJECT_SPACE_ARRAY(64),
+    LIGHT_DISTANCE_OBJECT_SPACE_ARRAY(64, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_POWER_SCALE_ARRAY(65),
+    LIGHT_POWER_SCALE_ARRAY(65, UpdateFrequency.PER_OBJECT),
     /***/
-    SPOTLIGHT_PARAMS_ARRAY(66),
+    SPOTLIGHT_PARAMS_ARRAY(66, UpdateFrequency.PER_OBJECT),
     /***/
-    DERIVED_AMBIENT_LIGHT_COLOUR(67),
+    DERIVED_AMBIENT_LIGHT_COLOUR(67, UpdateFrequency.PER_PASS),
     /***/
-    DERIVED_SCENE_COLOUR(68),
+    DERIVED_SCENE_COLOUR(68, UpdateFrequency.PER_PASS),
     /***/
-    DERIVED_LIGHT_DIFFUSE_COLOUR(69),
+    DERIVED_LIGHT_DIFFUSE_COLOUR(69, UpdateFrequency.PER_OBJECT),
     /***/
-    DERIVED_LIGHT_SPECULAR_COLOUR(70),
+    DERIVED_LIGHT_SPECULAR_COLOUR(70, UpdateFrequency.PER_OBJECT),
     /***/
-    DERIVED_LIGHT_DIFFUSE_COLOUR_ARRAY(71),
+    DERIVED_LIGHT_DIFFUSE_COLOUR_ARRAY(71, UpdateFrequency.PER_OBJECT),
     /***/
-    DERIVED_LIGHT_SPECULAR_COLOUR_ARRAY(72),
+    DERIVED_LIGHT_SPECULAR_COLOUR_ARRAY(72, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_NUMBER(73),
+    LIGHT_NUMBER(73, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_CASTS_SHADOWS(74),
+    LIGHT_CASTS_SHADOWS(74, UpdateFrequency.PER_OBJECT),
     /***/
-    SHADOW_EXTRUSION_DISTANCE(75),
+    SHADOW_EXTRUSION_DISTANCE(75, UpdateFrequency.PER_OBJECT),
     /***/
-    CAMERA_POSITION(76),
+    CAMERA_POSITION(76, UpdateFrequency.PER_CAMERA),
     /***/
-    CAMERA_POSITION_OBJECT_SPACE(77),
+    CAMERA_POSITION_OBJECT_SPACE(77, UpdateFrequency.PER_OBJECT),
     /***/
-    TEXTURE_VIEWPROJ_MATRIX(78),
+    TEXTURE_VIEWPROJ_MATRIX(78, UpdateFrequency.PER_OBJECT),
     /***/
-    TEXTURE_VIEWPROJ_MATRIX_ARRAY(79),
+    TEXTURE_VIEWPROJ_MATRIX_ARRAY(79, UpdateFrequency.PER_OBJECT),
     /***/
-    TEXTURE_WORLDVIEWPROJ_MATRIX(80),
+    TEXTURE_WORLDVIEWPROJ_MATRIX(80, UpdateFrequency.PER_OBJECT),
     /***/
-    TEXTURE_WORLDVIEWPROJ_MATRIX_ARRAY(81),
+    TEXTURE_WORLDVIEWPROJ_MATRIX_ARRAY(81, UpdateFrequency.PER_OBJECT),
     /***/
-    SPOTLIGHT_VIEWPROJ_MATRIX(82),
+    SPOTLIGHT_VIEWPROJ_MATRIX(82, UpdateFrequency.PER_OBJECT),
     /***/
-    SPOTLIGHT_VIEWPROJ_MATRIX_ARRAY(83),
+    SPOTLIGHT_VIEWPROJ_MATRIX_ARRAY(83, UpdateFrequency.PER_OBJECT),
     /***/
-    SPOTLIGHT_WORLDVIEWPROJ_MATRIX(84),
+    SPOTLIGHT_WORLDVIEWPROJ_MATRIX(84, UpdateFrequency.PER_OBJECT),
     /***/
-    CUSTOM(85),
+    CUSTOM(85, UpdateFrequency.PER_OBJECT),
     /***/
-    TIME(86),
+    TIME(86, UpdateFrequency.PER_FRAME),
     /***/
-    TIME_0_X(87),
+    TIME_0_X(87, UpdateFrequency.PER_FRAME),
     /***/
-    COSTIME_0_X(88),
+    COSTIME_0_X(88, UpdateFrequency.PER_FRAME),
     /***/
-    SINTIME_0_X(89),
+    SINTIME_0_X(89, UpdateFrequency.PER_FRAME),
     /***/
-    TANTIME_0_X(90),
+    TANTIME_0_X(90, UpdateFrequency.PER_FRAME),
     /***/
-    TIME_0_X_PACKED(91),
+    TIME_0_X_PACKED(91, UpdateFrequency.PER_FRAME),
     /***/
-    TIME_0_1(92),
+    TIME_0_1(92, UpdateFrequency.PER_FRAME),
     /***/
-    COSTIME_0_1(93),
+    COSTIME_0_1(93, UpdateFrequency.PER_FRAME),
     /***/
-    SINTIME_0_1(94),
+    SINTIME_0_1(94, UpdateFrequency.PER_FRAME),
     /***/
-    TANTIME_0_1(95),
+    TANTIME_0_1(95, UpdateFrequency.PER_FRAME),
     /***/
-    TIME_0_1_PACKED(96),
+    TIME_0_1_PACKED(96, UpdateFrequency.PER_FRAME),
     /***/
-    TIME_0_2PI(97),
+    TIME_0_2PI(97, UpdateFrequency.PER_FRAME),
     /***/
-    COSTIME_0_2PI(98),
+    COSTIME_0_2PI(98, UpdateFrequency.PER_FRAME),
     /***/
-    SINTIME_0_2PI(99),
+    SINTIME_0_2PI(99, UpdateFrequency.PER_FRAME),
     /***/
-    TANTIME_0_2PI(100),
+    TANTIME_0_2PI(100, UpdateFrequency.PER_FRAME),
     /***/
-    TIME_0_2PI_PACKED(101),
+    TIME_0_2PI_PACKED(101, UpdateFrequency.PER_FRAME),
     /***/
-    FRAME_TIME(102),
+    FRAME_TIME(102, UpdateFrequency.PER_FRAME),
     /***/
-    FPS(103),
+    FPS(103, UpdateFrequency.PER_FRAME),
     /***/
-    VIEWPORT_WIDTH(104),
+    VIEWPORT_WIDTH(104, UpdateFrequency.PER_CAMERA),
     /***/
-    VIEWPORT_HEIGHT(105),
+    VIEWPORT_HEIGHT(105, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_VIEWPORT_WIDTH(106),
+    INVERSE_VIEWPORT_WIDTH(106, UpdateFrequency.PER_CAMERA),
     /***/
-    INVERSE_VIEWPORT_HEIGHT(107),
+    INVERSE_VIEWPORT_HEIGHT(107, UpdateFrequency.PER_CAMERA),
     /***/
-    VIEWPORT_SIZE(108),
+    VIEWPORT_SIZE(108, UpdateFrequency.PER_CAMERA),
     /***/
-    VIEW_DIRECTION(109),
+    VIEW_DIRECTION(109, UpdateFrequency.PER_CAMERA),
     /***/
-    VIEW_SIDE_VECTOR(110),
+    VIEW_SIDE_VECTOR(110, UpdateFrequency.PER_CAMERA),
     /***/
-    VIEW_UP_VECTOR(111),
+    VIEW_UP_VECTOR(111, UpdateFrequency.PER_CAMERA),
     /***/
-    FOV(112),
+    FOV(112, UpdateFrequency.PER_CAMERA),
     /***/
-    NEAR_CLIP_DISTANCE(113),
+    NEAR_CLIP_DISTANCE(113, UpdateFrequency.PER_CAMERA),
     /***/
-    FAR_CLIP_DISTANCE(114),
+    FAR_CLIP_DISTANCE(114, UpdateFrequency.PER_CAMERA),
     /***/
-    PASS_NUMBER(115),
+    PASS_NUMBER(115, UpdateFrequency.PER_PASS),
     /***/
-    PASS_ITERATION_NUMBER(116),
+    PASS_ITERATION_NUMBER(116, UpdateFrequency.PER_PASS),
     /***/
-    ANIMATION_PARAMETRIC(117),
+    ANIMATION_PARAMETRIC(117, UpdateFrequency.PER_OBJECT),
     /***/
-    TEXEL_OFFSETS(118),
+    TEXEL_OFFSETS(118, UpdateFrequency.PER_CAMERA),
     /***/
-    SCENE_DEPTH_RANGE(119),
+    SCENE_DEPTH_RANGE(119, UpdateFrequency.PER_CAMERA),
     /***/
-    SHADOW_SCENE_DEPTH_RANGE(120),
+    SHADOW_SCENE_DEPTH_RANGE(120, UpdateFrequency.PER_CAMERA),
     /***/
-    SHADOW_COLOUR(121),
+    SHADOW_COLOUR(121, UpdateFrequency.PER_FRAME),
     /***/
-    TEXTURE_SIZE(122),
+    TEXTURE_SIZE(122, UpdateFrequency.PER_PASS),
     /***/
-    INVERSE_TEXTURE_SIZE(123),
+    INVERSE_TEXTURE_SIZE(123, UpdateFrequency.PER_PASS),
     /***/
-    PACKED_TEXTURE_SIZE(124),
+    PACKED_TEXTURE_SIZE(124, UpdateFrequency.PER_PASS),
     /***/
-    TEXTURE_MATRIX(125),
+    TEXTURE_MATRIX(125, UpdateFrequency.PER_PASS),
     /***/
-    LOD_CAMERA_POSITION(126),
+    LOD_CAMERA_POSITION(126, UpdateFrequency.PER_CAMERA),
     /***/
-    LOD_CAMERA_POSITION_OBJECT_SPACE(127),
+    LOD_CAMERA_POSITION_OBJECT_SPACE(127, UpdateFrequency.PER_OBJECT),
     /***/
-    LIGHT_CUSTOM(128);
+    LIGHT_CUSTOM(128, UpdateFrequency.PER_OBJECT);
 
     /**
      * Associated value.
      */
     private final int value;
 
+    /**
+     * How often the value can change.
+     */
+    private final UpdateFrequency frequency;
+
     /**
      * Full constructor.
      *
-     * @param value Associated value.
+     * @param value     Associated value.
+     * @param frequency How often the value can change.
      */
-    ShaderConstantType(final int value) {
+    ShaderConstantType(final int value, final UpdateFrequency frequency) {
         this.value = value;
+        this.frequency = frequency;
     }
 
     /**
@@ -310,4 +321,79 @@ public enum ShaderConstantType {
     public int getValue() {
         return this.value;
     }
+
+    /**
+     * @return How often the value can change.
+     */
+    public UpdateFrequency getFrequency() {
+        return this.frequency;
+    }
+
+    /**
+     * Provide the constants this one is derived from, a derived matrix is computed from them instead of being
+     * built again from the scene, as the world view projection matrix is the world matrix times the shared view
+     * projection matrix.
+     *
+     * @return The constants to compute before this one, empty if it is not derived.
+     */
+    public List<ShaderConstantType> getDependencies() {
+        switch (this) {
+            case INVERSE_WORLD_MATRIX, TRANSPOSE_WORLD_MATRIX, INVERSE_TRANSPOSE_WORLD_MATRIX:
+                return List.of(WORLD_MATRIX);
+            case INVERSE_VIEW_MATRIX, TRANSPOSE_VIEW_MATRIX, INVERSE_TRANSPOSE_VIEW_MATRIX:
+                return List.of(VIEW_MATRIX);
+            case INVERSE_PROJECTION_MATRIX, TRANSPOSE_PROJECTION_MATRIX, INVERSE_TRANSPOSE_PROJECTION_MATRIX:
+                return List.of(PROJECTION_MATRIX);
+            case VIEWPROJ_MATRIX:
+                return List.of(VIEW_MATRIX, PROJECTION_MATRIX);
+            case INVERSE_VIEWPROJ_MATRIX, TRANSPOSE_VIEWPROJ_MATRIX, INVERSE_TRANSPOSE_VIEWPROJ_MATRIX:
+                return List.of(VIEWPROJ_MATRIX);
+            case WORLDVIEW_MATRIX, INVERSE_WORLDVIEW_MATRIX, TRANSPOSE_WORLDVIEW_MATRIX, INVERSE_TRANSPOSE_WORLDVIEW_MATRIX:
+                return List.of(WORLD_MATRIX, VIEW_MATRIX);
+            case WORLDVIEWPROJ_MATRIX, INVERSE_WORLDVIEWPROJ_MATRIX, TRANSPOSE_WORLDVIEWPROJ_MATRIX, INVERSE_TRANSPOSE_WORLDVIEWPROJ_MATRIX:
+                return List.of(WORLD_MATRIX, VIEWPROJ_MATRIX);
+            case TEXTURE_WORLDVIEWPROJ_MATRIX:
+                return List.of(WORLD_MATRIX, TEXTURE_VIEWPROJ_MATRIX);
+            case SPOTLIGHT_WORLDVIEWPROJ_MATRIX:
+                return List.of(WORLD_MATRIX, SPOTLIGHT_VIEWPROJ_MATRIX);
+            case CAMERA_POSITION_OBJECT_SPACE:
+                return List.of(INVERSE_WORLD_MATRIX, CAMERA_POSITION);
+            case LOD_CAMERA_POSITION_OBJECT_SPACE:
+                return List.of(INVERSE_WORLD_MATRIX, LOD_CAMERA_POSITION);
+            case INVERSE_VIEWPORT_WIDTH:
+                return List.of(VIEWPORT_WIDTH);
+            case INVERSE_VIEWPORT_HEIGHT:
+                return List.of(VIEWPORT_HEIGHT);
+            default:
+                return List.of();
+        }
+    }
+
+    /**
+     * How often a constant value can change, from the least to the most frequent.
+     *
+     * @author Grégory Van den Borre
+     */
+    public enum UpdateFrequency {
+
+        /**
+         * Same value for the whole frame, as the time.
+         */
+        PER_FRAME,
+
+        /**
+         * Same value for everything rendered by a camera, as the view and projection matrices.
+         */
+        PER_CAMERA,
+
+        /**
+         * Same value for everything rendered with a material pass, as the surface colors.
+         */
+        PER_PASS,
+
+        /**
+         * Value specific to each rendered object, as the world matrix and the lights affecting it.
+         */
+        PER_OBJECT
+    }
 }
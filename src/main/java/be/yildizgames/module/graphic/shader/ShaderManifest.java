@@ -0,0 +1,271 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * List of the shader programs used by a level, to compile them all while loading instead of the first time they are displayed.
+ * The manifest is stored as a text file with one program per line: type;name;file;entry;profile;defines.
+ * Empty lines and lines starting with # are ignored.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class ShaderManifest {
+
+    /**
+     * Separator between the fields of a line.
+     */
+    private static final String SEPARATOR = ";";
+
+    /**
+     * Programs in insertion order, by key.
+     */
+    private final Map<String, Program> programs = new LinkedHashMap<>();
+
+    /**
+     * Read a manifest from its lines.
+     *
+     * @param lines Manifest content.
+     * @return The read manifest.
+     * @throws IllegalArgumentException If a line is not well formed.
+     */
+    public static ShaderManifest fromLines(final List<String> lines) {
+        ShaderManifest manifest = new ShaderManifest();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] fields = trimmed.split(SEPARATOR, -1);
+            if (fields.length != 6) {
+                throw new IllegalArgumentException("Invalid shader manifest line: " + line);
+            }
+            manifest.add(new Program(Shader.ShaderType.valueOf(fields[0]), fields[1], fields[2], fields[3], fields[4], fields[5]));
+        }
+        return manifest;
+    }
+
+    /**
+     * Read a manifest file.
+     *
+     * @param file File to read.
+     * @return The read manifest.
+     * @throws UncheckedIOException If the file cannot be read.
+     */
+    public static ShaderManifest read(final Path file) {
+        try {
+            return fromLines(Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Add a program, nothing is done if a program with the same file, entry, profile and defines is already listed.
+     *
+     * @param program Program to add.
+     * @return true if the program was added.
+     */
+    public boolean add(final Program program) {
+        Objects.requireNonNull(program);
+        return this.programs.putIfAbsent(program.getKey(), program) == null;
+    }
+
+    /**
+     * @return The listed programs, in insertion order.
+     */
+    public List<Program> getPrograms() {
+        return Collections.unmodifiableList(new ArrayList<>(this.programs.values()));
+    }
+
+    /**
+     * @return The number of listed programs.
+     */
+    public int size() {
+        return this.programs.size();
+    }
+
+    /**
+     * @return The manifest content, one line per program.
+     */
+    public List<String> toLines() {
+        List<String> lines = new ArrayList<>(this.programs.size());
+        for (Program p : this.programs.values()) {
+            lines.add(String.join(SEPARATOR, p.type.name(), p.name, p.file, p.entry, p.profile, p.defines));
+        }
+        return lines;
+    }
+
+    /**
+     * Write the manifest to a file.
+     *
+     * @param file File to write.
+     * @throws UncheckedIOException If the file cannot be written.
+     */
+    public void write(final Path file) {
+        try {
+            Files.write(file, this.toLines(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A shader program to compile.
+     *
+     * @author Grégory Van den Borre
+     */
+    public static final class Program {
+
+        /**
+         * Shader type, fragment or vertex.
+         */
+        private final Shader.ShaderType type;
+
+        /**
+         * Shader name.
+         */
+        private final String name;
+
+        /**
+         * File containing the shader code.
+         */
+        private final String file;
+
+        /**
+         * Main function name.
+         */
+        private final String entry;
+
+        /**
+         * Profile list name.
+         */
+        private final String profile;
+
+        /**
+         * Preprocessor definitions, as name=value separated by comma, empty if none.
+         */
+        private final String defines;
+
+        /**
+         * Full constructor.
+         *
+         * @param type    Shader type, fragment or vertex.
+         * @param name    Shader name.
+         * @param file    File containing the shader code.
+         * @param entry   Main function name.
+         * @param profile Profile list name.
+         * @param defines Preprocessor definitions, as name=value separated by comma, empty if none, they are sorted so
+         *                the order they are given in does not matter.
+         * @throws IllegalArgumentException If the type is geometry or a field contains the separator.
+         */
+        public Program(final Shader.ShaderType type, final String name, final String file, final String entry, final String profile, final String defines) {
+            super();
+            if (type == Shader.ShaderType.GEOMETRY) {
+                throw new IllegalArgumentException("Geometry shaders are not supported.");
+            }
+            this.type = Objects.requireNonNull(type);
+            this.name = check(name);
+            this.file = check(file);
+            this.entry = check(entry);
+            this.profile = check(profile);
+            this.defines = normalize(check(defines));
+        }
+
+        /**
+         * Sort the comma separated definitions and remove the blank ones.
+         *
+         * @param defines Definitions to normalize.
+         * @return The sorted definitions.
+         */
+        private static String normalize(final String defines) {
+            if (defines.isEmpty()) {
+                return defines;
+            }
+            final List<String> entries = new ArrayList<>();
+            for (String entry : defines.split(",")) {
+                final String trimmed = entry.trim();
+                if (!trimmed.isEmpty()) {
+                    entries.add(trimmed);
+                }
+            }
+            Collections.sort(entries);
+            return String.join(",", entries);
+        }
+
+        private static String check(final String field) {
+            Objects.requireNonNull(field);
+            if (field.contains(SEPARATOR) || field.contains("\n")) {
+                throw new IllegalArgumentException("Invalid shader manifest field: " + field);
+            }
+            return field;
+        }
+
+        /**
+         * Build the key identifying a compiled program, the name is not part of it.
+         *
+         * @return The key made of the type, file, entry, profile and defines.
+         */
+        public String getKey() {
+            return this.type.name() + SEPARATOR + this.file + SEPARATOR + this.entry + SEPARATOR + this.profile + SEPARATOR + this.defines;
+        }
+
+        public Shader.ShaderType getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public String getEntry() {
+            return entry;
+        }
+
+        public String getProfile() {
+            return profile;
+        }
+
+        public String getDefines() {
+            return defines;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import be.yildizgames.module.color.Color;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+/**
+ * Values of the parameters of a shader program for one material, packed in a direct buffer following a layout.
+ * Changes are collected as a dirty slot range and handed once to the implementation by flush,
+ * setting a value equal to the current one does not mark the slot as dirty.
+ * The block is not thread safe, it is expected to be written and flushed on the rendering thread.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class ShaderParameterBlock {
+
+    /**
+     * Parameters names and slots.
+     */
+    private final ShaderParameterLayout layout;
+
+    /**
+     * Values, in native order to be handed as is to a native backend.
+     */
+    private final FloatBuffer values;
+
+    /**
+     * First dirty slot, Integer.MAX_VALUE if none.
+     */
+    private int dirtyFrom = Integer.MAX_VALUE;
+
+    /**
+     * Last dirty slot, excluded.
+     */
+    private int dirtyTo;
+
+    /**
+     * Create a block with all values set to 0 and all slots dirty.
+     *
+     * @param layout Parameters names and slots.
+     */
+    public ShaderParameterBlock(final ShaderParameterLayout layout) {
+        super();
+        this.layout = Objects.requireNonNull(layout);
+        this.values = ByteBuffer
+                .allocateDirect(Math.max(1, layout.getSlotCount()) * ShaderParameterLayout.SLOT_SIZE * Float.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer();
+        if (layout.getSlotCount() > 0) {
+            this.markDirty(0, layout.getSlotCount());
+        }
+    }
+
+    public ShaderParameterBlock set(final int slot, final float v1) {
+        return this.set(slot, 1, v1, 0, 0, 0);
+    }
+
+    public ShaderParameterBlock set(final int slot, final float v1, final float v2) {
+        return this.set(slot, 2, v1, v2, 0, 0);
+    }
+
+    public ShaderParameterBlock set(final int slot, final float v1, final float v2, final float v3) {
+        return this.set(slot, 3, v1, v2, v3, 0);
+    }
+
+    public ShaderParameterBlock set(final int slot, final float v1, final float v2, final float v3, final float v4) {
+        return this.set(slot, 4, v1, v2, v3, v4);
+    }
+
+    /**
+     * Set a color parameter, as normalized red, green, blue and alpha.
+     *
+     * @param slot  Parameter slot.
+     * @param color Color to set.
+     * @return This object for chaining.
+     */
+    public ShaderParameterBlock set(final int slot, final Color color) {
+        return this.set(slot, 4, color.normalizedRed, color.normalizedGreen, color.normalizedBlue, color.normalizedAlpha);
+    }
+
+    /**
+     * Provide a value.
+     *
+     * @param slot      Parameter slot.
+     * @param component Component index, from 0 to the parameter size excluded.
+     * @return The value.
+     */
+    public float get(final int slot, final int component) {
+        Objects.checkIndex(component, this.layout.getSize(slot));
+        return this.values.get(slot * ShaderParameterLayout.SLOT_SIZE + component);
+    }
+
+    /**
+     * @return true if some values were changed since the last flush.
+     */
+    public boolean isDirty() {
+        return this.dirtyFrom != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Hand the changed slots to the implementation and clear the dirty range, nothing is done if no value changed.
+     *
+     * @param uploader Implementation uploading the values.
+     * @return true if values were uploaded.
+     */
+    public boolean flush(final Uploader uploader) {
+        if (!this.isDirty()) {
+            return false;
+        }
+        final int from = this.dirtyFrom;
+        final int to = this.dirtyTo;
+        this.dirtyFrom = Integer.MAX_VALUE;
+        this.dirtyTo = 0;
+        uploader.upload(this.layout, this.values, from, to);
+        return true;
+    }
+
+    public ShaderParameterLayout getLayout() {
+        return this.layout;
+    }
+
+    private ShaderParameterBlock set(final int slot, final int size, final float v1, final float v2, final float v3, final float v4) {
+        if (this.layout.getSize(slot) != size) {
+            throw new IllegalArgumentException("Parameter " + this.layout.getName(slot) + " expects " + this.layout.getSize(slot) + " values, got " + size);
+        }
+        final int offset = slot * ShaderParameterLayout.SLOT_SIZE;
+        if (this.values.get(offset) != v1 || this.values.get(offset + 1) != v2
+                || this.values.get(offset + 2) != v3 || this.values.get(offset + 3) != v4) {
+            this.values.put(offset, v1).put(offset + 1, v2).put(offset + 2, v3).put(offset + 3, v4);
+            this.markDirty(slot, slot + 1);
+        }
+        return this;
+    }
+
+    private void markDirty(final int from, final int to) {
+        this.dirtyFrom = Math.min(this.dirtyFrom, from);
+        this.dirtyTo = Math.max(this.dirtyTo, to);
+    }
+
+    /**
+     * Implementation receiving the changed values.
+     *
+     * @author Grégory Van den Borre
+     */
+    @FunctionalInterface
+    public interface Uploader {
+
+        /**
+         * Upload the values of a slot range, the values of the slot s start at s * SLOT_SIZE in the buffer.
+         * The buffer must not be modified nor kept after the call.
+         *
+         * @param layout Parameters names and slots.
+         * @param values All the values of the block.
+         * @param from   First changed slot.
+         * @param to     Last changed slot, excluded.
+         */
+        void upload(ShaderParameterLayout layout, FloatBuffer values, int from, int to);
+    }
+}
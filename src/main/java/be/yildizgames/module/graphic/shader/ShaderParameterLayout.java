@@ -0,0 +1,167 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Names and sizes of the parameters of a shader program, each parameter is given an integer slot once,
+ * so per frame updates are done by slot without any name lookup.
+ * Each slot takes one float4 register, as shader constants do, values of the slot s start at s * SLOT_SIZE.
+ * Immutable class.
+ *
+ * @author Grégory Van den Borre
+ */
+public final class ShaderParameterLayout {
+
+    /**
+     * Number of floats reserved for one slot.
+     */
+    public static final int SLOT_SIZE = 4;
+
+    /**
+     * Parameter names, by slot.
+     */
+    private final List<String> names;
+
+    /**
+     * Number of used floats, by slot.
+     */
+    private final int[] sizes;
+
+    /**
+     * Slots, by parameter name.
+     */
+    private final Map<String, Integer> slots;
+
+    private ShaderParameterLayout(final List<String> names, final int[] sizes) {
+        super();
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.sizes = Arrays.copyOf(sizes, names.size());
+        this.slots = new HashMap<>();
+        for (int i = 0; i < this.names.size(); i++) {
+            this.slots.put(this.names.get(i), i);
+        }
+    }
+
+    /**
+     * @return A builder to declare the parameters.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Resolve a parameter name, to be done once when the program is set up.
+     *
+     * @param name Parameter name.
+     * @return The parameter slot.
+     * @throws IllegalArgumentException If no parameter has this name.
+     */
+    public int getSlot(final String name) {
+        Integer slot = this.slots.get(name);
+        if (slot == null) {
+            throw new IllegalArgumentException("Unknown shader parameter: " + name);
+        }
+        return slot;
+    }
+
+    /**
+     * @param slot Parameter slot.
+     * @return The parameter name.
+     */
+    public String getName(final int slot) {
+        return this.names.get(slot);
+    }
+
+    /**
+     * @param slot Parameter slot.
+     * @return The number of floats used by the parameter, from 1 to 4.
+     */
+    public int getSize(final int slot) {
+        return this.sizes[Objects.checkIndex(slot, this.sizes.length)];
+    }
+
+    /**
+     * @return The number of parameters.
+     */
+    public int getSlotCount() {
+        return this.sizes.length;
+    }
+
+    /**
+     * Build a layout, parameters are given slots in declaration order.
+     *
+     * @author Grégory Van den Borre
+     */
+    public static final class Builder {
+
+        private final List<String> names = new ArrayList<>();
+
+        private int[] sizes = new int[8];
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Declare a parameter.
+         *
+         * @param name Parameter name, must be unique in the layout.
+         * @param size Number of floats, from 1 to 4.
+         * @return This object for chaining.
+         * @throws IllegalArgumentException If the name is already declared or the size is not between 1 and 4.
+         */
+        public Builder add(final String name, final int size) {
+            Objects.requireNonNull(name);
+            if (size < 1 || size > SLOT_SIZE) {
+                throw new IllegalArgumentException("Parameter size must be between 1 and " + SLOT_SIZE + ": " + size);
+            }
+            if (this.names.contains(name)) {
+                throw new IllegalArgumentException("Shader parameter already declared: " + name);
+            }
+            if (this.names.size() == this.sizes.length) {
+                this.sizes = Arrays.copyOf(this.sizes, this.sizes.length * 2);
+            }
+            this.sizes[this.names.size()] = size;
+            this.names.add(name);
+            return this;
+        }
+
+        /**
+         * @return The built layout.
+         */
+        public ShaderParameterLayout build() {
+            return new ShaderParameterLayout(this.names, this.sizes);
+        }
+    }
+}
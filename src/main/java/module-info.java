@@ -34,17 +34,21 @@ open module be.yildizgames.module.graphic {
     requires be.yildizgames.common.frame;
     requires be.yildizgames.common.time;
     requires be.yildizgames.module.window;
+    requires jdk.jfr;
 
     exports be.yildizgames.module.graphic;
     exports be.yildizgames.module.graphic.query;
     exports be.yildizgames.module.graphic.animation;
     exports be.yildizgames.module.graphic.billboard;
     exports be.yildizgames.module.graphic.camera;
+    exports be.yildizgames.module.graphic.culling;
     exports be.yildizgames.module.graphic.dummy;
     exports be.yildizgames.module.graphic.light;
+    exports be.yildizgames.module.graphic.loading;
     exports be.yildizgames.module.graphic.material;
     exports be.yildizgames.module.graphic.misc;
     exports be.yildizgames.module.graphic.particle;
+    exports be.yildizgames.module.graphic.profiling;
     exports be.yildizgames.module.graphic.shader;
     exports be.yildizgames.module.graphic.gui;
     exports be.yildizgames.module.graphic.gui.button;
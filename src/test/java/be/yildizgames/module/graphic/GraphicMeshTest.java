@@ -26,6 +26,7 @@
 
 package be.yildizgames.module.graphic;
 
+import be.yildizgames.module.graphic.dummy.DummyMaterial;
 import be.yildizgames.module.graphic.material.Material;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
@@ -62,4 +63,31 @@ class GraphicMeshTest {
         }
     }
 
+    @Nested
+    class AddLevel {
+
+        @Test
+        void happyFlow() {
+            GraphicMesh mesh = new GraphicMesh("test", "tst", new DummyMaterial("meshLevelTest"));
+            mesh.addLevel("test_low", 100).addLevel("test_lowest", 300);
+            Assertions.assertEquals(3, mesh.getLevels().size());
+            Assertions.assertEquals("test.tst", mesh.getLevels().get(0).getFile());
+            Assertions.assertEquals("test_low.tst", mesh.getLevels().get(1).getFile());
+            Assertions.assertEquals(300, mesh.getLevels().get(2).getDistance());
+        }
+
+        @Test
+        void distanceNotIncreasing() {
+            GraphicMesh mesh = new GraphicMesh("test", "tst", new DummyMaterial("meshLevelTestDistance"));
+            mesh.addLevel("test_low", 100);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> mesh.addLevel("test_lowest", 100));
+        }
+
+        @Test
+        void nullPath() {
+            GraphicMesh mesh = new GraphicMesh("test", "tst", new DummyMaterial("meshLevelTestNull"));
+            Assertions.assertThrows(NullPointerException.class, () -> mesh.addLevel(null, 100));
+        }
+    }
+
 }
@@ -52,6 +52,11 @@ public class GraphicObjectDummy extends GraphicObject {
 
     }
 
+    @Override
+    protected void setLodLevelImpl(int level) {
+
+    }
+
     @Override
     public GraphicObject setRenderBehind() {
         return null;
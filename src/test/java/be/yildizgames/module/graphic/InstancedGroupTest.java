@@ -0,0 +1,192 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class InstancedGroupTest {
+
+    private static GroupMock givenAGroup(int capacity) {
+        return new GroupMock(capacity);
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void happyFlow() {
+            GroupMock g = givenAGroup(2);
+            assertEquals(0, g.add(1, 2, 3));
+            assertEquals(1, g.add(4, 5, 6));
+            assertEquals(2, g.getSize());
+            assertEquals(5, g.getPositionY(1));
+            assertEquals(1, g.getScale(1));
+        }
+
+        @Test
+        void capacityReached() {
+            GroupMock g = givenAGroup(1);
+            g.add(1, 2, 3);
+            assertThrows(IllegalStateException.class, () -> g.add(1, 2, 3));
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void moveLast() {
+            GroupMock g = givenAGroup(3);
+            g.add(0, 0, 0);
+            g.add(1, 1, 1);
+            g.add(2, 2, 2);
+            g.setParameter(2, 1, 7);
+            assertEquals(2, g.remove(0));
+            assertEquals(2, g.getSize());
+            assertEquals(2, g.getPositionX(0));
+            assertEquals(7, g.getParameter(0, 1));
+        }
+
+        @Test
+        void last() {
+            GroupMock g = givenAGroup(3);
+            g.add(0, 0, 0);
+            g.add(1, 1, 1);
+            assertEquals(-1, g.remove(1));
+            assertEquals(1, g.getSize());
+        }
+
+        @Test
+        void outOfRange() {
+            GroupMock g = givenAGroup(3);
+            g.add(0, 0, 0);
+            assertThrows(IndexOutOfBoundsException.class, () -> g.remove(1));
+        }
+    }
+
+    @Nested
+    class SetPositions {
+
+        @Test
+        void interleaved() {
+            GroupMock g = givenAGroup(3);
+            g.add(0, 0, 0);
+            g.add(0, 0, 0);
+            g.setPositions(new float[]{1, 2, 3, 4, 5, 6});
+            assertEquals(4, g.getPositionX(1));
+            assertEquals(6, g.getPositionZ(1));
+        }
+
+        @Test
+        void moreThanInstances() {
+            GroupMock g = givenAGroup(3);
+            g.add(0, 0, 0);
+            assertThrows(IllegalArgumentException.class, () -> g.setPositions(new float[]{1, 2, 3, 4, 5, 6}));
+        }
+
+        @Test
+        void components() {
+            GroupMock g = givenAGroup(3);
+            g.add(0, 0, 0);
+            g.add(0, 0, 0);
+            g.add(0, 0, 0);
+            g.update();
+            g.setPositions(1, new float[]{1, 2}, new float[]{3, 4}, new float[]{5, 6}, 2);
+            assertEquals(2, g.getPositionX(2));
+            g.update();
+            assertEquals(List.of("0-3", "1-3"), g.updates);
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void onceForManyChanges() {
+            GroupMock g = givenAGroup(1000);
+            for (int i = 0; i < 1000; i++) {
+                g.add(i, 0, 0);
+            }
+            g.update();
+            for (int i = 10; i < 20; i++) {
+                g.setPosition(i, 1, 1, 1);
+            }
+            g.update();
+            g.update();
+            assertEquals(List.of("0-1000", "10-20"), g.updates);
+        }
+
+        @Test
+        void afterRemove() {
+            GroupMock g = givenAGroup(3);
+            g.add(0, 0, 0);
+            g.add(0, 0, 0);
+            g.update();
+            g.remove(1);
+            g.update();
+            assertEquals("1-1", g.updates.get(1));
+            assertEquals(1, g.getSize());
+        }
+    }
+
+    private static final class GroupMock extends InstancedGroup {
+
+        private final List<String> updates = new ArrayList<>();
+
+        private GroupMock(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public void delete() {
+            // does nothing.
+        }
+
+        @Override
+        protected void updateImpl(int from, int to) {
+            this.updates.add(from + "-" + to);
+        }
+
+        @Override
+        protected void showImpl() {
+            // does nothing.
+        }
+
+        @Override
+        protected void hideImpl() {
+            // does nothing.
+        }
+    }
+}
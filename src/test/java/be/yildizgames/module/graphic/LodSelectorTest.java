@@ -0,0 +1,120 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.module.graphic.dummy.DummyGraphicObject;
+import be.yildizgames.module.graphic.dummy.DummyMaterial;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class LodSelectorTest {
+
+    private static final GraphicMesh MESH = GraphicMesh.mesh("unit", new DummyMaterial("lodSelectorTest"))
+            .addLevel("unit_medium", 100)
+            .addLevel("unit_low", 300);
+
+    private static GraphicObject givenAnObjectAt(float z) {
+        GraphicObject object = new DummyGraphicObject();
+        object.setPosition(0, 0, z);
+        return object;
+    }
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void invalidHysteresis() {
+            assertThrows(IllegalArgumentException.class, () -> new LodSelector(-0.1f));
+            assertThrows(IllegalArgumentException.class, () -> new LodSelector(1));
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void fromDistance() {
+            LodSelector s = new LodSelector(0.1f);
+            GraphicObject near = givenAnObjectAt(50);
+            GraphicObject medium = givenAnObjectAt(200);
+            GraphicObject far = givenAnObjectAt(1000);
+            s.add(near, MESH);
+            s.add(medium, MESH);
+            s.add(far, MESH);
+            assertEquals(2, s.update(0, 0, 0));
+            assertEquals(0, near.getLodLevel());
+            assertEquals(1, medium.getLodLevel());
+            assertEquals(2, far.getLodLevel());
+        }
+
+        @Test
+        void hysteresis() {
+            LodSelector s = new LodSelector(0.1f);
+            GraphicObject object = givenAnObjectAt(105);
+            s.add(object, MESH);
+            s.update(0, 0, 0);
+            assertEquals(0, object.getLodLevel());
+            object.setPosition(0, 0, 115);
+            s.update(0, 0, 0);
+            assertEquals(1, object.getLodLevel());
+            object.setPosition(0, 0, 95);
+            assertEquals(0, s.update(0, 0, 0));
+            assertEquals(1, object.getLodLevel());
+            object.setPosition(0, 0, 85);
+            s.update(0, 0, 0);
+            assertEquals(0, object.getLodLevel());
+        }
+
+        @Test
+        void singleLevelIgnored() {
+            LodSelector s = new LodSelector(0.1f);
+            s.add(givenAnObjectAt(1000), GraphicMesh.mesh("single", new DummyMaterial("lodSelectorSingle")));
+            assertEquals(0, s.getSize());
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void levelKept() {
+            LodSelector s = new LodSelector(0.1f);
+            GraphicObject object = givenAnObjectAt(1000);
+            s.add(object, MESH);
+            s.update(0, 0, 0);
+            s.remove(object);
+            object.setPosition(0, 0, 0);
+            s.update(0, 0, 0);
+            assertEquals(2, object.getLodLevel());
+            assertEquals(0, s.getSize());
+        }
+    }
+}
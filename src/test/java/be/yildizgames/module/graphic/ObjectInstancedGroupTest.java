@@ -0,0 +1,108 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.module.graphic.dummy.DummyGraphicWorld;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ObjectInstancedGroupTest {
+
+    private static ObjectInstancedGroup givenAGroup(int capacity) {
+        DummyGraphicWorld world = new DummyGraphicWorld();
+        return new ObjectInstancedGroup(capacity, () -> world.createObject().buildMovable());
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void objectsFollowInstances() {
+            ObjectInstancedGroup g = givenAGroup(3);
+            g.add(1, 2, 3);
+            g.add(4, 5, 6);
+            g.setScale(1, 2);
+            g.update();
+            assertEquals(5, g.getObject(1).getPosition().y);
+            assertEquals(2, g.getObject(1).getScaleSize().x);
+        }
+
+        @Test
+        void objectsRemoved() {
+            ObjectInstancedGroup g = givenAGroup(3);
+            g.add(1, 2, 3);
+            g.add(4, 5, 6);
+            g.update();
+            g.remove(0);
+            g.update();
+            assertEquals(4, g.getObject(0).getPosition().x);
+            assertThrows(IndexOutOfBoundsException.class, () -> g.getObject(1));
+        }
+
+        @Test
+        void newObjectHidden() {
+            ObjectInstancedGroup g = givenAGroup(3);
+            g.hide();
+            g.add(1, 2, 3);
+            g.update();
+            assertFalse(g.getObject(0).isVisible());
+            g.show();
+            assertTrue(g.getObject(0).isVisible());
+        }
+    }
+
+    @Nested
+    class Builder {
+
+        @Test
+        void defaultBuildInstanced() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            GraphicObjectBuilder builder = new GraphicObjectBuilder() {
+
+                @Override
+                public GraphicObject buildMovable() {
+                    return world.createObject().buildMovable();
+                }
+
+                @Override
+                public GraphicObject buildStatic() {
+                    return world.createObject().buildStatic();
+                }
+            };
+            InstancedGroup g = builder.buildInstanced(2);
+            assertTrue(g instanceof ObjectInstancedGroup);
+            assertEquals(2, g.getCapacity());
+        }
+    }
+}
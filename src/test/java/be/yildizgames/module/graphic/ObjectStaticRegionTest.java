@@ -0,0 +1,91 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.dummy.Command;
+import be.yildizgames.module.graphic.dummy.DummyGraphicWorld;
+import be.yildizgames.module.graphic.dummy.DummyMaterial;
+import be.yildizgames.module.graphic.material.Material;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ObjectStaticRegionTest {
+
+    private static final Material ROCK = new DummyMaterial("objectRegionRock");
+
+    private static final Material TREE = new DummyMaterial("objectRegionTree");
+
+    private static final GraphicMesh ROCK_MESH = GraphicMesh.mesh("rock.mesh", ROCK);
+
+    private static final GraphicMesh TREE_MESH = GraphicMesh.mesh("tree.mesh", TREE);
+
+    @Nested
+    class Build {
+
+        @Test
+        void oneObjectByEntry() {
+            ObjectStaticRegion region = new ObjectStaticRegion("region", new DummyGraphicWorld());
+            region.add(ROCK_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            region.add(ROCK_MESH, Point3D.valueOf(5), Point3D.BASE_DIRECTION);
+            region.add(TREE_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            region.build();
+            assertEquals(2, region.getObjectCount(ROCK));
+            assertEquals(1, region.getObjectCount(TREE));
+        }
+
+        @Test
+        void removedObjectDeleted() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            world.getRecorder().setEnabled(true);
+            ObjectStaticRegion region = new ObjectStaticRegion("region", world);
+            int rock = region.add(ROCK_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            int tree = region.add(TREE_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            region.build();
+            region.remove(rock);
+            region.remove(tree);
+            region.add(TREE_MESH, Point3D.valueOf(5), Point3D.BASE_DIRECTION);
+            region.build();
+            assertEquals(0, region.getObjectCount(ROCK));
+            assertEquals(1, region.getObjectCount(TREE));
+            assertEquals(2, world.getRecorder().getCount(Command.DELETE));
+        }
+
+        @Test
+        void deleteAll() {
+            ObjectStaticRegion region = new ObjectStaticRegion("region", new DummyGraphicWorld());
+            region.add(ROCK_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            region.build();
+            region.delete();
+            assertEquals(0, region.getObjectCount(ROCK));
+        }
+    }
+}
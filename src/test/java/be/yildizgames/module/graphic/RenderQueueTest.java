@@ -0,0 +1,115 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.module.graphic.material.SortKey;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class RenderQueueTest {
+
+    private static final long STATE_A = 1L << 40;
+
+    private static final long STATE_B = 2L << 40;
+
+    private static final long TRANSPARENT = SortKey.TRANSPARENT | 1L << 40;
+
+    private static List<String> sorted(RenderQueue<String> q) {
+        q.sort();
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < q.size(); i++) {
+            result.add(q.get(i));
+        }
+        return result;
+    }
+
+    @Nested
+    class Sort {
+
+        @Test
+        void groupedByState() {
+            RenderQueue<String> q = new RenderQueue<>();
+            q.submit("b1", STATE_B, 10);
+            q.submit("a1", STATE_A, 10);
+            q.submit("b2", STATE_B, 10);
+            q.submit("a2", STATE_A, 10);
+            assertEquals(3, q.getStateChanges());
+            q.sort();
+            assertEquals(1, q.getStateChanges());
+        }
+
+        @Test
+        void opaqueFrontToBack() {
+            RenderQueue<String> q = new RenderQueue<>();
+            q.submit("far", STATE_A, 100);
+            q.submit("near", STATE_A, 1);
+            q.submit("middle", STATE_A, 50.5f);
+            assertEquals(List.of("near", "middle", "far"), sorted(q));
+        }
+
+        @Test
+        void transparentBackToFrontAfterOpaque() {
+            RenderQueue<String> q = new RenderQueue<>();
+            q.submit("glassNear", TRANSPARENT, 5);
+            q.submit("wall", STATE_B, 500);
+            q.submit("glassFar", TRANSPARENT, 300);
+            q.submit("floor", STATE_A, 2);
+            assertEquals(List.of("floor", "wall", "glassFar", "glassNear"), sorted(q));
+        }
+
+        @Test
+        void grow() {
+            RenderQueue<String> q = new RenderQueue<>();
+            for (int i = 0; i < 200; i++) {
+                q.submit("i" + i, STATE_A, 200 - i);
+            }
+            q.sort();
+            assertEquals(200, q.size());
+            assertEquals("i199", q.get(0));
+        }
+    }
+
+    @Nested
+    class Clear {
+
+        @Test
+        void happyFlow() {
+            RenderQueue<String> q = new RenderQueue<>();
+            q.submit("a", STATE_A, 1);
+            q.clear();
+            assertEquals(0, q.size());
+            assertThrows(IndexOutOfBoundsException.class, () -> q.get(0));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ResourceDataTest {
+
+    @Nested
+    class Read {
+
+        @Test
+        void notFound() {
+            ResourceData data = ResourceData.read("notexisting_texture.png");
+            assertFalse(data.isLoaded());
+            assertEquals("notexisting_texture.png", data.getPath());
+        }
+
+        @Test
+        void fromFolder() throws IOException {
+            Path empty = Files.createTempDirectory("empty");
+            Path folder = Files.createTempDirectory("resources");
+            Path file = Files.write(folder.resolve("texture.png"), new byte[]{1, 2, 3});
+            ResourceData data = ResourceData.read("texture.png", List.of(empty, folder));
+            assertTrue(data.isLoaded());
+            assertEquals(3, data.getData().remaining());
+            assertEquals("texture.png", data.getPath());
+            Files.delete(file);
+            Files.delete(folder);
+            Files.delete(empty);
+        }
+
+        @Test
+        void notInFolders() throws IOException {
+            Path folder = Files.createTempDirectory("resources");
+            assertFalse(ResourceData.read("texture.png", List.of(folder)).isLoaded());
+            Files.delete(folder);
+        }
+    }
+}
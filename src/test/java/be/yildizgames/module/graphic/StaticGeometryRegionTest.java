@@ -0,0 +1,177 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.dummy.DummyMaterial;
+import be.yildizgames.module.graphic.material.Material;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class StaticGeometryRegionTest {
+
+    private static final Material ROCK = new DummyMaterial("staticRegionRock");
+
+    private static final Material TREE = new DummyMaterial("staticRegionTree");
+
+    private static final GraphicMesh ROCK_MESH = GraphicMesh.mesh("rock.mesh", ROCK);
+
+    private static final GraphicMesh TREE_MESH = GraphicMesh.mesh("tree.mesh", TREE);
+
+    @Nested
+    class Build {
+
+        @Test
+        void mergedByMaterial() {
+            RegionMock r = new RegionMock();
+            for (int i = 0; i < 100; i++) {
+                r.add(i % 2 == 0 ? ROCK_MESH : TREE_MESH, Point3D.valueOf(i, 0, 0), Point3D.BASE_DIRECTION);
+            }
+            assertEquals(2, r.build());
+            assertEquals(List.of("staticRegionRock:50", "staticRegionTree:50"), r.built);
+            assertEquals(2, r.getBatchCount());
+            assertEquals(100, r.getSize());
+        }
+
+        @Test
+        void nothingChanged() {
+            RegionMock r = new RegionMock();
+            r.add(ROCK_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            r.build();
+            assertEquals(0, r.build());
+            assertEquals(1, r.built.size());
+        }
+
+        @Test
+        void materialOverride() {
+            RegionMock r = new RegionMock();
+            r.add(ROCK_MESH, TREE, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            r.build();
+            assertEquals(List.of("staticRegionTree:1"), r.built);
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void onlyItsBatchRebuilt() {
+            RegionMock r = new RegionMock();
+            int rock = r.add(ROCK_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            r.add(ROCK_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            r.add(TREE_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            r.build();
+            r.built.clear();
+            assertTrue(r.remove(rock));
+            assertEquals(1, r.build());
+            assertEquals(List.of("staticRegionRock:1"), r.built);
+        }
+
+        @Test
+        void lastOfBatch() {
+            RegionMock r = new RegionMock();
+            int tree = r.add(TREE_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            r.add(ROCK_MESH, Point3D.ZERO, Point3D.BASE_DIRECTION);
+            r.build();
+            r.remove(tree);
+            r.build();
+            assertEquals(List.of("staticRegionTree"), r.removed);
+            assertEquals(1, r.getBatchCount());
+        }
+
+        @Test
+        void notExisting() {
+            RegionMock r = new RegionMock();
+            assertFalse(r.remove(5));
+        }
+    }
+
+    @Nested
+    class Bounds {
+
+        @Test
+        void happyFlow() {
+            RegionMock r = new RegionMock();
+            r.add(ROCK_MESH, Point3D.valueOf(-5, 2, 3), Point3D.BASE_DIRECTION);
+            r.add(ROCK_MESH, Point3D.valueOf(10, -4, 1), Point3D.BASE_DIRECTION);
+            assertEquals(-6, r.getMin().x);
+            assertEquals(-5, r.getMin().y);
+            assertEquals(0, r.getMin().z);
+            assertEquals(11, r.getMax().x);
+            assertEquals(3, r.getMax().y);
+            assertEquals(4, r.getMax().z);
+        }
+
+        @Test
+        void shrinkAfterRemove() {
+            RegionMock r = new RegionMock();
+            r.add(ROCK_MESH, Point3D.valueOf(0, 0, 0), Point3D.BASE_DIRECTION);
+            int far = r.add(ROCK_MESH, Point3D.valueOf(100, 0, 0), Point3D.BASE_DIRECTION);
+            r.remove(far);
+            assertEquals(1, r.getMax().x);
+        }
+    }
+
+    private static final class RegionMock extends StaticGeometryRegion {
+
+        private final List<String> built = new ArrayList<>();
+
+        private final List<String> removed = new ArrayList<>();
+
+        private RegionMock() {
+            super("region");
+        }
+
+        @Override
+        public void delete() {
+            // does nothing.
+        }
+
+        @Override
+        protected void buildBatchImpl(Material material, List<Entry> objects) {
+            this.built.add(material.getName() + ":" + objects.size());
+        }
+
+        @Override
+        protected void removeBatchImpl(Material material) {
+            this.removed.add(material.getName());
+        }
+
+        @Override
+        protected float getMeshRadius(GraphicMesh mesh) {
+            return 1;
+        }
+    }
+}
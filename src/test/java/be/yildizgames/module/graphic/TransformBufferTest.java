@@ -0,0 +1,104 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic;
+
+import be.yildizgames.common.model.EntityId;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class TransformBufferTest {
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void happyFlow() {
+            TransformBuffer b = new TransformBuffer(4);
+            assertEquals(0, b.getCount());
+            assertTrue(b.getTransforms().isDirect());
+        }
+
+        @Test
+        void zeroCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new TransformBuffer(0));
+        }
+    }
+
+    @Nested
+    class Write {
+
+        @Test
+        void happyFlow() {
+            TransformBuffer b = new TransformBuffer(4);
+            b.write(EntityId.valueOf(7), 1, 2, 3, 4, 5, 6);
+            assertEquals(1, b.getCount());
+            assertEquals(7, b.getEntity(0));
+            assertEquals(6, b.getTransforms().get(5));
+        }
+
+        @Test
+        void grow() {
+            TransformBuffer b = new TransformBuffer(1);
+            for (int i = 0; i < 100; i++) {
+                b.write(i, i, 0, 0, 0, 0, 1);
+            }
+            assertEquals(100, b.getCount());
+            assertEquals(99, b.getEntity(99));
+            assertEquals(42, b.getTransforms().get(42 * TransformBuffer.STRIDE));
+        }
+
+        @Test
+        void entityOutOfRange() {
+            TransformBuffer b = new TransformBuffer(4);
+            b.write(1, 0, 0, 0, 0, 0, 1);
+            assertThrows(IndexOutOfBoundsException.class, () -> b.getEntity(1));
+        }
+    }
+
+    @Nested
+    class Consume {
+
+        @Test
+        void inWritingOrder() {
+            TransformBuffer b = new TransformBuffer(4);
+            b.write(1, 1, 2, 3, 0, 0, 1);
+            b.write(2, 4, 5, 6, 0, 1, 0);
+            List<String> result = new ArrayList<>();
+            b.consume((e, x, y, z, dx, dy, dz) -> result.add(e + ":" + x + "," + y + "," + z + "," + dx + "," + dy + "," + dz));
+            assertEquals(List.of("1:1.0,2.0,3.0,0.0,0.0,1.0", "2:4.0,5.0,6.0,0.0,1.0,0.0"), result);
+            assertEquals(0, b.getCount());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.culling;
+
+import be.yildizgames.module.graphic.dummy.DummyCamera;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class FrustumTest {
+
+    private static Frustum givenAFrustumLookingForward() {
+        return new Frustum().update(0, 0, 0, 0, 0, -1, (float) Math.PI / 2, 1, 1, 100);
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void fromCamera() {
+            DummyCamera camera = new DummyCamera();
+            camera.setNearClip(1);
+            camera.setFarClip(100);
+            Frustum f = new Frustum().update(camera);
+            assertTrue(f.intersects(0, 0, -50, 0));
+            assertFalse(f.intersects(0, 0, -150, 0));
+        }
+
+        @Test
+        void zeroDirection() {
+            assertThrows(IllegalArgumentException.class, () -> new Frustum().update(0, 0, 0, 0, 0, 0, 1, 1, 1, 100));
+        }
+
+        @Test
+        void lookingDown() {
+            Frustum f = new Frustum().update(0, 100, 0, 0, -1, 0, (float) Math.PI / 2, 1, 1, 1000);
+            assertTrue(f.intersects(0, 0, 0, 0));
+            assertFalse(f.intersects(0, 200, 0, 0));
+        }
+    }
+
+    @Nested
+    class Intersects {
+
+        @Test
+        void inFront() {
+            assertTrue(givenAFrustumLookingForward().intersects(0, 0, -10, 0));
+        }
+
+        @Test
+        void behind() {
+            assertFalse(givenAFrustumLookingForward().intersects(0, 0, 10, 1));
+        }
+
+        @Test
+        void sideWithRadius() {
+            Frustum f = givenAFrustumLookingForward();
+            assertFalse(f.intersects(20, 0, -10, 1));
+            assertTrue(f.intersects(20, 0, -10, 8));
+        }
+
+        @Test
+        void beyondFar() {
+            assertFalse(givenAFrustumLookingForward().intersects(0, 0, -110, 5));
+        }
+    }
+
+    @Nested
+    class Contains {
+
+        @Test
+        void inside() {
+            assertEquals(Frustum.Containment.INSIDE, givenAFrustumLookingForward().contains(-1, -1, -20, 1, 1, -10));
+        }
+
+        @Test
+        void intersect() {
+            assertEquals(Frustum.Containment.INTERSECT, givenAFrustumLookingForward().contains(-1, -1, -20, 1, 1, 10));
+        }
+
+        @Test
+        void outside() {
+            assertEquals(Frustum.Containment.OUTSIDE, givenAFrustumLookingForward().contains(-1, -1, 10, 1, 1, 20));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.culling;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.GraphicObject;
+import be.yildizgames.module.graphic.dummy.Command;
+import be.yildizgames.module.graphic.dummy.CommandRecorder;
+import be.yildizgames.module.graphic.dummy.DummyCamera;
+import be.yildizgames.module.graphic.dummy.DummyGraphicObject;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class SceneCullerTest {
+
+    private static SceneCuller givenACuller() {
+        return new SceneCuller(Point3D.ZERO, 1000, 6);
+    }
+
+    private static DummyCamera givenACamera() {
+        DummyCamera camera = new DummyCamera();
+        camera.setNearClip(1);
+        camera.setFarClip(500);
+        return camera;
+    }
+
+    private static GraphicObject givenAnObject(CommandRecorder recorder, float x, float y, float z) {
+        GraphicObject object = new DummyGraphicObject(recorder);
+        object.setPosition(x, y, z);
+        return object;
+    }
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void invalidSize() {
+            assertThrows(IllegalArgumentException.class, () -> new SceneCuller(Point3D.ZERO, 0, 2));
+        }
+
+        @Test
+        void invalidDepth() {
+            assertThrows(IllegalArgumentException.class, () -> new SceneCuller(Point3D.ZERO, 10, -1));
+        }
+    }
+
+    @Nested
+    class Cull {
+
+        @Test
+        void happyFlow() {
+            CommandRecorder recorder = new CommandRecorder();
+            SceneCuller c = givenACuller();
+            GraphicObject front = givenAnObject(recorder, 0, 0, -100);
+            GraphicObject behind = givenAnObject(recorder, 0, 0, 100);
+            GraphicObject far = givenAnObject(recorder, 0, 0, -800);
+            c.add(front, 5);
+            c.add(behind, 5);
+            c.add(far, 5);
+            assertEquals(1, c.cull(givenACamera()));
+            assertTrue(front.isVisible());
+            assertFalse(behind.isVisible());
+            assertFalse(far.isVisible());
+        }
+
+        @Test
+        void onlyChangesRecorded() {
+            CommandRecorder recorder = new CommandRecorder();
+            recorder.setEnabled(true);
+            SceneCuller c = givenACuller();
+            for (int i = 0; i < 100; i++) {
+                c.add(givenAnObject(recorder, i * 0.4f - 20, 0, i % 2 == 0 ? -50 : 50), 1);
+            }
+            DummyCamera camera = givenACamera();
+            c.cull(camera);
+            long changes = recorder.getCount(Command.VISIBLE);
+            assertEquals(50, changes);
+            c.cull(camera);
+            assertEquals(changes, recorder.getCount(Command.VISIBLE));
+            camera.setDirection(0, 0, 1);
+            c.cull(camera);
+            assertEquals(changes + 100, recorder.getCount(Command.VISIBLE));
+        }
+
+        @Test
+        void maxDistance() {
+            SceneCuller c = givenACuller();
+            GraphicObject object = givenAnObject(new CommandRecorder(), 0, 0, -100);
+            c.add(object, 1, 50);
+            c.cull(givenACamera());
+            assertFalse(object.isVisible());
+        }
+
+        @Test
+        void outOfWorld() {
+            SceneCuller c = new SceneCuller(Point3D.ZERO, 10, 3);
+            GraphicObject object = givenAnObject(new CommandRecorder(), 0, 0, -100);
+            c.add(object, 1);
+            assertEquals(1, c.cull(givenACamera()));
+        }
+
+        @Test
+        void subtreeSkipped() {
+            SceneCuller c = givenACuller();
+            CommandRecorder recorder = new CommandRecorder();
+            for (int i = 0; i < 1000; i++) {
+                c.add(givenAnObject(recorder, (i % 10) * 50 - 250, 0, 500 + (i / 10) * 4), 1);
+            }
+            c.add(givenAnObject(recorder, 0, 0, -100), 1);
+            assertEquals(1, c.cull(givenACamera()));
+            assertTrue(c.getTestedNodes() < 100);
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void moveInView() {
+            SceneCuller c = givenACuller();
+            GraphicObject object = givenAnObject(new CommandRecorder(), 0, 0, 100);
+            c.add(object, 1);
+            DummyCamera camera = givenACamera();
+            c.cull(camera);
+            assertFalse(object.isVisible());
+            object.setPosition(0, 0, -100);
+            c.update(object);
+            c.cull(camera);
+            assertTrue(object.isVisible());
+        }
+
+        @Test
+        void notManaged() {
+            SceneCuller c = givenACuller();
+            GraphicObject object = givenAnObject(new CommandRecorder(), 0, 0, 100);
+            assertThrows(IllegalArgumentException.class, () -> c.update(object));
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void visibilityKept() {
+            SceneCuller c = givenACuller();
+            GraphicObject object = givenAnObject(new CommandRecorder(), 0, 0, -100);
+            c.add(object, 1);
+            DummyCamera camera = givenACamera();
+            c.cull(camera);
+            c.remove(object);
+            camera.setDirection(0, 0, 1);
+            c.cull(camera);
+            assertTrue(object.isVisible());
+            assertEquals(0, c.getSize());
+        }
+    }
+}
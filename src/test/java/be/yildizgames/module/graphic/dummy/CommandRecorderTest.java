@@ -0,0 +1,361 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.common.geometry.Rectangle;
+import be.yildizgames.common.model.EntityId;
+import be.yildizgames.module.graphic.GraphicObject;
+import be.yildizgames.module.graphic.light.PointLight;
+import be.yildizgames.module.graphic.particle.ParticleEmitter;
+import be.yildizgames.module.graphic.particle.ParticleSystem;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class CommandRecorderTest {
+
+    private static CommandRecorder givenARecorder() {
+        CommandRecorder recorder = new CommandRecorder();
+        recorder.setEnabled(true);
+        return recorder;
+    }
+
+    @Nested
+    class Record {
+
+        @Test
+        void create() {
+            CommandRecorder recorder = givenARecorder();
+            int first = recorder.create(ObjectType.LINE, "a");
+            int second = recorder.create(ObjectType.LINE, "b");
+            assertEquals(1, first);
+            assertEquals(2, second);
+            assertEquals(2, recorder.getCount(Command.CREATE));
+        }
+
+        @Test
+        void disabledByDefault() {
+            CommandRecorder recorder = new CommandRecorder();
+            int id = recorder.create(ObjectType.LINE, "a");
+            recorder.recordFloat3(Command.POSITION, id, 1, 2, 3);
+            assertEquals(1, id);
+            assertEquals(0, recorder.getCommandCount());
+            assertEquals(0, recorder.getStreamSize());
+        }
+
+        @Test
+        void growStream() {
+            CommandRecorder recorder = givenARecorder();
+            for (int i = 0; i < 1000; i++) {
+                recorder.recordFloat3(Command.POSITION, 1, i, i, i);
+            }
+            assertEquals(1000, recorder.getCount(Command.POSITION));
+            assertEquals(1000 * 5 * 4, recorder.getStreamSize());
+        }
+
+        @Test
+        void disable() {
+            CommandRecorder recorder = givenARecorder();
+            recorder.setEnabled(false);
+            recorder.recordInt(Command.VISIBLE, 1, 0);
+            assertEquals(0, recorder.getCommandCount());
+        }
+    }
+
+    @Nested
+    class FrameWindow {
+
+        @Test
+        void oldestFramesDropped() {
+            CommandRecorder recorder = givenARecorder();
+            recorder.setFrameWindow(2);
+            for (int i = 0; i < 5; i++) {
+                recorder.recordInt(Command.VISIBLE, 1, i);
+                recorder.frameEnded();
+            }
+            recorder.recordInt(Command.VISIBLE, 1, 5);
+            assertEquals(3, recorder.getCount(Command.VISIBLE));
+            assertEquals(2, recorder.getCount(Command.END_FRAME));
+            List<Integer> result = new ArrayList<>();
+            recorder.replay((c, o, a) -> result.add(c == Command.VISIBLE ? a.getInt(0) : -o));
+            assertEquals(List.of(3, -4, 4, -5, 5), result);
+        }
+
+        @Test
+        void fullCapture() {
+            CommandRecorder recorder = givenARecorder();
+            recorder.setFrameWindow(0);
+            for (int i = 0; i < CommandRecorder.DEFAULT_FRAME_WINDOW + 10; i++) {
+                recorder.frameEnded();
+            }
+            assertEquals(CommandRecorder.DEFAULT_FRAME_WINDOW + 10, recorder.getCount(Command.END_FRAME));
+        }
+
+        @Test
+        void reduced() {
+            CommandRecorder recorder = givenARecorder();
+            for (int i = 0; i < 10; i++) {
+                recorder.frameEnded();
+            }
+            recorder.setFrameWindow(3);
+            assertEquals(3, recorder.getCount(Command.END_FRAME));
+            assertEquals(3 * 2 * 4, recorder.getStreamSize());
+        }
+
+        @Test
+        void liveObjectCreationKept() {
+            CommandRecorder recorder = givenARecorder();
+            recorder.setFrameWindow(1);
+            int id = recorder.create(ObjectType.GRAPHIC_OBJECT, "object");
+            recorder.frameEnded();
+            recorder.recordInt(Command.VISIBLE, id, 0);
+            recorder.frameEnded();
+            recorder.frameEnded();
+            List<String> result = new ArrayList<>();
+            recorder.replay((c, o, a) -> result.add(c == Command.CREATE ? c.name() + ":" + o + ":" + a.getString(1) : c.name()));
+            assertEquals(List.of("CREATE:1:object", "END_FRAME"), result);
+            assertEquals(1, recorder.getCount(Command.CREATE));
+            assertEquals(0, recorder.getCount(Command.VISIBLE));
+            assertEquals((4 + 2) * 4, recorder.getStreamSize());
+        }
+
+        @Test
+        void deletedObjectForgotten() {
+            CommandRecorder recorder = givenARecorder();
+            recorder.setFrameWindow(1);
+            int id = recorder.create(ObjectType.GRAPHIC_OBJECT, "object");
+            recorder.frameEnded();
+            recorder.record(Command.DELETE, id);
+            recorder.frameEnded();
+            recorder.frameEnded();
+            List<Command> result = new ArrayList<>();
+            recorder.replay((c, o, a) -> result.add(c));
+            assertEquals(List.of(Command.END_FRAME), result);
+            assertEquals(0, recorder.getCount(Command.CREATE));
+            assertEquals(0, recorder.getCount(Command.DELETE));
+            assertEquals(0, recorder.getStringCount());
+        }
+
+        @Test
+        void stringsReleased() {
+            CommandRecorder recorder = givenARecorder();
+            recorder.setFrameWindow(2);
+            for (int i = 0; i < 100; i++) {
+                recorder.recordString(Command.MATERIAL, 1, "material" + i);
+                recorder.recordProperty(Command.PROPERTY, 1, "shared", i);
+                recorder.frameEnded();
+            }
+            assertEquals(3, recorder.getStringCount());
+            List<String> result = new ArrayList<>();
+            recorder.replay((c, o, a) -> {
+                if (c != Command.END_FRAME) {
+                    result.add(a.getString(0));
+                }
+            });
+            assertEquals(List.of("material98", "shared", "material99", "shared"), result);
+        }
+
+        @Test
+        void stringIdReused() {
+            CommandRecorder recorder = givenARecorder();
+            recorder.setFrameWindow(1);
+            recorder.recordString(Command.MATERIAL, 1, "first");
+            recorder.frameEnded();
+            recorder.frameEnded();
+            recorder.recordString(Command.MATERIAL, 1, "second");
+            List<String> result = new ArrayList<>();
+            recorder.replay((c, o, a) -> {
+                if (c == Command.MATERIAL) {
+                    result.add(a.getString(0));
+                }
+            });
+            assertEquals(List.of("second"), result);
+            assertEquals(1, recorder.getStringCount());
+        }
+
+        @Test
+        void negative() {
+            CommandRecorder recorder = givenARecorder();
+            assertThrows(IllegalArgumentException.class, () -> recorder.setFrameWindow(-1));
+        }
+    }
+
+    @Nested
+    class Replay {
+
+        @Test
+        void happyFlow() {
+            CommandRecorder recorder = givenARecorder();
+            int id = recorder.create(ObjectType.GRAPHIC_OBJECT, "object");
+            recorder.recordFloat3(Command.POSITION, id, 1.5f, 2, 3);
+            recorder.recordString(Command.MATERIAL, id, "stone");
+            recorder.frameEnded();
+            List<String> result = new ArrayList<>();
+            recorder.replay((c, o, a) -> {
+                StringBuilder sb = new StringBuilder(c.name()).append(':').append(o);
+                if (c == Command.CREATE) {
+                    sb.append(':').append(ObjectType.values()[a.getInt(0)]).append(':').append(a.getString(1));
+                } else if (c == Command.POSITION) {
+                    sb.append(':').append(a.getFloat(0)).append(':').append(a.getFloat(2));
+                } else if (c == Command.MATERIAL) {
+                    sb.append(':').append(a.getString(0));
+                }
+                result.add(sb.toString());
+            });
+            assertEquals(List.of("CREATE:1:GRAPHIC_OBJECT:object", "POSITION:1:1.5:3.0", "MATERIAL:1:stone", "END_FRAME:1"), result);
+        }
+
+        @Test
+        void selectionRectangleFloats() {
+            DummyGraphicEngine engine = new DummyGraphicEngine();
+            engine.getRecorder().setEnabled(true);
+            engine.createSelectionRectangle(null, null).update(new Rectangle(100, 50, 20, 10));
+            List<Float> result = new ArrayList<>();
+            engine.getRecorder().replay((c, o, a) -> {
+                if (c == Command.POSITION) {
+                    result.add(a.getFloat(0));
+                    result.add(a.getFloat(1));
+                    result.add(a.getFloat(2));
+                }
+            });
+            assertEquals(List.of(100f, 50f, 0f), result);
+        }
+
+        @Test
+        void scaleAffectorFloats() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            world.getRecorder().setEnabled(true);
+            world.createParticleSystem().addScaleAffector().setScale(2, 4);
+            List<Float> result = new ArrayList<>();
+            world.getRecorder().replay((c, o, a) -> {
+                if (c == Command.SCALE) {
+                    result.add(a.getFloat(0));
+                    result.add(a.getFloat(1));
+                    result.add(a.getFloat(2));
+                }
+            });
+            assertEquals(List.of(2f, 4f, 1f), result);
+        }
+
+        @Test
+        void afterClear() {
+            CommandRecorder recorder = givenARecorder();
+            int id = recorder.create(ObjectType.GRAPHIC_OBJECT, "object");
+            recorder.clear();
+            recorder.recordInt(Command.VISIBLE, id, 0);
+            List<Command> result = new ArrayList<>();
+            recorder.replay((c, o, a) -> result.add(c));
+            assertEquals(List.of(Command.VISIBLE), result);
+        }
+    }
+
+    @Nested
+    class World {
+
+        @Test
+        void factories() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            assertNotNull(world.createQuery(null));
+            assertNotNull(world.createGroundQuery(null));
+            assertNotNull(world.createParticleSystem());
+            assertNotNull(world.createExplosion());
+            assertNotNull(world.createSky());
+            assertNotNull(world.createOcean());
+            assertNotNull(world.create3DLine());
+            assertNotNull(world.createLensFlare(null, Point3D.ZERO));
+            assertNotNull(world.createElectricArc(Point3D.ZERO, Point3D.valueOf(1), 1));
+            assertNotNull(world.createMovableText("text", "hello", null));
+        }
+
+        @Test
+        void lights() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            world.getRecorder().setEnabled(true);
+            PointLight light = world.createPointLight("recorderLight", Point3D.ZERO);
+            assertSame(light, world.getLight("recorderLight"));
+            world.deleteLight("recorderLight");
+            assertNull(world.getLight("recorderLight"));
+            assertEquals(1, world.getRecorder().getCount(Command.DELETE));
+        }
+
+        @Test
+        void transforms() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            world.getRecorder().setEnabled(true);
+            GraphicObject object = world.createObject().withId(EntityId.valueOf(5)).buildMovable();
+            world.getTransformBuffer().write(5, 1, 2, 3, 0, 1, 0);
+            world.getTransformBuffer().write(6, 4, 5, 6, 0, 1, 0);
+            world.applyTransforms();
+            assertEquals(2, object.getPosition().y);
+            assertEquals(1, object.getDirection().y);
+            assertEquals(0, world.getTransformBuffer().getCount());
+            assertEquals(1, world.getRecorder().getCount(Command.POSITION));
+        }
+
+        @Test
+        void deletedEntity() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            world.getRecorder().setEnabled(true);
+            GraphicObject object = world.createObject().withId(EntityId.valueOf(5)).buildMovable();
+            assertEquals(1, world.getEntityCount());
+            object.delete();
+            assertEquals(0, world.getEntityCount());
+            world.getTransformBuffer().write(5, 1, 2, 3, 0, 1, 0);
+            world.applyTransforms();
+            assertEquals(0, world.getRecorder().getCount(Command.POSITION));
+        }
+
+        @Test
+        void scene() {
+            DummyGraphicWorld world = new DummyGraphicWorld();
+            world.getRecorder().setEnabled(true);
+            GraphicObject object = world.createObject().buildMovable();
+            ParticleSystem particles = world.createParticleSystem();
+            particles.addEmitter(ParticleEmitter.EmitterType.POINT).setRate(20);
+            particles.attachTo(object);
+            object.setPosition(1, 2, 3);
+            particles.setPosition(1, 0, 0);
+            Point3D absolute = particles.getAbsolutePosition();
+            assertEquals(2, absolute.x);
+            assertEquals(2, absolute.y);
+            assertEquals(3, absolute.z);
+            CommandRecorder recorder = world.getRecorder();
+            assertEquals(2, recorder.getCount(Command.POSITION));
+            assertEquals(2, recorder.getCount(Command.ATTACH));
+        }
+    }
+}
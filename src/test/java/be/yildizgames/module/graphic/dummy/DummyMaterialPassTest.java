@@ -0,0 +1,108 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ *  Copyright (c) 2019 Grégory Van den Borre
+ *
+ *  More infos available: https://engine.yildiz-games.be
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without
+ *  limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ *  of the Software, and to permit persons to whom the Software is furnished to do so,
+ *  subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all copies or substantial
+ *  portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM,
+ *  DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE  SOFTWARE.
+ *
+ */
+
+
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.material.MaterialPass;
+import be.yildizgames.module.graphic.shader.ShaderParamFloat;
+import be.yildizgames.module.graphic.shader.ShaderParamFloat2;
+import be.yildizgames.module.graphic.shader.ShaderParamFloat4;
+import be.yildizgames.module.graphic.shader.ShaderParameterBlock;
+import be.yildizgames.module.graphic.shader.ShaderParameterLayout;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class DummyMaterialPassTest {
+
+    private static ShaderParameterBlock givenABlock() {
+        return new ShaderParameterBlock(ShaderParameterLayout.builder()
+                .add("time", 1)
+                .add("offset", 2)
+                .add("tint", 4)
+                .build());
+    }
+
+    @Nested
+    class ParameterBlock {
+
+        @Test
+        void fragmentByName() {
+            List<String> result = new ArrayList<>();
+            DummyMaterialPass pass = new DummyMaterialPass() {
+
+                @Override
+                public MaterialPass setFragmentShaderParameter(ShaderParamFloat param) {
+                    result.add(param.name + ":" + param.value);
+                    return this;
+                }
+
+                @Override
+                public MaterialPass setFragmentShaderParameter(ShaderParamFloat2 param) {
+                    result.add(param.name + ":" + param.value1 + ":" + param.value2);
+                    return this;
+                }
+
+                @Override
+                public MaterialPass setFragmentShaderParameter(ShaderParamFloat4 param) {
+                    result.add(param.name + ":" + param.value1 + ":" + param.value4);
+                    return this;
+                }
+            };
+            ShaderParameterBlock block = givenABlock();
+            block.set(0, 1f);
+            block.set(1, 2f, 3f);
+            block.set(2, 4f, 5f, 6f, 7f);
+            pass.updateFragmentShaderParameters(block);
+            assertEquals(List.of("time:1.0", "offset:2.0:3.0", "tint:4.0:7.0"), result);
+        }
+
+        @Test
+        void vertexOnlyDirtySlots() {
+            List<String> result = new ArrayList<>();
+            DummyMaterialPass pass = new DummyMaterialPass() {
+
+                @Override
+                public MaterialPass setVertexShaderParameter(ShaderParamFloat2 param) {
+                    result.add(param.name);
+                    return this;
+                }
+            };
+            ShaderParameterBlock block = givenABlock();
+            pass.updateVertexShaderParameters(block);
+            result.clear();
+            block.set(1, 2f, 3f);
+            pass.updateVertexShaderParameters(block);
+            assertEquals(List.of("offset"), result);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ *  Copyright (c) 2019 Grégory Van den Borre
+ *
+ *  More infos available: https://engine.yildiz-games.be
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ *  documentation files (the "Software"), to deal in the Software without restriction, including without
+ *  limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ *  of the Software, and to permit persons to whom the Software is furnished to do so,
+ *  subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all copies or substantial
+ *  portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ *  WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS
+ *  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM,
+ *  DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE  SOFTWARE.
+ *
+ */
+
+package be.yildizgames.module.graphic.dummy;
+
+import be.yildizgames.module.graphic.GraphicObject;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class EntityTableTest {
+
+    @Nested
+    class Put {
+
+        @Test
+        void happyFlow() {
+            EntityTable table = new EntityTable();
+            GraphicObject object = new DummyGraphicObject();
+            table.put(5, object);
+            assertSame(object, table.get(5));
+            assertNull(table.get(6));
+            assertEquals(1, table.size());
+        }
+
+        @Test
+        void replace() {
+            EntityTable table = new EntityTable();
+            GraphicObject object = new DummyGraphicObject();
+            table.put(5, new DummyGraphicObject());
+            table.put(5, object);
+            assertSame(object, table.get(5));
+            assertEquals(1, table.size());
+        }
+
+        @Test
+        void grow() {
+            EntityTable table = new EntityTable();
+            GraphicObject[] objects = new GraphicObject[1000];
+            for (int i = 0; i < objects.length; i++) {
+                objects[i] = new DummyGraphicObject();
+                table.put(i * 16L - 300, objects[i]);
+            }
+            assertEquals(1000, table.size());
+            for (int i = 0; i < objects.length; i++) {
+                assertSame(objects[i], table.get(i * 16L - 300));
+            }
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void happyFlow() {
+            EntityTable table = new EntityTable();
+            GraphicObject object = new DummyGraphicObject();
+            table.put(5, object);
+            assertTrue(table.remove(5, object));
+            assertNull(table.get(5));
+            assertEquals(0, table.size());
+        }
+
+        @Test
+        void otherObject() {
+            EntityTable table = new EntityTable();
+            GraphicObject object = new DummyGraphicObject();
+            table.put(5, object);
+            assertFalse(table.remove(5, new DummyGraphicObject()));
+            assertSame(object, table.get(5));
+        }
+
+        @Test
+        void othersStillFound() {
+            EntityTable table = new EntityTable();
+            GraphicObject[] objects = new GraphicObject[500];
+            for (int i = 0; i < objects.length; i++) {
+                objects[i] = new DummyGraphicObject();
+                table.put(i, objects[i]);
+            }
+            for (int i = 0; i < objects.length; i += 2) {
+                assertTrue(table.remove(i, objects[i]));
+            }
+            assertEquals(250, table.size());
+            for (int i = 0; i < objects.length; i++) {
+                if (i % 2 == 0) {
+                    assertNull(table.get(i));
+                } else {
+                    assertSame(objects[i], table.get(i));
+                }
+            }
+        }
+    }
+}
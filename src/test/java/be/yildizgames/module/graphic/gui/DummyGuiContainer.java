@@ -77,7 +77,7 @@ public class DummyGuiContainer extends SimpleContainer {
     }
 
     @Override
-    public final void delete() {
+    protected void deleteImpl() {
     }
 
     @Override
@@ -68,6 +68,11 @@ public class DummyGuiFactory extends StandardGuiFactory {
             //Empty method.
         }
 
+        @Override
+        protected void deleteImpl() {
+            //Empty method.
+        }
+
         @Override
         protected MaterialTechnique createTechniqueImpl(int techniqueIndex) {
             // TODO Auto-generated method stub
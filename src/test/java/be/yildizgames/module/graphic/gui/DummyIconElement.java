@@ -66,7 +66,7 @@ public final class DummyIconElement extends AbstractIconElement {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
     }
 
     @Override
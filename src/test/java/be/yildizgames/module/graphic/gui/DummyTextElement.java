@@ -60,7 +60,7 @@ public final class DummyTextElement extends AbstractTextElement {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
         removeFromRegisterer();
     }
 
@@ -24,6 +24,7 @@
 
 package be.yildizgames.module.graphic.gui;
 
+import be.yildizgames.module.color.Color;
 import be.yildizgames.module.graphic.Font;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -66,4 +67,124 @@ class FontTest {
             assertEquals("...", f.crop("azerty", 3));
         }
     }
+
+    @Nested
+    class ComputeTextWidth {
+
+        @Test
+        void latin() {
+            Font f = givenAFont();
+            assertEquals(6, f.computeTextWidth("azerty"));
+        }
+
+        @Test
+        void range() {
+            Font f = givenAFont();
+            assertEquals(3, f.computeTextWidth(new StringBuilder("azerty"), 1, 4));
+        }
+
+        @Test
+        void cjkWithoutWidth() {
+            Font f = givenAFont();
+            assertEquals(4, f.computeTextWidth("\u4e2d\u6587"));
+        }
+
+        @Test
+        void cyrillic() {
+            Font f = givenAFont();
+            assertEquals(6, f.computeTextWidth("\u043f\u0440\u0438"));
+        }
+
+        @Test
+        void supplementaryPlane() {
+            Font f = givenAFont();
+            assertEquals(5, f.computeTextWidth("a\ud83d\ude00"));
+        }
+
+        @Test
+        void kerning() {
+            Font f = givenAFont();
+            assertEquals(3, f.computeTextWidth("AVA"));
+            assertEquals(-0.5f, f.getKerning('A', 'V'));
+            assertEquals(0f, f.getKerning('V', 'A'));
+        }
+
+        @Test
+        void defaultWidthSetAfterPageAllocated() {
+            Font f = new Font("unicode" + System.nanoTime(), 10, Color.BLACK) {
+
+                @Override
+                protected void loadImpl() {
+                    this.setCharWidth('a', 1);
+                    this.setDefaultCharWidth(3);
+                }
+            };
+            f.load();
+            assertEquals(1, f.computeTextWidth("a"));
+            assertEquals(3, f.computeTextWidth("b"));
+        }
+    }
+
+    @Nested
+    class Cache {
+
+        @Test
+        void sameResult() {
+            Font f = givenAFont();
+            assertEquals(f.computeTextWidth("azerty"), f.computeTextWidth("azerty"));
+            assertEquals("a...", f.crop("azerty", 4));
+            assertEquals("a...", f.crop("azerty", 4));
+        }
+
+        @Test
+        void longText() {
+            Font f = givenAFont();
+            String text = "a".repeat(1000);
+            assertEquals(1000, f.computeTextWidth(text));
+            assertEquals("aaaa...", f.crop(text, 7));
+        }
+    }
+
+    @Nested
+    class CropRange {
+
+        @Test
+        void appended() {
+            Font f = givenAFont();
+            StringBuilder sb = new StringBuilder("<");
+            f.crop("xxazertyxx", 2, 8, 4, sb);
+            assertEquals("<a...", sb.toString());
+        }
+
+        @Test
+        void notCut() {
+            Font f = givenAFont();
+            StringBuilder sb = new StringBuilder();
+            f.crop("xxazertyxx", 2, 8, 10, sb);
+            assertEquals("azerty", sb.toString());
+        }
+
+        @Test
+        void surrogateNotSplit() {
+            Font f = givenAFont();
+            assertEquals("a...", f.crop("a\ud83d\ude00bbbb", 7));
+        }
+    }
+
+    private static Font givenAFont() {
+        Font f = new Font("unicode" + System.nanoTime(), 10, Color.BLACK) {
+
+            @Override
+            protected void loadImpl() {
+                this.setDefaultCharWidth(2);
+                float[] widthArray = new float[256];
+                java.util.Arrays.fill(widthArray, 1.0f);
+                this.setCharWidth(widthArray);
+                this.setCharWidth(0x1F600, 4);
+                this.setKerning('A', 'V', -0.5f);
+            }
+        };
+        f.load();
+        return f;
+    }
 }
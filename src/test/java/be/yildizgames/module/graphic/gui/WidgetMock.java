@@ -43,7 +43,7 @@ public final class WidgetMock extends BaseContainerChild {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
     }
 
     @Override
@@ -0,0 +1,179 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class GuiAnimationManagerTest {
+
+    @Nested
+    class FrameEnded {
+
+        @Test
+        void registeredNotPlayed() {
+            GuiAnimationManager manager = new GuiAnimationManager();
+            CountingAnimation animation = new CountingAnimation(0);
+            manager.addAnimation(animation);
+            manager.frameEnded(16);
+            assertEquals(0, animation.updates);
+            assertEquals(0, manager.getActiveCount());
+        }
+
+        @Test
+        void completedRemoved() {
+            GuiAnimationManager manager = new GuiAnimationManager();
+            CountingAnimation animation = new CountingAnimation(2);
+            manager.addAnimation(animation);
+            animation.start();
+            assertEquals(1, manager.getActiveCount());
+            manager.frameEnded(16);
+            manager.frameEnded(16);
+            assertEquals(0, manager.getActiveCount());
+            manager.frameEnded(16);
+            assertEquals(2, animation.updates);
+        }
+
+        @Test
+        void stoppedDuringUpdate() {
+            GuiAnimationManager manager = new GuiAnimationManager();
+            CountingAnimation first = new CountingAnimation(0);
+            CountingAnimation second = new CountingAnimation(0);
+            manager.addAnimation(first);
+            manager.addAnimation(second);
+            first.start();
+            second.start();
+            second.toStop = first;
+            manager.frameEnded(16);
+            assertEquals(1, second.updates);
+            assertEquals(0, first.updates);
+            assertEquals(1, manager.getActiveCount());
+        }
+
+        @Test
+        void delayedStart() {
+            GuiAnimationManager manager = new GuiAnimationManager();
+            CountingAnimation animation = new CountingAnimation(0);
+            animation.setStartDelay(100);
+            manager.addAnimation(animation);
+            animation.start();
+            assertEquals(0, animation.starts);
+            assertEquals(1, manager.getScheduledCount());
+            manager.frameEnded(99);
+            assertEquals(0, animation.starts);
+            manager.frameEnded(1);
+            assertEquals(1, animation.starts);
+            assertEquals(1, animation.updates);
+            assertEquals(0, manager.getScheduledCount());
+        }
+
+        @Test
+        void longDelay() {
+            GuiAnimationManager manager = new GuiAnimationManager();
+            CountingAnimation animation = new CountingAnimation(0);
+            animation.setStartDelay(300_000);
+            manager.addAnimation(animation);
+            animation.start();
+            for (int i = 0; i < 2999; i++) {
+                manager.frameEnded(100);
+            }
+            assertEquals(0, animation.starts);
+            manager.frameEnded(100);
+            assertEquals(1, animation.starts);
+        }
+
+        @Test
+        void suspended() {
+            GuiAnimationManager manager = new GuiAnimationManager();
+            CountingAnimation animation = new CountingAnimation(0);
+            animation.suspension = 50;
+            manager.addAnimation(animation);
+            animation.start();
+            manager.frameEnded(16);
+            assertEquals(1, animation.updates);
+            assertEquals(0, manager.getActiveCount());
+            manager.frameEnded(16);
+            manager.frameEnded(16);
+            manager.frameEnded(16);
+            assertEquals(1, animation.updates);
+            manager.frameEnded(16);
+            assertEquals(2, animation.updates);
+        }
+
+        @Test
+        void stoppedWhileSuspended() {
+            GuiAnimationManager manager = new GuiAnimationManager();
+            CountingAnimation animation = new CountingAnimation(0);
+            animation.suspension = 50;
+            manager.addAnimation(animation);
+            animation.start();
+            manager.frameEnded(16);
+            animation.stop();
+            assertEquals(0, manager.getScheduledCount());
+            manager.frameEnded(100);
+            assertEquals(1, animation.updates);
+        }
+    }
+
+    private static final class CountingAnimation extends BaseAnimationGui {
+
+        private final int steps;
+
+        private int updates;
+
+        private int starts;
+
+        private long suspension;
+
+        private BaseAnimationGui toStop;
+
+        private CountingAnimation(int steps) {
+            super("counting");
+            this.steps = steps;
+        }
+
+        @Override
+        protected void startImpl() {
+            this.starts++;
+        }
+
+        @Override
+        protected void updateImpl(long time) {
+            this.updates++;
+            if (this.toStop != null) {
+                this.toStop.stop();
+            }
+            if (this.suspension > 0) {
+                this.suspend(this.suspension);
+            }
+            this.setCompleted(this.updates == this.steps);
+        }
+    }
+}
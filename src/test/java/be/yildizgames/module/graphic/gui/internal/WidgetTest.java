@@ -24,6 +24,7 @@
 
 package be.yildizgames.module.graphic.gui.internal;
 
+import be.yildizgames.common.geometry.Rectangle;
 import be.yildizgames.module.coordinates.FullCoordinates;
 import be.yildizgames.module.graphic.gui.DummyGuiFactory;
 import be.yildizgames.module.graphic.gui.WidgetMock;
@@ -38,6 +39,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -147,6 +149,33 @@ class WidgetTest {
         assertEquals(8, w.getTop());
     }
 
+    @Test
+    void testAbsolutePosition() {
+        StandardGuiFactory builder = new DummyGuiFactory();
+        Container c = builder
+                .container()
+                .withSize(FullCoordinates.size(50))
+                .atPosition(FullCoordinates.position(30))
+                .build();
+        Container c2 = builder
+                .container()
+                .withSize(FullCoordinates.size(20))
+                .atPosition(FullCoordinates.position(5))
+                .withParent(c)
+                .build();
+        BaseWidget w = new WidgetMock(FullCoordinates.full(10, 10, 10, 10), c2);
+        assertEquals(45, w.getAbsoluteLeft());
+        assertEquals(45, w.getAbsoluteTop());
+        w.setPosition(2, 3);
+        assertEquals(37, w.getAbsoluteLeft());
+        assertEquals(38, w.getAbsoluteTop());
+        c.setPosition(100, 200);
+        assertEquals(107, w.getAbsoluteLeft());
+        assertEquals(208, w.getAbsoluteTop());
+        assertTrue(w.contains(110, 210));
+        assertFalse(w.contains(40, 40));
+    }
+
     @Test
     void testSetIsFocusable() {
         BaseWidget w = givenAWidget();
@@ -156,4 +185,119 @@ class WidgetTest {
         w.setFocusable(false);
         assertFalse(w.isFocusable());
     }
+
+    @Test
+    void testDeferredLayout() {
+        DeferredLayout layout = new DeferredLayout();
+        BaseWidget w = givenAWidget();
+        w.setDeferredLayout(layout);
+        layout.setEnabled(true);
+        w.setPosition(20, 20);
+        w.setPosition(25, 30);
+        w.setSize(40, 40);
+        assertEquals(25, w.getLeft());
+        assertEquals(30, w.getTop());
+        assertEquals(40, w.getWidth());
+        assertEquals(55, w.getAbsoluteLeft());
+        assertEquals(1, layout.run());
+        assertEquals(0, layout.run());
+    }
+
+    @Test
+    void testDeferredLayoutInheritedFromParent() {
+        DeferredLayout layout = new DeferredLayout();
+        StandardGuiFactory builder = new DummyGuiFactory();
+        Container c = builder
+                .container()
+                .withSize(FullCoordinates.size(50))
+                .atPosition(FullCoordinates.position(30))
+                .build();
+        ((BaseElement) c).setDeferredLayout(layout);
+        BaseWidget w = new WidgetMock(FullCoordinates.full(10, 10, 10, 10), c);
+        assertSame(layout, w.getDeferredLayout());
+    }
+
+    @Test
+    void testDeferredLayoutDeletedElement() {
+        DeferredLayout layout = new DeferredLayout();
+        CountingWidget w = new CountingWidget();
+        w.setDeferredLayout(layout);
+        layout.setEnabled(true);
+        w.setPosition(20, 20);
+        w.setSize(40, 40);
+        w.delete();
+        assertEquals(0, layout.run());
+        assertEquals(0, w.implCalls);
+    }
+
+    @Test
+    void testDeferredLayoutDeletedAmongOthers() {
+        DeferredLayout layout = new DeferredLayout();
+        layout.setEnabled(true);
+        CountingWidget[] widgets = new CountingWidget[3];
+        for (int i = 0; i < widgets.length; i++) {
+            widgets[i] = new CountingWidget();
+            widgets[i].setDeferredLayout(layout);
+            widgets[i].setPosition(20, 20);
+        }
+        widgets[1].delete();
+        assertEquals(2, layout.run());
+        assertEquals(1, widgets[0].implCalls);
+        assertEquals(0, widgets[1].implCalls);
+        assertEquals(1, widgets[2].implCalls);
+    }
+
+    @Test
+    void testDeferredLayoutDisabled() {
+        DeferredLayout layout = new DeferredLayout();
+        CountingWidget w = new CountingWidget();
+        w.setDeferredLayout(layout);
+        layout.setEnabled(true);
+        w.setPosition(20, 20);
+        assertEquals(0, w.implCalls);
+        layout.setEnabled(false);
+        assertEquals(1, w.implCalls);
+        w.setPosition(30, 30);
+        assertEquals(2, w.implCalls);
+    }
+
+    private static final class CountingWidget extends BaseWidget {
+
+        private int implCalls;
+
+        private CountingWidget() {
+            super("counting_" + System.nanoTime(), FullCoordinates.full(10, 10, 10, 10));
+        }
+
+        @Override
+        protected void deleteImpl() {
+        }
+
+        @Override
+        protected void highlightImpl(final boolean highlighted) {
+        }
+
+        @Override
+        protected void setSizeImpl(final int w, final int h) {
+            this.implCalls++;
+        }
+
+        @Override
+        protected void showImpl() {
+        }
+
+        @Override
+        protected void hideImpl() {
+        }
+
+        @Override
+        protected void addEmptyZoneImpl(final Rectangle zone) {
+        }
+
+        @Override
+        protected Element setPositionImpl(final int x, final int y) {
+            this.implCalls++;
+            return this;
+        }
+    }
 }
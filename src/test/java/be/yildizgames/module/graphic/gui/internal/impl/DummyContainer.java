@@ -47,7 +47,7 @@ public class DummyContainer extends SimpleContainer {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
 
     }
 
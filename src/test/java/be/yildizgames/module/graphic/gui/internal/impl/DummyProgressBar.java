@@ -20,7 +20,7 @@ public class DummyProgressBar extends BaseProgressBar {
     }
 
     @Override
-    public void delete() {
+    protected void deleteImpl() {
 
     }
 
@@ -189,5 +189,28 @@ final class SimpleContainerTest {
         c.setVirtualHeight(80);
         assertTrue(c.contains(MouseMoveMockFactory.get(10, 60)));
     }
+
+    @Test
+    void testGetWidgetAt() {
+        StandardGuiFactory builder = new DummyGuiFactory();
+        SimpleContainer c = (SimpleContainer) new SimpleContainerBuilder(builder).withCoordinates(FullCoordinates.full(500, 500, 10, 20)).build();
+        BaseWidget w1 = new WidgetMock("w1", FullCoordinates.full(50, 50, 0, 0), c);
+        BaseWidget w2 = new WidgetMock("w2", FullCoordinates.full(50, 50, 20, 20), c);
+        BaseWidget w3 = new WidgetMock("w3", FullCoordinates.full(400, 400, 0, 0), c);
+        assertEquals(w1, c.getWidgetAt(30, 40).orElse(null));
+        assertEquals(w2, c.getWidgetAt(80, 80).orElse(null));
+        assertEquals(w3, c.getWidgetAt(300, 300).orElse(null));
+        assertFalse(c.getWidgetAt(450, 450).isPresent());
+        w1.hide();
+        assertEquals(w2, c.getWidgetAt(30, 40).orElse(null));
+        w1.show();
+        w1.setPosition(200, 200);
+        assertEquals(w2, c.getWidgetAt(30, 40).orElse(null));
+        assertEquals(w1, c.getWidgetAt(230, 240).orElse(null));
+        c.setPosition(110, 120);
+        assertEquals(w1, c.getWidgetAt(330, 340).orElse(null));
+        c.ignore((WidgetMock) w1);
+        assertEquals(w3, c.getWidgetAt(330, 340).orElse(null));
+    }
 }
 
@@ -0,0 +1,98 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.gui.internal.impl;
+
+import be.yildizgames.module.graphic.gui.DummyGuiFactory;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class TextAreaLayoutTest {
+
+    private static TextAreaLayout givenALayout(int history, int visible) {
+        new DummyGuiFactory();
+        TextAreaLayout layout = new TextAreaLayout(history);
+        layout.setFont(DummyGuiFactory.defaultFont);
+        layout.setVisibleLines(visible);
+        return layout;
+    }
+
+    @Nested
+    class Append {
+
+        @Test
+        void fitting() {
+            TextAreaLayout layout = givenALayout(8, 4);
+            layout.append("hello", 100, 0);
+            layout.append("world", 100, 0);
+            assertEquals("hello\nworld\n", layout.getVisibleText());
+        }
+
+        @Test
+        void wrapped() {
+            TextAreaLayout layout = givenALayout(8, 4);
+            layout.append("aaaa  bbbb cccc", 10, 0);
+            assertEquals("aaaa bbbb \ncccc \n", layout.getVisibleText());
+        }
+
+        @Test
+        void windowShifted() {
+            TextAreaLayout layout = givenALayout(8, 2);
+            layout.append("line1", 100, 0);
+            layout.append("line2", 100, 0);
+            layout.append("line3", 100, 0);
+            assertEquals("line2\nline3\n", layout.getVisibleText());
+        }
+    }
+
+    @Nested
+    class SetVisibleLines {
+
+        @Test
+        void fromHistory() {
+            TextAreaLayout layout = givenALayout(4, 1);
+            for (int i = 0; i < 6; i++) {
+                layout.append("line" + i, 100, 0);
+            }
+            assertEquals("line5\n", layout.getVisibleText());
+            layout.setVisibleLines(10);
+            assertEquals("line3\nline4\nline5\n", layout.getVisibleText());
+        }
+    }
+
+    @Test
+    void clear() {
+        TextAreaLayout layout = givenALayout(4, 2);
+        layout.append("line1", 100, 0);
+        layout.clear();
+        assertEquals("", layout.getVisibleText());
+        layout.append("line2", 100, 0);
+        assertEquals("line2\n", layout.getVisibleText());
+    }
+}
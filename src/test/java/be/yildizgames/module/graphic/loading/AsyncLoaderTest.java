@@ -0,0 +1,218 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.loading;
+
+import be.yildizgames.module.graphic.ResourceData;
+import be.yildizgames.module.graphic.dummy.DummyMaterialManager;
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.material.MaterialManager;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class AsyncLoaderTest {
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void invalidWorkers() {
+            assertThrows(IllegalArgumentException.class, () -> new AsyncLoader(0));
+        }
+    }
+
+    @Nested
+    class Load {
+
+        @Test
+        void completedOnUpdate() {
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            CompletableFuture<Integer> future = loader.load(LoadPriority.VISIBLE, () -> "42", Integer::valueOf);
+            executor.runAll();
+            assertFalse(future.isDone());
+            assertEquals(1, loader.getReadyCount());
+            assertEquals(1, loader.update());
+            assertEquals(42, (int) future.join());
+        }
+
+        @Test
+        void priorityOrder() {
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            loader.setFrameBudget(Long.MAX_VALUE);
+            List<String> order = new ArrayList<>();
+            loader.load(LoadPriority.PREFETCH, () -> "prefetch", order::add);
+            loader.load(LoadPriority.NEARBY, () -> "nearby", order::add);
+            loader.load(LoadPriority.VISIBLE, () -> "visible1", order::add);
+            loader.load(LoadPriority.VISIBLE, () -> "visible2", order::add);
+            executor.runAll();
+            loader.update();
+            assertEquals(List.of("visible1", "visible2", "nearby", "prefetch"), order);
+        }
+
+        @Test
+        void frameBudget() {
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            loader.setFrameBudget(0);
+            loader.load(LoadPriority.VISIBLE, () -> 1, v -> v);
+            loader.load(LoadPriority.VISIBLE, () -> 2, v -> v);
+            executor.runAll();
+            assertEquals(1, loader.update());
+            assertEquals(1, loader.update());
+        }
+
+        @Test
+        void preparationError() {
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            CompletableFuture<Object> future = loader.load(LoadPriority.VISIBLE, () -> {
+                throw new IllegalStateException();
+            }, v -> v);
+            executor.runAll();
+            assertTrue(future.isCompletedExceptionally());
+            assertEquals(0, loader.getReadyCount());
+        }
+
+        @Test
+        void workerThreads() throws Exception {
+            AsyncLoader loader = new AsyncLoader(2);
+            CompletableFuture<String> future = loader.load(LoadPriority.VISIBLE,
+                    () -> Thread.currentThread().isVirtual() + Thread.currentThread().getName(), v -> v);
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!future.isDone() && System.nanoTime() < end) {
+                loader.update();
+                Thread.sleep(1);
+            }
+            assertEquals("truegraphic-loader", future.get());
+            loader.close();
+        }
+    }
+
+    @Nested
+    class Cancel {
+
+        @Test
+        void future() {
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            List<String> prepared = new ArrayList<>();
+            CompletableFuture<String> future = loader.load(LoadPriority.VISIBLE, () -> prepared.add("x") ? "x" : "", v -> v);
+            future.cancel(false);
+            executor.runAll();
+            assertEquals(0, loader.update());
+            assertTrue(prepared.isEmpty());
+        }
+
+        @Test
+        void lane() {
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            CompletableFuture<Integer> prefetch = loader.load(LoadPriority.PREFETCH, () -> 1, v -> v);
+            CompletableFuture<Integer> visible = loader.load(LoadPriority.VISIBLE, () -> 2, v -> v);
+            loader.cancel(LoadPriority.PREFETCH);
+            executor.runAll();
+            loader.update();
+            assertTrue(prefetch.isCancelled());
+            assertEquals(2, (int) visible.join());
+        }
+    }
+
+    @Nested
+    class LoadTexture {
+
+        @Test
+        void placeholder() {
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            List<Material> received = new ArrayList<>();
+            CompletableFuture<Material> future = loader.loadTexture(new DummyMaterialManager(), "image.png", LoadPriority.VISIBLE, received::add);
+            assertEquals(1, received.size());
+            assertSame(Material.gray(), received.get(0));
+            executor.runAll();
+            loader.update();
+            assertEquals(2, received.size());
+            assertSame(future.join(), received.get(1));
+        }
+
+        @Test
+        void fileReadByWorker() throws Exception {
+            Path file = Files.createTempFile("texture", ".png");
+            Files.write(file, new byte[]{1, 2, 3});
+            ManualExecutor executor = new ManualExecutor();
+            AsyncLoader loader = new AsyncLoader(executor);
+            List<String> steps = new ArrayList<>();
+            MaterialManager manager = new DummyMaterialManager() {
+                @Override
+                protected ResourceData prepareTextureImpl(String path) {
+                    steps.add("prepare");
+                    return super.prepareTextureImpl(path);
+                }
+
+                @Override
+                protected void createTextureImpl(ResourceData data) {
+                    steps.add("create" + data.getData().remaining());
+                }
+            };
+            loader.loadTexture(manager, file.toString(), LoadPriority.VISIBLE, m -> {});
+            executor.runAll();
+            assertEquals(List.of("prepare"), steps);
+            loader.update();
+            assertEquals(List.of("prepare", "create3"), steps);
+            Files.delete(file);
+        }
+    }
+
+    private static final class ManualExecutor implements java.util.concurrent.Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            this.tasks.add(command);
+        }
+
+        private void runAll() {
+            this.tasks.forEach(Runnable::run);
+            this.tasks.clear();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.material;
+
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.dummy.DummyMaterialManager;
+import be.yildizgames.module.graphic.material.MaterialPass.Transparency;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class MaterialCacheTest {
+
+    private static MaterialCache givenACache() {
+        return new DummyMaterialManager() {
+            @Override
+            protected long getMemorySize(Material material) {
+                return 10;
+            }
+        }.getCache();
+    }
+
+    @Nested
+    class Acquire {
+
+        @Test
+        void sameColor() {
+            MaterialManager manager = new DummyMaterialManager();
+            Material m = manager.getCache().acquire(Color.RED);
+            assertSame(m, manager.getCache().acquire(Color.RED));
+            assertEquals(1, manager.getCache().getMisses());
+            assertEquals(1, manager.getCache().getHits());
+        }
+
+        @Test
+        void createMaterialNotShared() {
+            MaterialManager manager = new DummyMaterialManager();
+            assertNotSame(manager.createMaterial(Color.RED), manager.createMaterial(Color.RED));
+            assertEquals(0, manager.getCache().getSize());
+        }
+
+        @Test
+        void colorEvicted() {
+            MaterialCache c = givenACache();
+            Material m = c.acquire(Color.RED);
+            c.release(m);
+            c.setBudget(0);
+            assertEquals(1, c.getEvictions());
+            assertNull(Material.get(m.getName()));
+        }
+
+        @Test
+        void sameTexture() {
+            MaterialCache c = givenACache();
+            Material m = c.acquire("cacheSame.png");
+            assertSame(m, c.acquire("cacheSame.png"));
+            assertEquals(1, c.getSize());
+            assertEquals(10, c.getMemory());
+        }
+
+        @Test
+        void differentTransparency() {
+            MaterialCache c = givenACache();
+            assertNotSame(c.acquire("cacheAlpha.png"), c.acquire("cacheAlpha.png", Transparency.ALPHA));
+        }
+    }
+
+    @Nested
+    class Release {
+
+        @Test
+        void evictedOverBudget() {
+            MaterialCache c = givenACache();
+            c.setBudget(20);
+            Material first = c.acquire("cacheFirst.png");
+            Material second = c.acquire("cacheSecond.png");
+            c.release(first);
+            c.release(second);
+            assertEquals(0, c.getEvictions());
+            c.acquire("cacheThird.png");
+            assertEquals(1, c.getEvictions());
+            assertEquals(20, c.getMemory());
+            assertNull(Material.get(first.getName()));
+            assertSame(second, c.acquire("cacheSecond.png"));
+        }
+
+        @Test
+        void referencedNotEvicted() {
+            MaterialCache c = givenACache();
+            Material used = c.acquire("cacheUsed.png");
+            c.setBudget(0);
+            assertEquals(0, c.getEvictions());
+            c.release(used);
+            assertEquals(1, c.getEvictions());
+            assertEquals(0, c.getSize());
+        }
+
+        @Test
+        void leastRecentlyReleasedFirst() {
+            MaterialCache c = givenACache();
+            Material a = c.acquire("cacheA.png");
+            Material b = c.acquire("cacheB.png");
+            c.release(b);
+            c.release(a);
+            c.setBudget(10);
+            assertSame(a, c.acquire("cacheA.png"));
+            assertEquals(2, c.getMisses());
+        }
+
+        @Test
+        void notReferenced() {
+            MaterialCache c = givenACache();
+            Material m = c.acquire("cacheTwice.png");
+            c.release(m);
+            assertThrows(IllegalStateException.class, () -> c.release(m));
+        }
+
+        @Test
+        void notCached() {
+            MaterialCache c = givenACache();
+            assertThrows(IllegalArgumentException.class, () -> c.release(Material.gray()));
+        }
+    }
+}
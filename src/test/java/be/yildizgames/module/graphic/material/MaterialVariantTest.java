@@ -0,0 +1,125 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.material;
+
+import be.yildizgames.module.color.Color;
+import be.yildizgames.module.graphic.dummy.DummyMaterial;
+import be.yildizgames.module.graphic.dummy.DummyMaterialManager;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class MaterialVariantTest {
+
+    @Nested
+    class With {
+
+        @Test
+        void immutable() {
+            MaterialVariant base = new DummyMaterial("variantImmutable").variant();
+            MaterialVariant tinted = base.withFragmentParameter("tint", 1, 0, 0);
+            assertNotEquals(base, tinted);
+            assertEquals("variantImmutable", base.getKey());
+        }
+
+        @Test
+        void sameOverridesEqual() {
+            Material parent = new DummyMaterial("variantEqual");
+            MaterialVariant a = parent.variant().withEmissive(Color.RED).withFragmentParameter("tint", 1, 0, 0).withVertexParameter("wave", 2);
+            MaterialVariant b = parent.variant().withVertexParameter("wave", 2).withFragmentParameter("tint", 1, 0, 0).withEmissive(Color.RED);
+            assertEquals(a, b);
+            assertEquals(a.hashCode(), b.hashCode());
+        }
+
+        @Test
+        void invalidParameter() {
+            MaterialVariant v = new DummyMaterial("variantInvalid").variant();
+            assertThrows(IllegalArgumentException.class, () -> v.withFragmentParameter("p"));
+            assertThrows(IllegalArgumentException.class, () -> v.withFragmentParameter("p", 1, 2, 3, 4, 5));
+        }
+
+        @Test
+        void valuesCopied() {
+            float[] values = {1, 2};
+            MaterialVariant v = new DummyMaterial("variantCopied").variant().withVertexParameter("p", values);
+            values[0] = 5;
+            assertEquals("variantCopied|v:p=[1.0, 2.0]", v.getKey());
+        }
+    }
+
+    @Nested
+    class Acquire {
+
+        @Test
+        void identicalShared() {
+            MaterialCache c = new DummyMaterialManager().getCache();
+            Material parent = new DummyMaterial("variantShared");
+            Material red = c.acquire(parent.variant().withFragmentParameter("faction", 1, 0, 0));
+            Material blue = c.acquire(parent.variant().withFragmentParameter("faction", 0, 0, 1));
+            assertSame(red, c.acquire(parent.variant().withFragmentParameter("faction", 1, 0, 0)));
+            assertNotSame(red, blue);
+            assertNotSame(parent, red);
+            assertEquals(2, c.getMisses());
+            assertEquals(1, c.getHits());
+        }
+
+        @Test
+        void released() {
+            MaterialCache c = new DummyMaterialManager().getCache();
+            Material parent = new DummyMaterial("variantReleased");
+            Material m = c.acquire(parent.variant().withEmissive(Color.BLUE));
+            c.release(m);
+            c.setBudget(0);
+            assertEquals(1, c.getEvictions());
+        }
+
+        @Test
+        void emptyVariant() {
+            MaterialCache c = new DummyMaterialManager().getCache();
+            Material parent = new DummyMaterial("variantEmpty");
+            assertThrows(IllegalArgumentException.class, () -> c.acquire(parent.variant()));
+            assertEquals(0, c.getSize());
+        }
+
+        @Test
+        void recreatedParent() {
+            MaterialCache c = new DummyMaterialManager().getCache();
+            Material parent = new DummyMaterial("variantRecreated");
+            Material first = c.acquire(parent.variant().withEmissive(Color.BLUE));
+            parent.delete();
+            Material recreated = new DummyMaterial("variantRecreated");
+            assertNotSame(first, c.acquire(recreated.variant().withEmissive(Color.BLUE)));
+            assertEquals(2, c.getMisses());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.material;
+
+import be.yildizgames.module.graphic.dummy.DummyMaterial;
+import be.yildizgames.module.graphic.material.MaterialPass.BlendMode;
+import be.yildizgames.module.graphic.material.MaterialPass.Transparency;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class SortKeyTest {
+
+    @Nested
+    class Of {
+
+        @Test
+        void depthBitsLeftEmpty() {
+            long key = SortKey.of(BlendMode.ADD, Transparency.ALPHA, false, 4095, 4095, 65535);
+            assertEquals(0, key & ((1L << SortKey.DEPTH_BITS) - 1));
+        }
+
+        @Test
+        void transparent() {
+            assertTrue(SortKey.isTransparent(SortKey.of(BlendMode.NONE, Transparency.ALPHA, true, 0, 0, 0)));
+            assertTrue(SortKey.isTransparent(SortKey.of(BlendMode.ADD, Transparency.NONE, true, 0, 0, 0)));
+            assertFalse(SortKey.isTransparent(SortKey.of(BlendMode.NONE, Transparency.NONE, true, 1, 2, 3)));
+        }
+
+        @Test
+        void sameId() {
+            assertEquals(SortKey.id("sortKeyShader"), SortKey.id("sortKeyShader"));
+            assertEquals(0, SortKey.id(null));
+        }
+
+        @Test
+        void wrappedIdsNeverNone() {
+            for (int i = 0; i < 5000; i++) {
+                int id = SortKey.id("sortKeyWrap" + i);
+                assertNotEquals(0, id & 4095);
+                assertNotEquals(0, id & 65535);
+            }
+        }
+    }
+
+    @Nested
+    class Pass {
+
+        @Test
+        void cachedUntilChanged() {
+            Material m = new DummyMaterial("sortKeyCached");
+            MaterialPass pass = m.getTechnique(0).getPass(0);
+            long key = m.getSortKey();
+            assertEquals(key, pass.getSortKey());
+            pass.setVertexShader("sortKeyVertex");
+            assertNotEquals(key, m.getSortKey());
+        }
+
+        @Test
+        void transparencyChange() {
+            Material m = new DummyMaterial("sortKeyTransparency");
+            assertFalse(SortKey.isTransparent(m.getSortKey()));
+            m.getTechnique(0).getPass(0).setTransparency(Transparency.ALPHA);
+            assertTrue(SortKey.isTransparent(m.getSortKey()));
+        }
+
+        @Test
+        void textureChange() {
+            Material m = new DummyMaterial("sortKeyTexture");
+            long key = m.getSortKey();
+            m.getTechnique(0).getPass(0).getUnit(0).setTexture("sortKeyTexture.png");
+            assertNotEquals(key, m.getSortKey());
+        }
+
+        @Test
+        void sameState() {
+            Material a = new DummyMaterial("sortKeySameA");
+            Material b = new DummyMaterial("sortKeySameB");
+            a.getTechnique(0).getPass(0).setFragmentShader("sortKeyFragment");
+            b.getTechnique(0).getPass(0).setFragmentShader("sortKeyFragment");
+            assertEquals(a.getSortKey(), b.getSortKey());
+        }
+    }
+}
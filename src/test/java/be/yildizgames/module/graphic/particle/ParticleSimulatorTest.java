@@ -0,0 +1,194 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.particle;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.dummy.DummyGraphicWorld;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ParticleSimulatorTest {
+
+    private static ParticleSystem givenASystem(final int quota, final float rate) {
+        ParticleSystem system = new DummyGraphicWorld().createParticleSystem();
+        system.setQuota(quota);
+        system.getSimulator().setSeed(42);
+        system.addEmitter(ParticleEmitter.EmitterType.POINT)
+                .setRate(rate)
+                .setLifeTime(2)
+                .setSpeed(10)
+                .setDirection(Point3D.valueOf(0, 1, 0));
+        return system;
+    }
+
+    @Nested
+    class Quota {
+
+        @Test
+        void memoryFootprint() {
+            ParticleSystem system = givenASystem(100, 10);
+            assertEquals(100L * ParticleSimulator.FLOATS_PER_PARTICLE * Float.BYTES, system.getSimulator().getMemoryFootprint());
+            system.update(1);
+            assertEquals(100L * ParticleSimulator.FLOATS_PER_PARTICLE * Float.BYTES, system.getSimulator().getMemoryFootprint());
+        }
+
+        @Test
+        void limitEmission() {
+            ParticleSystem system = givenASystem(5, 100);
+            system.update(1);
+            assertEquals(5, system.getSimulator().getCount());
+        }
+
+        @Test
+        void reduced() {
+            ParticleSystem system = givenASystem(10, 100);
+            system.update(1);
+            system.setQuota(3);
+            assertEquals(3, system.getSimulator().getCount());
+        }
+
+        @Test
+        void negative() {
+            ParticleSystem system = givenASystem(10, 100);
+            assertThrows(IllegalArgumentException.class, () -> system.setQuota(-1));
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void emitFromRate() {
+            ParticleSystem system = givenASystem(100, 10);
+            system.update(0.25f);
+            assertEquals(2, system.getSimulator().getCount());
+            system.update(0.25f);
+            assertEquals(5, system.getSimulator().getCount());
+        }
+
+        @Test
+        void move() {
+            ParticleSystem system = givenASystem(100, 1);
+            system.update(1);
+            system.update(0.5f);
+            ParticleSimulator s = system.getSimulator();
+            assertEquals(0, s.getX(0), 0.0001f);
+            assertEquals(5, s.getY(0), 0.0001f);
+            assertEquals(0.5f, s.getAge(0), 0.0001f);
+        }
+
+        @Test
+        void force() {
+            ParticleSystem system = givenASystem(100, 1);
+            system.addForceAffector().setForce(0, -10, 0);
+            system.update(1);
+            system.update(0.5f);
+            assertEquals(5, system.getSimulator().getVelocityY(0), 0.0001f);
+        }
+
+        @Test
+        void affectorsSummed() {
+            ParticleSystem system = givenASystem(100, 1);
+            ParticleForceAffector first = system.addForceAffector();
+            first.setForce(0, -10, 0);
+            system.addForceAffector().setForce(1, -5, 0);
+            assertEquals(1, system.getForceX(), 0.0001f);
+            assertEquals(-15, system.getForceY(), 0.0001f);
+            first.setForce(0, 0, 0);
+            assertEquals(-5, system.getForceY(), 0.0001f);
+        }
+
+        @Test
+        void scale() {
+            ParticleSystem system = givenASystem(100, 1);
+            system.setSize(2, 3);
+            system.addScaleAffector().setScale(2, 4);
+            system.update(1);
+            system.update(0.5f);
+            assertEquals(3, system.getSimulator().getWidth(0), 0.0001f);
+            assertEquals(5, system.getSimulator().getHeight(0), 0.0001f);
+        }
+
+        @Test
+        void alphaVariation() {
+            ParticleSystem system = givenASystem(100, 1);
+            system.addColorAffector().setAlphaVariation(-50);
+            system.update(1);
+            system.update(1);
+            assertEquals(0.5f, system.getSimulator().getAlpha(0), 0.0001f);
+        }
+
+        @Test
+        void dieAfterLifeTime() {
+            ParticleSystem system = givenASystem(100, 1);
+            system.update(1);
+            system.getEmitter(0).stop();
+            system.update(1.5f);
+            assertEquals(1, system.getSimulator().getCount());
+            system.update(1);
+            assertEquals(0, system.getSimulator().getCount());
+        }
+
+        @Test
+        void cone() {
+            ParticleSystem system = givenASystem(1000, 1000);
+            system.getEmitter(0).setAngle(30);
+            system.update(1);
+            ParticleSimulator s = system.getSimulator();
+            float minCos = (float) Math.cos(Math.toRadians(30)) - 0.0001f;
+            for (int i = 0; i < s.getCount(); i++) {
+                float cos = s.getVelocityY(i) / 10;
+                assertTrue(cos >= minCos, "particle " + i + " outside the cone");
+            }
+        }
+
+        @Test
+        void sameSeedSameResult() {
+            ParticleSystem a = givenASystem(100, 50);
+            ParticleSystem b = givenASystem(100, 50);
+            a.getEmitter(0).setAngle(90);
+            b.getEmitter(0).setAngle(90);
+            a.update(1);
+            b.update(1);
+            for (int i = 0; i < a.getSimulator().getCount(); i++) {
+                assertEquals(a.getSimulator().getVelocityX(i), b.getSimulator().getVelocityX(i));
+            }
+        }
+
+        @Test
+        void invalidIndex() {
+            ParticleSystem system = givenASystem(100, 1);
+            assertThrows(IndexOutOfBoundsException.class, () -> system.getSimulator().getX(0));
+        }
+    }
+}
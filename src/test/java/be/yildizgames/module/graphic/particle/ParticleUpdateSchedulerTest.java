@@ -0,0 +1,169 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.particle;
+
+import be.yildizgames.common.geometry.Point3D;
+import be.yildizgames.module.graphic.dummy.DummyGraphicWorld;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ParticleUpdateSchedulerTest {
+
+    /**
+     * Pool with several threads whatever the machine, its threads are daemons.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static List<ParticleSystem> givenSystems(final int number, final int quota, final float rate) {
+        DummyGraphicWorld world = new DummyGraphicWorld();
+        List<ParticleSystem> result = new ArrayList<>();
+        for (int i = 0; i < number; i++) {
+            ParticleSystem system = world.createParticleSystem();
+            system.setQuota(quota);
+            system.getSimulator().setSeed(i);
+            system.addEmitter(ParticleEmitter.EmitterType.POINT)
+                    .setRate(rate)
+                    .setLifeTime(1.5f)
+                    .setSpeed(10)
+                    .setDirection(Point3D.valueOf(0, 1, 0))
+                    .setAngle(45);
+            system.addForceAffector().setForce(0, -9.8f, 0);
+            result.add(system);
+        }
+        return result;
+    }
+
+    private static void assertSameParticles(final List<ParticleSystem> expected, final List<ParticleSystem> actual) {
+        for (int s = 0; s < expected.size(); s++) {
+            ParticleSimulator e = expected.get(s).getSimulator();
+            ParticleSimulator a = actual.get(s).getSimulator();
+            assertEquals(e.getCount(), a.getCount());
+            for (int i = 0; i < e.getCount(); i++) {
+                assertEquals(e.getX(i), a.getX(i));
+                assertEquals(e.getY(i), a.getY(i));
+                assertEquals(e.getZ(i), a.getZ(i));
+                assertEquals(e.getAge(i), a.getAge(i));
+            }
+        }
+    }
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void invalidThreshold() {
+            assertThrows(IllegalArgumentException.class, () -> new ParticleUpdateScheduler(POOL, 0));
+        }
+
+        @Test
+        void nullPool() {
+            assertThrows(NullPointerException.class, () -> new ParticleUpdateScheduler(null, 10));
+        }
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void duplicate() {
+            ParticleUpdateScheduler scheduler = new ParticleUpdateScheduler(POOL, 10);
+            ParticleSystem system = givenSystems(1, 10, 1).get(0);
+            assertTrue(scheduler.add(system));
+            assertFalse(scheduler.add(system));
+            assertEquals(1, scheduler.getSize());
+        }
+
+        @Test
+        void remove() {
+            ParticleUpdateScheduler scheduler = new ParticleUpdateScheduler(POOL, 10);
+            ParticleSystem system = givenSystems(1, 10, 1).get(0);
+            scheduler.add(system);
+            assertTrue(scheduler.remove(system));
+            assertEquals(0, scheduler.getSize());
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void belowThreshold() {
+            ParticleUpdateScheduler scheduler = new ParticleUpdateScheduler(POOL, 1000);
+            givenSystems(3, 10, 5).forEach(scheduler::add);
+            scheduler.update(1);
+            assertEquals(0, scheduler.getLastTaskCount());
+        }
+
+        @Test
+        void manySystemsSameAsSequential() {
+            List<ParticleSystem> sequential = givenSystems(50, 200, 100);
+            List<ParticleSystem> parallel = givenSystems(50, 200, 100);
+            ParticleUpdateScheduler scheduler = new ParticleUpdateScheduler(POOL, 256);
+            parallel.forEach(scheduler::add);
+            for (int frame = 0; frame < 20; frame++) {
+                sequential.forEach(s -> s.update(0.1f));
+                scheduler.update(0.1f);
+            }
+            assertTrue(scheduler.getLastTaskCount() > 1);
+            assertSameParticles(sequential, parallel);
+        }
+
+        @Test
+        void largeSystemSplit() {
+            List<ParticleSystem> sequential = givenSystems(2, 5000, 20000);
+            List<ParticleSystem> parallel = givenSystems(2, 5000, 20000);
+            ParticleUpdateScheduler scheduler = new ParticleUpdateScheduler(POOL, 1000);
+            parallel.forEach(scheduler::add);
+            for (int frame = 0; frame < 10; frame++) {
+                sequential.forEach(s -> s.update(0.1f));
+                scheduler.update(0.1f);
+            }
+            assertEquals(10, scheduler.getLastTaskCount());
+            assertSameParticles(sequential, parallel);
+        }
+
+        @Test
+        void noElapsedTime() {
+            ParticleUpdateScheduler scheduler = new ParticleUpdateScheduler(POOL, 1);
+            List<ParticleSystem> systems = givenSystems(3, 10, 5);
+            systems.forEach(scheduler::add);
+            scheduler.update(0);
+            assertEquals(0, systems.get(0).getSimulator().getCount());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+package be.yildizgames.module.graphic.profiling;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class FrameTimeHistogramTest {
+
+    @Nested
+    class GetValueAtPercentile {
+
+        @Test
+        void empty() {
+            FrameTimeHistogram h = new FrameTimeHistogram();
+            assertEquals(0, h.getValueAtPercentile(99));
+        }
+
+        @Test
+        void exactValues() {
+            FrameTimeHistogram h = new FrameTimeHistogram();
+            for (int i = 1; i <= 100; i++) {
+                h.record(i);
+            }
+            assertEquals(50, h.getValueAtPercentile(50));
+            assertEquals(99, h.getValueAtPercentile(99));
+            assertEquals(100, h.getValueAtPercentile(100));
+            assertEquals(100, h.getCount());
+        }
+
+        @Test
+        void relativePrecision() {
+            FrameTimeHistogram h = new FrameTimeHistogram();
+            for (int i = 1; i <= 1000; i++) {
+                h.record(i * 16_000L);
+            }
+            long p99 = h.getValueAtPercentile(99);
+            assertTrue(p99 >= 15_840_000L);
+            assertTrue(p99 <= 15_840_000L * 1.02);
+            assertEquals(16_000_000L, h.getMax());
+        }
+
+        @Test
+        void outlier() {
+            FrameTimeHistogram h = new FrameTimeHistogram();
+            for (int i = 0; i < 99; i++) {
+                h.record(16_000_000L);
+            }
+            h.record(500_000_000L);
+            assertTrue(h.getValueAtPercentile(99) < 16_500_000L);
+            assertEquals(500_000_000L, h.getValueAtPercentile(100));
+        }
+    }
+
+    @Nested
+    class Reset {
+
+        @Test
+        void happyFlow() {
+            FrameTimeHistogram h = new FrameTimeHistogram();
+            h.record(12);
+            h.reset();
+            assertEquals(0, h.getCount());
+            assertEquals(0, h.getMax());
+            assertEquals(0, h.getValueAtPercentile(50));
+        }
+    }
+}
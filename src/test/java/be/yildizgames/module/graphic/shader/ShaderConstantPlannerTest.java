@@ -0,0 +1,131 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import be.yildizgames.module.graphic.dummy.DummyMaterialManager;
+import be.yildizgames.module.graphic.material.MaterialPass;
+import be.yildizgames.module.graphic.shader.ShaderConstantType.UpdateFrequency;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ShaderConstantPlannerTest {
+
+    @Nested
+    class Frequency {
+
+        @Test
+        void values() {
+            assertEquals(UpdateFrequency.PER_FRAME, ShaderConstantType.TIME.getFrequency());
+            assertEquals(UpdateFrequency.PER_CAMERA, ShaderConstantType.VIEW_MATRIX.getFrequency());
+            assertEquals(UpdateFrequency.PER_PASS, ShaderConstantType.SURFACE_DIFFUSE_COLOUR.getFrequency());
+            assertEquals(UpdateFrequency.PER_OBJECT, ShaderConstantType.WORLDVIEW_MATRIX.getFrequency());
+        }
+
+        @Test
+        void dependenciesNotMoreFrequent() {
+            for (ShaderConstantType type : ShaderConstantType.values()) {
+                for (ShaderConstantType d : type.getDependencies()) {
+                    assertTrue(d.getFrequency().compareTo(type.getFrequency()) <= 0, type + " depends on " + d);
+                }
+            }
+        }
+    }
+
+    @Nested
+    class Plan {
+
+        @Test
+        void sharedOnce() {
+            ShaderConstantPlan plan = new ShaderConstantPlanner()
+                    .add(ShaderConstantType.VIEW_MATRIX)
+                    .add(ShaderConstantType.VIEW_MATRIX)
+                    .add(ShaderConstantType.TIME)
+                    .plan();
+            assertEquals(List.of(ShaderConstantType.VIEW_MATRIX), plan.getConstants(UpdateFrequency.PER_CAMERA));
+            assertEquals(List.of(ShaderConstantType.TIME), plan.getConstants(UpdateFrequency.PER_FRAME));
+            assertEquals(2, plan.size());
+        }
+
+        @Test
+        void dependenciesFirst() {
+            ShaderConstantPlan plan = new ShaderConstantPlanner().add(ShaderConstantType.WORLDVIEWPROJ_MATRIX).plan();
+            assertEquals(List.of(ShaderConstantType.VIEW_MATRIX, ShaderConstantType.PROJECTION_MATRIX, ShaderConstantType.VIEWPROJ_MATRIX),
+                    plan.getConstants(UpdateFrequency.PER_CAMERA));
+            assertEquals(List.of(ShaderConstantType.WORLD_MATRIX, ShaderConstantType.WORLDVIEWPROJ_MATRIX),
+                    plan.getConstants(UpdateFrequency.PER_OBJECT));
+        }
+
+        @Test
+        void slots() {
+            ShaderConstantPlan plan = new ShaderConstantPlanner()
+                    .add(ShaderConstantType.WORLD_MATRIX)
+                    .add(ShaderConstantType.TIME)
+                    .plan();
+            assertEquals(0, plan.getSlot(ShaderConstantType.TIME));
+            assertEquals(1, plan.getSlot(ShaderConstantType.WORLD_MATRIX));
+            assertEquals(-1, plan.getSlot(ShaderConstantType.VIEW_MATRIX));
+        }
+
+        @Test
+        void update() {
+            ShaderConstantPlan plan = new ShaderConstantPlanner()
+                    .add(ShaderConstantType.WORLDVIEW_MATRIX)
+                    .add(ShaderConstantType.INVERSE_VIEW_MATRIX)
+                    .plan();
+            List<ShaderConstantType> computed = new ArrayList<>();
+            plan.update(UpdateFrequency.PER_CAMERA, (t, s) -> computed.add(t));
+            assertEquals(List.of(ShaderConstantType.VIEW_MATRIX, ShaderConstantType.INVERSE_VIEW_MATRIX), computed);
+            computed.clear();
+            plan.update(UpdateFrequency.PER_OBJECT, (t, s) -> computed.add(t));
+            assertEquals(List.of(ShaderConstantType.WORLD_MATRIX, ShaderConstantType.WORLDVIEW_MATRIX), computed);
+        }
+    }
+
+    @Nested
+    class MaterialPassBinding {
+
+        @Test
+        void happyFlow() {
+            MaterialPass pass = new DummyMaterialManager().createMaterial("plannerPass").getTechnique(0).getPass(0);
+            pass.passViewMatrixToVertexShader().passProjectionMatrixToVertexShader();
+            pass.setFragmentShaderParameterAuto("time", ShaderConstantType.TIME);
+            assertEquals(Set.of(ShaderConstantType.VIEW_MATRIX, ShaderConstantType.PROJECTION_MATRIX, ShaderConstantType.TIME), pass.getAutoConstants());
+            ShaderConstantPlanner planner = new ShaderConstantPlanner().addAll(pass.getAutoConstants());
+            assertEquals(3, planner.getBindingCount());
+            assertEquals(3, planner.plan().size());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import be.yildizgames.module.graphic.dummy.DummyMaterial;
+import be.yildizgames.module.graphic.dummy.DummyMaterialManager;
+import be.yildizgames.module.graphic.material.Material;
+import be.yildizgames.module.graphic.material.MaterialManager;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ShaderManifestTest {
+
+    private static final Shader.FragmentProfileList FRAGMENT_PROFILE = new Shader.FragmentProfileList(Shader.FragmentDx.PS_2_0, Shader.FragmentGL.ARBFP1);
+
+    private static final Shader.VertexProfileList VERTEX_PROFILE = new Shader.VertexProfileList(Shader.VertexDx.VS_1_1, Shader.VertexGL.ARBVP1);
+
+    /**
+     * Manager keeping the names of the compiled shaders.
+     */
+    private static final class CountingManager extends DummyMaterialManager {
+
+        private final List<String> compiled = new ArrayList<>();
+
+        private final List<String> aliases = new ArrayList<>();
+
+        @Override
+        protected Shader createFragmentShaderImpl(String name, String file, String entry, Shader.FragmentProfileList profile, String defines) {
+            this.compiled.add(name);
+            return super.createFragmentShaderImpl(name, file, entry, profile, defines);
+        }
+
+        @Override
+        protected Shader createVertexShaderImpl(String name, String file, String entry, Shader.VertexProfileList profile, String defines) {
+            this.compiled.add(name);
+            return super.createVertexShaderImpl(name, file, entry, profile, defines);
+        }
+
+        @Override
+        protected void createShaderAliasImpl(String name, ShaderManifest.Program alias) {
+            this.aliases.add(name + "->" + alias.getName());
+        }
+    }
+
+    /**
+     * Manager only implementing the hooks without preprocessor definitions.
+     */
+    private static final class LegacyManager extends MaterialManager {
+
+        private final List<String> compiled = new ArrayList<>();
+
+        @Override
+        protected Shader createFragmentShaderImpl(String name, String file, String entry, Shader.FragmentProfileList profile) {
+            this.compiled.add(name);
+            return new Shader(name, Shader.ShaderType.FRAGMENT) {};
+        }
+
+        @Override
+        protected Shader createVertexShaderImpl(String name, String file, String entry, Shader.VertexProfileList profile) {
+            this.compiled.add(name);
+            return new Shader(name, Shader.ShaderType.VERTEX) {};
+        }
+
+        @Override
+        protected Material createMaterialImpl(String name) {
+            return new DummyMaterial(name);
+        }
+    }
+
+    @Nested
+    class Cache {
+
+        @Test
+        void sameProgram() {
+            CountingManager manager = new CountingManager();
+            FragmentShader s = manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE, "");
+            assertSame(s, manager.createFragmentShader("b", "fire.cg", "main", FRAGMENT_PROFILE, ""));
+            assertEquals("a", s.getName());
+            assertEquals(List.of("a"), manager.compiled);
+        }
+
+        @Test
+        void aliasRegisteredOnce() {
+            CountingManager manager = new CountingManager();
+            manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE, "");
+            manager.createFragmentShader("b", "fire.cg", "main", FRAGMENT_PROFILE, "");
+            manager.createFragmentShader("b", "fire.cg", "main", FRAGMENT_PROFILE, "");
+            manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE, "");
+            assertEquals(List.of("a->b"), manager.aliases);
+        }
+
+        @Test
+        void definesOrderIgnored() {
+            CountingManager manager = new CountingManager();
+            FragmentShader s = manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE, "SKINNED=1,FOG=0");
+            assertSame(s, manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE, "FOG=0, SKINNED=1"));
+            assertEquals(List.of("a"), manager.compiled);
+            assertEquals(List.of(), manager.aliases);
+        }
+
+        @Test
+        void differentDefines() {
+            MaterialManager manager = new DummyMaterialManager();
+            FragmentShader s = manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE, "");
+            assertNotSame(s, manager.createFragmentShader("b", "fire.cg", "main", FRAGMENT_PROFILE, "SKINNED=1"));
+        }
+
+        @Test
+        void differentEntry() {
+            MaterialManager manager = new DummyMaterialManager();
+            VertexShader s = manager.createVertexShader("a", "fire.cg", "main", VERTEX_PROFILE);
+            assertNotSame(s, manager.createVertexShader("b", "fire.cg", "other", VERTEX_PROFILE));
+        }
+
+        @Test
+        void defaultProfile() {
+            MaterialManager manager = new DummyMaterialManager();
+            VertexShader s = manager.createVertexShader("a", "fire.cg");
+            assertSame(s, manager.createVertexShader("b", "fire.cg"));
+        }
+
+        @Test
+        void recordedInManifest() {
+            MaterialManager manager = new DummyMaterialManager();
+            manager.createFragmentShader("a", "fire.cg");
+            manager.createFragmentShader("b", "fire.cg");
+            manager.createVertexShader("c", "fire.cg");
+            assertEquals(2, manager.getShaderManifest().size());
+        }
+    }
+
+    @Nested
+    class Legacy {
+
+        @Test
+        void withoutDefines() {
+            LegacyManager manager = new LegacyManager();
+            manager.createFragmentShader("a", "fire.cg");
+            manager.createVertexShader("b", "fire.cg");
+            assertEquals(List.of("a", "b"), manager.compiled);
+        }
+
+        @Test
+        void aliasBuiltUnderNewName() {
+            LegacyManager manager = new LegacyManager();
+            FragmentShader s = manager.createFragmentShader("a", "fire.cg");
+            assertSame(s, manager.createFragmentShader("b", "fire.cg"));
+            assertEquals(List.of("a", "b"), manager.compiled);
+        }
+
+        @Test
+        void definesNotSupported() {
+            LegacyManager manager = new LegacyManager();
+            assertThrows(UnsupportedOperationException.class, () -> manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE, "SKINNED=1"));
+        }
+    }
+
+    @Nested
+    class Lines {
+
+        @Test
+        void roundTrip() {
+            ShaderManifest m = new ShaderManifest();
+            m.add(new ShaderManifest.Program(Shader.ShaderType.FRAGMENT, "a", "fire.cg", "main", "ps_2_0 arbfp1", "SKINNED=1,LIGHTS=2"));
+            m.add(new ShaderManifest.Program(Shader.ShaderType.VERTEX, "b", "fire.cg", "main", "vs_1_1 arbvp1", ""));
+            ShaderManifest read = ShaderManifest.fromLines(m.toLines());
+            assertEquals(m.toLines(), read.toLines());
+            assertEquals("LIGHTS=2,SKINNED=1", read.getPrograms().get(0).getDefines());
+        }
+
+        @Test
+        void commentsIgnored() {
+            ShaderManifest m = ShaderManifest.fromLines(List.of("# level 1", "", "VERTEX;b;fire.cg;main;vs_1_1 arbvp1;"));
+            assertEquals(1, m.size());
+        }
+
+        @Test
+        void duplicateIgnored() {
+            ShaderManifest m = new ShaderManifest();
+            assertTrue(m.add(new ShaderManifest.Program(Shader.ShaderType.VERTEX, "a", "fire.cg", "main", "vs_1_1 arbvp1", "")));
+            assertFalse(m.add(new ShaderManifest.Program(Shader.ShaderType.VERTEX, "b", "fire.cg", "main", "vs_1_1 arbvp1", "")));
+        }
+
+        @Test
+        void invalidLine() {
+            assertThrows(IllegalArgumentException.class, () -> ShaderManifest.fromLines(List.of("VERTEX;b;fire.cg")));
+        }
+
+        @Test
+        void separatorInField() {
+            assertThrows(IllegalArgumentException.class, () -> new ShaderManifest.Program(Shader.ShaderType.VERTEX, "a;b", "fire.cg", "main", "vs_1_1 arbvp1", ""));
+        }
+
+        @Test
+        void geometry() {
+            assertThrows(IllegalArgumentException.class, () -> new ShaderManifest.Program(Shader.ShaderType.GEOMETRY, "a", "fire.cg", "main", "vs_1_1 arbvp1", ""));
+        }
+    }
+
+    @Nested
+    class Precompile {
+
+        @Test
+        void happyFlow() {
+            ShaderManifest m = ShaderManifest.fromLines(List.of(
+                    "FRAGMENT;a;fire.cg;main;ps_2_0 arbfp1;",
+                    "VERTEX;b;fire.cg;main;vs_1_1 arbvp1;"));
+            CountingManager manager = new CountingManager();
+            assertEquals(2, manager.precompile(m));
+            assertEquals(List.of("a", "b"), manager.compiled);
+            manager.createFragmentShader("c", "fire.cg", "main", FRAGMENT_PROFILE);
+            assertEquals(List.of("a", "b"), manager.compiled);
+        }
+
+        @Test
+        void alreadyCompiled() {
+            ShaderManifest m = ShaderManifest.fromLines(List.of("FRAGMENT;a;fire.cg;main;ps_2_0 arbfp1;"));
+            CountingManager manager = new CountingManager();
+            manager.createFragmentShader("a", "fire.cg", "main", FRAGMENT_PROFILE);
+            assertTrue(manager.isCompiled(m.getPrograms().get(0)));
+            assertEquals(0, manager.precompile(m));
+        }
+
+        @Test
+        void unknownProfile() {
+            ShaderManifest m = ShaderManifest.fromLines(List.of("FRAGMENT;a;fire.cg;main;ps_9_9 arbfp1;"));
+            assertThrows(IllegalArgumentException.class, () -> new DummyMaterialManager().precompile(m));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of the Yildiz-Engine project, licenced under the MIT License  (MIT)
+ *
+ * Copyright (c) 2019 Grégory Van den Borre
+ *
+ * More infos available: https://engine.yildiz-games.be
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons
+ * to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS  OR COPYRIGHT  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE  SOFTWARE.
+ */
+
+package be.yildizgames.module.graphic.shader;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Grégory Van den Borre
+ */
+class ShaderParameterBlockTest {
+
+    private static ShaderParameterLayout givenALayout() {
+        return ShaderParameterLayout.builder()
+                .add("time", 1)
+                .add("offset", 2)
+                .add("tint", 4)
+                .build();
+    }
+
+    private static ShaderParameterBlock givenAFlushedBlock() {
+        ShaderParameterBlock b = new ShaderParameterBlock(givenALayout());
+        b.flush((l, v, f, t) -> {});
+        return b;
+    }
+
+    @Nested
+    class Layout {
+
+        @Test
+        void slots() {
+            ShaderParameterLayout l = givenALayout();
+            assertEquals(0, l.getSlot("time"));
+            assertEquals(2, l.getSlot("tint"));
+            assertEquals("offset", l.getName(1));
+            assertEquals(2, l.getSize(1));
+            assertEquals(3, l.getSlotCount());
+        }
+
+        @Test
+        void unknownName() {
+            assertThrows(IllegalArgumentException.class, () -> givenALayout().getSlot("other"));
+        }
+
+        @Test
+        void duplicateName() {
+            assertThrows(IllegalArgumentException.class, () -> ShaderParameterLayout.builder().add("a", 1).add("a", 2));
+        }
+
+        @Test
+        void invalidSize() {
+            assertThrows(IllegalArgumentException.class, () -> ShaderParameterLayout.builder().add("a", 5));
+            assertThrows(IllegalArgumentException.class, () -> ShaderParameterLayout.builder().add("a", 0));
+        }
+    }
+
+    @Nested
+    class Set {
+
+        @Test
+        void happyFlow() {
+            ShaderParameterBlock b = givenAFlushedBlock();
+            b.set(1, 2f, 3f);
+            assertEquals(2f, b.get(1, 0));
+            assertEquals(3f, b.get(1, 1));
+            assertTrue(b.isDirty());
+        }
+
+        @Test
+        void sameValue() {
+            ShaderParameterBlock b = givenAFlushedBlock();
+            b.set(0, 0f);
+            assertFalse(b.isDirty());
+        }
+
+        @Test
+        void wrongSize() {
+            ShaderParameterBlock b = givenAFlushedBlock();
+            assertThrows(IllegalArgumentException.class, () -> b.set(0, 1f, 2f));
+        }
+
+        @Test
+        void invalidSlot() {
+            ShaderParameterBlock b = givenAFlushedBlock();
+            assertThrows(IndexOutOfBoundsException.class, () -> b.set(3, 1f));
+        }
+
+        @Test
+        void invalidComponent() {
+            ShaderParameterBlock b = givenAFlushedBlock();
+            assertThrows(IndexOutOfBoundsException.class, () -> b.get(0, 1));
+        }
+    }
+
+    @Nested
+    class Flush {
+
+        @Test
+        void allDirtyWhenCreated() {
+            ShaderParameterBlock b = new ShaderParameterBlock(givenALayout());
+            List<Integer> ranges = new ArrayList<>();
+            assertTrue(b.flush((l, v, f, t) -> {
+                ranges.add(f);
+                ranges.add(t);
+            }));
+            assertEquals(List.of(0, 3), ranges);
+        }
+
+        @Test
+        void onlyChangedRange() {
+            ShaderParameterBlock b = givenAFlushedBlock();
+            b.set(1, 5f, 6f);
+            List<Float> uploaded = new ArrayList<>();
+            List<Integer> ranges = new ArrayList<>();
+            b.flush((l, v, f, t) -> {
+                ranges.add(f);
+                ranges.add(t);
+                uploaded.add(v.get(f * ShaderParameterLayout.SLOT_SIZE));
+                uploaded.add(v.get(f * ShaderParameterLayout.SLOT_SIZE + 1));
+            });
+            assertEquals(List.of(1, 2), ranges);
+            assertEquals(List.of(5f, 6f), uploaded);
+        }
+
+        @Test
+        void nothingChanged() {
+            ShaderParameterBlock b = givenAFlushedBlock();
+            assertFalse(b.flush((l, v, f, t) -> {
+                throw new AssertionError();
+            }));
+        }
+
+        @Test
+        void emptyLayout() {
+            ShaderParameterBlock b = new ShaderParameterBlock(ShaderParameterLayout.builder().build());
+            assertFalse(b.isDirty());
+        }
+    }
+}